@@ -0,0 +1,578 @@
+package com.limehee.jsonrpc.client;
+
+import com.limehee.jsonrpc.core.DefaultJsonRpcResponseParser;
+import com.limehee.jsonrpc.core.DefaultJsonRpcResponseValidator;
+import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import com.limehee.jsonrpc.core.JsonRpcException;
+import com.limehee.jsonrpc.core.JsonRpcIncomingResponse;
+import com.limehee.jsonrpc.core.JsonRpcIncomingResponseStream;
+import com.limehee.jsonrpc.core.JsonRpcRequestBatchBuilder;
+import com.limehee.jsonrpc.core.JsonRpcRequestBuilder;
+import com.limehee.jsonrpc.core.JsonRpcResponseValidator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Asynchronous JSON-RPC 2.0 client over {@link HttpClient}.
+ * <p>
+ * Every call gets a numeric id from a lock-free counter and a future registered under that id. Response bodies are
+ * {@linkplain DefaultJsonRpcResponseParser#stream(InputStream, JsonRpcResponseValidator) streamed}: each entry is
+ * validated with {@link DefaultJsonRpcResponseValidator} and completes the call with its id as soon as it has been
+ * read, so a response that echoes the wrong id cannot complete another call. Calls do not wait for each
+ * other: with an HTTP/2 {@link HttpClient} (the default), concurrent calls share one connection as multiplexed
+ * streams.
+ * </p>
+ * <p>
+ * Response bodies are read on the {@linkplain JsonRpcClientOptions#responseExecutor() response executor}, never on the
+ * {@link HttpClient}'s executor, which must stay free to deliver body bytes. Returned futures complete on the response
+ * executor when their response entry is read or their exchange fails, on the JDK's internal delay scheduler thread
+ * when their timeout elapses, and on the calling thread when the request cannot be sent; stages that block should be
+ * attached with an {@code *Async} variant. A call fails with {@link JsonRpcException} carrying
+ * the remote error or the violated validation rule, {@link JsonRpcTransportException} when the exchange has no usable
+ * response, or {@link java.util.concurrent.TimeoutException} when its timeout elapses; a timed-out or cancelled call
+ * aborts its HTTP exchange.
+ * </p>
+ * <p>
+ * With a positive {@linkplain JsonRpcClientOptions#batchWindow() batch window}, calls are collected into micro-batches
+ * and sent as one JSON-RPC batch request per window (or per {@linkplain JsonRpcClientOptions#maxBatchSize() maximum
+ * batch size}); the batch response is de-multiplexed to the individual calls by id. A batched call that times out or is
+ * cancelled leaves the shared exchange running for the other calls of its batch.
+ * </p>
+ */
+public final class JsonRpcClient {
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final ObjectMapper objectMapper;
+    private final JsonRpcClientOptions options;
+    private final DefaultJsonRpcResponseParser responseParser;
+    private final JsonRpcResponseValidator responseValidator;
+    private final JsonRpcClientObserver observer;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final AtomicLong nextId = new AtomicLong(1L);
+    private final ConcurrentHashMap<Long, CompletableFuture<JsonNode>> pendingCalls = new ConcurrentHashMap<>();
+    private final Object batchLock = new Object();
+    private @Nullable OutgoingBatch openBatch;
+
+    /**
+     * Creates a client with an HTTP/2 {@link HttpClient}, a default mapper, and default options.
+     *
+     * @param endpoint JSON-RPC endpoint URI
+     */
+    public JsonRpcClient(URI endpoint) {
+        this(newHttpClient(), endpoint, JsonMapper.builder().build(), JsonRpcClientOptions.defaults());
+    }
+
+    /**
+     * Creates a client without flush observation.
+     *
+     * @param httpClient   HTTP client used for every exchange; shared connections are reused across calls
+     * @param endpoint     JSON-RPC endpoint URI
+     * @param objectMapper mapper used to write requests and read responses
+     * @param options      client options
+     */
+    public JsonRpcClient(HttpClient httpClient, URI endpoint, ObjectMapper objectMapper, JsonRpcClientOptions options) {
+        this(httpClient, endpoint, objectMapper, options, new JsonRpcClientObserver() {
+        });
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param httpClient   HTTP client used for every exchange; shared connections are reused across calls
+     * @param endpoint     JSON-RPC endpoint URI
+     * @param objectMapper mapper used to write requests and read responses
+     * @param options      client options
+     * @param observer     observer notified on every micro-batch flush
+     */
+    public JsonRpcClient(
+        HttpClient httpClient,
+        URI endpoint,
+        ObjectMapper objectMapper,
+        JsonRpcClientOptions options,
+        JsonRpcClientObserver observer
+    ) {
+        this.httpClient = Objects.requireNonNull(httpClient, "httpClient");
+        this.endpoint = Objects.requireNonNull(endpoint, "endpoint");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.options = Objects.requireNonNull(options, "options");
+        this.responseParser = new DefaultJsonRpcResponseParser(objectMapper, options.rejectDuplicateMembers());
+        this.responseValidator = new DefaultJsonRpcResponseValidator(options.responseValidationOptions());
+        this.observer = Objects.requireNonNull(observer, "observer");
+        this.batchWindowNanos = options.batchWindow().toNanos();
+        this.maxBatchSize = options.maxBatchSize();
+    }
+
+    /**
+     * Creates an {@link HttpClient} that prefers HTTP/2.
+     * <p>
+     * Over {@code https} the protocol is negotiated with ALPN; over plain {@code http} the client attempts an
+     * {@code h2c} upgrade and falls back to HTTP/1.1.
+     *
+     * @return new HTTP client
+     */
+    public static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .build();
+    }
+
+    /**
+     * Calls a method with the default timeout.
+     *
+     * @param method JSON-RPC method name
+     * @param params object or array params; {@code null} to omit params
+     * @return future completed with the call result
+     * @throws IllegalArgumentException if the method name or params shape is invalid
+     */
+    public CompletableFuture<JsonNode> call(String method, @Nullable JsonNode params) {
+        return call(method, params, options.requestTimeout());
+    }
+
+    /**
+     * Calls a method.
+     *
+     * @param method  JSON-RPC method name
+     * @param params  object or array params; {@code null} to omit params
+     * @param timeout time allowed for the whole exchange
+     * @return future completed with the call result
+     * @throws IllegalArgumentException if the method name or params shape is invalid
+     */
+    public CompletableFuture<JsonNode> call(String method, @Nullable JsonNode params, Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout");
+        long id = nextId.getAndIncrement();
+        JsonRpcRequestBuilder request = JsonRpcRequestBuilder.request(method).id(id);
+        if (params != null) {
+            request.params(params);
+        }
+
+        OutgoingCall call = new OutgoingCall(id, request, timeout);
+        CompletableFuture<JsonNode> future = call.future;
+        pendingCalls.put(id, future);
+        future.whenComplete((result, error) -> pendingCalls.remove(id, future));
+        future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (batchWindowNanos > 0L) {
+            enqueue(call);
+        } else {
+            exchange(List.of(call));
+        }
+        return future;
+    }
+
+    /**
+     * Sends a notification with the default timeout.
+     *
+     * @param method JSON-RPC method name
+     * @param params object or array params; {@code null} to omit params
+     * @return future completed once the server has accepted the notification
+     * @throws IllegalArgumentException if the method name or params shape is invalid
+     */
+    public CompletableFuture<Void> notify(String method, @Nullable JsonNode params) {
+        JsonRpcRequestBuilder request = JsonRpcRequestBuilder.notification(method);
+        if (params != null) {
+            request.params(params);
+        }
+        return send(request.buildNode(), options.requestTimeout(), HttpResponse.BodyHandlers.discarding())
+            .handle((response, error) -> {
+                if (error != null) {
+                    throw new CompletionException(unwrap(error));
+                }
+                if (!isSuccessful(response.statusCode())) {
+                    throw new JsonRpcTransportException(response.statusCode(),
+                        "Notification rejected with HTTP status " + response.statusCode());
+                }
+                return null;
+            });
+    }
+
+    /**
+     * Returns the number of calls waiting for a response.
+     *
+     * @return pending call count
+     */
+    public int pendingCallCount() {
+        return pendingCalls.size();
+    }
+
+    /**
+     * Adds a call to the open micro-batch, opening a new batch when none is accepting calls.
+     * <p>
+     * The call that opens a batch schedules its window flush; the call that fills a batch flushes it immediately.
+     *
+     * @param call call to add
+     */
+    private void enqueue(OutgoingCall call) {
+        OutgoingBatch opened = null;
+        OutgoingBatch filled = null;
+        synchronized (batchLock) {
+            OutgoingBatch batch = openBatch;
+            if (batch == null) {
+                batch = new OutgoingBatch();
+                openBatch = batch;
+                opened = batch;
+            }
+            batch.calls.add(call);
+            if (batch.calls.size() >= maxBatchSize) {
+                batch.closed = true;
+                batch.full = true;
+                openBatch = null;
+                filled = batch;
+            }
+        }
+        if (filled != null) {
+            flush(filled);
+        } else if (opened != null) {
+            OutgoingBatch scheduled = opened;
+            CompletableFuture.delayedExecutor(batchWindowNanos, TimeUnit.NANOSECONDS)
+                .execute(() -> flushOnWindow(scheduled));
+        }
+    }
+
+    /**
+     * Flushes a batch whose window elapsed unless it was already flushed because it filled up.
+     *
+     * @param batch batch opened when the window started
+     */
+    private void flushOnWindow(OutgoingBatch batch) {
+        synchronized (batchLock) {
+            if (batch.closed) {
+                return;
+            }
+            batch.closed = true;
+            if (openBatch == batch) {
+                openBatch = null;
+            }
+        }
+        flush(batch);
+    }
+
+    /**
+     * Sends the calls of a closed batch that are still waiting for a response.
+     *
+     * @param batch closed batch
+     */
+    private void flush(OutgoingBatch batch) {
+        List<OutgoingCall> calls = new ArrayList<>(batch.calls.size());
+        for (OutgoingCall call : batch.calls) {
+            if (!call.future.isDone()) {
+                calls.add(call);
+            }
+        }
+        if (calls.isEmpty()) {
+            return;
+        }
+        observer.onBatchFlush(calls.size(), Math.max(0L, System.nanoTime() - batch.openedAtNanos), batch.full);
+        exchange(calls);
+    }
+
+    /**
+     * Sends calls in one HTTP exchange and completes them from its response.
+     * <p>
+     * A single call is sent as a request object, several calls as a batch array. The exchange uses the longest timeout
+     * of its calls and is aborted once every call has completed, so it does not outlive calls that timed out or were
+     * cancelled. The body is read on the response executor because reading blocks until the bytes arrive.
+     *
+     * @param calls calls to send; must not be empty
+     */
+    private void exchange(List<OutgoingCall> calls) {
+        JsonNode payload;
+        Duration timeout = calls.get(0).timeout;
+        long[] ids = new long[calls.size()];
+        if (calls.size() == 1) {
+            payload = calls.get(0).request.buildNode();
+            ids[0] = calls.get(0).id;
+        } else {
+            JsonRpcRequestBatchBuilder batch = new JsonRpcRequestBatchBuilder();
+            for (int i = 0; i < calls.size(); i++) {
+                OutgoingCall call = calls.get(i);
+                batch.add(call.request);
+                ids[i] = call.id;
+                if (call.timeout.compareTo(timeout) > 0) {
+                    timeout = call.timeout;
+                }
+            }
+            payload = batch.buildNode();
+        }
+
+        CompletableFuture<HttpResponse<InputStream>> httpExchange;
+        try {
+            httpExchange = send(payload, timeout, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (RuntimeException ex) {
+            for (OutgoingCall call : calls) {
+                call.future.completeExceptionally(ex);
+            }
+            return;
+        }
+
+        AtomicInteger outstanding = new AtomicInteger(calls.size());
+        for (OutgoingCall call : calls) {
+            call.future.whenComplete((result, error) -> {
+                if (outstanding.decrementAndGet() == 0) {
+                    httpExchange.cancel(true);
+                }
+            });
+        }
+        httpExchange.whenCompleteAsync((response, error) -> {
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                for (OutgoingCall call : calls) {
+                    call.future.completeExceptionally(cause);
+                }
+                return;
+            }
+            completeExchange(response, ids);
+        }, options.responseExecutor());
+    }
+
+    /**
+     * Posts a JSON-RPC payload.
+     *
+     * @param payload     request object or batch array
+     * @param timeout     time allowed for the exchange
+     * @param bodyHandler handler for the response body
+     * @param <T>         response body type
+     * @return future completed with the HTTP response
+     */
+    private <T> CompletableFuture<HttpResponse<T>> send(
+        JsonNode payload,
+        Duration timeout,
+        HttpResponse.BodyHandler<T> bodyHandler
+    ) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+            .timeout(timeout)
+            .header("Content-Type", APPLICATION_JSON)
+            .header("Accept", APPLICATION_JSON)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)))
+            .build();
+        return httpClient.sendAsync(request, bodyHandler);
+    }
+
+    /**
+     * Completes the calls of one exchange from its HTTP response.
+     * <p>
+     * Entries are read one at a time, so each call completes as soon as its entry has arrived and no entry is held once
+     * its call is complete. An entry with a {@code null} id (for example a parse error reported by the server) or a
+     * malformed envelope fails every call of the exchange that is still pending; calls left without a response fail as
+     * well.
+     *
+     * @param response HTTP response of the exchange
+     * @param ids      ids of the calls sent in the exchange
+     */
+    private void completeExchange(HttpResponse<InputStream> response, long[] ids) {
+        RuntimeException exchangeFailure = null;
+        try (JsonRpcIncomingResponseStream entries = openBody(response)) {
+            while (entries.hasNext()) {
+                RuntimeException failure = completeNext(entries, ids);
+                if (failure != null && exchangeFailure == null) {
+                    exchangeFailure = failure;
+                }
+            }
+        } catch (RuntimeException ex) {
+            if (exchangeFailure == null) {
+                exchangeFailure = ex;
+            }
+        }
+
+        for (long id : ids) {
+            CompletableFuture<JsonNode> future = pendingCalls.remove(id);
+            if (future != null) {
+                future.completeExceptionally(exchangeFailure != null ? exchangeFailure : new JsonRpcException(
+                    JsonRpcErrorCode.INVALID_REQUEST, "Missing response for request id " + id));
+            }
+        }
+    }
+
+    /**
+     * Opens the body of an exchange as a stream of validated response entries.
+     *
+     * @param response HTTP response
+     * @return response entry stream
+     * @throws JsonRpcTransportException when the body is empty or cannot be read, or does not start like a response
+     *                                   envelope and the status is not successful
+     * @throws JsonRpcException          when the body of a successful exchange does not start like a response envelope
+     */
+    private JsonRpcIncomingResponseStream openBody(HttpResponse<InputStream> response) {
+        int status = response.statusCode();
+        PushbackInputStream body = new PushbackInputStream(response.body(), 1);
+        try {
+            int first = body.read();
+            if (first < 0) {
+                body.close();
+                throw new JsonRpcTransportException(status, "Empty response body with HTTP status " + status);
+            }
+            body.unread(first);
+        } catch (IOException ex) {
+            throw new JsonRpcTransportException(status, "Failed to read response body with HTTP status " + status, ex);
+        }
+        try {
+            return responseParser.stream(body, responseValidator);
+        } catch (JsonRpcException ex) {
+            if (isSuccessful(status)) {
+                throw ex;
+            }
+            throw new JsonRpcTransportException(status, "Unexpected response body with HTTP status " + status, ex);
+        }
+    }
+
+    /**
+     * Reads the next response entry and completes the matching call.
+     * <p>
+     * An entry that fails validation fails the call with its id; the stream moves on to the next entry.
+     *
+     * @param entries response entry stream
+     * @param ids     ids of the calls sent in the exchange
+     * @return failure to apply to the whole exchange, or {@code null} when the entry was handled
+     * @throws JsonRpcException when the envelope turns out to be malformed
+     */
+    private @Nullable RuntimeException completeNext(JsonRpcIncomingResponseStream entries, long[] ids) {
+        JsonRpcIncomingResponse incoming;
+        try {
+            incoming = entries.next();
+        } catch (JsonRpcException ex) {
+            JsonRpcIncomingResponse rejected = entries.lastEntry();
+            if (rejected == null) {
+                throw ex;
+            }
+            CompletableFuture<JsonNode> future = takeCall(rejected.id(), ids);
+            if (future == null) {
+                return ex;
+            }
+            future.completeExceptionally(ex);
+            return null;
+        }
+
+        CompletableFuture<JsonNode> future = takeCall(incoming.id(), ids);
+        JsonNode error = incoming.error();
+        if (future == null) {
+            return error == null ? null : remoteError(error);
+        }
+        if (error != null) {
+            future.completeExceptionally(remoteError(error));
+        } else {
+            future.complete(Objects.requireNonNull(incoming.result(), "result"));
+        }
+        return null;
+    }
+
+    /**
+     * Removes the pending call for a response id among the calls of one exchange.
+     * <p>
+     * Removing before completing keeps {@link #pendingCallCount()} exact once a caller observes the outcome.
+     *
+     * @param id  response id
+     * @param ids ids of the calls sent in the exchange
+     * @return pending call future, or {@code null} when the id does not belong to a pending call of the exchange
+     */
+    private @Nullable CompletableFuture<JsonNode> takeCall(@Nullable JsonNode id, long[] ids) {
+        if (id == null || !id.isIntegralNumber() || !id.canConvertToLong()) {
+            return null;
+        }
+        long value = id.longValue();
+        for (long candidate : ids) {
+            if (candidate == value) {
+                return pendingCalls.remove(value);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a response {@code error} member into an exception.
+     *
+     * @param error error member
+     * @return exception carrying the remote code, message, and data
+     */
+    private static JsonRpcException remoteError(JsonNode error) {
+        JsonNode code = error.get("code");
+        JsonNode message = error.get("message");
+        return new JsonRpcException(
+            code != null && code.isIntegralNumber() && code.canConvertToInt()
+                ? code.intValue()
+                : JsonRpcErrorCode.INTERNAL_ERROR,
+            message != null && message.isString() ? message.stringValue() : "Remote error",
+            error.get("data")
+        );
+    }
+
+    /**
+     * Unwraps the completion wrapper added by dependent futures.
+     *
+     * @param error failure of an HTTP exchange
+     * @return underlying failure
+     */
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Indicates whether an HTTP status is in the 2xx range.
+     *
+     * @param status HTTP status code
+     * @return {@code true} for successful statuses
+     */
+    private static boolean isSuccessful(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * Calls collected for one batch request.
+     * <p>
+     * Mutable state is guarded by the client's batch lock; once closed, the call list no longer changes.
+     */
+    private static final class OutgoingBatch {
+
+        private final long openedAtNanos = System.nanoTime();
+        private final List<OutgoingCall> calls = new ArrayList<>();
+        private boolean closed;
+        private boolean full;
+    }
+
+    /**
+     * Call waiting to be sent or answered.
+     */
+    private static final class OutgoingCall {
+
+        private final long id;
+        private final JsonRpcRequestBuilder request;
+        private final Duration timeout;
+        private final CompletableFuture<JsonNode> future = new CompletableFuture<>();
+
+        /**
+         * Creates an outgoing call.
+         *
+         * @param id      request id
+         * @param request request builder with id and params applied
+         * @param timeout time allowed for the call
+         */
+        OutgoingCall(long id, JsonRpcRequestBuilder request, Duration timeout) {
+            this.id = id;
+            this.request = request;
+            this.timeout = timeout;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.limehee.jsonrpc.client;
+
+/**
+ * Observer for {@link JsonRpcClient} micro-batch flushes.
+ * <p>
+ * All callbacks are optional and default to no-op implementations. Callbacks run on the thread that flushes the
+ * batch, so they should return quickly.
+ */
+public interface JsonRpcClientObserver {
+
+    /**
+     * Called when a collected micro-batch is about to be sent.
+     *
+     * @param batchSize number of calls sent in the exchange; calls that timed out or were cancelled while waiting are
+     *                  not counted
+     * @param waitNanos time between the first call joining the batch and the flush
+     * @param full      {@code true} when the batch was flushed because it reached the maximum size, {@code false} when
+     *                  the collection window elapsed
+     */
+    default void onBatchFlush(int batchSize, long waitNanos, boolean full) {
+    }
+}
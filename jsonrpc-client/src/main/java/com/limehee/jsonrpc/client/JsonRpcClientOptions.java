@@ -0,0 +1,204 @@
+package com.limehee.jsonrpc.client;
+
+import com.limehee.jsonrpc.core.JsonRpcResponseValidationOptions;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Immutable options for {@link JsonRpcClient}.
+ */
+public final class JsonRpcClientOptions {
+
+    private final Duration requestTimeout;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final boolean rejectDuplicateMembers;
+    private final JsonRpcResponseValidationOptions responseValidationOptions;
+    private final Executor responseExecutor;
+
+    private JsonRpcClientOptions(Builder builder) {
+        this.requestTimeout = builder.requestTimeout;
+        this.batchWindow = builder.batchWindow;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.rejectDuplicateMembers = builder.rejectDuplicateMembers;
+        this.responseValidationOptions = builder.responseValidationOptions;
+        this.responseExecutor = builder.responseExecutor;
+    }
+
+    /**
+     * Returns the default client options.
+     *
+     * @return default options
+     */
+    public static JsonRpcClientOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a mutable builder initialized with default values.
+     *
+     * @return options builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return timeout applied to calls that do not specify their own
+     */
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * @return time the first call of a micro-batch waits for more calls; zero when micro-batching is disabled
+     */
+    public Duration batchWindow() {
+        return batchWindow;
+    }
+
+    /**
+     * @return number of calls that flushes a micro-batch before the window elapses
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return whether duplicate JSON object members are rejected while parsing responses
+     */
+    public boolean rejectDuplicateMembers() {
+        return rejectDuplicateMembers;
+    }
+
+    /**
+     * @return rules applied to every incoming response entry
+     */
+    public JsonRpcResponseValidationOptions responseValidationOptions() {
+        return responseValidationOptions;
+    }
+
+    /**
+     * @return executor on which response bodies are read and calls are completed from them
+     */
+    public Executor responseExecutor() {
+        return responseExecutor;
+    }
+
+    /**
+     * Builder for client options.
+     */
+    public static final class Builder {
+
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private Duration batchWindow = Duration.ZERO;
+        private int maxBatchSize = 100;
+        private boolean rejectDuplicateMembers;
+        private JsonRpcResponseValidationOptions responseValidationOptions = JsonRpcResponseValidationOptions.defaults();
+        private Executor responseExecutor = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the timeout applied to calls that do not specify their own.
+         * <p>
+         * The timeout covers the whole exchange: sending the request, waiting for the response, and reading its body.
+         *
+         * @param requestTimeout default call timeout; must be positive
+         * @return this builder
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = Objects.requireNonNull(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        /**
+         * Sets the micro-batching window.
+         * <p>
+         * With a positive window, calls are not sent one by one: the first call opens a batch, and calls made while it
+         * is open join it. The batch is sent as one JSON-RPC batch request when the window elapses or when it reaches
+         * {@link #maxBatchSize(int)} calls. The window adds up to its duration to the latency of the first call of
+         * every batch. Zero disables micro-batching.
+         *
+         * @param batchWindow collection window; must not be negative
+         * @return this builder
+         */
+        public Builder batchWindow(Duration batchWindow) {
+            this.batchWindow = Objects.requireNonNull(batchWindow, "batchWindow");
+            return this;
+        }
+
+        /**
+         * Sets the number of calls that flushes a micro-batch before the window elapses.
+         *
+         * @param maxBatchSize maximum calls per batch request; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets whether duplicate JSON object members are rejected while parsing responses.
+         *
+         * @param rejectDuplicateMembers {@code true} to reject duplicate members
+         * @return this builder
+         */
+        public Builder rejectDuplicateMembers(boolean rejectDuplicateMembers) {
+            this.rejectDuplicateMembers = rejectDuplicateMembers;
+            return this;
+        }
+
+        /**
+         * Sets the rules applied to every incoming response entry.
+         *
+         * @param responseValidationOptions response validation options
+         * @return this builder
+         */
+        public Builder responseValidationOptions(JsonRpcResponseValidationOptions responseValidationOptions) {
+            this.responseValidationOptions = Objects.requireNonNull(responseValidationOptions,
+                "responseValidationOptions");
+            return this;
+        }
+
+        /**
+         * Sets the executor on which response bodies are read.
+         * <p>
+         * Reading a streamed body blocks until its bytes arrive, so it must not run on the {@link
+         * java.net.http.HttpClient}'s own executor, which delivers those bytes. Calls completed from a response body
+         * complete on this executor. Defaults to {@link ForkJoinPool#commonPool()}; use a dedicated executor when
+         * many exchanges stream slow bodies at once.
+         *
+         * @param responseExecutor executor for response body reading
+         * @return this builder
+         */
+        public Builder responseExecutor(Executor responseExecutor) {
+            this.responseExecutor = Objects.requireNonNull(responseExecutor, "responseExecutor");
+            return this;
+        }
+
+        /**
+         * Builds immutable client options.
+         *
+         * @return immutable client options
+         * @throws IllegalArgumentException if {@code requestTimeout} is not positive, {@code batchWindow} is negative,
+         *                                  or {@code maxBatchSize <= 0}
+         */
+        public JsonRpcClientOptions build() {
+            if (requestTimeout.isZero() || requestTimeout.isNegative()) {
+                throw new IllegalArgumentException("requestTimeout must be positive");
+            }
+            if (batchWindow.isNegative()) {
+                throw new IllegalArgumentException("batchWindow must not be negative");
+            }
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+            }
+            return new JsonRpcClientOptions(this);
+        }
+    }
+}
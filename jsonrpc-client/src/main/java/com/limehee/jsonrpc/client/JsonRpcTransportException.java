@@ -0,0 +1,49 @@
+package com.limehee.jsonrpc.client;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Exception raised when an HTTP exchange does not carry a usable JSON-RPC response.
+ * <p>
+ * Remote JSON-RPC errors are reported as {@link com.limehee.jsonrpc.core.JsonRpcException}; this exception covers what
+ * happens around them, such as an empty body for a call or a non-JSON body with an error status.
+ * </p>
+ */
+public final class JsonRpcTransportException extends RuntimeException {
+
+    /**
+     * HTTP status code of the failed exchange.
+     */
+    private final int statusCode;
+
+    /**
+     * Creates a transport exception without a cause.
+     *
+     * @param statusCode HTTP status code of the exchange
+     * @param message    human-readable message
+     */
+    public JsonRpcTransportException(int statusCode, String message) {
+        this(statusCode, message, null);
+    }
+
+    /**
+     * Creates a transport exception.
+     *
+     * @param statusCode HTTP status code of the exchange
+     * @param message    human-readable message
+     * @param cause      underlying cause; may be {@code null}
+     */
+    public JsonRpcTransportException(int statusCode, String message, @Nullable Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Returns the HTTP status code of the failed exchange.
+     *
+     * @return HTTP status code
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+}
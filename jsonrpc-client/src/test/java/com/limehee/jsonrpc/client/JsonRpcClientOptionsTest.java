@@ -0,0 +1,68 @@
+package com.limehee.jsonrpc.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.limehee.jsonrpc.core.JsonRpcResponseValidationOptions;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class JsonRpcClientOptionsTest {
+
+    @Test
+    void defaultsUseThirtySecondTimeoutAndRfcValidation() {
+        JsonRpcClientOptions options = JsonRpcClientOptions.defaults();
+
+        assertEquals(Duration.ofSeconds(30), options.requestTimeout());
+        assertEquals(Duration.ZERO, options.batchWindow());
+        assertEquals(100, options.maxBatchSize());
+        assertFalse(options.rejectDuplicateMembers());
+        assertTrue(options.responseValidationOptions().requireJsonRpcVersion20());
+        assertSame(ForkJoinPool.commonPool(), options.responseExecutor());
+    }
+
+    @Test
+    void builderOverridesEachOption() {
+        JsonRpcResponseValidationOptions validation = JsonRpcResponseValidationOptions.builder()
+            .allowNullId(false)
+            .build();
+        Executor responseExecutor = Runnable::run;
+
+        JsonRpcClientOptions options = JsonRpcClientOptions.builder()
+            .requestTimeout(Duration.ofMillis(250))
+            .batchWindow(Duration.ofMillis(2))
+            .maxBatchSize(16)
+            .rejectDuplicateMembers(true)
+            .responseValidationOptions(validation)
+            .responseExecutor(responseExecutor)
+            .build();
+
+        assertEquals(Duration.ofMillis(250), options.requestTimeout());
+        assertEquals(Duration.ofMillis(2), options.batchWindow());
+        assertEquals(16, options.maxBatchSize());
+        assertTrue(options.rejectDuplicateMembers());
+        assertSame(validation, options.responseValidationOptions());
+        assertSame(responseExecutor, options.responseExecutor());
+    }
+
+    @Test
+    void builderRejectsNonPositiveTimeout() {
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcClientOptions.builder().requestTimeout(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcClientOptions.builder().requestTimeout(Duration.ofSeconds(-1)).build());
+    }
+
+    @Test
+    void builderRejectsInvalidBatchSettings() {
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcClientOptions.builder().batchWindow(Duration.ofMillis(-1)).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcClientOptions.builder().maxBatchSize(0).build());
+    }
+}
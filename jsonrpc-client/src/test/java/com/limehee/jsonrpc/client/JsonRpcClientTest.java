@@ -0,0 +1,363 @@
+package com.limehee.jsonrpc.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatchResult;
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import com.limehee.jsonrpc.core.JsonRpcException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.IntNode;
+import tools.jackson.databind.node.StringNode;
+
+class JsonRpcClientTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService serverExecutor = Executors.newFixedThreadPool(8);
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (server != null) {
+            server.stop(0);
+        }
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void callCompletesWithResult() throws Exception {
+        JsonRpcClient client = client(dispatching(dispatcher()));
+
+        JsonNode result = client.call("ping", null).get(5, TimeUnit.SECONDS);
+
+        assertEquals("pong", result.asString());
+        assertEquals(0, client.pendingCallCount());
+    }
+
+    @Test
+    void callFailsWithRemoteError() throws Exception {
+        JsonRpcClient client = client(dispatching(dispatcher()));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+            () -> client.call("missing", null).get(5, TimeUnit.SECONDS));
+
+        JsonRpcException cause = assertInstanceOf(JsonRpcException.class, ex.getCause());
+        assertEquals(JsonRpcErrorCode.METHOD_NOT_FOUND, cause.getCode());
+    }
+
+    @Test
+    void concurrentCallsAreCorrelatedById() throws Exception {
+        JsonRpcClient client = client(dispatching(dispatcher()));
+
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ArrayNode params = OBJECT_MAPPER.createArrayNode().add(i);
+            futures.add(client.call("echo", params));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i, futures.get(i).get(5, TimeUnit.SECONDS).asInt());
+        }
+        assertEquals(0, client.pendingCallCount());
+    }
+
+    @Test
+    void callTimesOutAndClearsPendingEntry() throws Exception {
+        JsonRpcClient client = client(exchange -> {
+            awaitRelease();
+            respond(exchange, 200, "{}");
+        });
+
+        CompletableFuture<JsonNode> future = client.call("ping", null, Duration.ofMillis(100));
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+        assertTrue(ex.getCause() instanceof TimeoutException || ex.getCause() instanceof HttpTimeoutException,
+            () -> "unexpected cause: " + ex.getCause());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.pendingCallCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(0, client.pendingCallCount());
+    }
+
+    @Test
+    void notifyCompletesWithoutResponseBody() throws Exception {
+        AtomicInteger notified = new AtomicInteger();
+        JsonRpcDispatcher dispatcher = dispatcher();
+        dispatcher.register("audit", params -> {
+            notified.incrementAndGet();
+            return IntNode.valueOf(0);
+        });
+        JsonRpcClient client = client(dispatching(dispatcher));
+
+        assertNull(client.notify("audit", null).get(5, TimeUnit.SECONDS));
+        assertEquals(1, notified.get());
+    }
+
+    @Test
+    void invalidResponseFailsWithInvalidRequest() throws Exception {
+        JsonRpcClient client = client(exchange -> respond(exchange, 200, """
+            {"jsonrpc":"1.0","id":1,"result":true}
+            """));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+            () -> client.call("ping", null).get(5, TimeUnit.SECONDS));
+
+        JsonRpcException cause = assertInstanceOf(JsonRpcException.class, ex.getCause());
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, cause.getCode());
+    }
+
+    @Test
+    void responseWithForeignIdDoesNotCompleteCall() throws Exception {
+        JsonRpcClient client = client(exchange -> respond(exchange, 200, """
+            {"jsonrpc":"2.0","id":999,"result":true}
+            """));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+            () -> client.call("ping", null).get(5, TimeUnit.SECONDS));
+
+        JsonRpcException cause = assertInstanceOf(JsonRpcException.class, ex.getCause());
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, cause.getCode());
+        assertTrue(cause.getMessage().startsWith("Missing response for request id"));
+    }
+
+    @Test
+    void nonJsonErrorStatusFailsWithTransportException() throws Exception {
+        JsonRpcClient client = client(exchange -> respond(exchange, 503, "Service Unavailable"));
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+            () -> client.call("ping", null).get(5, TimeUnit.SECONDS));
+
+        JsonRpcTransportException cause = assertInstanceOf(JsonRpcTransportException.class, ex.getCause());
+        assertEquals(503, cause.statusCode());
+    }
+
+    @Test
+    void callsInsideWindowShareOneBatchExchange() throws Exception {
+        AtomicInteger exchanges = new AtomicInteger();
+        HttpHandler dispatching = dispatching(dispatcher());
+        RecordingObserver observer = new RecordingObserver();
+        JsonRpcClient client = client(exchange -> {
+            exchanges.incrementAndGet();
+            dispatching.handle(exchange);
+        }, JsonRpcClientOptions.builder()
+            .batchWindow(Duration.ofMillis(200))
+            .maxBatchSize(10)
+            .build(), observer);
+
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.call("echo", OBJECT_MAPPER.createArrayNode().add(i)));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i, futures.get(i).get(5, TimeUnit.SECONDS).asInt());
+        }
+        assertEquals(1, exchanges.get());
+        assertEquals(List.of(5), observer.batchSizes);
+        assertEquals(List.of(false), observer.fullFlags);
+        assertEquals(0, client.pendingCallCount());
+    }
+
+    @Test
+    void fullBatchFlushesBeforeWindowElapses() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        JsonRpcClient client = client(dispatching(dispatcher()), JsonRpcClientOptions.builder()
+            .batchWindow(Duration.ofMinutes(1))
+            .maxBatchSize(3)
+            .build(), observer);
+
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(client.call("echo", OBJECT_MAPPER.createArrayNode().add(i)));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i, futures.get(i).get(5, TimeUnit.SECONDS).asInt());
+        }
+        assertEquals(List.of(3), observer.batchSizes);
+        assertEquals(List.of(true), observer.fullFlags);
+    }
+
+    @Test
+    void batchedRemoteErrorFailsOnlyItsCall() throws Exception {
+        JsonRpcClient client = client(dispatching(dispatcher()), JsonRpcClientOptions.builder()
+            .batchWindow(Duration.ofMinutes(1))
+            .maxBatchSize(2)
+            .build(), new RecordingObserver());
+
+        CompletableFuture<JsonNode> missing = client.call("missing", null);
+        CompletableFuture<JsonNode> ping = client.call("ping", null);
+
+        assertEquals("pong", ping.get(5, TimeUnit.SECONDS).asString());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+        JsonRpcException cause = assertInstanceOf(JsonRpcException.class, ex.getCause());
+        assertEquals(JsonRpcErrorCode.METHOD_NOT_FOUND, cause.getCode());
+        assertFalse(ping.isCompletedExceptionally());
+    }
+
+    @Test
+    void batchEntriesCompleteCallsBeforeBodyEnds() throws Exception {
+        JsonRpcClient client = client(exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"first\"},".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                awaitRelease();
+                out.write("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"second\"}]".getBytes(StandardCharsets.UTF_8));
+            }
+        }, JsonRpcClientOptions.builder()
+            .batchWindow(Duration.ofMinutes(1))
+            .maxBatchSize(2)
+            .build(), new RecordingObserver());
+
+        CompletableFuture<JsonNode> first = client.call("ping", null);
+        CompletableFuture<JsonNode> second = client.call("ping", null);
+
+        assertEquals("first", first.get(5, TimeUnit.SECONDS).asString());
+        assertFalse(second.isDone());
+        release.countDown();
+        assertEquals("second", second.get(5, TimeUnit.SECONDS).asString());
+    }
+
+    @Test
+    void streamedBodyIsReadOffTheHttpClientExecutor() throws Exception {
+        ExecutorService httpClientExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "http-client"));
+        ExecutorService responseExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "response"));
+        try {
+            JsonRpcClient client = client(exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write("{\"jsonrpc\":\"2.0\",".getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    Thread.sleep(200L);
+                    out.write("\"id\":1,\"result\":\"pong\"}".getBytes(StandardCharsets.UTF_8));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }, HttpClient.newBuilder().executor(httpClientExecutor).build(), JsonRpcClientOptions.builder()
+                .responseExecutor(responseExecutor)
+                .build());
+
+            String thread = client.call("ping", null)
+                .thenApply(result -> Thread.currentThread().getName())
+                .get(5, TimeUnit.SECONDS);
+
+            assertEquals("response", thread);
+        } finally {
+            httpClientExecutor.shutdownNow();
+            responseExecutor.shutdownNow();
+        }
+    }
+
+    private JsonRpcClient client(HttpHandler handler) throws IOException {
+        return client(handler, JsonRpcClientOptions.defaults(), new RecordingObserver());
+    }
+
+    private JsonRpcClient client(HttpHandler handler, JsonRpcClientOptions options, JsonRpcClientObserver observer)
+        throws IOException {
+        return new JsonRpcClient(JsonRpcClient.newHttpClient(), start(handler), OBJECT_MAPPER, options, observer);
+    }
+
+    private JsonRpcClient client(HttpHandler handler, HttpClient httpClient, JsonRpcClientOptions options)
+        throws IOException {
+        return new JsonRpcClient(httpClient, start(handler), OBJECT_MAPPER, options, new RecordingObserver());
+    }
+
+    private URI start(HttpHandler handler) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jsonrpc", handler);
+        server.setExecutor(serverExecutor);
+        server.start();
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/jsonrpc");
+    }
+
+    private static JsonRpcDispatcher dispatcher() {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        dispatcher.register("echo", params -> params.get(0));
+        return dispatcher;
+    }
+
+    private static HttpHandler dispatching(JsonRpcDispatcher dispatcher) {
+        return exchange -> {
+            JsonRpcDispatchResult result = dispatcher.dispatch(
+                OBJECT_MAPPER.readTree(exchange.getRequestBody().readAllBytes()));
+            if (!result.hasResponse()) {
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                return;
+            }
+            Object body = result.isBatch() ? result.responses() : result.singleResponseOrNull();
+            respond(exchange, 200, OBJECT_MAPPER.writeValueAsString(body));
+        };
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingObserver implements JsonRpcClientObserver {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final List<Boolean> fullFlags = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onBatchFlush(int batchSize, long waitNanos, boolean full) {
+            batchSizes.add(batchSize);
+            fullFlags.add(full);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.limehee.jsonrpc.core;
+
+import java.io.ByteArrayInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.node.StringNode;
+
+@State(Scope.Benchmark)
+public class JsonRpcBatchLimitBenchmark {
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @Param({"10", "100"})
+    public int oversizeFactor;
+
+    private JsonRpcDispatcher dispatcher;
+    private JsonRpcPayloadReader reader;
+    private byte[] oversizedBatch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        ArrayNode batch = OBJECT_MAPPER.createArrayNode();
+        for (int i = 0; i < MAX_BATCH_SIZE * oversizeFactor; i++) {
+            ObjectNode request = batch.addObject();
+            request.put("jsonrpc", "2.0");
+            request.put("method", "ping");
+            request.putObject("params").put("id", i).put("include", "profile");
+            request.put("id", i);
+        }
+        oversizedBatch = OBJECT_MAPPER.writeValueAsBytes(batch);
+        System.out.printf("%n[factor=%d] batch=%d entries, %d bytes%n",
+            oversizeFactor, MAX_BATCH_SIZE * oversizeFactor, oversizedBatch.length);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult rejectAfterFullParse() {
+        return dispatcher.dispatch(reader.readTree(new ByteArrayInputStream(oversizedBatch)));
+    }
+
+    @Benchmark
+    public JsonRpcResponse rejectWhileStreaming() {
+        try {
+            reader.readTree(new ByteArrayInputStream(oversizedBatch), MAX_BATCH_SIZE);
+            throw new IllegalStateException("Oversized batch was not rejected");
+        } catch (JsonRpcException ex) {
+            return dispatcher.batchTooLargeResponse();
+        }
+    }
+}
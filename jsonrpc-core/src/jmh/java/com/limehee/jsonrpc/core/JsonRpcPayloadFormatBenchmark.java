@@ -0,0 +1,88 @@
+package com.limehee.jsonrpc.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+@State(Scope.Benchmark)
+public class JsonRpcPayloadFormatBenchmark {
+
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"1", "64"})
+    public int batchSize;
+
+    private ObjectMapper mapper;
+    private JsonRpcPayloadReader reader;
+    private JsonRpcDispatcher dispatcher;
+    private byte[] requestBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JSON_MAPPER;
+        };
+        reader = new JsonRpcPayloadReader(mapper, false);
+        dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("user.get", params -> {
+            ObjectNode user = JSON_MAPPER.createObjectNode();
+            user.put("id", params == null ? 0 : params.path("id").asLong());
+            user.put("name", "Ada Lovelace");
+            user.put("email", "ada@example.com");
+            user.put("score", 98.25);
+            user.put("active", true);
+            return user;
+        });
+
+        requestBytes = mapper.writeValueAsBytes(buildPayload(batchSize));
+        byte[] responseBytes = roundTrip();
+        System.out.printf("%n[%s, batch=%d] request=%d bytes, response=%d bytes%n",
+            format, batchSize, requestBytes.length, responseBytes.length);
+    }
+
+    @Benchmark
+    public byte[] roundTrip() {
+        JsonRpcDispatchResult result = dispatcher.dispatch(reader.readTree(requestBytes));
+        return mapper.writeValueAsBytes(result.isBatch() ? result.responses() : result.singleResponse().orElseThrow());
+    }
+
+    @Benchmark
+    public JsonNode parseRequest() {
+        return reader.readTree(requestBytes);
+    }
+
+    private Object buildPayload(int size) {
+        if (size == 1) {
+            return buildRequest(1);
+        }
+        ArrayNode array = JSON_MAPPER.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            array.add(buildRequest(i + 1));
+        }
+        return array;
+    }
+
+    private ObjectNode buildRequest(int id) {
+        ObjectNode request = JSON_MAPPER.createObjectNode();
+        request.put("jsonrpc", "2.0");
+        request.put("method", "user.get");
+        request.putObject("params").put("id", 1000L + id).put("include", "profile");
+        request.put("id", id);
+        return request;
+    }
+}
@@ -0,0 +1,97 @@
+package com.limehee.jsonrpc.core;
+
+import java.io.ByteArrayInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+@State(Scope.Benchmark)
+public class JsonRpcResponseParseBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    @Param({"defaults", "strict"})
+    public String validation;
+
+    private DefaultJsonRpcResponseParser twoPhaseParser;
+    private DefaultJsonRpcResponseValidator validator;
+    private ValidatingJsonRpcResponseParser fusedParser;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JsonRpcResponseValidationOptions options = "strict".equals(validation)
+            ? JsonRpcResponseValidationOptions.builder()
+                .allowNullId(false)
+                .allowFractionalId(false)
+                .rejectRequestFields(true)
+                .errorCodePolicy(JsonRpcResponseErrorCodePolicy.STANDARD_OR_SERVER_ERROR_RANGE)
+                .build()
+            : JsonRpcResponseValidationOptions.defaults();
+        twoPhaseParser = new DefaultJsonRpcResponseParser(OBJECT_MAPPER, false);
+        validator = new DefaultJsonRpcResponseValidator(options);
+        fusedParser = new ValidatingJsonRpcResponseParser(OBJECT_MAPPER, options);
+
+        ArrayNode batch = OBJECT_MAPPER.createArrayNode();
+        for (int i = 0; i < batchSize; i++) {
+            ObjectNode response = batch.addObject();
+            response.put("jsonrpc", "2.0");
+            response.put("id", i);
+            if (i % 8 == 7) {
+                ObjectNode error = response.putObject("error");
+                error.put("code", -32001);
+                error.put("message", "Upstream unavailable");
+            } else {
+                ObjectNode result = response.putObject("result");
+                result.put("userId", i);
+                result.put("name", "user-" + i);
+                result.putArray("roles").add("reader").add("writer");
+            }
+        }
+        payload = OBJECT_MAPPER.writeValueAsBytes(batchSize == 1 ? batch.get(0) : batch);
+    }
+
+    @Benchmark
+    public void twoPhase(Blackhole blackhole) {
+        JsonRpcIncomingResponseEnvelope envelope = twoPhaseParser.parse(payload);
+        for (JsonRpcIncomingResponse response : envelope.responses()) {
+            validator.validate(response);
+            blackhole.consume(response);
+        }
+    }
+
+    @Benchmark
+    public JsonRpcIncomingResponseEnvelope fused() {
+        return fusedParser.parse(payload);
+    }
+
+    @Benchmark
+    public void twoPhaseStream(Blackhole blackhole) {
+        try (JsonRpcIncomingResponseStream stream = twoPhaseParser.stream(new ByteArrayInputStream(payload),
+            validator)) {
+            while (stream.hasNext()) {
+                blackhole.consume(stream.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void fusedStream(Blackhole blackhole) {
+        try (JsonRpcIncomingResponseStream stream = fusedParser.stream(new ByteArrayInputStream(payload))) {
+            while (stream.hasNext()) {
+                blackhole.consume(stream.next());
+            }
+        }
+    }
+}
@@ -19,4 +19,20 @@ public class DefaultJsonRpcMethodInvoker implements JsonRpcMethodInvoker {
     public JsonNode invoke(JsonRpcMethodHandler handler, @Nullable JsonNode params) {
         return handler.handle(params);
     }
+
+    /**
+     * Invokes a handler for a validated request, handing deferred params to the handler as tokens.
+     *
+     * @param handler method handler
+     * @param request validated request being dispatched
+     * @return handler result
+     */
+    @Override
+    public JsonNode invokeRequest(JsonRpcMethodHandler handler, JsonRpcRequest request) {
+        JsonRpcDeferredParams deferredParams = request.deferredParams();
+        if (deferredParams != null) {
+            return handler.handleDeferred(deferredParams);
+        }
+        return invoke(handler, request.params());
+    }
 }
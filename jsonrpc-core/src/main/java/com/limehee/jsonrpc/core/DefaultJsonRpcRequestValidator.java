@@ -78,6 +78,10 @@ public class DefaultJsonRpcRequestValidator implements JsonRpcRequestValidator {
             }
         }
 
+        if (request.deferredParams() != null) {
+            // Deferred params are captured only for arrays and objects.
+            return;
+        }
         JsonNode params = request.params();
         if (params != null && !params.isArray() && !params.isObject()) {
             if (options.paramsTypeViolationCodePolicy() == JsonRpcParamsTypeViolationCodePolicy.INVALID_REQUEST) {
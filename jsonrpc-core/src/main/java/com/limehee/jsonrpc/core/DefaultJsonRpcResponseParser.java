@@ -1,5 +1,6 @@
 package com.limehee.jsonrpc.core;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -105,13 +106,45 @@ public class DefaultJsonRpcResponseParser implements JsonRpcResponseParser {
         return JsonRpcIncomingResponseEnvelope.batch(responses);
     }
 
+    /**
+     * Opens a stream that reads and validates response entries one at a time with a default validator.
+     *
+     * @param payload raw JSON byte stream; closed when the returned stream is closed or exhausted
+     * @return response entry stream
+     * @throws JsonRpcException when the payload does not start with a response object or array
+     * @see #stream(InputStream, JsonRpcResponseValidator)
+     */
+    public JsonRpcIncomingResponseStream stream(InputStream payload) {
+        return stream(payload, new DefaultJsonRpcResponseValidator());
+    }
+
+    /**
+     * Opens a stream that reads and validates response entries one at a time.
+     * <p>
+     * Unlike {@link #parse(byte[])}, a batch response is never held in full: each array element is read into its own
+     * tree when requested and validated before it is returned, so a caller that processes and drops entries keeps only
+     * one of them in memory. Only the first token is read before this method returns.
+     * </p>
+     *
+     * @param payload   raw JSON byte stream; closed when the returned stream is closed or exhausted
+     * @param validator validator applied to every entry as it is read
+     * @return response entry stream
+     * @throws JsonRpcException when the payload does not start with a response object or array
+     */
+    public JsonRpcIncomingResponseStream stream(InputStream payload, JsonRpcResponseValidator validator) {
+        Objects.requireNonNull(payload, "payload");
+        Objects.requireNonNull(validator, "validator");
+        return JsonRpcIncomingResponseStream.open(payloadReader, payload, validator);
+    }
+
     /**
      * Parses a response object and extracts known top-level members.
      *
      * @param node response object candidate
      * @return parsed incoming response
+     * @throws JsonRpcException when {@code node} is not a JSON object
      */
-    private JsonRpcIncomingResponse parseObject(JsonNode node) {
+    static JsonRpcIncomingResponse parseObject(JsonNode node) {
         if (!node.isObject()) {
             throw invalidResponseEnvelope();
         }
@@ -145,7 +178,7 @@ public class DefaultJsonRpcResponseParser implements JsonRpcResponseParser {
      *
      * @return invalid-response exception
      */
-    private JsonRpcException invalidResponseEnvelope() {
+    static JsonRpcException invalidResponseEnvelope() {
         return new JsonRpcException(JsonRpcErrorCode.INVALID_REQUEST, "Invalid response envelope");
     }
 
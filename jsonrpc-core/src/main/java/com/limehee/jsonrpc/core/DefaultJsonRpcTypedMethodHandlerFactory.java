@@ -43,10 +43,20 @@ public class DefaultJsonRpcTypedMethodHandlerFactory implements JsonRpcTypedMeth
      */
     @Override
     public <P> JsonRpcMethodHandler unary(Class<P> paramType, Function<P, ?> method) {
-        return params -> {
-            P boundParams = parameterBinder.bind(params, paramType);
-            Object result = method.apply(boundParams);
-            return resultWriter.write(result);
+        return new JsonRpcMethodHandler() {
+            @Override
+            public JsonNode handle(@Nullable JsonNode params) {
+                P boundParams = parameterBinder.bind(params, paramType);
+                Object result = method.apply(boundParams);
+                return resultWriter.write(result);
+            }
+
+            @Override
+            public JsonNode handleDeferred(JsonRpcDeferredParams params) {
+                P boundParams = parameterBinder.bindDeferred(params, paramType);
+                Object result = method.apply(boundParams);
+                return resultWriter.write(result);
+            }
         };
     }
 
@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Thread-safe in-memory {@link JsonRpcMethodRegistry} implementation.
@@ -60,4 +61,12 @@ public class InMemoryJsonRpcMethodRegistry implements JsonRpcMethodRegistry {
     public Optional<JsonRpcMethodHandler> find(String method) {
         return Optional.ofNullable(handlers.get(method));
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable JsonRpcMethodHandler findOrNull(String method) {
+        return handlers.get(method);
+    }
 }
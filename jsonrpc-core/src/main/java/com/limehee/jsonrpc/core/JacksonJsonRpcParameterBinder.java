@@ -3,6 +3,7 @@ package com.limehee.jsonrpc.core;
 import java.util.Objects;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.NullNode;
@@ -49,4 +50,34 @@ public class JacksonJsonRpcParameterBinder implements JsonRpcParameterBinder {
             );
         }
     }
+
+    /**
+     * Reads the captured tokens straight into the target type, without building a params tree.
+     *
+     * @param params     deferred JSON-RPC params value
+     * @param targetType Java target class for conversion
+     * @param <T>        target value type
+     * @return converted value
+     * @throws JsonRpcException when parameter conversion fails
+     */
+    @Override
+    public <T> T bindDeferred(JsonRpcDeferredParams params, Class<T> targetType) {
+        if (targetType == null) {
+            throw new IllegalArgumentException("targetType must not be null");
+        }
+        if (targetType == JsonNode.class) {
+            return targetType.cast(params.asNode());
+        }
+
+        try (JsonParser parser = params.asParser()) {
+            return objectMapper.readValue(parser, targetType);
+        } catch (JacksonException | IllegalArgumentException ex) {
+            throw new JsonRpcException(
+                JsonRpcErrorCode.INVALID_PARAMS,
+                JsonRpcConstants.MESSAGE_INVALID_PARAMS,
+                null,
+                ex
+            );
+        }
+    }
 }
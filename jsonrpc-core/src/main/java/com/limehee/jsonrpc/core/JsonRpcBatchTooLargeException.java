@@ -0,0 +1,34 @@
+package com.limehee.jsonrpc.core;
+
+/**
+ * Thrown by {@link JsonRpcPayloadReader} when a batch array has more elements than the configured maximum.
+ * <p>
+ * Transports catch this type to answer with {@link JsonRpcDispatcher#batchTooLargeResponse()}; other
+ * {@link JsonRpcException}s raised while reading are not mistaken for a batch overflow.
+ */
+public final class JsonRpcBatchTooLargeException extends JsonRpcException {
+
+    /**
+     * Maximum batch size that was exceeded.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Creates an invalid-request exception for an oversized batch.
+     *
+     * @param maxBatchSize maximum batch size that was exceeded
+     */
+    public JsonRpcBatchTooLargeException(int maxBatchSize) {
+        super(JsonRpcErrorCode.INVALID_REQUEST, "Batch size exceeds configured maximum");
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the maximum batch size that was exceeded.
+     *
+     * @return configured maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+}
@@ -0,0 +1,46 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.Collections;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Handler able to process many invocations of the same method in one call.
+ * <p>
+ * When a batch contains several non-notification entries for a bulk method, the dispatcher groups them, invokes
+ * {@link #handleBulk(List)} once, and scatters the returned outcomes back to the matching response ids. Single requests
+ * and notifications use {@link #handle(JsonNode)}, which delegates to the bulk variant with one element.
+ * </p>
+ * <p>
+ * Grouped entries are passed as {@link JsonRpcRequest#params()} trees, so their params are materialized as
+ * {@link JsonNode} even when the requests were decoded from tokens.
+ * </p>
+ */
+@FunctionalInterface
+public interface JsonRpcBulkMethodHandler extends JsonRpcMethodHandler {
+
+    /**
+     * Handles several invocations of this method.
+     *
+     * @param params request parameters in entry order; elements may be {@code null}
+     * @return one outcome per params element, in the same order
+     */
+    List<JsonRpcBulkResult> handleBulk(List<@Nullable JsonNode> params);
+
+    /**
+     * Handles one invocation by delegating to {@link #handleBulk(List)}.
+     *
+     * @param params request parameters; may be {@code null}
+     * @return JSON-RPC result payload
+     * @throws IllegalStateException when the bulk handler does not return exactly one outcome
+     */
+    @Override
+    default JsonNode handle(@Nullable JsonNode params) {
+        List<JsonRpcBulkResult> results = handleBulk(Collections.singletonList(params));
+        if (results.size() != 1) {
+            throw new IllegalStateException("Bulk handler returned " + results.size() + " results for 1 request");
+        }
+        return results.get(0).getOrThrow();
+    }
+}
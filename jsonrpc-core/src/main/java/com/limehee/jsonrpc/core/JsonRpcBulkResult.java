@@ -0,0 +1,63 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Per-entry outcome produced by a {@link JsonRpcBulkMethodHandler}.
+ * <p>
+ * Exactly one of {@code result} or {@code error} must be present.
+ *
+ * @param result success payload; may be {@code null} when {@code error} is present
+ * @param error  failure mapped to a JSON-RPC error for this entry; may be {@code null} when {@code result} is present
+ */
+public record JsonRpcBulkResult(@Nullable JsonNode result, @Nullable RuntimeException error) {
+
+    /**
+     * Validates outcome invariants.
+     *
+     * @param result success payload
+     * @param error  entry failure
+     * @throws IllegalArgumentException when both or neither of {@code result} and {@code error} are present
+     */
+    public JsonRpcBulkResult {
+        if ((result != null) == (error != null)) {
+            throw new IllegalArgumentException("Bulk result must contain exactly one of result or error");
+        }
+    }
+
+    /**
+     * Creates a successful outcome.
+     *
+     * @param result success payload
+     * @return success outcome
+     */
+    public static JsonRpcBulkResult success(JsonNode result) {
+        return new JsonRpcBulkResult(Objects.requireNonNull(result, "result"), null);
+    }
+
+    /**
+     * Creates a failed outcome.
+     *
+     * @param error failure for this entry, typically a {@link JsonRpcException}
+     * @return failed outcome
+     */
+    public static JsonRpcBulkResult failure(RuntimeException error) {
+        return new JsonRpcBulkResult(null, Objects.requireNonNull(error, "error"));
+    }
+
+    /**
+     * Returns the result or throws the entry failure.
+     *
+     * @return success payload
+     * @throws RuntimeException the entry failure when this outcome is not successful
+     */
+    public JsonNode getOrThrow() {
+        RuntimeException failure = error;
+        if (failure != null) {
+            throw failure;
+        }
+        return Objects.requireNonNull(result, "result");
+    }
+}
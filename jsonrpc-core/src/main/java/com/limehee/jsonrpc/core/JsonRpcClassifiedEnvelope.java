@@ -0,0 +1,52 @@
+package com.limehee.jsonrpc.core;
+
+import tools.jackson.core.JsonParser;
+
+/**
+ * Envelope classification together with a parser over the classified payload.
+ * <p>
+ * Produced by {@link StreamingJsonRpcEnvelopeClassifier#classify(JsonParser)}. The parser is positioned before the
+ * first token of the payload, so the next stage can read it as if classification had not happened, for example with
+ * {@link ValidatingJsonRpcResponseParser#parse(JsonParser)} or {@code ObjectMapper.readTree(JsonParser)}.
+ * </p>
+ */
+public final class JsonRpcClassifiedEnvelope implements AutoCloseable {
+
+    private final JsonRpcEnvelopeType type;
+    private final JsonParser parser;
+
+    /**
+     * Creates a classified envelope.
+     *
+     * @param type   envelope type classification
+     * @param parser parser positioned before the first token of the payload
+     */
+    JsonRpcClassifiedEnvelope(JsonRpcEnvelopeType type, JsonParser parser) {
+        this.type = type;
+        this.parser = parser;
+    }
+
+    /**
+     * @return envelope type classification
+     */
+    public JsonRpcEnvelopeType type() {
+        return type;
+    }
+
+    /**
+     * Returns the parser for the next stage.
+     *
+     * @return parser positioned before the first token of the payload
+     */
+    public JsonParser parser() {
+        return parser;
+    }
+
+    /**
+     * Closes the parser and its underlying input.
+     */
+    @Override
+    public void close() {
+        parser.close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable single or batch payload decoded straight from tokens into request models.
+ * <p>
+ * Produced by {@link JsonRpcPayloadReader#readRequests(java.io.InputStream, int)} and dispatched with
+ * {@link JsonRpcDispatcher#dispatch(JsonRpcDecodedPayload)}. Entries that are not JSON objects are kept as
+ * {@code null} so the dispatcher can answer them with an invalid-request error in their batch position.
+ * </p>
+ */
+public final class JsonRpcDecodedPayload {
+
+    private final boolean batch;
+    private final List<@Nullable JsonRpcRequest> requests;
+
+    /**
+     * Creates a decoded payload with immutable request storage.
+     *
+     * @param batch    whether the payload was a batch array
+     * @param requests decoded entries in payload order
+     */
+    private JsonRpcDecodedPayload(boolean batch, List<@Nullable JsonRpcRequest> requests) {
+        this.batch = batch;
+        this.requests = Collections.unmodifiableList(new ArrayList<>(requests));
+    }
+
+    /**
+     * Creates a non-batch payload.
+     *
+     * @param request decoded request; {@code null} when the payload was not a JSON object
+     * @return decoded payload
+     */
+    public static JsonRpcDecodedPayload single(@Nullable JsonRpcRequest request) {
+        return new JsonRpcDecodedPayload(false, Collections.singletonList(request));
+    }
+
+    /**
+     * Creates a batch payload.
+     *
+     * @param requests decoded batch entries; {@code null} for entries that were not JSON objects
+     * @return decoded payload
+     */
+    public static JsonRpcDecodedPayload batch(List<@Nullable JsonRpcRequest> requests) {
+        return new JsonRpcDecodedPayload(true, requests);
+    }
+
+    /**
+     * Indicates whether the payload was a batch array.
+     *
+     * @return {@code true} for batch payloads
+     */
+    public boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * Returns the decoded entries.
+     *
+     * @return immutable entry list; a single payload holds exactly one entry
+     */
+    public List<@Nullable JsonRpcRequest> requests() {
+        return requests;
+    }
+}
@@ -0,0 +1,89 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.util.TokenBuffer;
+
+/**
+ * Array or object {@code params} value captured as buffered tokens instead of a JSON tree.
+ * <p>
+ * Produced by {@link JsonRpcPayloadReader#readRequests(java.io.InputStream, int)}. A binder can read the tokens
+ * straight into its target type through {@link #asParser()}, skipping the intermediate tree and the tree-to-value
+ * conversion. The tree is built only when a component asks for it through {@link #asNode()}, and then only once.
+ * </p>
+ */
+public final class JsonRpcDeferredParams {
+
+    private final TokenBuffer tokens;
+    private final ObjectMapper objectMapper;
+    private final boolean array;
+    private volatile @Nullable JsonNode node;
+
+    /**
+     * Creates deferred params over captured tokens.
+     *
+     * @param tokens       buffered tokens of one array or object value
+     * @param objectMapper mapper used to build the tree on demand
+     * @param array        {@code true} when the value is an array
+     */
+    private JsonRpcDeferredParams(TokenBuffer tokens, ObjectMapper objectMapper, boolean array) {
+        this.tokens = tokens;
+        this.objectMapper = objectMapper;
+        this.array = array;
+    }
+
+    /**
+     * Captures the array or object value starting at the parser's current token.
+     *
+     * @param parser       parser positioned on {@code START_ARRAY} or {@code START_OBJECT}
+     * @param objectMapper mapper used to build the tree on demand
+     * @return deferred params; the parser is left on the matching end token
+     * @throws JacksonException when the value cannot be tokenized
+     */
+    static JsonRpcDeferredParams capture(JsonParser parser, ObjectMapper objectMapper) throws JacksonException {
+        boolean array = parser.isExpectedStartArrayToken();
+        TokenBuffer tokens = TokenBuffer.forBuffering(parser, parser.objectReadContext());
+        tokens.copyCurrentStructure(parser);
+        return new JsonRpcDeferredParams(tokens, Objects.requireNonNull(objectMapper, "objectMapper"), array);
+    }
+
+    /**
+     * @return {@code true} when params is an array, {@code false} when it is an object
+     */
+    public boolean isArray() {
+        return array;
+    }
+
+    /**
+     * Opens a new parser over the captured tokens.
+     * <p>
+     * Every call returns an independent parser positioned before the first token.
+     *
+     * @return parser over the params value
+     */
+    public JsonParser asParser() {
+        return tokens.asParser(ObjectReadContext.empty());
+    }
+
+    /**
+     * Returns the params value as a JSON tree, building it on first use.
+     *
+     * @return params tree
+     * @throws JacksonException when the captured tokens cannot be read as a tree
+     */
+    public JsonNode asNode() throws JacksonException {
+        JsonNode current = node;
+        if (current == null) {
+            try (JsonParser parser = asParser()) {
+                current = objectMapper.readTree(parser);
+            }
+            node = current;
+        }
+        return current;
+    }
+}
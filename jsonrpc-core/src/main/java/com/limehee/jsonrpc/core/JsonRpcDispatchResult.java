@@ -1,25 +1,41 @@
 package com.limehee.jsonrpc.core;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Immutable dispatcher result wrapper for single and batch requests.
+ * <p>
+ * Non-batch results hold their response directly, so dispatching a single request allocates no list or
+ * {@link Optional}; {@link #responses()} and {@link #singleResponse()} build those views on demand.
+ * </p>
  */
 public final class JsonRpcDispatchResult {
 
+    private static final JsonRpcDispatchResult NO_RESPONSE = new JsonRpcDispatchResult(false, null, null);
+
     private final boolean batch;
-    private final List<JsonRpcResponse> responses;
+    private final @Nullable JsonRpcResponse single;
+    private final @Nullable List<JsonRpcResponse> responses;
 
     /**
-     * Creates a dispatcher result with immutable response storage.
+     * Creates a dispatcher result.
      *
      * @param batch     whether the source payload was processed as a batch request
-     * @param responses response entries generated by dispatching
+     * @param single    single response of a non-batch result; {@code null} for batches and notifications
+     * @param responses immutable response entries of a batch result; {@code null} for non-batch results
      */
-    private JsonRpcDispatchResult(boolean batch, List<JsonRpcResponse> responses) {
+    private JsonRpcDispatchResult(
+        boolean batch,
+        @Nullable JsonRpcResponse single,
+        @Nullable List<JsonRpcResponse> responses
+    ) {
         this.batch = batch;
-        this.responses = List.copyOf(responses);
+        this.single = single;
+        this.responses = responses;
     }
 
     /**
@@ -29,7 +45,7 @@ public final class JsonRpcDispatchResult {
      * @return dispatch result
      */
     public static JsonRpcDispatchResult single(Optional<JsonRpcResponse> response) {
-        return new JsonRpcDispatchResult(false, response.stream().toList());
+        return response.isPresent() ? single(response.get()) : NO_RESPONSE;
     }
 
     /**
@@ -39,7 +55,16 @@ public final class JsonRpcDispatchResult {
      * @return dispatch result
      */
     public static JsonRpcDispatchResult single(JsonRpcResponse response) {
-        return new JsonRpcDispatchResult(false, List.of(response));
+        return new JsonRpcDispatchResult(false, Objects.requireNonNull(response, "response"), null);
+    }
+
+    /**
+     * Returns the shared non-batch result without a response, as produced for notifications.
+     *
+     * @return empty non-batch result
+     */
+    public static JsonRpcDispatchResult noResponse() {
+        return NO_RESPONSE;
     }
 
     /**
@@ -49,7 +74,19 @@ public final class JsonRpcDispatchResult {
      * @return dispatch result
      */
     public static JsonRpcDispatchResult batch(List<JsonRpcResponse> responses) {
-        return new JsonRpcDispatchResult(true, responses);
+        return new JsonRpcDispatchResult(true, null, List.copyOf(responses));
+    }
+
+    /**
+     * Creates a batch result that takes ownership of a response list built by the dispatcher.
+     * <p>
+     * The list is wrapped rather than copied; the caller must not modify it afterwards.
+     *
+     * @param responses dispatcher-owned responses in batch order
+     * @return dispatch result
+     */
+    static JsonRpcDispatchResult ownedBatch(List<JsonRpcResponse> responses) {
+        return new JsonRpcDispatchResult(true, null, Collections.unmodifiableList(responses));
     }
 
     /**
@@ -67,7 +104,8 @@ public final class JsonRpcDispatchResult {
      * @return {@code true} when response list is non-empty
      */
     public boolean hasResponse() {
-        return !responses.isEmpty();
+        List<JsonRpcResponse> current = responses;
+        return current == null ? single != null : !current.isEmpty();
     }
 
     /**
@@ -76,7 +114,11 @@ public final class JsonRpcDispatchResult {
      * @return immutable response list
      */
     public List<JsonRpcResponse> responses() {
-        return responses;
+        List<JsonRpcResponse> current = responses;
+        if (current != null) {
+            return current;
+        }
+        return single == null ? List.of() : List.of(single);
     }
 
     /**
@@ -85,9 +127,15 @@ public final class JsonRpcDispatchResult {
      * @return optional single response
      */
     public Optional<JsonRpcResponse> singleResponse() {
-        if (batch || responses.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(responses.get(0));
+        return Optional.ofNullable(single);
+    }
+
+    /**
+     * Returns the single response without wrapping it.
+     *
+     * @return single response, or {@code null} for batch results and results without a response
+     */
+    public @Nullable JsonRpcResponse singleResponseOrNull() {
+        return single;
     }
 }
@@ -1,9 +1,12 @@
 package com.limehee.jsonrpc.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
 
@@ -14,6 +17,8 @@ import tools.jackson.databind.JsonNode;
  * <ul>
  *   <li>single request and batch request payloads</li>
  *   <li>notifications (no response body)</li>
+ *   <li>single invocation of duplicate {@link JsonRpcIdempotentMethodHandler} calls within a batch</li>
+ *   <li>grouped invocation of same-method {@link JsonRpcBulkMethodHandler} calls within a batch</li>
  *   <li>interceptor hooks across validation/invocation/error phases</li>
  *   <li>pluggable strategy components for each pipeline stage</li>
  * </ul>
@@ -29,6 +34,7 @@ public class JsonRpcDispatcher {
     private final int maxBatchSize;
     private final List<JsonRpcInterceptor> interceptors;
     private final boolean hasInterceptors;
+    private final boolean interceptorsRequireRawRequests;
     private final JsonRpcNotificationExecutor notificationExecutor;
 
     /**
@@ -162,6 +168,8 @@ public class JsonRpcDispatcher {
         this.maxBatchSize = maxBatchSize;
         this.interceptors = List.copyOf(Objects.requireNonNull(interceptors, "interceptors"));
         this.hasInterceptors = !this.interceptors.isEmpty();
+        this.interceptorsRequireRawRequests = this.interceptors.stream()
+            .anyMatch(JsonRpcInterceptor::requiresRawRequest);
         this.notificationExecutor = Objects.requireNonNull(notificationExecutor, "notificationExecutor");
     }
 
@@ -195,19 +203,67 @@ public class JsonRpcDispatcher {
                     JsonRpcConstants.MESSAGE_INVALID_REQUEST)));
             }
             if (payload.size() > maxBatchSize) {
-                return JsonRpcDispatchResult.single(errorResponse(null, new JsonRpcException(
-                    JsonRpcErrorCode.INVALID_REQUEST,
-                    "Batch size exceeds configured maximum")));
+                return JsonRpcDispatchResult.single(batchTooLargeResponse());
             }
 
             List<JsonRpcResponse> responses = new ArrayList<>(payload.size());
+            BatchContext batch = new BatchContext(findBulkMethods(payload));
             for (JsonNode node : payload) {
-                dispatchSingleNode(node).ifPresent(responses::add);
+                batch.beginEntry(responses.size());
+                addResponse(responses, dispatchSingleNode(node, batch));
             }
-            return JsonRpcDispatchResult.batch(responses);
+            return JsonRpcDispatchResult.ownedBatch(batch.complete(responses));
         }
 
-        return JsonRpcDispatchResult.single(dispatchSingleNode(payload));
+        return singleResult(dispatchSingleNode(payload, null));
+    }
+
+    /**
+     * Dispatches a payload decoded by {@link JsonRpcPayloadReader#readRequests(java.io.InputStream, int)}.
+     * <p>
+     * Produces the same responses as {@link #dispatch(JsonNode)} for the equivalent tree, provided
+     * {@link #supportsDecodedPayloads()} returns {@code true}.
+     * </p>
+     *
+     * @param payload decoded single request or batch
+     * @return dispatch result containing zero, one, or many responses depending on payload shape and notification usage
+     */
+    public JsonRpcDispatchResult dispatch(JsonRpcDecodedPayload payload) {
+        List<@Nullable JsonRpcRequest> requests = payload.requests();
+        if (!payload.isBatch()) {
+            return singleResult(dispatchDecodedRequest(requests.get(0), null));
+        }
+        if (requests.isEmpty()) {
+            return JsonRpcDispatchResult.single(errorResponse(null, new JsonRpcException(
+                JsonRpcErrorCode.INVALID_REQUEST,
+                JsonRpcConstants.MESSAGE_INVALID_REQUEST)));
+        }
+        if (requests.size() > maxBatchSize) {
+            return JsonRpcDispatchResult.single(batchTooLargeResponse());
+        }
+
+        List<JsonRpcResponse> responses = new ArrayList<>(requests.size());
+        BatchContext batch = new BatchContext(findBulkMethods(requests));
+        for (@Nullable JsonRpcRequest request : requests) {
+            batch.beginEntry(responses.size());
+            addResponse(responses, dispatchDecodedRequest(request, batch));
+        }
+        return JsonRpcDispatchResult.ownedBatch(batch.complete(responses));
+    }
+
+    /**
+     * Returns whether decoded payloads can be dispatched in place of trees.
+     * <p>
+     * Decoded requests bypass the request parser and carry no raw request node, so they are only equivalent when the
+     * parser is {@link DefaultJsonRpcRequestParser} itself and no interceptor
+     * {@linkplain JsonRpcInterceptor#requiresRawRequest() requires} the node in
+     * {@link JsonRpcInterceptor#beforeValidate(JsonNode)}. The other interceptor callbacks run on both paths.
+     * </p>
+     *
+     * @return {@code true} when {@link #dispatch(JsonRpcDecodedPayload)} may be used
+     */
+    public boolean supportsDecodedPayloads() {
+        return !interceptorsRequireRawRequests && requestParser.getClass() == DefaultJsonRpcRequestParser.class;
     }
 
     /**
@@ -224,12 +280,12 @@ public class JsonRpcDispatcher {
             }
             requestValidator.validate(request);
             validRequest = true;
-            return dispatchSingleRequest(request).orElse(null);
+            return dispatchSingleRequest(request, null);
         } catch (Error error) {
             throw error;
         } catch (Throwable ex) {
             JsonNode id = request == null ? null : normalizeErrorId(request.id());
-            return handleRequestError(id, request, validRequest, ex).orElse(null);
+            return handleRequestError(id, request, validRequest, ex);
         }
     }
 
@@ -244,17 +300,63 @@ public class JsonRpcDispatcher {
             JsonRpcConstants.MESSAGE_PARSE_ERROR));
     }
 
+    /**
+     * Creates the response for a batch payload with more than {@link #maxBatchSize()} elements.
+     * <p>
+     * Transports that count batch elements while parsing use this to reject an oversized batch before it is fully
+     * read, with the same response {@link #dispatch(JsonNode)} produces for it.
+     *
+     * @return invalid-request response with {@code id = null}
+     */
+    public JsonRpcResponse batchTooLargeResponse() {
+        return errorResponse(null, new JsonRpcException(
+            JsonRpcErrorCode.INVALID_REQUEST,
+            "Batch size exceeds configured maximum"));
+    }
+
+    /**
+     * Returns the maximum number of elements allowed in batch payloads.
+     *
+     * @return configured maximum batch size
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Wraps a non-batch response without allocating for notifications.
+     *
+     * @param response single response; {@code null} for notifications
+     * @return dispatch result
+     */
+    private static JsonRpcDispatchResult singleResult(@Nullable JsonRpcResponse response) {
+        return response == null ? JsonRpcDispatchResult.noResponse() : JsonRpcDispatchResult.single(response);
+    }
+
+    /**
+     * Appends a batch entry response when one was produced.
+     *
+     * @param responses batch responses in order
+     * @param response  entry response; {@code null} for notifications and deferred entries
+     */
+    private static void addResponse(List<JsonRpcResponse> responses, @Nullable JsonRpcResponse response) {
+        if (response != null) {
+            responses.add(response);
+        }
+    }
+
     /**
      * Dispatches a single object node from either single-request or batch payload processing.
      *
      * @param node request object node
-     * @return optional response; empty for notifications
+     * @param batch batch-scoped state; {@code null} outside batch processing
+     * @return response, or {@code null} for notifications
      */
-    private Optional<JsonRpcResponse> dispatchSingleNode(JsonNode node) {
+    private @Nullable JsonRpcResponse dispatchSingleNode(JsonNode node, @Nullable BatchContext batch) {
         if (!node.isObject()) {
-            return Optional.of(errorResponse(null, new JsonRpcException(
+            return errorResponse(null, new JsonRpcException(
                 JsonRpcErrorCode.INVALID_REQUEST,
-                JsonRpcConstants.MESSAGE_INVALID_REQUEST)));
+                JsonRpcConstants.MESSAGE_INVALID_REQUEST));
         }
 
         JsonNode errorId = extractIdForError(node);
@@ -266,7 +368,38 @@ public class JsonRpcDispatcher {
             request = requestParser.parse(node);
             requestValidator.validate(request);
             validRequest = true;
-            return dispatchSingleRequest(request);
+            return dispatchSingleRequest(request, batch);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable ex) {
+            return handleRequestError(errorId, request, validRequest, ex);
+        }
+    }
+
+    /**
+     * Dispatches a single decoded request from either single-request or batch payload processing.
+     *
+     * @param request decoded request; {@code null} when the payload entry was not a JSON object
+     * @param batch   batch-scoped state; {@code null} outside batch processing
+     * @return response, or {@code null} for notifications
+     */
+    private @Nullable JsonRpcResponse dispatchDecodedRequest(
+        @Nullable JsonRpcRequest request,
+        @Nullable BatchContext batch
+    ) {
+        if (request == null) {
+            return errorResponse(null, new JsonRpcException(
+                JsonRpcErrorCode.INVALID_REQUEST,
+                JsonRpcConstants.MESSAGE_INVALID_REQUEST));
+        }
+
+        JsonNode errorId = normalizeErrorId(request.id());
+        boolean validRequest = false;
+
+        try {
+            requestValidator.validate(request);
+            validRequest = true;
+            return dispatchSingleRequest(request, batch);
         } catch (Error error) {
             throw error;
         } catch (Throwable ex) {
@@ -278,10 +411,14 @@ public class JsonRpcDispatcher {
      * Invokes a validated request against the method registry.
      *
      * @param request validated request
-     * @return optional response; empty for notifications
+     * @param batch   batch-scoped state; {@code null} outside batch processing
+     * @return response, or {@code null} for notifications and for entries deferred to a bulk invocation
      * @throws Exception when invocation fails before error mapping
      */
-    private Optional<JsonRpcResponse> dispatchSingleRequest(JsonRpcRequest request) throws Exception {
+    private @Nullable JsonRpcResponse dispatchSingleRequest(
+        JsonRpcRequest request,
+        @Nullable BatchContext batch
+    ) throws Exception {
         String methodName = request.method();
         if (methodName == null || methodName.isBlank()) {
             throw new JsonRpcException(
@@ -289,20 +426,164 @@ public class JsonRpcDispatcher {
                 JsonRpcConstants.MESSAGE_INVALID_REQUEST
             );
         }
-        JsonRpcMethodHandler handler = methodRegistry.find(methodName)
-            .orElseThrow(() -> new JsonRpcException(
-                JsonRpcErrorCode.METHOD_NOT_FOUND,
-                JsonRpcConstants.MESSAGE_METHOD_NOT_FOUND));
+        JsonRpcMethodHandler handler = methodRegistry.findOrNull(methodName);
+        if (handler == null) {
+            throw new JsonRpcException(JsonRpcErrorCode.METHOD_NOT_FOUND, JsonRpcConstants.MESSAGE_METHOD_NOT_FOUND);
+        }
 
         if (request.isNotification()) {
             notificationExecutor.execute(() -> invokeNotificationHandler(request, handler));
-            return Optional.empty();
+            return null;
         }
 
+        if (batch != null && handler instanceof JsonRpcBulkMethodHandler bulkHandler
+            && batch.isBulkMethod(methodName)) {
+            batch.defer(methodName, bulkHandler, request);
+            return null;
+        }
         runBeforeInvoke(request);
-        JsonNode result = methodInvoker.invoke(handler, request.params());
+        JsonNode result = batch != null && handler instanceof JsonRpcIdempotentMethodHandler
+            ? batch.invokeIdempotent(methodName, handler, request)
+            : methodInvoker.invokeRequest(handler, request);
         runAfterInvoke(request, result);
-        return Optional.of(responseComposer.success(request.id(), result));
+        return responseComposer.success(request.id(), result);
+    }
+
+    /**
+     * Finds methods that appear in at least two non-notification batch entries and are served by a bulk handler.
+     *
+     * @param payload batch array payload
+     * @return method names eligible for grouped bulk invocation
+     */
+    private Set<String> findBulkMethods(JsonNode payload) {
+        Map<String, Integer> counts = null;
+        for (JsonNode node : payload) {
+            JsonNode method = node.get("method");
+            if (method == null || !method.isString() || !node.has("id")) {
+                continue;
+            }
+            counts = countBulkCall(counts, method.asString());
+        }
+        return bulkMethods(counts);
+    }
+
+    /**
+     * Finds methods that appear in at least two non-notification decoded batch entries and are served by a bulk
+     * handler.
+     *
+     * @param requests decoded batch entries
+     * @return method names eligible for grouped bulk invocation
+     */
+    private Set<String> findBulkMethods(List<@Nullable JsonRpcRequest> requests) {
+        Map<String, Integer> counts = null;
+        for (@Nullable JsonRpcRequest request : requests) {
+            String method = request == null || request.isNotification() ? null : request.method();
+            if (method == null) {
+                continue;
+            }
+            counts = countBulkCall(counts, method);
+        }
+        return bulkMethods(counts);
+    }
+
+    /**
+     * Counts one batch call when its method is served by a bulk handler.
+     *
+     * @param counts     calls counted so far; {@code null} until the first bulk call
+     * @param methodName JSON-RPC method name of the call
+     * @return updated counts; {@code null} while no bulk call was counted
+     */
+    private @Nullable Map<String, Integer> countBulkCall(@Nullable Map<String, Integer> counts, String methodName) {
+        if (!(methodRegistry.findOrNull(methodName) instanceof JsonRpcBulkMethodHandler)) {
+            return counts;
+        }
+        Map<String, Integer> current = counts == null ? new HashMap<>() : counts;
+        current.merge(methodName, 1, Integer::sum);
+        return current;
+    }
+
+    /**
+     * Selects methods counted at least twice.
+     *
+     * @param counts bulk calls per method; {@code null} when none were counted
+     * @return method names eligible for grouped bulk invocation
+     */
+    private static Set<String> bulkMethods(@Nullable Map<String, Integer> counts) {
+        if (counts == null) {
+            return Set.of();
+        }
+        counts.values().removeIf(count -> count < 2);
+        return Set.copyOf(counts.keySet());
+    }
+
+    /**
+     * Invokes one bulk group and records a response for each of its entries.
+     * <p>
+     * {@code beforeInvoke} interceptors run per entry right before the bulk invocation; entries rejected by an
+     * interceptor receive their error response and are excluded from the invocation.
+     *
+     * @param handler      bulk handler shared by the group
+     * @param groupEntries deferred entries in batch order
+     */
+    private void invokeBulkGroup(JsonRpcBulkMethodHandler handler, List<DeferredEntry> groupEntries) {
+        List<DeferredEntry> entries = new ArrayList<>(groupEntries.size());
+        List<JsonRpcRequest> requests = new ArrayList<>(groupEntries.size());
+        for (DeferredEntry entry : groupEntries) {
+            try {
+                runBeforeInvoke(entry.request);
+                entries.add(entry);
+                requests.add(entry.request);
+            } catch (Error error) {
+                throw error;
+            } catch (Throwable ex) {
+                entry.response = bulkEntryError(entry.request, ex);
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<JsonRpcBulkResult> results;
+        try {
+            results = methodInvoker.invokeBulk(handler, requests);
+            if (results.size() != requests.size()) {
+                throw new IllegalStateException("Bulk handler returned " + results.size() + " results for "
+                    + requests.size() + " requests");
+            }
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable ex) {
+            for (DeferredEntry entry : entries) {
+                entry.response = bulkEntryError(entry.request, ex);
+            }
+            return;
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            DeferredEntry entry = entries.get(i);
+            try {
+                JsonNode result = results.get(i).getOrThrow();
+                runAfterInvoke(entry.request, result);
+                entry.response = responseComposer.success(entry.request.id(), result);
+            } catch (Error error) {
+                throw error;
+            } catch (Throwable ex) {
+                entry.response = bulkEntryError(entry.request, ex);
+            }
+        }
+    }
+
+    /**
+     * Maps a bulk entry failure to an error response and notifies interceptors.
+     *
+     * @param request validated non-notification request
+     * @param ex      thrown exception
+     * @return error response
+     */
+    private JsonRpcResponse bulkEntryError(JsonRpcRequest request, Throwable ex) {
+        JsonRpcError error = exceptionResolver.resolve(ex);
+        runOnError(request, ex, error);
+        return responseComposer.error(normalizeErrorId(request.id()), error);
     }
 
     /**
@@ -325,9 +606,9 @@ public class JsonRpcDispatcher {
      * @param request      request if parsing/validation reached request construction
      * @param validRequest whether request validation succeeded before error
      * @param ex           thrown exception
-     * @return response unless the request is a valid notification
+     * @return response, or {@code null} when the request is a valid notification
      */
-    private Optional<JsonRpcResponse> handleRequestError(
+    private @Nullable JsonRpcResponse handleRequestError(
         @Nullable JsonNode id,
         @Nullable JsonRpcRequest request,
         boolean validRequest,
@@ -337,9 +618,9 @@ public class JsonRpcDispatcher {
         runOnError(request, ex, error);
 
         if (validRequest && request != null && request.isNotification()) {
-            return Optional.empty();
+            return null;
         }
-        return Optional.of(responseComposer.error(id, error));
+        return responseComposer.error(id, error);
     }
 
     /**
@@ -377,7 +658,8 @@ public class JsonRpcDispatcher {
         if (!hasInterceptors) {
             return;
         }
-        for (JsonRpcInterceptor interceptor : interceptors) {
+        for (int i = 0; i < interceptors.size(); i++) {
+            JsonRpcInterceptor interceptor = interceptors.get(i);
             try {
                 interceptor.beforeValidate(node);
             } catch (JsonRpcException ex) {
@@ -397,7 +679,8 @@ public class JsonRpcDispatcher {
         if (!hasInterceptors) {
             return;
         }
-        for (JsonRpcInterceptor interceptor : interceptors) {
+        for (int i = 0; i < interceptors.size(); i++) {
+            JsonRpcInterceptor interceptor = interceptors.get(i);
             try {
                 interceptor.beforeInvoke(request);
             } catch (JsonRpcException ex) {
@@ -418,7 +701,8 @@ public class JsonRpcDispatcher {
         if (!hasInterceptors) {
             return;
         }
-        for (JsonRpcInterceptor interceptor : interceptors) {
+        for (int i = 0; i < interceptors.size(); i++) {
+            JsonRpcInterceptor interceptor = interceptors.get(i);
             try {
                 interceptor.afterInvoke(request, result);
             } catch (JsonRpcException ex) {
@@ -459,7 +743,7 @@ public class JsonRpcDispatcher {
     private void invokeNotificationHandler(JsonRpcRequest request, JsonRpcMethodHandler handler) {
         try {
             runBeforeInvoke(request);
-            JsonNode result = methodInvoker.invoke(handler, request.params());
+            JsonNode result = methodInvoker.invokeRequest(handler, request);
             runAfterInvoke(request, result);
         } catch (Error error) {
             throw error;
@@ -468,4 +752,182 @@ public class JsonRpcDispatcher {
             runOnError(request, ex, error);
         }
     }
+
+    /**
+     * Batch-scoped state shared by the entries of one batch payload.
+     * <p>
+     * Holds the memo of idempotent invocations (each entry holds either the handler result or the exception it raised)
+     * and the entries deferred to grouped bulk invocations. Collections are created on first use so batches without
+     * idempotent or bulk handlers do not pay for them.
+     */
+    private final class BatchContext {
+
+        private final Set<String> bulkMethods;
+        private @Nullable Map<InvocationKey, Object> outcomes;
+        private @Nullable Map<String, BulkGroup> bulkGroups;
+        private @Nullable List<DeferredEntry> deferred;
+        private int slot;
+
+        /**
+         * Creates batch state.
+         *
+         * @param bulkMethods method names eligible for grouped bulk invocation
+         */
+        BatchContext(Set<String> bulkMethods) {
+            this.bulkMethods = bulkMethods;
+        }
+
+        /**
+         * Records the response-list position of the entry about to be dispatched.
+         *
+         * @param slot number of responses produced before this entry
+         */
+        void beginEntry(int slot) {
+            this.slot = slot;
+        }
+
+        /**
+         * Returns whether entries for a method are grouped into one bulk invocation.
+         *
+         * @param method JSON-RPC method name
+         * @return {@code true} when the method is eligible for grouping
+         */
+        boolean isBulkMethod(String method) {
+            return bulkMethods.contains(method);
+        }
+
+        /**
+         * Defers the current entry to the bulk invocation of its method.
+         *
+         * @param method  JSON-RPC method name
+         * @param handler bulk handler
+         * @param request validated non-notification request
+         */
+        void defer(String method, JsonRpcBulkMethodHandler handler, JsonRpcRequest request) {
+            Map<String, BulkGroup> groups = bulkGroups;
+            List<DeferredEntry> entries = deferred;
+            if (groups == null || entries == null) {
+                groups = new LinkedHashMap<>();
+                entries = new ArrayList<>();
+                bulkGroups = groups;
+                deferred = entries;
+            }
+            DeferredEntry entry = new DeferredEntry(slot, request);
+            groups.computeIfAbsent(method, ignored -> new BulkGroup(handler)).entries.add(entry);
+            entries.add(entry);
+        }
+
+        /**
+         * Invokes the handler unless an identical call already ran in the current batch.
+         *
+         * @param method  JSON-RPC method name
+         * @param handler idempotent handler
+         * @param request validated request
+         * @return handler result, possibly shared with earlier identical entries
+         * @throws Exception the exception raised by the first identical invocation
+         */
+        JsonNode invokeIdempotent(String method, JsonRpcMethodHandler handler, JsonRpcRequest request)
+            throws Exception {
+            Map<InvocationKey, Object> current = outcomes;
+            if (current == null) {
+                current = new HashMap<>();
+                outcomes = current;
+            }
+            InvocationKey key = new InvocationKey(method, request.params());
+            Object outcome = current.get(key);
+            if (outcome == null) {
+                try {
+                    JsonNode result = methodInvoker.invokeRequest(handler, request);
+                    current.put(key, result);
+                    return result;
+                } catch (Exception ex) {
+                    current.put(key, ex);
+                    throw ex;
+                }
+            }
+            if (outcome instanceof Exception failure) {
+                throw failure;
+            }
+            return (JsonNode) outcome;
+        }
+
+        /**
+         * Runs deferred bulk invocations and merges their responses back into batch order.
+         *
+         * @param responses responses produced by non-deferred entries, in batch order
+         * @return all responses in batch order
+         */
+        List<JsonRpcResponse> complete(List<JsonRpcResponse> responses) {
+            Map<String, BulkGroup> groups = bulkGroups;
+            List<DeferredEntry> entries = deferred;
+            if (groups == null || entries == null) {
+                return responses;
+            }
+            for (BulkGroup group : groups.values()) {
+                invokeBulkGroup(group.handler, group.entries);
+            }
+
+            List<JsonRpcResponse> merged = new ArrayList<>(responses.size() + entries.size());
+            int next = 0;
+            for (DeferredEntry entry : entries) {
+                while (next < entry.slot) {
+                    merged.add(responses.get(next++));
+                }
+                merged.add(Objects.requireNonNull(entry.response, "response"));
+            }
+            while (next < responses.size()) {
+                merged.add(responses.get(next++));
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Entries of one batch grouped for a single bulk invocation.
+     */
+    private static final class BulkGroup {
+
+        private final JsonRpcBulkMethodHandler handler;
+        private final List<DeferredEntry> entries = new ArrayList<>();
+
+        /**
+         * Creates an empty group.
+         *
+         * @param handler bulk handler shared by the group
+         */
+        BulkGroup(JsonRpcBulkMethodHandler handler) {
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * Batch entry whose invocation is deferred to a bulk group.
+     */
+    private static final class DeferredEntry {
+
+        private final int slot;
+        private final JsonRpcRequest request;
+        private @Nullable JsonRpcResponse response;
+
+        /**
+         * Creates a deferred entry.
+         *
+         * @param slot    number of responses produced before this entry
+         * @param request validated non-notification request
+         */
+        DeferredEntry(int slot, JsonRpcRequest request) {
+            this.slot = slot;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Identity of an idempotent call within a batch.
+     *
+     * @param method JSON-RPC method name
+     * @param params request params compared by structural equality; may be {@code null}
+     */
+    private record InvocationKey(String method, @Nullable JsonNode params) {
+
+    }
 }
@@ -0,0 +1,46 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Marker for handlers whose result depends only on the method params.
+ * <p>
+ * When a batch contains several non-notification entries for the same idempotent method with structurally equal
+ * params, the dispatcher invokes the handler once and reuses its result (or error) for every matching entry. Response
+ * order, ids, and interceptor callbacks are preserved per entry.
+ * </p>
+ * <p>
+ * Matching compares {@link JsonRpcRequest#params()} trees, so the params of every batch entry for an idempotent method
+ * are materialized as a {@link JsonNode} even when the request was decoded from tokens.
+ * </p>
+ */
+@FunctionalInterface
+public interface JsonRpcIdempotentMethodHandler extends JsonRpcMethodHandler {
+
+    /**
+     * Marks an existing handler as idempotent.
+     *
+     * @param handler handler to mark
+     * @return idempotent handler delegating both {@link #handle(JsonNode)} and
+     *     {@link #handleDeferred(JsonRpcDeferredParams)} to {@code handler}
+     */
+    static JsonRpcIdempotentMethodHandler of(JsonRpcMethodHandler handler) {
+        Objects.requireNonNull(handler, "handler");
+        if (handler instanceof JsonRpcIdempotentMethodHandler idempotent) {
+            return idempotent;
+        }
+        return new JsonRpcIdempotentMethodHandler() {
+            @Override
+            public JsonNode handle(@Nullable JsonNode params) {
+                return handler.handle(params);
+            }
+
+            @Override
+            public JsonNode handleDeferred(JsonRpcDeferredParams params) {
+                return handler.handleDeferred(params);
+            }
+        };
+    }
+}
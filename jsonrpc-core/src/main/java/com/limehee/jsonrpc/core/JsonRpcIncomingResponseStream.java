@@ -0,0 +1,270 @@
+package com.limehee.jsonrpc.core;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Incremental reader of an incoming JSON-RPC response payload.
+ * <p>
+ * Entries are read from the underlying stream only when requested: {@link #next()} reads one response object, parses
+ * it like {@link DefaultJsonRpcResponseParser} (or decodes it from tokens when opened by
+ * {@link ValidatingJsonRpcResponseParser}), validates it, and returns it. No list of entries is built, so memory
+ * use is bounded by the largest single entry rather than by the whole batch.
+ * </p>
+ * <p>
+ * A payload that is not a single response object or a non-empty array of response objects fails with
+ * {@link JsonRpcErrorCode#INVALID_REQUEST} when the offending token is reached; entries returned before that point
+ * remain valid. A validation failure only rejects its own entry: the entry has been consumed, so iteration may
+ * continue, and {@link #lastEntry()} identifies it. The stream is closed once it is exhausted or fails structurally;
+ * callers that stop early must {@linkplain #close() close} it.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ */
+public final class JsonRpcIncomingResponseStream implements Iterator<JsonRpcIncomingResponse>, AutoCloseable {
+
+    private final JsonRpcPayloadReader payloadReader;
+    private final JsonParser parser;
+    private final @Nullable JsonRpcResponseValidator validator;
+    private final @Nullable JsonRpcResponseRuleSet rules;
+    private final boolean batch;
+    private boolean entryReady;
+    private boolean finished;
+    private int entryCount;
+    private @Nullable JsonRpcIncomingResponse lastEntry;
+
+    /**
+     * Creates a stream over a parser positioned on the first token of the payload.
+     *
+     * @param payloadReader reader applying the duplicate-member policy and read constraints
+     * @param parser        parser positioned on {@code START_OBJECT} or {@code START_ARRAY}
+     * @param validator     validator applied to entries read as trees; {@code null} when {@code rules} is set
+     * @param rules         compiled rules applied to entries decoded from tokens; {@code null} to read trees
+     * @param batch         whether the payload is an array
+     */
+    private JsonRpcIncomingResponseStream(
+        JsonRpcPayloadReader payloadReader,
+        JsonParser parser,
+        @Nullable JsonRpcResponseValidator validator,
+        @Nullable JsonRpcResponseRuleSet rules,
+        boolean batch
+    ) {
+        this.payloadReader = payloadReader;
+        this.parser = parser;
+        this.validator = validator;
+        this.rules = rules;
+        this.batch = batch;
+        this.entryReady = !batch;
+    }
+
+    /**
+     * Opens a stream that reads every entry into a tree and validates it with a validator.
+     *
+     * @param payloadReader reader applying the duplicate-member policy and read constraints
+     * @param payload       raw JSON byte stream
+     * @param validator     validator applied to every entry
+     * @return response entry stream
+     * @throws JsonRpcException when the payload does not start with a response object or array
+     */
+    static JsonRpcIncomingResponseStream open(
+        JsonRpcPayloadReader payloadReader,
+        InputStream payload,
+        JsonRpcResponseValidator validator
+    ) {
+        return open(payloadReader, payload, validator, null);
+    }
+
+    /**
+     * Opens a stream that decodes every entry from tokens and validates it with compiled rules.
+     *
+     * @param payloadReader reader applying the duplicate-member policy and read constraints
+     * @param payload       raw JSON byte stream
+     * @param rules         compiled rules applied to every entry
+     * @return response entry stream
+     * @throws JsonRpcException when the payload does not start with a response object or array
+     */
+    static JsonRpcIncomingResponseStream open(
+        JsonRpcPayloadReader payloadReader,
+        InputStream payload,
+        JsonRpcResponseRuleSet rules
+    ) {
+        return open(payloadReader, payload, null, rules);
+    }
+
+    /**
+     * Opens a stream by reading the first token of the payload.
+     *
+     * @param payloadReader reader applying the duplicate-member policy and read constraints
+     * @param payload       raw JSON byte stream
+     * @param validator     validator for tree-read entries; {@code null} when {@code rules} is set
+     * @param rules         compiled rules for token-decoded entries; {@code null} to read trees
+     * @return response entry stream
+     * @throws JsonRpcException when the payload does not start with a response object or array
+     */
+    private static JsonRpcIncomingResponseStream open(
+        JsonRpcPayloadReader payloadReader,
+        InputStream payload,
+        @Nullable JsonRpcResponseValidator validator,
+        @Nullable JsonRpcResponseRuleSet rules
+    ) {
+        JsonParser parser;
+        try {
+            parser = payloadReader.createParser(payload);
+        } catch (JacksonException ex) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        try {
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.START_OBJECT || first == JsonToken.START_ARRAY) {
+                return new JsonRpcIncomingResponseStream(payloadReader, parser, validator, rules,
+                    first == JsonToken.START_ARRAY);
+            }
+        } catch (JacksonException ex) {
+            // reported as an invalid envelope below
+        }
+        parser.close();
+        throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+    }
+
+    /**
+     * Indicates whether the payload is a batch array.
+     *
+     * @return {@code true} for batch payloads
+     */
+    public boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * Indicates whether another entry can be read, reading ahead one token when needed.
+     *
+     * @return {@code true} when {@link #next()} will read an entry
+     * @throws JsonRpcException when the payload turns out to be malformed, is an empty array, or has trailing content
+     */
+    @Override
+    public boolean hasNext() {
+        if (entryReady) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                entryReady = true;
+                return true;
+            }
+            if (entryCount == 0) {
+                throw fail();
+            }
+            payloadReader.verifyNoTrailingTokens(parser);
+        } catch (JacksonException ex) {
+            throw fail();
+        }
+        finish();
+        return false;
+    }
+
+    /**
+     * Reads, parses, and validates the next entry.
+     *
+     * @return valid response entry
+     * @throws NoSuchElementException when no entry is left
+     * @throws JsonRpcException       when the entry is not a response object, the payload is malformed, or the entry
+     *                                fails validation; in the last case only, iteration may continue
+     */
+    @Override
+    public JsonRpcIncomingResponse next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        entryReady = false;
+        lastEntry = null;
+        JsonRpcResponseRuleSet compiledRules = rules;
+        JsonRpcIncomingResponse entry;
+        JsonRpcResponseRuleSet.DecodedResponse decoded = null;
+        try {
+            if (compiledRules != null) {
+                decoded = compiledRules.decode(parser, payloadReader);
+                if (decoded == null) {
+                    throw fail();
+                }
+                entry = decoded.response();
+            } else {
+                JsonNode node = payloadReader.readElement(parser);
+                if (!node.isObject()) {
+                    throw fail();
+                }
+                entry = DefaultJsonRpcResponseParser.parseObject(node);
+            }
+            entryCount++;
+            if (!batch) {
+                payloadReader.verifyNoTrailingTokens(parser);
+                finish();
+            }
+        } catch (JacksonException ex) {
+            throw fail();
+        }
+        lastEntry = entry;
+        if (compiledRules != null && decoded != null) {
+            compiledRules.validate(decoded);
+        } else {
+            Objects.requireNonNull(validator, "validator").validate(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the entry read by the last call to {@link #next()}, including one that failed validation.
+     *
+     * @return last entry read; {@code null} before the first call or when the last call failed before an entry could
+     *         be read
+     */
+    public @Nullable JsonRpcIncomingResponse lastEntry() {
+        return lastEntry;
+    }
+
+    /**
+     * Returns the number of entries read so far.
+     *
+     * @return entry count, including entries that failed validation
+     */
+    public int entryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Closes the parser and the underlying stream.
+     */
+    @Override
+    public void close() {
+        finish();
+    }
+
+    /**
+     * Marks the stream as finished and releases the parser.
+     */
+    private void finish() {
+        finished = true;
+        entryReady = false;
+        parser.close();
+    }
+
+    /**
+     * Finishes the stream after a structural failure.
+     *
+     * @return invalid-response exception to throw
+     */
+    private JsonRpcException fail() {
+        finish();
+        return DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+    }
+}
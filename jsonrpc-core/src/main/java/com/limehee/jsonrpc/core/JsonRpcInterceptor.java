@@ -18,8 +18,28 @@ public interface JsonRpcInterceptor {
     default void beforeValidate(JsonNode rawRequest) {
     }
 
+    /**
+     * Returns whether this interceptor needs the raw request node passed to {@link #beforeValidate(JsonNode)}.
+     * <p>
+     * Transports decode payloads straight into requests, skipping the raw tree and this callback, only when no
+     * registered interceptor needs it. The default is {@code true} so implementations overriding
+     * {@code beforeValidate} keep seeing every node; interceptors that only use the other callbacks should return
+     * {@code false}.
+     * </p>
+     *
+     * @return {@code true} when {@link #beforeValidate(JsonNode)} must be called for every request node
+     */
+    default boolean requiresRawRequest() {
+        return true;
+    }
+
     /**
      * Called right before a method handler is invoked.
+     * <p>
+     * For batch entries grouped into one {@link JsonRpcBulkMethodHandler} invocation, this runs for every entry before
+     * the bulk call and {@link #afterInvoke(JsonRpcRequest, JsonNode)} runs for every entry after it, so per-call
+     * state must be keyed by request rather than held in a single per-thread slot.
+     * </p>
      *
      * @param request validated request model
      */
@@ -20,4 +20,13 @@ public @interface JsonRpcMethod {
      * @return explicit JSON-RPC method name
      */
     String value() default "";
+
+    /**
+     * Whether the method result depends only on its params.
+     * <p>
+     * Idempotent methods are invoked once per distinct params value within a batch.
+     *
+     * @return {@code true} to register the handler as {@link JsonRpcIdempotentMethodHandler}
+     */
+    boolean idempotent() default false;
 }
@@ -16,4 +16,17 @@ public interface JsonRpcMethodHandler {
      * @return JSON-RPC result payload
      */
     JsonNode handle(@Nullable JsonNode params);
+
+    /**
+     * Handles one JSON-RPC method invocation whose params were captured as tokens.
+     * <p>
+     * The default implementation passes the params tree to {@link #handle(JsonNode)}. Handlers that bind params to a
+     * Java type can override this to read the tokens directly.
+     *
+     * @param params deferred request parameters
+     * @return JSON-RPC result payload
+     */
+    default JsonNode handleDeferred(JsonRpcDeferredParams params) {
+        return handle(params.asNode());
+    }
 }
@@ -1,5 +1,7 @@
 package com.limehee.jsonrpc.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
 
@@ -17,4 +19,39 @@ public interface JsonRpcMethodInvoker {
      * @throws Exception when handler invocation fails
      */
     JsonNode invoke(JsonRpcMethodHandler handler, @Nullable JsonNode params) throws Exception;
+
+    /**
+     * Invokes a handler for a validated request.
+     * <p>
+     * The dispatcher calls this variant so invokers can make decisions based on the method name. The default
+     * implementation delegates to {@link #invoke(JsonRpcMethodHandler, JsonNode)} with the request params.
+     *
+     * @param handler handler to invoke
+     * @param request validated request being dispatched
+     * @return JSON node returned by the handler
+     * @throws Exception when handler invocation fails
+     */
+    default JsonNode invokeRequest(JsonRpcMethodHandler handler, JsonRpcRequest request) throws Exception {
+        return invoke(handler, request.params());
+    }
+
+    /**
+     * Invokes a bulk handler once for several validated requests of the same method.
+     * <p>
+     * The default implementation passes the request params to {@link JsonRpcBulkMethodHandler#handleBulk(List)} in
+     * request order.
+     *
+     * @param handler  bulk handler to invoke
+     * @param requests validated requests sharing the handler's method name
+     * @return one outcome per request, in request order
+     * @throws Exception when the bulk invocation fails as a whole
+     */
+    default List<JsonRpcBulkResult> invokeBulk(JsonRpcBulkMethodHandler handler, List<JsonRpcRequest> requests)
+        throws Exception {
+        List<@Nullable JsonNode> params = new ArrayList<>(requests.size());
+        for (JsonRpcRequest request : requests) {
+            params.add(request.params());
+        }
+        return handler.handleBulk(params);
+    }
 }
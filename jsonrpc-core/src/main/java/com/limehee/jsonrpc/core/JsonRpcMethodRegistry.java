@@ -1,6 +1,7 @@
 package com.limehee.jsonrpc.core;
 
 import java.util.Optional;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Stores and resolves JSON-RPC method handlers by method name.
@@ -22,4 +23,16 @@ public interface JsonRpcMethodRegistry {
      * @return handler if registered, otherwise empty
      */
     Optional<JsonRpcMethodHandler> find(String method);
+
+    /**
+     * Finds a handler by method name without wrapping the result.
+     * <p>
+     * Used on the dispatch path; registries backed by a map should override it to skip the {@link Optional}.
+     *
+     * @param method JSON-RPC method name
+     * @return handler if registered, otherwise {@code null}
+     */
+    default @Nullable JsonRpcMethodHandler findOrNull(String method) {
+        return find(method).orElse(null);
+    }
 }
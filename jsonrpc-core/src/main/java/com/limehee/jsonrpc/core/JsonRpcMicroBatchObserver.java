@@ -0,0 +1,24 @@
+package com.limehee.jsonrpc.core;
+
+/**
+ * Observer for {@link MicroBatchingJsonRpcMethodInvoker} flush events.
+ * <p>
+ * All callbacks are optional and default to no-op implementations.
+ */
+public interface JsonRpcMicroBatchObserver {
+
+    /**
+     * Called when a collected micro-batch is about to be invoked through the bulk handler.
+     * <p>
+     * An exception thrown here fails every call of the batch, as a failing bulk handler would.
+     * </p>
+     *
+     * @param method    JSON-RPC method name of the batch
+     * @param batchSize number of calls served by the bulk invocation
+     * @param waitNanos time between the first call joining the batch and the bulk invocation
+     * @param full      {@code true} when the batch was flushed because it reached the maximum size, {@code false} when
+     *                  the collection window elapsed
+     */
+    default void onFlush(String method, int batchSize, long waitNanos, boolean full) {
+    }
+}
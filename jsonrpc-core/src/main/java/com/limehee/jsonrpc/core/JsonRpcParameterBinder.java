@@ -18,4 +18,20 @@ public interface JsonRpcParameterBinder {
      * @throws JsonRpcException when parameter conversion fails
      */
     <T> T bind(@Nullable JsonNode params, Class<T> targetType);
+
+    /**
+     * Converts params captured as tokens into a typed Java value.
+     * <p>
+     * The default implementation binds the params tree. Implementations able to read tokens directly should override
+     * this to skip building the tree.
+     *
+     * @param params     deferred JSON-RPC params value
+     * @param targetType Java target class for conversion
+     * @param <T>        target value type
+     * @return converted value
+     * @throws JsonRpcException when parameter conversion fails
+     */
+    default <T> T bindDeferred(JsonRpcDeferredParams params, Class<T> targetType) {
+        return bind(params.asNode(), targetType);
+    }
 }
@@ -0,0 +1,148 @@
+package com.limehee.jsonrpc.core;
+
+import java.io.InputStream;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Reads, dispatches, and observes request payloads on behalf of a transport.
+ * <p>
+ * Payloads are decoded from tokens when the dispatcher supports it and read into a tree otherwise; batch elements are
+ * counted while they are parsed. Transports that only move bytes call {@link #handle(JsonRpcPayloadReader,
+ * InputStream)}; transports that act between parsing and dispatch, such as the HTTP endpoint, call
+ * {@link #read(JsonRpcPayloadReader, InputStream)} and {@link #dispatch(Payload)} themselves.
+ * </p>
+ */
+public final class JsonRpcPayloadHandler {
+
+    private final JsonRpcDispatcher dispatcher;
+    private final JsonRpcPayloadObserver observer;
+
+    /**
+     * Creates a payload handler.
+     *
+     * @param dispatcher dispatcher that performs JSON-RPC validation and invocation
+     * @param observer   observer receiving message-level callbacks
+     */
+    public JsonRpcPayloadHandler(JsonRpcDispatcher dispatcher, JsonRpcPayloadObserver observer) {
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+        this.observer = Objects.requireNonNull(observer, "observer");
+    }
+
+    /**
+     * Parses, dispatches, and observes a payload.
+     * <p>
+     * Malformed or empty payloads are answered with the parse-error response and oversized batches with
+     * {@link JsonRpcDispatcher#batchTooLargeResponse()}.
+     * </p>
+     *
+     * @param reader  reader for the payload encoding
+     * @param payload raw payload stream
+     * @return a {@link JsonRpcResponse} or a list of responses to serialize, or {@code null} for notification-only
+     *         payloads
+     */
+    public @Nullable Object handle(JsonRpcPayloadReader reader, InputStream payload) {
+        Payload parsed;
+        try {
+            parsed = read(reader, payload);
+        } catch (JsonRpcBatchTooLargeException ex) {
+            return batchTooLarge();
+        } catch (JacksonException ex) {
+            return parseError();
+        }
+        if (parsed == null) {
+            return parseError();
+        }
+        JsonRpcDispatchResult result = dispatch(parsed);
+        if (!result.hasResponse()) {
+            return null;
+        }
+        return result.isBatch() ? result.responses() : result.singleResponseOrNull();
+    }
+
+    /**
+     * Parses a payload in the form the dispatcher consumes.
+     *
+     * @param reader  reader for the payload encoding
+     * @param payload raw payload stream; it is not closed
+     * @return parsed payload, or {@code null} when the stream holds no JSON content
+     * @throws JacksonException              when the payload cannot be parsed as JSON or violates the read constraints
+     * @throws JsonRpcBatchTooLargeException when the payload is a batch larger than the dispatcher's maximum
+     */
+    public @Nullable Payload read(JsonRpcPayloadReader reader, InputStream payload) throws JacksonException {
+        if (dispatcher.supportsDecodedPayloads()) {
+            JsonRpcDecodedPayload decoded = reader.readRequests(payload, dispatcher.maxBatchSize());
+            return decoded == null ? null : new Payload(null, decoded);
+        }
+        JsonNode tree = reader.readTree(payload, dispatcher.maxBatchSize());
+        return tree.isMissingNode() ? null : new Payload(tree, null);
+    }
+
+    /**
+     * Dispatches a parsed payload and reports the outcome to the observer.
+     *
+     * @param payload parsed payload
+     * @return dispatch result
+     */
+    public JsonRpcDispatchResult dispatch(Payload payload) {
+        JsonRpcDispatchResult result;
+        boolean batch;
+        int requestCount;
+        if (payload.decoded != null) {
+            result = dispatcher.dispatch(payload.decoded);
+            batch = payload.decoded.isBatch();
+            requestCount = payload.decoded.requests().size();
+        } else {
+            JsonNode tree = Objects.requireNonNull(payload.tree, "tree");
+            result = dispatcher.dispatch(tree);
+            batch = tree.isArray();
+            requestCount = batch ? tree.size() : 1;
+        }
+        if (!result.hasResponse()) {
+            observer.onNotificationOnly(batch, requestCount);
+        } else if (result.isBatch()) {
+            observer.onBatchResponse(requestCount, result.responses());
+        } else {
+            observer.onSingleResponse(Objects.requireNonNull(result.singleResponseOrNull(), "single"));
+        }
+        return result;
+    }
+
+    /**
+     * Creates the parse-error response and notifies the observer.
+     *
+     * @return parse-error response
+     */
+    public JsonRpcResponse parseError() {
+        observer.onParseError();
+        return dispatcher.parseErrorResponse();
+    }
+
+    /**
+     * Creates the response for a batch rejected while it was parsed and notifies the observer.
+     *
+     * @return batch-too-large response
+     */
+    public JsonRpcResponse batchTooLarge() {
+        JsonRpcResponse response = dispatcher.batchTooLargeResponse();
+        observer.onSingleResponse(response);
+        return response;
+    }
+
+    /**
+     * Request payload parsed by {@link #read(JsonRpcPayloadReader, InputStream)}, either as decoded requests or as a
+     * tree.
+     */
+    public static final class Payload {
+
+        private final @Nullable JsonNode tree;
+        private final @Nullable JsonRpcDecodedPayload decoded;
+
+        private Payload(@Nullable JsonNode tree, @Nullable JsonRpcDecodedPayload decoded) {
+            this.tree = tree;
+            this.decoded = decoded;
+        }
+    }
+}
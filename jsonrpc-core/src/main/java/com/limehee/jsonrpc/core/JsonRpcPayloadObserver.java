@@ -0,0 +1,45 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.List;
+
+/**
+ * Observer hook interface for message-level events reported by {@link JsonRpcPayloadHandler}.
+ * <p>
+ * Transport observers extend this interface, so parse errors, responses, and notification-only payloads are reported
+ * the same way by every transport. All methods are optional and default to no-op.
+ * </p>
+ */
+public interface JsonRpcPayloadObserver {
+
+    /**
+     * Called when a payload cannot be parsed into a JSON value.
+     */
+    default void onParseError() {
+    }
+
+    /**
+     * Called when a single request produced a single JSON-RPC response.
+     *
+     * @param response response generated for the request
+     */
+    default void onSingleResponse(JsonRpcResponse response) {
+    }
+
+    /**
+     * Called when a batch request produced one or more JSON-RPC responses.
+     *
+     * @param requestCount number of entries in the incoming batch payload
+     * @param responses    response payload entries emitted for that batch
+     */
+    default void onBatchResponse(int requestCount, List<JsonRpcResponse> responses) {
+    }
+
+    /**
+     * Called when payload handling produced no JSON-RPC response (notification-only path).
+     *
+     * @param batch        {@code true} when the incoming payload was a batch array
+     * @param requestCount number of requests in the incoming payload
+     */
+    default void onNotificationOnly(boolean batch, int requestCount) {
+    }
+}
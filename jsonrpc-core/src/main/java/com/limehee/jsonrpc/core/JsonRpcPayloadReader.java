@@ -1,19 +1,41 @@
 package com.limehee.jsonrpc.core;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import org.jspecify.annotations.Nullable;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
 import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.DecimalNode;
+import tools.jackson.databind.node.MissingNode;
+import tools.jackson.databind.node.NullNode;
+import tools.jackson.databind.node.ObjectNode;
 
 /**
- * Reads raw JSON payloads with optional duplicate-member rejection.
+ * Reads raw JSON payloads with optional duplicate-member rejection and read constraints.
  */
 public final class JsonRpcPayloadReader {
 
+    private static final JsonRpcRequestParser TREE_REQUEST_PARSER = new DefaultJsonRpcRequestParser();
+
     private final ObjectMapper objectMapper;
     private final ObjectMapper strictObjectMapper;
     private final boolean rejectDuplicateMembers;
+    private final ObjectReader elementReader;
+    private final @Nullable TokenStreamFactory constrainedFactory;
+    private final ObjectReadContext readContext;
 
     /**
      * Creates a reader bound to a mapper and duplicate-member policy.
@@ -22,11 +44,35 @@ public final class JsonRpcPayloadReader {
      * @param rejectDuplicateMembers {@code true} to reject duplicate object members
      */
     public JsonRpcPayloadReader(ObjectMapper objectMapper, boolean rejectDuplicateMembers) {
+        this(objectMapper, rejectDuplicateMembers, null);
+    }
+
+    /**
+     * Creates a reader bound to a mapper, duplicate-member policy, and read constraints.
+     * <p>
+     * When constraints are given, payloads are tokenized by a copy of the mapper's stream factory that enforces them,
+     * so violations fail during tokenizing with a {@link JacksonException}. Parsers created by that copy still use the
+     * stream and format read features configured on the mapper.
+     *
+     * @param objectMapper           mapper used for JSON parsing
+     * @param rejectDuplicateMembers {@code true} to reject duplicate object members
+     * @param readConstraints        structural limits to enforce; {@code null} to keep the mapper's own limits
+     */
+    public JsonRpcPayloadReader(
+        ObjectMapper objectMapper,
+        boolean rejectDuplicateMembers,
+        @Nullable JsonRpcReadConstraints readConstraints
+    ) {
         this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
         this.strictObjectMapper = objectMapper.rebuild()
             .enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION)
             .build();
         this.rejectDuplicateMembers = rejectDuplicateMembers;
+        this.elementReader = parserMapper().reader().without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.constrainedFactory = readConstraints == null
+            ? null
+            : constrainedFactory(objectMapper, rejectDuplicateMembers, readConstraints);
+        this.readContext = new MapperReadContext(parserMapper());
     }
 
     /**
@@ -34,10 +80,16 @@ public final class JsonRpcPayloadReader {
      *
      * @param payload raw JSON text
      * @return parsed JSON node
-     * @throws JacksonException when payload cannot be parsed as JSON
+     * @throws JacksonException when payload cannot be parsed as JSON or violates the read constraints
      */
     public JsonNode readTree(String payload) throws JacksonException {
-        return parserMapper().readTree(payload);
+        TokenStreamFactory factory = constrainedFactory;
+        if (factory == null) {
+            return parserMapper().readTree(payload);
+        }
+        try (JsonParser parser = factory.createParser(readContext, payload)) {
+            return readTree(parser);
+        }
     }
 
     /**
@@ -45,13 +97,443 @@ public final class JsonRpcPayloadReader {
      *
      * @param payload raw JSON bytes
      * @return parsed JSON node
-     * @throws JacksonException when payload cannot be parsed as JSON
+     * @throws JacksonException when payload cannot be parsed as JSON or violates the read constraints
      */
     public JsonNode readTree(byte[] payload) throws JacksonException {
-        return parserMapper().readTree(payload);
+        TokenStreamFactory factory = constrainedFactory;
+        if (factory == null) {
+            return parserMapper().readTree(payload);
+        }
+        try (JsonParser parser = factory.createParser(readContext, payload)) {
+            return readTree(parser);
+        }
+    }
+
+    /**
+     * Reads JSON from a byte stream.
+     * <p>
+     * The stream is consumed only as far as the parser needs it.
+     *
+     * @param payload raw JSON byte stream
+     * @return parsed JSON node; a missing node when the stream holds no JSON content
+     * @throws JacksonException when payload cannot be parsed as JSON, violates the read constraints, or the stream
+     *                          fails
+     */
+    public JsonNode readTree(InputStream payload) throws JacksonException {
+        TokenStreamFactory factory = constrainedFactory;
+        if (factory == null) {
+            return parserMapper().readTree(payload);
+        }
+        try (JsonParser parser = factory.createParser(readContext, payload)) {
+            return readTree(parser);
+        }
+    }
+
+    /**
+     * Reads JSON from a byte stream, rejecting batch arrays with more than {@code maxBatchSize} elements.
+     * <p>
+     * Top-level array elements are counted as they are read. Once the count exceeds the limit, reading stops: the
+     * remaining elements are neither tokenized nor turned into nodes, so rejecting an oversized batch costs no more
+     * than reading {@code maxBatchSize} elements.
+     * </p>
+     *
+     * @param payload      raw JSON byte stream
+     * @param maxBatchSize maximum number of top-level array elements
+     * @return parsed JSON node; a missing node when the stream holds no JSON content
+     * @throws JacksonException when payload cannot be parsed as JSON, violates the read constraints, or the stream
+     *                          fails
+     * @throws JsonRpcBatchTooLargeException when the payload is an array with more than {@code maxBatchSize}
+     *                                       elements
+     * @throws IllegalArgumentException if {@code maxBatchSize <= 0}
+     */
+    public JsonNode readTree(InputStream payload, int maxBatchSize) throws JacksonException {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        try (JsonParser parser = createParser(payload)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return MissingNode.getInstance();
+            }
+            if (first != JsonToken.START_ARRAY) {
+                return readTree(parser);
+            }
+            ArrayNode batch = objectMapper.createArrayNode();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (batch.size() == maxBatchSize) {
+                    throw new JsonRpcBatchTooLargeException(maxBatchSize);
+                }
+                batch.add(readElement(parser));
+            }
+            verifyNoTrailingTokens(parser);
+            return batch;
+        }
+    }
+
+    /**
+     * Decodes JSON-RPC requests from a byte stream without building a tree for the request envelope.
+     * <p>
+     * The {@code jsonrpc}, {@code id}, and {@code method} members are read as tokens, and array or object
+     * {@code params} are captured as {@link JsonRpcDeferredParams}, so a binder can read them straight into its target
+     * type. Request objects with any other member are read into a tree and parsed by
+     * {@link DefaultJsonRpcRequestParser}, keeping {@link JsonRpcRequest#source()} available for validation. Batch
+     * elements are counted as in {@link #readTree(InputStream, int)}.
+     * </p>
+     * <p>
+     * Fractional ids are kept as the decimal literal they were sent as, so {@code 1.50} is echoed as {@code 1.50}
+     * rather than the normalized {@code 1.5} a tree would hold.
+     * </p>
+     *
+     * @param payload      raw JSON byte stream
+     * @param maxBatchSize maximum number of top-level array elements
+     * @return decoded payload; {@code null} when the stream holds no JSON content
+     * @throws JacksonException when payload cannot be parsed as JSON, violates the read constraints, or the stream
+     *                          fails
+     * @throws JsonRpcBatchTooLargeException when the payload is an array with more than {@code maxBatchSize}
+     *                                       elements
+     * @throws IllegalArgumentException if {@code maxBatchSize <= 0}
+     */
+    public @Nullable JsonRpcDecodedPayload readRequests(InputStream payload, int maxBatchSize)
+        throws JacksonException {
+        return decode(payload, maxBatchSize, this::readRequest);
+    }
+
+    /**
+     * Reads only the ids of the requests in a byte stream, skipping every other member without decoding it.
+     * <p>
+     * Serves transports that answer a payload without dispatching it, such as a rejection under overload. The
+     * returned requests carry only {@link JsonRpcRequest#id()} and {@link JsonRpcRequest#idPresent()}; entries that
+     * are not JSON objects are {@code null}, and batch elements are counted as in
+     * {@link #readTree(InputStream, int)}.
+     * </p>
+     *
+     * @param payload      raw JSON byte stream
+     * @param maxBatchSize maximum number of top-level array elements
+     * @return decoded ids; {@code null} when the stream holds no JSON content
+     * @throws JacksonException when payload cannot be parsed as JSON, violates the read constraints, or the stream
+     *                          fails
+     * @throws JsonRpcBatchTooLargeException when the payload is an array with more than {@code maxBatchSize}
+     *                                       elements
+     * @throws IllegalArgumentException if {@code maxBatchSize <= 0}
+     */
+    public @Nullable JsonRpcDecodedPayload readIds(InputStream payload, int maxBatchSize) throws JacksonException {
+        return decode(payload, maxBatchSize, this::readIdOnly);
+    }
+
+    /**
+     * Decodes a single or batch payload, counting batch elements while they are decoded.
+     *
+     * @param payload      raw JSON byte stream
+     * @param maxBatchSize maximum number of top-level array elements
+     * @param entryDecoder decoder of one payload entry
+     * @return decoded payload; {@code null} when the stream holds no JSON content
+     * @throws JacksonException when payload cannot be parsed as JSON, violates the read constraints, or the stream
+     *                          fails
+     */
+    private @Nullable JsonRpcDecodedPayload decode(InputStream payload, int maxBatchSize, EntryDecoder entryDecoder)
+        throws JacksonException {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        try (JsonParser parser = createParser(payload)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return null;
+            }
+            if (first != JsonToken.START_ARRAY) {
+                JsonRpcRequest request = entryDecoder.decode(parser);
+                verifyNoTrailingTokens(parser);
+                return JsonRpcDecodedPayload.single(request);
+            }
+            List<@Nullable JsonRpcRequest> batch = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (batch.size() == maxBatchSize) {
+                    throw new JsonRpcBatchTooLargeException(maxBatchSize);
+                }
+                batch.add(entryDecoder.decode(parser));
+            }
+            verifyNoTrailingTokens(parser);
+            return JsonRpcDecodedPayload.batch(batch);
+        }
     }
 
     private ObjectMapper parserMapper() {
         return rejectDuplicateMembers ? strictObjectMapper : objectMapper;
     }
+
+    /**
+     * Creates a parser applying the duplicate-member policy and read constraints.
+     *
+     * @param payload raw JSON byte stream
+     * @return parser positioned before the payload
+     * @throws JacksonException when the parser cannot be created
+     */
+    JsonParser createParser(InputStream payload) throws JacksonException {
+        TokenStreamFactory factory = constrainedFactory;
+        if (factory == null) {
+            return parserMapper().createParser(payload);
+        }
+        return factory.createParser(readContext, payload);
+    }
+
+    /**
+     * Creates a parser over bytes applying the duplicate-member policy and read constraints.
+     *
+     * @param payload raw JSON bytes
+     * @return parser positioned before the payload
+     * @throws JacksonException when the parser cannot be created
+     */
+    JsonParser createParser(byte[] payload) throws JacksonException {
+        TokenStreamFactory factory = constrainedFactory;
+        if (factory == null) {
+            return parserMapper().createParser(payload);
+        }
+        return factory.createParser(readContext, payload);
+    }
+
+    /**
+     * Creates a parser over text applying the duplicate-member policy and read constraints.
+     *
+     * @param payload raw JSON text
+     * @return parser positioned before the payload
+     * @throws JacksonException when the parser cannot be created
+     */
+    JsonParser createParser(String payload) throws JacksonException {
+        TokenStreamFactory factory = constrainedFactory;
+        if (factory == null) {
+            return parserMapper().createParser(payload);
+        }
+        return factory.createParser(readContext, payload);
+    }
+
+    /**
+     * Reads a single value from a parser, applying the mapper's trailing-token policy.
+     *
+     * @param parser parser positioned before or on the first token of the payload
+     * @return parsed JSON node; a missing node when the payload holds no JSON content
+     * @throws JacksonException when payload cannot be parsed as JSON or violates the read constraints
+     */
+    private JsonNode readTree(JsonParser parser) throws JacksonException {
+        JsonNode payload = parserMapper().readTree(parser);
+        if (payload == null) {
+            return MissingNode.getInstance();
+        }
+        verifyNoTrailingTokens(parser);
+        return payload;
+    }
+
+    /**
+     * Reads the value starting at the current token, leaving the tokens that follow it to the caller.
+     *
+     * @param parser parser positioned on the first token of the value
+     * @return parsed element
+     * @throws JacksonException when the element cannot be parsed or violates the read constraints
+     */
+    JsonNode readElement(JsonParser parser) throws JacksonException {
+        JsonNode element = elementReader.readTree(parser);
+        return element == null ? NullNode.getInstance() : element;
+    }
+
+    /**
+     * Decodes the request object starting at the current token.
+     *
+     * @param parser parser positioned on the first token of the value
+     * @return decoded request; {@code null} when the value is not a JSON object
+     * @throws JacksonException when the value cannot be parsed or violates the read constraints
+     */
+    private @Nullable JsonRpcRequest readRequest(JsonParser parser) throws JacksonException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        JsonNode jsonrpc = null;
+        JsonNode id = null;
+        JsonNode method = null;
+        JsonNode params = null;
+        JsonRpcDeferredParams deferredParams = null;
+        String name;
+        while ((name = parser.nextName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "jsonrpc" -> jsonrpc = readElement(parser);
+                case "id" -> id = readId(parser);
+                case "method" -> method = readElement(parser);
+                case "params" -> {
+                    if (value == JsonToken.START_ARRAY || value == JsonToken.START_OBJECT) {
+                        params = null;
+                        deferredParams = JsonRpcDeferredParams.capture(parser, objectMapper);
+                    } else {
+                        params = readElement(parser);
+                        deferredParams = null;
+                    }
+                }
+                default -> {
+                    ObjectNode node = objectMapper.createObjectNode();
+                    setIfPresent(node, "jsonrpc", jsonrpc);
+                    setIfPresent(node, "id", id);
+                    setIfPresent(node, "method", method);
+                    setIfPresent(node, "params", deferredParams != null ? deferredParams.asNode() : params);
+                    node.set(name, readElement(parser));
+                    while ((name = parser.nextName()) != null) {
+                        parser.nextToken();
+                        node.set(name, "id".equals(name) ? readId(parser) : readElement(parser));
+                    }
+                    return TREE_REQUEST_PARSER.parse(node);
+                }
+            }
+        }
+        return new JsonRpcRequest(
+            jsonrpc != null && jsonrpc.isString() ? jsonrpc.stringValue() : null,
+            id,
+            method != null && method.isString() ? method.stringValue() : null,
+            params,
+            id != null,
+            null,
+            deferredParams);
+    }
+
+    /**
+     * Decodes only the {@code id} member of the request object starting at the current token.
+     *
+     * @param parser parser positioned on the first token of the value
+     * @return request holding only the id; {@code null} when the value is not a JSON object
+     * @throws JacksonException when the value cannot be parsed or violates the read constraints
+     */
+    private @Nullable JsonRpcRequest readIdOnly(JsonParser parser) throws JacksonException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        JsonNode id = null;
+        String name;
+        while ((name = parser.nextName()) != null) {
+            parser.nextToken();
+            if ("id".equals(name)) {
+                id = readId(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new JsonRpcRequest(null, id, null, null, id != null);
+    }
+
+    /**
+     * Reads the {@code id} member, keeping fractional numbers at the precision and scale of their literal.
+     * <p>
+     * Tree reading turns a fractional id into a double, which serializes in normalized form. Reading the literal into
+     * a {@link BigDecimal} keeps every digit, so plain decimal ids are echoed byte for byte and exponent forms keep
+     * their exact value.
+     *
+     * @param parser parser positioned on the id value
+     * @return id node
+     * @throws JacksonException when the value cannot be parsed or violates the read constraints
+     */
+    private JsonNode readId(JsonParser parser) throws JacksonException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !parser.isNaN()) {
+            return DecimalNode.valueOf(new BigDecimal(parser.getString()));
+        }
+        return readElement(parser);
+    }
+
+    /**
+     * Sets an object member when a value was read for it.
+     *
+     * @param node  object to update
+     * @param name  member name
+     * @param value member value; {@code null} when the member was absent
+     */
+    private static void setIfPresent(ObjectNode node, String name, @Nullable JsonNode value) {
+        if (value != null) {
+            node.set(name, value);
+        }
+    }
+
+    /**
+     * Fails when content follows the parsed value and the mapper rejects trailing tokens.
+     *
+     * @param parser parser positioned on the last token of the value
+     * @throws JacksonException when a trailing token is found
+     */
+    void verifyNoTrailingTokens(JsonParser parser) throws JacksonException {
+        if (objectMapper.isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS) && parser.nextToken() != null) {
+            throw MismatchedInputException.from(parser, JsonNode.class,
+                "Trailing token (of type " + parser.currentToken() + ") found after value");
+        }
+    }
+
+    /**
+     * Derives a stream factory from the mapper's factory that enforces the given constraints.
+     *
+     * @param objectMapper           mapper whose stream factory is copied
+     * @param rejectDuplicateMembers {@code true} to reject duplicate object members
+     * @param readConstraints        structural limits to enforce
+     * @return constrained stream factory
+     */
+    private static TokenStreamFactory constrainedFactory(
+        ObjectMapper objectMapper,
+        boolean rejectDuplicateMembers,
+        JsonRpcReadConstraints readConstraints
+    ) {
+        return objectMapper.tokenStreamFactory().rebuild()
+            .streamReadConstraints(readConstraints.toStreamReadConstraints())
+            .configure(StreamReadFeature.STRICT_DUPLICATE_DETECTION, rejectDuplicateMembers)
+            .build();
+    }
+
+    /**
+     * Decoder of one entry of a single or batch payload.
+     */
+    @FunctionalInterface
+    private interface EntryDecoder {
+
+        /**
+         * Decodes the value starting at the current token.
+         *
+         * @param parser parser positioned on the first token of the value
+         * @return decoded request; {@code null} when the value is not a JSON object
+         * @throws JacksonException when the value cannot be parsed or violates the read constraints
+         */
+        @Nullable JsonRpcRequest decode(JsonParser parser) throws JacksonException;
+    }
+
+    /**
+     * Read context handing the mapper's configured read features to parsers created by the constrained factory.
+     */
+    private static final class MapperReadContext extends ObjectReadContext.Base {
+
+        private final int streamReadFeatures;
+        private final int formatReadFeatures;
+
+        /**
+         * Captures the read features of a mapper.
+         *
+         * @param objectMapper mapper whose deserialization config supplies the features
+         */
+        MapperReadContext(ObjectMapper objectMapper) {
+            this.streamReadFeatures = objectMapper.deserializationConfig().getStreamReadFeatures();
+            this.formatReadFeatures = objectMapper.deserializationConfig().getFormatReadFeatures();
+        }
+
+        /**
+         * Returns the mapper's stream read features.
+         *
+         * @param defaults factory defaults, ignored
+         * @return stream read feature bit mask
+         */
+        @Override
+        public int getStreamReadFeatures(int defaults) {
+            return streamReadFeatures;
+        }
+
+        /**
+         * Returns the mapper's format read features.
+         *
+         * @param defaults factory defaults, ignored
+         * @return format read feature bit mask
+         */
+        @Override
+        public int getFormatReadFeatures(int defaults) {
+            return formatReadFeatures;
+        }
+    }
 }
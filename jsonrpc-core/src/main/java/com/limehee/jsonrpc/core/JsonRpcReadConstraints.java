@@ -0,0 +1,197 @@
+package com.limehee.jsonrpc.core;
+
+import tools.jackson.core.StreamReadConstraints;
+
+/**
+ * Structural limits enforced by the tokenizer while reading JSON-RPC payloads.
+ * <p>
+ * The byte-size limit of a transport does not bound parse cost: a small payload can still be deeply nested or hold a
+ * huge number or string. These limits are applied through Jackson {@link StreamReadConstraints}, so pathological
+ * payloads fail inside the tokenizer before a tree is built. Defaults are tighter than Jackson's general-purpose
+ * defaults and sized for JSON-RPC envelopes.
+ * </p>
+ */
+public final class JsonRpcReadConstraints {
+
+    private final int maxNestingDepth;
+    private final int maxStringLength;
+    private final int maxNumberLength;
+    private final int maxPropertyNameLength;
+    private final long maxDocumentLength;
+
+    private JsonRpcReadConstraints(Builder builder) {
+        this.maxNestingDepth = builder.maxNestingDepth;
+        this.maxStringLength = builder.maxStringLength;
+        this.maxNumberLength = builder.maxNumberLength;
+        this.maxPropertyNameLength = builder.maxPropertyNameLength;
+        this.maxDocumentLength = builder.maxDocumentLength;
+    }
+
+    /**
+     * Returns the default JSON-RPC read constraints.
+     *
+     * @return default read constraints
+     */
+    public static JsonRpcReadConstraints defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a mutable builder initialized with default values.
+     *
+     * @return constraints builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return maximum nesting depth of arrays and objects
+     */
+    public int maxNestingDepth() {
+        return maxNestingDepth;
+    }
+
+    /**
+     * @return maximum length of a string value in characters
+     */
+    public int maxStringLength() {
+        return maxStringLength;
+    }
+
+    /**
+     * @return maximum length of a number literal in characters
+     */
+    public int maxNumberLength() {
+        return maxNumberLength;
+    }
+
+    /**
+     * @return maximum length of an object property name in characters
+     */
+    public int maxPropertyNameLength() {
+        return maxPropertyNameLength;
+    }
+
+    /**
+     * @return maximum document length in bytes or characters; {@code 0} when unlimited
+     */
+    public long maxDocumentLength() {
+        return maxDocumentLength;
+    }
+
+    /**
+     * Converts these limits to Jackson stream read constraints.
+     *
+     * @return equivalent stream read constraints
+     */
+    StreamReadConstraints toStreamReadConstraints() {
+        return StreamReadConstraints.builder()
+            .maxNestingDepth(maxNestingDepth)
+            .maxStringLength(maxStringLength)
+            .maxNumberLength(maxNumberLength)
+            .maxNameLength(maxPropertyNameLength)
+            .maxDocumentLength(maxDocumentLength == 0L ? -1L : maxDocumentLength)
+            .build();
+    }
+
+    /**
+     * Builder for read constraints.
+     */
+    public static final class Builder {
+
+        private int maxNestingDepth = 128;
+        private int maxStringLength = 1_048_576;
+        private int maxNumberLength = 100;
+        private int maxPropertyNameLength = 1024;
+        private long maxDocumentLength = 0L;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum nesting depth of arrays and objects.
+         *
+         * @param maxNestingDepth maximum depth; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxNestingDepth(int maxNestingDepth) {
+            this.maxNestingDepth = maxNestingDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of a string value.
+         *
+         * @param maxStringLength maximum length in characters; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxStringLength(int maxStringLength) {
+            this.maxStringLength = maxStringLength;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of a number literal.
+         * <p>
+         * Long numbers are expensive to convert to {@code BigInteger}/{@code BigDecimal}.
+         *
+         * @param maxNumberLength maximum length in characters; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxNumberLength(int maxNumberLength) {
+            this.maxNumberLength = maxNumberLength;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of an object property name.
+         *
+         * @param maxPropertyNameLength maximum length in characters; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxPropertyNameLength(int maxPropertyNameLength) {
+            this.maxPropertyNameLength = maxPropertyNameLength;
+            return this;
+        }
+
+        /**
+         * Sets the maximum document length.
+         * <p>
+         * Transports usually enforce their own byte limit; this limit also covers payloads read from other sources.
+         *
+         * @param maxDocumentLength maximum length in bytes or characters; {@code 0} for unlimited
+         * @return this builder
+         */
+        public Builder maxDocumentLength(long maxDocumentLength) {
+            this.maxDocumentLength = maxDocumentLength;
+            return this;
+        }
+
+        /**
+         * Builds immutable read constraints.
+         *
+         * @return immutable read constraints
+         * @throws IllegalArgumentException if a length or depth limit is not positive or
+         *                                  {@code maxDocumentLength < 0}
+         */
+        public JsonRpcReadConstraints build() {
+            if (maxNestingDepth <= 0) {
+                throw new IllegalArgumentException("maxNestingDepth must be greater than 0");
+            }
+            if (maxStringLength <= 0) {
+                throw new IllegalArgumentException("maxStringLength must be greater than 0");
+            }
+            if (maxNumberLength <= 0) {
+                throw new IllegalArgumentException("maxNumberLength must be greater than 0");
+            }
+            if (maxPropertyNameLength <= 0) {
+                throw new IllegalArgumentException("maxPropertyNameLength must be greater than 0");
+            }
+            if (maxDocumentLength < 0L) {
+                throw new IllegalArgumentException("maxDocumentLength must be greater than or equal to 0");
+            }
+            return new JsonRpcReadConstraints(this);
+        }
+    }
+}
@@ -11,12 +11,14 @@ import tools.jackson.databind.JsonNode;
  * {@link JsonRpcRequestBuilder}.
  * </p>
  *
- * @param jsonrpc   protocol version string from payload; may be {@code null}
- * @param id        request id value; may be {@code null}
- * @param method    method name; may be {@code null}
- * @param params    raw params payload; may be {@code null}
- * @param idPresent whether the original payload explicitly contained an {@code id} field
- * @param source    original request object node; may be {@code null}
+ * @param jsonrpc        protocol version string from payload; may be {@code null}
+ * @param id             request id value; may be {@code null}
+ * @param method         method name; may be {@code null}
+ * @param params         raw params payload; may be {@code null}
+ * @param idPresent      whether the original payload explicitly contained an {@code id} field
+ * @param source         original request object node; may be {@code null}
+ * @param deferredParams array or object params captured as tokens; when present, {@link #params()} builds its tree
+ *                       on demand and the {@code params} component is not used
  */
 public record JsonRpcRequest(
     @Nullable String jsonrpc,
@@ -24,9 +26,31 @@ public record JsonRpcRequest(
     @Nullable String method,
     @Nullable JsonNode params,
     boolean idPresent,
-    @Nullable JsonNode source
+    @Nullable JsonNode source,
+    @Nullable JsonRpcDeferredParams deferredParams
 ) {
 
+    /**
+     * Creates a request with params held as a JSON tree.
+     *
+     * @param jsonrpc   protocol version string from payload; may be {@code null}
+     * @param id        request id value; may be {@code null}
+     * @param method    method name; may be {@code null}
+     * @param params    raw params payload; may be {@code null}
+     * @param idPresent whether the original payload explicitly contained an {@code id} field
+     * @param source    original request object node; may be {@code null}
+     */
+    public JsonRpcRequest(
+        @Nullable String jsonrpc,
+        @Nullable JsonNode id,
+        @Nullable String method,
+        @Nullable JsonNode params,
+        boolean idPresent,
+        @Nullable JsonNode source
+    ) {
+        this(jsonrpc, id, method, params, idPresent, source, null);
+    }
+
     /**
      * Creates a request without storing the original source node.
      *
@@ -43,7 +67,22 @@ public record JsonRpcRequest(
         @Nullable JsonNode params,
         boolean idPresent
     ) {
-        this(jsonrpc, id, method, params, idPresent, null);
+        this(jsonrpc, id, method, params, idPresent, null, null);
+    }
+
+    /**
+     * Returns the params value as a JSON tree.
+     * <p>
+     * For deferred params the tree is built on the first call. Components that only need to bind params should use
+     * {@link JsonRpcParameterBinder#bindDeferred(JsonRpcDeferredParams, Class)} when {@link #deferredParams()} is
+     * present.
+     *
+     * @return params tree; may be {@code null}
+     */
+    @Override
+    public @Nullable JsonNode params() {
+        JsonRpcDeferredParams deferred = deferredParams;
+        return deferred != null ? deferred.asNode() : params;
     }
 
     /**
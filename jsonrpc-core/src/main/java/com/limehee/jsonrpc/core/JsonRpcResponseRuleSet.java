@@ -0,0 +1,303 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Response validation rules compiled from {@link JsonRpcResponseValidationOptions}, with a token-level decoder for
+ * response objects.
+ * <p>
+ * Compilation keeps only the rules the options enable, in the order {@link DefaultJsonRpcResponseValidator} checks
+ * them, so disabled flags cost nothing per entry. Accepted ids are folded into one bit mask and the error-code policy
+ * into one predicate. The outcome for every entry matches {@link DefaultJsonRpcResponseValidator} with the same
+ * options.
+ * </p>
+ */
+final class JsonRpcResponseRuleSet {
+
+    private static final JsonRpcErrorClassifier ERROR_CLASSIFIER = new DefaultJsonRpcErrorClassifier();
+
+    private static final int ID_NULL = 1;
+    private static final int ID_STRING = 1 << 1;
+    private static final int ID_INTEGER = 1 << 2;
+    private static final int ID_FRACTIONAL = 1 << 3;
+    private static final int ID_OTHER = 1 << 4;
+
+    private final Rule[] rules;
+
+    /**
+     * Creates a rule set.
+     *
+     * @param rules rules to apply in order
+     */
+    private JsonRpcResponseRuleSet(Rule[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Compiles validation options into a rule sequence.
+     *
+     * @param options response validation options
+     * @return compiled rule set
+     */
+    static JsonRpcResponseRuleSet compile(JsonRpcResponseValidationOptions options) {
+        List<Rule> rules = new ArrayList<>();
+        if (options.requireJsonRpcVersion20()) {
+            rules.add(entry -> JsonRpcConstants.VERSION.equals(entry.response().jsonrpc()));
+        }
+        if (options.requireIdMember()) {
+            rules.add(entry -> entry.response().idPresent());
+        }
+        int acceptedIds = acceptedIdKinds(options);
+        rules.add(entry -> !entry.response().idPresent() || (idKind(entry.response().id()) & acceptedIds) != 0);
+        if (options.requireExclusiveResultOrError()) {
+            rules.add(entry -> entry.response().resultPresent() != entry.response().errorPresent());
+        }
+        if (options.rejectRequestFields()) {
+            rules.add(entry -> !entry.requestFieldPresent());
+        }
+        ErrorRule errorRule = compileErrorRule(options);
+        if (errorRule != null) {
+            rules.add(entry -> !entry.response().errorPresent() || errorRule.accepts(entry.response().error()));
+        }
+        return new JsonRpcResponseRuleSet(rules.toArray(new Rule[0]));
+    }
+
+    /**
+     * Decodes the response object at the current token without building a tree for the envelope.
+     * <p>
+     * {@code id}, {@code result}, and {@code error} values are read as nodes; {@code jsonrpc} is kept only when it is a
+     * string; {@code method} and {@code params} are skipped and only recorded; other members are skipped. A repeated
+     * member replaces the earlier value, as a tree would.
+     *
+     * @param parser        parser positioned on the first token of the value
+     * @param payloadReader reader used for member values
+     * @return decoded entry; {@code null} when the value is not a JSON object (the value is skipped)
+     * @throws JacksonException when the value cannot be parsed or violates the read constraints
+     */
+    @Nullable DecodedResponse decode(JsonParser parser, JsonRpcPayloadReader payloadReader) throws JacksonException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String jsonrpc = null;
+        JsonNode id = null;
+        boolean idPresent = false;
+        JsonNode result = null;
+        boolean resultPresent = false;
+        JsonNode error = null;
+        boolean errorPresent = false;
+        boolean requestFieldPresent = false;
+        String name;
+        while ((name = parser.nextName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "jsonrpc" -> {
+                    jsonrpc = value == JsonToken.VALUE_STRING ? parser.getString() : null;
+                    parser.skipChildren();
+                }
+                case "id" -> {
+                    id = payloadReader.readElement(parser);
+                    idPresent = true;
+                }
+                case "result" -> {
+                    result = payloadReader.readElement(parser);
+                    resultPresent = true;
+                }
+                case "error" -> {
+                    error = payloadReader.readElement(parser);
+                    errorPresent = true;
+                }
+                case "method", "params" -> {
+                    requestFieldPresent = true;
+                    parser.skipChildren();
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new DecodedResponse(
+            new JsonRpcIncomingResponse(jsonrpc, id, idPresent, result, resultPresent, error, errorPresent),
+            requestFieldPresent);
+    }
+
+    /**
+     * Wraps a response parsed from a tree for validation.
+     *
+     * @param response parsed response whose source is the response object
+     * @return entry to validate
+     */
+    static DecodedResponse fromTree(JsonRpcIncomingResponse response) {
+        JsonNode source = response.source();
+        return new DecodedResponse(response, source != null && (source.has("method") || source.has("params")));
+    }
+
+    /**
+     * Applies every compiled rule to an entry.
+     *
+     * @param entry decoded entry
+     * @throws JsonRpcException with {@link JsonRpcErrorCode#INVALID_REQUEST} on the first violated rule
+     */
+    void validate(DecodedResponse entry) {
+        for (Rule rule : rules) {
+            if (!rule.accepts(entry)) {
+                throw new JsonRpcException(JsonRpcErrorCode.INVALID_REQUEST, JsonRpcConstants.MESSAGE_INVALID_REQUEST);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of compiled rules.
+     *
+     * @return rule count
+     */
+    int size() {
+        return rules.length;
+    }
+
+    /**
+     * Folds the id options into a mask of accepted id kinds.
+     *
+     * @param options response validation options
+     * @return accepted id kinds
+     */
+    private static int acceptedIdKinds(JsonRpcResponseValidationOptions options) {
+        int accepted = 0;
+        if (options.allowNullId()) {
+            accepted |= ID_NULL;
+        }
+        if (options.allowStringId()) {
+            accepted |= ID_STRING;
+        }
+        if (options.allowNumericId()) {
+            accepted |= ID_INTEGER;
+            if (options.allowFractionalId()) {
+                accepted |= ID_FRACTIONAL;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Classifies an id value.
+     *
+     * @param id id node; {@code null} is treated as a JSON {@code null}
+     * @return id kind bit
+     */
+    private static int idKind(@Nullable JsonNode id) {
+        if (id == null || id.isNull()) {
+            return ID_NULL;
+        }
+        if (id.isString()) {
+            return ID_STRING;
+        }
+        if (id.isNumber()) {
+            return id.isFloatingPointNumber() ? ID_FRACTIONAL : ID_INTEGER;
+        }
+        return ID_OTHER;
+    }
+
+    /**
+     * Compiles the rules for a present {@code error} member.
+     *
+     * @param options response validation options
+     * @return error rule; {@code null} when no error rule is enabled
+     */
+    private static @Nullable ErrorRule compileErrorRule(JsonRpcResponseValidationOptions options) {
+        boolean requireObject = options.requireErrorObjectWhenPresent();
+        boolean requireIntegerCode = options.requireIntegerErrorCode();
+        boolean requireStringMessage = options.requireStringErrorMessage();
+        IntPredicate codePolicy = compileCodePolicy(options);
+        if (!requireObject && !requireIntegerCode && !requireStringMessage && codePolicy == null) {
+            return null;
+        }
+        return error -> {
+            if (error == null || !error.isObject()) {
+                return !requireObject;
+            }
+            JsonNode code = error.get("code");
+            if (code != null && code.isNumber() && !code.isFloatingPointNumber()) {
+                if (codePolicy != null && !codePolicy.test(code.intValue())) {
+                    return false;
+                }
+            } else if (requireIntegerCode) {
+                return false;
+            }
+            if (requireStringMessage) {
+                JsonNode message = error.get("message");
+                return message != null && message.isString();
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Compiles the error-code policy into a predicate.
+     *
+     * @param options response validation options
+     * @return code predicate; {@code null} when every integer code is accepted
+     */
+    private static @Nullable IntPredicate compileCodePolicy(JsonRpcResponseValidationOptions options) {
+        return switch (options.errorCodePolicy()) {
+            case ANY_INTEGER -> null;
+            case STANDARD_ONLY -> ERROR_CLASSIFIER::isStandard;
+            case STANDARD_OR_SERVER_ERROR_RANGE ->
+                code -> ERROR_CLASSIFIER.isStandard(code) || ERROR_CLASSIFIER.isServerErrorRange(code);
+            case CUSTOM_RANGE -> {
+                Integer min = options.errorCodeRangeMin();
+                Integer max = options.errorCodeRangeMax();
+                if (min == null || max == null) {
+                    yield code -> false;
+                }
+                int lower = min;
+                int upper = max;
+                yield code -> code >= lower && code <= upper;
+            }
+        };
+    }
+
+    /**
+     * Response entry together with what validation needs beyond the response model.
+     *
+     * @param response            decoded response
+     * @param requestFieldPresent whether the object had a {@code method} or {@code params} member
+     */
+    record DecodedResponse(JsonRpcIncomingResponse response, boolean requestFieldPresent) {
+
+    }
+
+    /**
+     * Single compiled rule.
+     */
+    @FunctionalInterface
+    private interface Rule {
+
+        /**
+         * Tests an entry.
+         *
+         * @param entry decoded entry
+         * @return {@code true} when the entry satisfies the rule
+         */
+        boolean accepts(DecodedResponse entry);
+    }
+
+    /**
+     * Compiled rule for a present {@code error} member.
+     */
+    @FunctionalInterface
+    private interface ErrorRule {
+
+        /**
+         * Tests an error member.
+         *
+         * @param error error member value; may be {@code null}
+         * @return {@code true} when the member satisfies the enabled error rules
+         */
+        boolean accepts(@Nullable JsonNode error);
+    }
+}
@@ -0,0 +1,301 @@
+package com.limehee.jsonrpc.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Invoker decorator that aggregates concurrent single invocations of bulk-capable methods across requests.
+ * <p>
+ * For handlers implementing {@link JsonRpcBulkMethodHandler}, the first caller opens a micro-batch for the method and
+ * waits for the collection window. Calls arriving for the same method while the batch is open join it. The batch is
+ * flushed when the window elapses or when it reaches the maximum size, whichever comes first: the bulk handler runs
+ * once on the flushing thread and every waiting call completes with its own outcome. Other handlers are invoked
+ * directly.
+ * </p>
+ * <p>
+ * The window adds up to its duration to the latency of the first call in every batch, so it should be kept short
+ * (a few milliseconds) and enabled only where downstream round trips dominate.
+ * </p>
+ */
+public class MicroBatchingJsonRpcMethodInvoker implements JsonRpcMethodInvoker {
+
+    private final JsonRpcMethodInvoker delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final JsonRpcMicroBatchObserver observer;
+    private final ConcurrentHashMap<String, MicroBatch> openBatches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a micro-batching invoker without flush observation.
+     *
+     * @param delegate     invoker performing the actual handler invocation
+     * @param window       maximum time the first call of a batch waits for more calls
+     * @param maxBatchSize number of calls that flushes a batch before the window elapses
+     * @throws IllegalArgumentException if {@code window} is not positive or {@code maxBatchSize <= 0}
+     */
+    public MicroBatchingJsonRpcMethodInvoker(JsonRpcMethodInvoker delegate, Duration window, int maxBatchSize) {
+        this(delegate, window, maxBatchSize, new JsonRpcMicroBatchObserver() {
+        });
+    }
+
+    /**
+     * Creates a micro-batching invoker.
+     *
+     * @param delegate     invoker performing the actual handler invocation
+     * @param window       maximum time the first call of a batch waits for more calls
+     * @param maxBatchSize number of calls that flushes a batch before the window elapses
+     * @param observer     observer notified on every flush
+     * @throws IllegalArgumentException if {@code window} is not positive or {@code maxBatchSize <= 0}
+     */
+    public MicroBatchingJsonRpcMethodInvoker(
+        JsonRpcMethodInvoker delegate,
+        Duration window,
+        int maxBatchSize,
+        JsonRpcMicroBatchObserver observer
+    ) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        Objects.requireNonNull(window, "window");
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.observer = Objects.requireNonNull(observer, "observer");
+    }
+
+    /**
+     * Invokes the delegate directly because no method name is available for aggregation.
+     *
+     * @param handler handler to invoke
+     * @param params  optional request params
+     * @return handler result
+     * @throws Exception when handler invocation fails
+     */
+    @Override
+    public JsonNode invoke(JsonRpcMethodHandler handler, @Nullable JsonNode params) throws Exception {
+        return delegate.invoke(handler, params);
+    }
+
+    /**
+     * Invokes the handler, joining an open micro-batch when the handler is bulk-capable.
+     *
+     * @param handler handler to invoke
+     * @param request validated request being dispatched
+     * @return handler result for this request
+     * @throws Exception when this request's outcome is a failure or the bulk invocation fails
+     */
+    @Override
+    public JsonNode invokeRequest(JsonRpcMethodHandler handler, JsonRpcRequest request) throws Exception {
+        String method = request.method();
+        if (method == null || !(handler instanceof JsonRpcBulkMethodHandler bulkHandler)) {
+            return delegate.invokeRequest(handler, request);
+        }
+
+        PendingCall call = new PendingCall(request);
+        MicroBatch batch = join(method, bulkHandler, call);
+        if (batch.leader == call) {
+            awaitWindowAndFlush(method, batch);
+        }
+        return await(call.outcome);
+    }
+
+    /**
+     * Invokes the delegate directly; bulk invocations are already grouped by the caller.
+     *
+     * @param handler  bulk handler to invoke
+     * @param requests validated requests sharing the handler's method name
+     * @return one outcome per request, in request order
+     * @throws Exception when the bulk invocation fails as a whole
+     */
+    @Override
+    public List<JsonRpcBulkResult> invokeBulk(JsonRpcBulkMethodHandler handler, List<JsonRpcRequest> requests)
+        throws Exception {
+        return delegate.invokeBulk(handler, requests);
+    }
+
+    /**
+     * Adds a call to the open batch of its method, opening a new batch when none is accepting calls.
+     * <p>
+     * A new batch contains its leader from the start, so it can never be closed without a thread responsible for
+     * flushing it. When the call fills the batch, the batch is closed and its leader is woken up to flush immediately.
+     *
+     * @param method  JSON-RPC method name
+     * @param handler bulk handler for the method
+     * @param call    call to add
+     * @return batch the call joined
+     */
+    private MicroBatch join(String method, JsonRpcBulkMethodHandler handler, PendingCall call) {
+        while (true) {
+            MicroBatch batch = openBatches.computeIfAbsent(method, ignored -> new MicroBatch(handler, call));
+            synchronized (batch) {
+                if (batch.leader != call) {
+                    if (batch.closed) {
+                        continue;
+                    }
+                    batch.calls.add(call);
+                }
+                if (!batch.closed && batch.calls.size() >= maxBatchSize) {
+                    batch.full = true;
+                    close(method, batch);
+                }
+                return batch;
+            }
+        }
+    }
+
+    /**
+     * Waits for the collection window or until the batch fills up, then flushes it.
+     *
+     * @param method JSON-RPC method name
+     * @param batch  batch led by the current thread
+     */
+    private void awaitWindowAndFlush(String method, MicroBatch batch) {
+        List<PendingCall> calls;
+        synchronized (batch) {
+            long deadline = batch.openedAtNanos + windowNanos;
+            while (!batch.closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    close(method, batch);
+                    break;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(batch, remaining);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    close(method, batch);
+                }
+            }
+            calls = new ArrayList<>(batch.calls);
+        }
+        flush(method, batch, calls);
+    }
+
+    /**
+     * Stops a batch from accepting calls and wakes up its leader.
+     * <p>
+     * Must be called while holding the batch monitor.
+     *
+     * @param method JSON-RPC method name
+     * @param batch  batch to close
+     */
+    private void close(String method, MicroBatch batch) {
+        batch.closed = true;
+        openBatches.remove(method, batch);
+        batch.notifyAll();
+    }
+
+    /**
+     * Runs the bulk invocation for a closed batch and completes every waiting call.
+     *
+     * @param method JSON-RPC method name
+     * @param batch  closed batch
+     * @param calls  calls collected by the batch in arrival order
+     */
+    private void flush(String method, MicroBatch batch, List<PendingCall> calls) {
+        try {
+            observer.onFlush(method, calls.size(), Math.max(0L, System.nanoTime() - batch.openedAtNanos), batch.full);
+
+            List<JsonRpcRequest> requests = new ArrayList<>(calls.size());
+            for (PendingCall call : calls) {
+                requests.add(call.request);
+            }
+            List<JsonRpcBulkResult> results = delegate.invokeBulk(batch.handler, requests);
+            if (results.size() != calls.size()) {
+                throw new IllegalStateException("Bulk handler returned " + results.size() + " results for "
+                    + calls.size() + " requests");
+            }
+            for (int i = 0; i < calls.size(); i++) {
+                JsonRpcBulkResult result = results.get(i);
+                RuntimeException error = result.error();
+                if (error != null) {
+                    calls.get(i).outcome.completeExceptionally(error);
+                } else {
+                    calls.get(i).outcome.complete(result.getOrThrow());
+                }
+            }
+        } catch (Throwable ex) {
+            for (PendingCall call : calls) {
+                call.outcome.completeExceptionally(ex);
+            }
+        }
+    }
+
+    /**
+     * Waits for a call outcome and unwraps its failure.
+     *
+     * @param outcome call outcome completed by the flushing thread
+     * @return result for the call
+     * @throws Exception the failure recorded for the call
+     */
+    private JsonNode await(CompletableFuture<JsonNode> outcome) throws Exception {
+        try {
+            return outcome.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Calls collected for one bulk invocation of a method.
+     * <p>
+     * Mutable state is guarded by the batch monitor.
+     */
+    private static final class MicroBatch {
+
+        private final JsonRpcBulkMethodHandler handler;
+        private final PendingCall leader;
+        private final long openedAtNanos = System.nanoTime();
+        private final List<PendingCall> calls = new ArrayList<>();
+        private boolean closed;
+        private boolean full;
+
+        /**
+         * Creates a batch opened by its leader call.
+         *
+         * @param handler bulk handler for the method
+         * @param leader  call that opened the batch and flushes it
+         */
+        MicroBatch(JsonRpcBulkMethodHandler handler, PendingCall leader) {
+            this.handler = handler;
+            this.leader = leader;
+            this.calls.add(leader);
+        }
+    }
+
+    /**
+     * Single call waiting for its micro-batch outcome.
+     */
+    private static final class PendingCall {
+
+        private final JsonRpcRequest request;
+        private final CompletableFuture<JsonNode> outcome = new CompletableFuture<>();
+
+        /**
+         * Creates a pending call.
+         *
+         * @param request validated request
+         */
+        PendingCall(JsonRpcRequest request) {
+            this.request = request;
+        }
+    }
+}
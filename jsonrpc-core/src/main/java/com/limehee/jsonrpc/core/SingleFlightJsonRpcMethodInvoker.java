@@ -0,0 +1,147 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Invoker decorator that coalesces concurrent identical calls into one in-flight invocation.
+ * <p>
+ * For configured methods, calls are considered identical when the method name matches and the {@code params} nodes are
+ * structurally equal. The first caller invokes the delegate; callers arriving while that invocation is still running
+ * wait for it and receive the same result node or the same exception. Each caller still produces its own response, so
+ * request ids and interceptor callbacks are unaffected. Once the invocation completes the slot is released and the
+ * next call invokes the handler again; results are never cached beyond the in-flight window.
+ * </p>
+ * <p>
+ * Shared result nodes are handed to every waiting caller and must therefore be treated as read-only.
+ * </p>
+ * <p>
+ * Calls are keyed by {@link JsonRpcRequest#params()}, so params of coalesced methods are materialized as a
+ * {@link JsonNode} tree even when the request was decoded from tokens.
+ * </p>
+ */
+public class SingleFlightJsonRpcMethodInvoker implements JsonRpcMethodInvoker {
+
+    private final JsonRpcMethodInvoker delegate;
+    private final Set<String> methods;
+    private final ConcurrentHashMap<InFlightKey, CompletableFuture<JsonNode>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a single-flight invoker.
+     *
+     * @param delegate invoker performing the actual handler invocation
+     * @param methods  method names for which concurrent identical calls are coalesced
+     */
+    public SingleFlightJsonRpcMethodInvoker(JsonRpcMethodInvoker delegate, Set<String> methods) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.methods = Set.copyOf(Objects.requireNonNull(methods, "methods"));
+    }
+
+    /**
+     * Invokes the delegate directly because no method name is available for coalescing.
+     *
+     * @param handler handler to invoke
+     * @param params  optional request params
+     * @return handler result
+     * @throws Exception when handler invocation fails
+     */
+    @Override
+    public JsonNode invoke(JsonRpcMethodHandler handler, @Nullable JsonNode params) throws Exception {
+        return delegate.invoke(handler, params);
+    }
+
+    /**
+     * Invokes the handler, joining an identical in-flight invocation when one exists.
+     *
+     * @param handler handler to invoke
+     * @param request validated request being dispatched
+     * @return handler result, possibly shared with concurrent identical calls
+     * @throws Exception when the (shared) handler invocation fails
+     */
+    @Override
+    public JsonNode invokeRequest(JsonRpcMethodHandler handler, JsonRpcRequest request) throws Exception {
+        String method = request.method();
+        if (method == null || !methods.contains(method)) {
+            return delegate.invokeRequest(handler, request);
+        }
+
+        InFlightKey key = new InFlightKey(method, request.params());
+        CompletableFuture<JsonNode> call = new CompletableFuture<>();
+        CompletableFuture<JsonNode> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return awaitShared(existing);
+        }
+
+        try {
+            JsonNode result = delegate.invokeRequest(handler, request);
+            call.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Invokes the delegate directly; bulk invocations are already grouped by the caller.
+     *
+     * @param handler  bulk handler to invoke
+     * @param requests validated requests sharing the handler's method name
+     * @return one outcome per request, in request order
+     * @throws Exception when the bulk invocation fails as a whole
+     */
+    @Override
+    public List<JsonRpcBulkResult> invokeBulk(JsonRpcBulkMethodHandler handler, List<JsonRpcRequest> requests)
+        throws Exception {
+        return delegate.invokeBulk(handler, requests);
+    }
+
+    /**
+     * Returns the number of distinct calls currently in flight.
+     *
+     * @return in-flight call count
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Waits for an in-flight invocation and unwraps its outcome.
+     *
+     * @param call in-flight invocation owned by another caller
+     * @return shared handler result
+     * @throws Exception the exception raised by the shared invocation
+     */
+    private JsonNode awaitShared(CompletableFuture<JsonNode> call) throws Exception {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Identity of a coalescible call.
+     *
+     * @param method JSON-RPC method name
+     * @param params request params compared by structural equality; may be {@code null}
+     */
+    private record InFlightKey(String method, @Nullable JsonNode params) {
+
+    }
+}
@@ -0,0 +1,217 @@
+package com.limehee.jsonrpc.core;
+
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.util.JsonParserSequence;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.util.TokenBuffer;
+
+/**
+ * Envelope classifier that reads parser tokens instead of a JSON tree.
+ * <p>
+ * Classification follows {@link DefaultJsonRpcEnvelopeClassifier}: an object with a {@code result} or {@code error}
+ * member is a response, otherwise one with {@code method} or {@code params} is a request, and a batch must be a
+ * non-empty array of objects that all classify alike. Only top-level member names are inspected; member values are
+ * skipped without being materialized. Reading stops as soon as the outcome is certain: at the first response member of
+ * a single object, and at the first non-object or mismatching element of a batch. A single request object is read to
+ * its end, because a later response member would still take precedence, and a homogeneous batch is read to its end.
+ * </p>
+ * <p>
+ * Content after the point where the outcome was decided is not read, so it is neither checked for well-formedness nor
+ * for trailing tokens; the stage that consumes the payload reports such problems. JSON that is malformed before that
+ * point fails with a {@link JacksonException}, which callers typically answer with
+ * {@link JsonRpcErrorCode#PARSE_ERROR}.
+ * </p>
+ */
+public final class StreamingJsonRpcEnvelopeClassifier {
+
+    private final JsonRpcPayloadReader payloadReader;
+
+    /**
+     * Creates a classifier reading raw payloads with a default ObjectMapper.
+     */
+    public StreamingJsonRpcEnvelopeClassifier() {
+        this(new JsonRpcPayloadReader(JsonMapper.builder().build(), false));
+    }
+
+    /**
+     * Creates a classifier reading raw payloads with an explicit payload reader.
+     *
+     * @param payloadReader reader applying the duplicate-member policy and read constraints to raw payloads
+     */
+    public StreamingJsonRpcEnvelopeClassifier(JsonRpcPayloadReader payloadReader) {
+        this.payloadReader = Objects.requireNonNull(payloadReader, "payloadReader");
+    }
+
+    /**
+     * Classifies a raw JSON payload.
+     * <p>
+     * The bytes stay available to the caller, so no tokens are buffered; the next stage parses the payload once, from
+     * the start.
+     *
+     * @param payload raw JSON payload bytes
+     * @return envelope type classification; {@link JsonRpcEnvelopeType#INVALID} for an empty payload
+     * @throws JacksonException when the payload is malformed before the classification is decided
+     */
+    public JsonRpcEnvelopeType classify(byte[] payload) throws JacksonException {
+        Objects.requireNonNull(payload, "payload");
+        try (JsonParser parser = payloadReader.createParser(payload)) {
+            return parser.nextToken() == null ? JsonRpcEnvelopeType.INVALID : classifyValue(parser, null);
+        }
+    }
+
+    /**
+     * Classifies a raw JSON payload.
+     *
+     * @param payload raw JSON payload text
+     * @return envelope type classification; {@link JsonRpcEnvelopeType#INVALID} for an empty payload
+     * @throws JacksonException when the payload is malformed before the classification is decided
+     * @see #classify(byte[])
+     */
+    public JsonRpcEnvelopeType classify(String payload) throws JacksonException {
+        Objects.requireNonNull(payload, "payload");
+        try (JsonParser parser = payloadReader.createParser(payload)) {
+            return parser.nextToken() == null ? JsonRpcEnvelopeType.INVALID : classifyValue(parser, null);
+        }
+    }
+
+    /**
+     * Classifies the payload read by a parser and hands the parser on for the next stage.
+     * <p>
+     * Tokens read while classifying are buffered, and the parser of the returned envelope replays them before
+     * continuing with the remaining input of {@code parser}, so the next stage reads the whole payload from its first
+     * token without re-reading the source. Only the tokens up to the decision point are buffered; for a homogeneous
+     * batch that is the whole batch, as tokens rather than a tree. Closing the returned parser closes {@code parser}.
+     * </p>
+     *
+     * @param parser parser positioned before or on the first token of the payload
+     * @return classification together with a parser positioned before the first token of the payload
+     * @throws JacksonException when the payload is malformed before the classification is decided or the input fails
+     */
+    public JsonRpcClassifiedEnvelope classify(JsonParser parser) throws JacksonException {
+        Objects.requireNonNull(parser, "parser");
+        if (parser.currentToken() == null && parser.nextToken() == null) {
+            return new JsonRpcClassifiedEnvelope(JsonRpcEnvelopeType.INVALID, parser);
+        }
+        TokenBuffer tokens = TokenBuffer.forBuffering(parser, parser.objectReadContext());
+        tokens.copyCurrentEvent(parser);
+        JsonRpcEnvelopeType type = classifyValue(parser, tokens);
+        JsonParser replay = JsonParserSequence.createFlattened(
+            false,
+            tokens.asParser(parser.objectReadContext()),
+            parser
+        );
+        return new JsonRpcClassifiedEnvelope(type, replay);
+    }
+
+    /**
+     * Classifies the value starting at the current token.
+     *
+     * @param parser parser positioned on the first token of the payload
+     * @param tokens buffer receiving every token read after the current one; {@code null} to skip values
+     * @return envelope type classification
+     * @throws JacksonException when the payload cannot be tokenized
+     */
+    private static JsonRpcEnvelopeType classifyValue(JsonParser parser, @Nullable TokenBuffer tokens)
+        throws JacksonException {
+        JsonToken first = parser.currentToken();
+        if (first == JsonToken.START_OBJECT) {
+            return classifyObject(parser, tokens, true);
+        }
+        if (first != JsonToken.START_ARRAY) {
+            return JsonRpcEnvelopeType.INVALID;
+        }
+        JsonRpcEnvelopeType batchType = null;
+        JsonToken token;
+        while ((token = nextToken(parser, tokens)) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                return JsonRpcEnvelopeType.INVALID;
+            }
+            JsonRpcEnvelopeType current = classifyObject(parser, tokens, false);
+            if (current == JsonRpcEnvelopeType.INVALID || (batchType != null && batchType != current)) {
+                return JsonRpcEnvelopeType.INVALID;
+            }
+            batchType = current;
+        }
+        return batchType == null ? JsonRpcEnvelopeType.INVALID : batchType;
+    }
+
+    /**
+     * Classifies the object at the current token by its member names.
+     * <p>
+     * When request and response hints coexist, response classification takes precedence, as in
+     * {@link DefaultJsonRpcEnvelopeClassifier}.
+     *
+     * @param parser    parser positioned on {@code START_OBJECT}
+     * @param tokens    buffer receiving every token read; {@code null} to skip values
+     * @param stopEarly {@code true} to return at the first response member instead of reading to the object's end
+     * @return envelope type classification
+     * @throws JacksonException when the object cannot be tokenized
+     */
+    private static JsonRpcEnvelopeType classifyObject(
+        JsonParser parser,
+        @Nullable TokenBuffer tokens,
+        boolean stopEarly
+    ) throws JacksonException {
+        boolean response = false;
+        boolean request = false;
+        String name;
+        while ((name = parser.nextName()) != null) {
+            copyCurrentEvent(parser, tokens);
+            if (!response) {
+                switch (name) {
+                    case "result", "error" -> response = true;
+                    case "method", "params" -> request = true;
+                    default -> {
+                        // not a classification hint
+                    }
+                }
+                if (response && stopEarly) {
+                    return JsonRpcEnvelopeType.RESPONSE;
+                }
+            }
+            parser.nextToken();
+            if (tokens != null) {
+                tokens.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        copyCurrentEvent(parser, tokens);
+        if (response) {
+            return JsonRpcEnvelopeType.RESPONSE;
+        }
+        return request ? JsonRpcEnvelopeType.REQUEST : JsonRpcEnvelopeType.INVALID;
+    }
+
+    /**
+     * Advances the parser and buffers the new token.
+     *
+     * @param parser parser to advance
+     * @param tokens buffer receiving the token; {@code null} to skip buffering
+     * @return new current token
+     * @throws JacksonException when the input cannot be tokenized
+     */
+    private static @Nullable JsonToken nextToken(JsonParser parser, @Nullable TokenBuffer tokens)
+        throws JacksonException {
+        JsonToken token = parser.nextToken();
+        copyCurrentEvent(parser, tokens);
+        return token;
+    }
+
+    /**
+     * Buffers the parser's current token.
+     *
+     * @param parser parser positioned on the token
+     * @param tokens buffer receiving the token; {@code null} to skip buffering
+     * @throws JacksonException when the token cannot be copied
+     */
+    private static void copyCurrentEvent(JsonParser parser, @Nullable TokenBuffer tokens) throws JacksonException {
+        if (tokens != null && parser.currentToken() != null) {
+            tokens.copyCurrentEvent(parser);
+        }
+    }
+}
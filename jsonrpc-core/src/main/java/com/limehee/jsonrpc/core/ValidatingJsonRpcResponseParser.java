@@ -0,0 +1,227 @@
+package com.limehee.jsonrpc.core;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Response parser that validates every entry in the same pass that reads it.
+ * <p>
+ * The two-phase path ({@link DefaultJsonRpcResponseParser} followed by {@link DefaultJsonRpcResponseValidator}) builds
+ * a tree for each response object, looks its members up by name, and then walks the entries again while evaluating
+ * every option flag. This parser compiles the {@link JsonRpcResponseValidationOptions} once into a sequence holding
+ * only the enabled rules, reads each response object member by member from parser tokens without building a tree for
+ * the envelope, and applies the rules as soon as the object ends. Only the {@code id}, {@code result}, and
+ * {@code error} values are materialized; {@link JsonRpcIncomingResponse#source()} is {@code null} for entries read from
+ * raw input.
+ * </p>
+ * <p>
+ * Returned entries are already validated, and every entry is accepted or rejected exactly as by
+ * {@link DefaultJsonRpcResponseValidator} with the same options. Structural problems fail with the same
+ * {@code "Invalid response envelope"} error as {@link DefaultJsonRpcResponseParser}; because validation no longer waits
+ * for the whole envelope, a batch with both an invalid entry and a later structural problem reports whichever comes
+ * first. Duplicate members are rejected when
+ * {@link JsonRpcResponseValidationOptions#rejectDuplicateMembers()} is enabled.
+ * </p>
+ */
+public class ValidatingJsonRpcResponseParser implements JsonRpcResponseParser {
+
+    private final JsonRpcPayloadReader payloadReader;
+    private final JsonRpcResponseRuleSet rules;
+
+    /**
+     * Creates a parser with a default ObjectMapper and default RFC-aligned validation options.
+     */
+    public ValidatingJsonRpcResponseParser() {
+        this(JsonMapper.builder().build(), JsonRpcResponseValidationOptions.defaults());
+    }
+
+    /**
+     * Creates a parser with a default ObjectMapper and explicit validation options.
+     *
+     * @param options response validation options
+     */
+    public ValidatingJsonRpcResponseParser(JsonRpcResponseValidationOptions options) {
+        this(JsonMapper.builder().build(), options);
+    }
+
+    /**
+     * Creates a parser with explicit mapper and validation options.
+     *
+     * @param objectMapper mapper used to parse raw JSON input
+     * @param options      response validation options, compiled once
+     */
+    public ValidatingJsonRpcResponseParser(ObjectMapper objectMapper, JsonRpcResponseValidationOptions options) {
+        Objects.requireNonNull(options, "options");
+        this.payloadReader = new JsonRpcPayloadReader(
+            Objects.requireNonNull(objectMapper, "objectMapper"),
+            options.rejectDuplicateMembers()
+        );
+        this.rules = JsonRpcResponseRuleSet.compile(options);
+    }
+
+    /**
+     * Parses and validates a raw JSON response payload.
+     *
+     * @param payload raw JSON payload
+     * @return validated response envelope
+     * @throws JsonRpcException with {@link JsonRpcErrorCode#INVALID_REQUEST} when the payload is not a response
+     *                          envelope or an entry fails validation
+     */
+    public JsonRpcIncomingResponseEnvelope parse(String payload) {
+        if (payload == null) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        try (JsonParser parser = payloadReader.createParser(payload)) {
+            return read(parser);
+        } catch (JacksonException ex) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+    }
+
+    /**
+     * Parses and validates a raw JSON response payload.
+     *
+     * @param payload raw JSON payload bytes
+     * @return validated response envelope
+     * @throws JsonRpcException with {@link JsonRpcErrorCode#INVALID_REQUEST} when the payload is not a response
+     *                          envelope or an entry fails validation
+     */
+    public JsonRpcIncomingResponseEnvelope parse(byte[] payload) {
+        if (payload == null) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        try (JsonParser parser = payloadReader.createParser(payload)) {
+            return read(parser);
+        } catch (JacksonException ex) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+    }
+
+    /**
+     * Parses and validates a response payload from a parser another stage has already opened, such as the one handed
+     * on by {@link StreamingJsonRpcEnvelopeClassifier#classify(JsonParser)}.
+     * <p>
+     * The parser is read to the end of the payload but not closed. Duplicate members are rejected only when the parser
+     * itself was created with duplicate detection.
+     *
+     * @param parser parser positioned before the first token of the payload
+     * @return validated response envelope
+     * @throws JsonRpcException with {@link JsonRpcErrorCode#INVALID_REQUEST} when the payload is not a response
+     *                          envelope or an entry fails validation
+     */
+    public JsonRpcIncomingResponseEnvelope parse(JsonParser parser) {
+        Objects.requireNonNull(parser, "parser");
+        try {
+            return read(parser);
+        } catch (JacksonException ex) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+    }
+
+    /**
+     * Parses and validates an already materialized response payload.
+     * <p>
+     * The tree exists already, so entries keep it as their source and only the rule evaluation is shared with the
+     * token path.
+     *
+     * @param payload response payload node
+     * @return validated response envelope
+     * @throws JsonRpcException with {@link JsonRpcErrorCode#INVALID_REQUEST} when the payload is not a response
+     *                          envelope or an entry fails validation
+     */
+    @Override
+    public JsonRpcIncomingResponseEnvelope parse(@Nullable JsonNode payload) {
+        if (payload == null) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        if (payload.isObject()) {
+            return JsonRpcIncomingResponseEnvelope.single(validated(payload));
+        }
+        if (!payload.isArray() || payload.isEmpty()) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        List<JsonRpcIncomingResponse> responses = new ArrayList<>(payload.size());
+        for (JsonNode element : payload) {
+            responses.add(validated(element));
+        }
+        return JsonRpcIncomingResponseEnvelope.batch(responses);
+    }
+
+    /**
+     * Opens a stream that decodes and validates response entries one at a time.
+     *
+     * @param payload raw JSON byte stream; closed when the returned stream is closed or exhausted
+     * @return response entry stream
+     * @throws JsonRpcException when the payload does not start with a response object or array
+     * @see DefaultJsonRpcResponseParser#stream(InputStream, JsonRpcResponseValidator)
+     */
+    public JsonRpcIncomingResponseStream stream(InputStream payload) {
+        Objects.requireNonNull(payload, "payload");
+        return JsonRpcIncomingResponseStream.open(payloadReader, payload, rules);
+    }
+
+    /**
+     * Reads a whole payload from a parser, validating each entry as soon as it has been decoded.
+     *
+     * @param parser parser positioned before the payload
+     * @return validated response envelope
+     * @throws JacksonException when the payload cannot be parsed or violates the read constraints
+     */
+    private JsonRpcIncomingResponseEnvelope read(JsonParser parser) throws JacksonException {
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_OBJECT) {
+            JsonRpcIncomingResponse response = decodeAndValidate(parser);
+            payloadReader.verifyNoTrailingTokens(parser);
+            return JsonRpcIncomingResponseEnvelope.single(response);
+        }
+        if (first != JsonToken.START_ARRAY) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        List<JsonRpcIncomingResponse> responses = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            responses.add(decodeAndValidate(parser));
+        }
+        if (responses.isEmpty()) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        payloadReader.verifyNoTrailingTokens(parser);
+        return JsonRpcIncomingResponseEnvelope.batch(responses);
+    }
+
+    /**
+     * Decodes the response object at the current token and validates it.
+     *
+     * @param parser parser positioned on the first token of the value
+     * @return validated response
+     * @throws JacksonException when the value cannot be parsed or violates the read constraints
+     */
+    private JsonRpcIncomingResponse decodeAndValidate(JsonParser parser) throws JacksonException {
+        JsonRpcResponseRuleSet.DecodedResponse decoded = rules.decode(parser, payloadReader);
+        if (decoded == null) {
+            throw DefaultJsonRpcResponseParser.invalidResponseEnvelope();
+        }
+        rules.validate(decoded);
+        return decoded.response();
+    }
+
+    /**
+     * Parses one response object of a tree and validates it.
+     *
+     * @param node response object candidate
+     * @return validated response
+     */
+    private JsonRpcIncomingResponse validated(JsonNode node) {
+        JsonRpcIncomingResponse response = DefaultJsonRpcResponseParser.parseObject(node);
+        rules.validate(JsonRpcResponseRuleSet.fromTree(response));
+        return response;
+    }
+}
@@ -2,7 +2,9 @@ package com.limehee.jsonrpc.core;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.StringNode;
@@ -70,6 +72,27 @@ class CoreConstructorNullGuardTest {
         );
     }
 
+    @Test
+    void singleFlightInvokerConstructorRejectsNullDependencies() {
+        assertThrows(NullPointerException.class, () -> new SingleFlightJsonRpcMethodInvoker(null, Set.of()));
+        assertThrows(
+            NullPointerException.class,
+            () -> new SingleFlightJsonRpcMethodInvoker(new DefaultJsonRpcMethodInvoker(), null)
+        );
+    }
+
+    @Test
+    void microBatchingInvokerConstructorRejectsNullDependencies() {
+        JsonRpcMethodInvoker delegate = new DefaultJsonRpcMethodInvoker();
+        Duration window = Duration.ofMillis(5);
+        assertThrows(NullPointerException.class, () -> new MicroBatchingJsonRpcMethodInvoker(null, window, 10));
+        assertThrows(NullPointerException.class, () -> new MicroBatchingJsonRpcMethodInvoker(delegate, null, 10));
+        assertThrows(
+            NullPointerException.class,
+            () -> new MicroBatchingJsonRpcMethodInvoker(delegate, window, 10, null)
+        );
+    }
+
     @Test
     void executorNotificationConstructorRejectsNullExecutor() {
         assertThrows(NullPointerException.class, () -> new ExecutorJsonRpcNotificationExecutor(null));
@@ -1,6 +1,8 @@
 package com.limehee.jsonrpc.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,16 @@ class InMemoryJsonRpcMethodRegistryTest {
         assertEquals("pong2", registry.find("ping").orElseThrow().handle(null).asString());
     }
 
+    @Test
+    void findOrNullReturnsHandlerWithoutWrapping() {
+        InMemoryJsonRpcMethodRegistry registry = new InMemoryJsonRpcMethodRegistry();
+        JsonRpcMethodHandler handler = params -> StringNode.valueOf("pong");
+        registry.register("ping", handler);
+
+        assertSame(handler, registry.findOrNull("ping"));
+        assertNull(registry.findOrNull("missing"));
+    }
+
     @Test
     void alwaysRejectsReservedRpcPrefix() {
         InMemoryJsonRpcMethodRegistry registry = new InMemoryJsonRpcMethodRegistry(
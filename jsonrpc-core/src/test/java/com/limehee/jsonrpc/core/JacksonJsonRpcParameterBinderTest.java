@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
@@ -56,6 +58,19 @@ class JacksonJsonRpcParameterBinderTest {
         assertEquals(JsonRpcConstants.MESSAGE_INVALID_PARAMS, ex.getMessage());
     }
 
+    @Test
+    void bindReadsDeferredParamsIntoTargetType() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+        JsonRpcDeferredParams params = reader.readRequests(new ByteArrayInputStream(
+                "{\"method\":\"ping\",\"params\":{\"name\":\"developer\"}}".getBytes(StandardCharsets.UTF_8)), 1)
+            .requests().get(0).deferredParams();
+
+        assertEquals("developer", binder.bindDeferred(params, PingParams.class).name());
+        assertEquals("developer", binder.bindDeferred(params, JsonNode.class).get("name").asString());
+        JsonRpcException ex = assertThrows(JsonRpcException.class, () -> binder.bindDeferred(params, Integer.class));
+        assertEquals(JsonRpcErrorCode.INVALID_PARAMS, ex.getCode());
+    }
+
     record PingParams(String name) {
 
     }
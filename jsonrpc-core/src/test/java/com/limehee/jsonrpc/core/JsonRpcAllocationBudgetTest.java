@@ -0,0 +1,129 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.StringNode;
+
+class JsonRpcAllocationBudgetTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final StringNode PONG = StringNode.valueOf("pong");
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static Properties budgets;
+    private static volatile Object sink;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+            "thread allocation counters are not available on this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "thread allocation counters are not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        budgets = loadBudgets();
+    }
+
+    @Test
+    void singleSuccessStaysWithinBudget() throws Exception {
+        JsonRpcDispatcher dispatcher = pingDispatcher();
+        JsonNode payload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """);
+        assertTrue(dispatcher.dispatch(payload).hasResponse());
+
+        assertWithinBudget("dispatch.single.success", () -> dispatcher.dispatch(payload));
+    }
+
+    @Test
+    void singleNotificationStaysWithinBudget() throws Exception {
+        JsonRpcDispatcher dispatcher = pingDispatcher();
+        JsonNode payload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"ping"}
+            """);
+        assertFalse(dispatcher.dispatch(payload).hasResponse());
+
+        assertWithinBudget("dispatch.single.notification", () -> dispatcher.dispatch(payload));
+    }
+
+    @Test
+    void batchSuccessStaysWithinBudget() throws Exception {
+        JsonRpcDispatcher dispatcher = pingDispatcher();
+        JsonNode payload = OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"ping","id":1},
+              {"jsonrpc":"2.0","method":"ping","id":2},
+              {"jsonrpc":"2.0","method":"ping","id":3},
+              {"jsonrpc":"2.0","method":"ping","id":4}
+            ]
+            """);
+        assertEquals(4, dispatcher.dispatch(payload).responses().size());
+
+        assertWithinBudget("dispatch.batch.success", () -> dispatcher.dispatch(payload));
+    }
+
+    @Test
+    void singleMethodNotFoundStaysWithinBudget() throws Exception {
+        JsonRpcDispatcher dispatcher = pingDispatcher();
+        JsonNode payload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"missing","id":1}
+            """);
+        assertEquals(JsonRpcErrorCode.METHOD_NOT_FOUND,
+            dispatcher.dispatch(payload).singleResponseOrNull().error().code());
+
+        assertWithinBudget("dispatch.single.methodNotFound", () -> dispatcher.dispatch(payload));
+    }
+
+    private static JsonRpcDispatcher pingDispatcher() {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> PONG);
+        return dispatcher;
+    }
+
+    private static void assertWithinBudget(String scenario, Supplier<Object> operation) {
+        String budget = budgets.getProperty(scenario);
+        assertNotNull(budget, "no allocation budget declared for " + scenario);
+        long budgetBytes = Long.parseLong(budget.trim());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long bytesPerOperation = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+
+        assertTrue(bytesPerOperation <= budgetBytes,
+            scenario + " allocated " + bytesPerOperation + " bytes/op, budget is " + budgetBytes);
+    }
+
+    private static Properties loadBudgets() {
+        Properties properties = new Properties();
+        try (InputStream input = JsonRpcAllocationBudgetTest.class.getResourceAsStream(
+            "/allocation-budgets.properties")) {
+            assertNotNull(input, "allocation-budgets.properties is missing");
+            properties.load(input);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return properties;
+    }
+}
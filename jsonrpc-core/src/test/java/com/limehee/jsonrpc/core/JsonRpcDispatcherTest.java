@@ -4,9 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +40,8 @@ class JsonRpcDispatcherTest {
         assertFalse(result.isBatch());
         assertTrue(result.hasResponse());
         JsonRpcResponse response = result.singleResponse().orElseThrow();
+        assertSame(response, result.singleResponseOrNull());
+        assertEquals(List.of(response), result.responses());
         assertEquals("2.0", response.jsonrpc());
         assertEquals(1, response.id().asInt());
         assertEquals("pong", response.result().asString());
@@ -53,6 +58,9 @@ class JsonRpcDispatcherTest {
 
         assertFalse(result.hasResponse());
         assertTrue(result.singleResponse().isEmpty());
+        assertNull(result.singleResponseOrNull());
+        assertTrue(result.responses().isEmpty());
+        assertSame(JsonRpcDispatchResult.noResponse(), result);
     }
 
     @Test
@@ -229,6 +237,297 @@ class JsonRpcDispatcherTest {
         assertEquals("pong", result.responses().get(1).result().asString());
     }
 
+    @Test
+    void dispatchBatchInvokesDuplicateIdempotentEntriesOnce() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        AtomicInteger invocationCount = new AtomicInteger();
+        dispatcher.register("user.get", JsonRpcIdempotentMethodHandler.of(params -> {
+            invocationCount.incrementAndGet();
+            return StringNode.valueOf("user-" + params.get("id").asInt());
+        }));
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":{"id":1},"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":{"id":2},"id":2},
+              {"jsonrpc":"2.0","method":"user.get","params":{"id":1},"id":"three"},
+              {"jsonrpc":"2.0","method":"user.get","params":{"id":1}},
+              {"jsonrpc":"2.0","method":"user.get","params":{"id":1},"id":4}
+            ]
+            """));
+
+        List<JsonRpcResponse> responses = result.responses();
+        assertEquals(4, responses.size());
+        assertEquals(1, responses.get(0).id().asInt());
+        assertEquals("user-1", responses.get(0).result().asString());
+        assertEquals(2, responses.get(1).id().asInt());
+        assertEquals("user-2", responses.get(1).result().asString());
+        assertEquals("three", responses.get(2).id().asString());
+        assertEquals("user-1", responses.get(2).result().asString());
+        assertEquals(4, responses.get(3).id().asInt());
+        assertEquals("user-1", responses.get(3).result().asString());
+        assertEquals(3, invocationCount.get());
+    }
+
+    @Test
+    void dispatchBatchSharesIdempotentErrorAcrossDuplicateEntries() throws Exception {
+        RecordingInterceptor interceptor = new RecordingInterceptor();
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            100,
+            List.of(interceptor)
+        );
+        AtomicInteger invocationCount = new AtomicInteger();
+        dispatcher.register("user.get", JsonRpcIdempotentMethodHandler.of(params -> {
+            invocationCount.incrementAndGet();
+            throw new JsonRpcException(-32001, "not found");
+        }));
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":[7],"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":[7],"id":2}
+            ]
+            """));
+
+        List<JsonRpcResponse> responses = result.responses();
+        assertEquals(2, responses.size());
+        assertEquals(1, responses.get(0).id().asInt());
+        assertEquals(-32001, responses.get(0).error().code());
+        assertEquals(2, responses.get(1).id().asInt());
+        assertEquals(-32001, responses.get(1).error().code());
+        assertEquals(1, invocationCount.get());
+        assertEquals(List.of(
+            "beforeValidate", "beforeInvoke", "onError:-32001",
+            "beforeValidate", "beforeInvoke", "onError:-32001"
+        ), interceptor.events);
+    }
+
+    @Test
+    void dispatchBatchInvokesNonIdempotentDuplicatesEachTime() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        AtomicInteger invocationCount = new AtomicInteger();
+        dispatcher.register("counter.next", params -> IntNode.valueOf(invocationCount.incrementAndGet()));
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"counter.next","id":1},
+              {"jsonrpc":"2.0","method":"counter.next","id":2}
+            ]
+            """));
+
+        assertEquals(1, result.responses().get(0).result().asInt());
+        assertEquals(2, result.responses().get(1).result().asInt());
+        assertEquals(2, invocationCount.get());
+    }
+
+    @Test
+    void dispatchSingleIdempotentRequestsAreNotMemoizedAcrossPayloads() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        AtomicInteger invocationCount = new AtomicInteger();
+        dispatcher.register("user.get", JsonRpcIdempotentMethodHandler.of(
+            params -> IntNode.valueOf(invocationCount.incrementAndGet())));
+
+        dispatcher.dispatch(OBJECT_MAPPER.readTree("{\"jsonrpc\":\"2.0\",\"method\":\"user.get\",\"id\":1}"));
+        dispatcher.dispatch(OBJECT_MAPPER.readTree("[{\"jsonrpc\":\"2.0\",\"method\":\"user.get\",\"id\":1}]"));
+        dispatcher.dispatch(OBJECT_MAPPER.readTree("[{\"jsonrpc\":\"2.0\",\"method\":\"user.get\",\"id\":1}]"));
+
+        assertEquals(3, invocationCount.get());
+    }
+
+    @Test
+    void idempotentWrapperKeepsDeferredBindingOfWrappedHandler() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("user.get", JsonRpcIdempotentMethodHandler.of(new JsonRpcMethodHandler() {
+            @Override
+            public JsonNode handle(JsonNode params) {
+                return StringNode.valueOf("tree");
+            }
+
+            @Override
+            public JsonNode handleDeferred(JsonRpcDeferredParams params) {
+                return StringNode.valueOf("deferred");
+            }
+        }));
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(reader.readRequests(new ByteArrayInputStream("""
+            {"jsonrpc":"2.0","method":"user.get","params":{"id":1},"id":1}
+            """.getBytes(StandardCharsets.UTF_8)), 10));
+
+        assertEquals("deferred", result.responses().get(0).result().asString());
+    }
+
+    @Test
+    void dispatchBatchGroupsBulkMethodEntriesIntoOneInvocation() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        List<List<JsonNode>> bulkCalls = new ArrayList<>();
+        dispatcher.register("user.get", (JsonRpcBulkMethodHandler) paramsList -> {
+            bulkCalls.add(paramsList);
+            List<JsonRpcBulkResult> results = new ArrayList<>();
+            for (JsonNode params : paramsList) {
+                int id = params.get(0).asInt();
+                results.add(id < 0
+                    ? JsonRpcBulkResult.failure(new JsonRpcException(-32001, "not found"))
+                    : JsonRpcBulkResult.success(StringNode.valueOf("user-" + id)));
+            }
+            return results;
+        });
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":[1],"id":1},
+              {"jsonrpc":"2.0","method":"ping","id":2},
+              {"jsonrpc":"2.0","method":"user.get","params":[-1],"id":3},
+              {"jsonrpc":"2.0","method":"missing","id":4},
+              {"jsonrpc":"2.0","method":"user.get","params":[3],"id":5}
+            ]
+            """));
+
+        List<JsonRpcResponse> responses = result.responses();
+        assertEquals(5, responses.size());
+        assertEquals(1, responses.get(0).id().asInt());
+        assertEquals("user-1", responses.get(0).result().asString());
+        assertEquals(2, responses.get(1).id().asInt());
+        assertEquals("pong", responses.get(1).result().asString());
+        assertEquals(3, responses.get(2).id().asInt());
+        assertEquals(-32001, responses.get(2).error().code());
+        assertEquals(4, responses.get(3).id().asInt());
+        assertEquals(JsonRpcErrorCode.METHOD_NOT_FOUND, responses.get(3).error().code());
+        assertEquals(5, responses.get(4).id().asInt());
+        assertEquals("user-3", responses.get(4).result().asString());
+        assertEquals(1, bulkCalls.size());
+        assertEquals(3, bulkCalls.get(0).size());
+    }
+
+    @Test
+    void dispatchBatchMapsWholeBulkFailureToEveryGroupedEntry() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("user.get", (JsonRpcBulkMethodHandler) paramsList -> {
+            throw new JsonRpcException(-32002, "backend unavailable");
+        });
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":[1],"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":[2],"id":2}
+            ]
+            """));
+
+        assertEquals(2, result.responses().size());
+        assertEquals(1, result.responses().get(0).id().asInt());
+        assertEquals(-32002, result.responses().get(0).error().code());
+        assertEquals(2, result.responses().get(1).id().asInt());
+        assertEquals(-32002, result.responses().get(1).error().code());
+    }
+
+    @Test
+    void dispatchBatchMapsBulkResultCountMismatchToInternalError() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("user.get", (JsonRpcBulkMethodHandler) paramsList ->
+            List.of(JsonRpcBulkResult.success(StringNode.valueOf("only-one"))));
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":[1],"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":[2],"id":2}
+            ]
+            """));
+
+        assertEquals(JsonRpcErrorCode.INTERNAL_ERROR, result.responses().get(0).error().code());
+        assertEquals(JsonRpcErrorCode.INTERNAL_ERROR, result.responses().get(1).error().code());
+    }
+
+    @Test
+    void dispatchBulkMethodOutsideBatchUsesSingleElementBulkInvocation() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        List<Integer> bulkSizes = new ArrayList<>();
+        dispatcher.register("user.get", (JsonRpcBulkMethodHandler) paramsList -> {
+            bulkSizes.add(paramsList.size());
+            return List.of(JsonRpcBulkResult.success(StringNode.valueOf("user")));
+        });
+
+        JsonRpcDispatchResult single = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"user.get","params":[1],"id":1}
+            """));
+        JsonRpcDispatchResult batch = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":[1],"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":[2]}
+            ]
+            """));
+
+        assertEquals("user", single.singleResponse().orElseThrow().result().asString());
+        assertEquals(1, batch.responses().size());
+        assertEquals(List.of(1, 1, 1), bulkSizes);
+    }
+
+    @Test
+    void dispatchBatchRunsInterceptorsPerGroupedBulkEntry() throws Exception {
+        JsonRpcInterceptor denyUserTwo = new JsonRpcInterceptor() {
+            @Override
+            public void beforeInvoke(JsonRpcRequest request) {
+                if (request.id().asInt() == 2) {
+                    throw new JsonRpcException(JsonRpcErrorCode.METHOD_NOT_FOUND, "Method not found");
+                }
+            }
+        };
+        RecordingInterceptor recording = new RecordingInterceptor();
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            100,
+            List.of(denyUserTwo, recording)
+        );
+        List<Integer> bulkSizes = new ArrayList<>();
+        dispatcher.register("user.get", (JsonRpcBulkMethodHandler) paramsList -> {
+            bulkSizes.add(paramsList.size());
+            List<JsonRpcBulkResult> results = new ArrayList<>();
+            for (JsonNode ignored : paramsList) {
+                results.add(JsonRpcBulkResult.success(StringNode.valueOf("user")));
+            }
+            return results;
+        });
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":[1],"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":[2],"id":2},
+              {"jsonrpc":"2.0","method":"user.get","params":[3],"id":3}
+            ]
+            """));
+
+        List<JsonRpcResponse> responses = result.responses();
+        assertEquals("user", responses.get(0).result().asString());
+        assertEquals(JsonRpcErrorCode.METHOD_NOT_FOUND, responses.get(1).error().code());
+        assertEquals("user", responses.get(2).result().asString());
+        assertEquals(List.of(2), bulkSizes);
+        assertEquals(List.of(
+            "beforeValidate", "beforeValidate", "beforeValidate",
+            "beforeInvoke", "onError:" + JsonRpcErrorCode.METHOD_NOT_FOUND, "beforeInvoke",
+            "afterInvoke", "afterInvoke"
+        ), recording.events);
+    }
+
+    @Test
+    void bulkResultRequiresExactlyOneOfResultOrError() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonRpcBulkResult(null, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new JsonRpcBulkResult(StringNode.valueOf("x"), new IllegalStateException("x")));
+        assertThrows(NullPointerException.class, () -> JsonRpcBulkResult.success(null));
+        assertThrows(NullPointerException.class, () -> JsonRpcBulkResult.failure(null));
+    }
+
     @Test
     void dispatchNotificationOnlyBatchReturnsNoResponses() throws Exception {
         JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
@@ -281,6 +580,136 @@ class JsonRpcDispatcherTest {
         assertEquals(JsonRpcErrorCode.INVALID_REQUEST, response.error().code());
     }
 
+    @Test
+    void dispatchDecodedPayloadBindsDeferredParamsAndGroupsBulkEntries() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        JsonRpcTypedMethodHandlerFactory factory = new DefaultJsonRpcTypedMethodHandlerFactory(
+            new JacksonJsonRpcParameterBinder(OBJECT_MAPPER),
+            new JacksonJsonRpcResultWriter(OBJECT_MAPPER));
+        dispatcher.register("greet", factory.unary(GreetParams.class, params -> "hello " + params.name()));
+        List<Integer> bulkSizes = new ArrayList<>();
+        dispatcher.register("user.get", (JsonRpcBulkMethodHandler) paramsList -> {
+            bulkSizes.add(paramsList.size());
+            List<JsonRpcBulkResult> results = new ArrayList<>();
+            for (JsonNode params : paramsList) {
+                results.add(JsonRpcBulkResult.success(StringNode.valueOf("user-" + params.get(0).asInt())));
+            }
+            return results;
+        });
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(reader.readRequests(new ByteArrayInputStream("""
+            [
+              {"jsonrpc":"2.0","method":"greet","params":{"name":"developer"},"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":[7],"id":2},
+              1,
+              {"jsonrpc":"2.0","method":"user.get","params":[8],"id":3},
+              {"jsonrpc":"2.0","method":"greet","params":"bad","id":4}
+            ]
+            """.getBytes(StandardCharsets.UTF_8)), 10));
+
+        assertTrue(result.isBatch());
+        List<JsonRpcResponse> responses = result.responses();
+        assertEquals(5, responses.size());
+        assertEquals("hello developer", responses.get(0).result().asString());
+        assertEquals("user-7", responses.get(1).result().asString());
+        assertNull(responses.get(2).id());
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, responses.get(2).error().code());
+        assertEquals("user-8", responses.get(3).result().asString());
+        assertEquals(4, responses.get(4).id().asInt());
+        assertEquals(JsonRpcErrorCode.INVALID_PARAMS, responses.get(4).error().code());
+        assertEquals(List.of(2), bulkSizes);
+    }
+
+    @Test
+    void decodedPayloadsRunInvokeAndErrorCallbacksOfInvokeOnlyInterceptors() throws Exception {
+        List<String> events = new ArrayList<>();
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            10,
+            List.of(new JsonRpcInterceptor() {
+                @Override
+                public boolean requiresRawRequest() {
+                    return false;
+                }
+
+                @Override
+                public void beforeInvoke(JsonRpcRequest request) {
+                    events.add("beforeInvoke");
+                }
+
+                @Override
+                public void afterInvoke(JsonRpcRequest request, JsonNode result) {
+                    events.add("afterInvoke");
+                }
+
+                @Override
+                public void onError(JsonRpcRequest request, Throwable throwable, JsonRpcError mappedError) {
+                    events.add("onError:" + mappedError.code());
+                }
+            })
+        );
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        assertTrue(dispatcher.supportsDecodedPayloads());
+        dispatcher.dispatch(reader.readRequests(new ByteArrayInputStream("""
+            [{"jsonrpc":"2.0","method":"ping","id":1},{"jsonrpc":"2.0","method":"missing","id":2}]
+            """.getBytes(StandardCharsets.UTF_8)), 10));
+
+        assertEquals(List.of("beforeInvoke", "afterInvoke", "onError:-32601"), events);
+    }
+
+    @Test
+    void supportsDecodedPayloadsOnlyWithDefaultParserAndNoRawRequestInterceptors() {
+        JsonRpcDispatcher withInterceptor = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            10,
+            List.of(new JsonRpcInterceptor() {
+            })
+        );
+        JsonRpcDispatcher withInvokeOnlyInterceptor = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            10,
+            List.of(new JsonRpcInterceptor() {
+                @Override
+                public boolean requiresRawRequest() {
+                    return false;
+                }
+            })
+        );
+        JsonRpcDispatcher withCustomParser = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser() {
+            },
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            10
+        );
+
+        assertTrue(new JsonRpcDispatcher().supportsDecodedPayloads());
+        assertFalse(withInterceptor.supportsDecodedPayloads());
+        assertTrue(withInvokeOnlyInterceptor.supportsDecodedPayloads());
+        assertFalse(withCustomParser.supportsDecodedPayloads());
+    }
+
     @Test
     void parseErrorResponseReturnsParseErrorCode() {
         JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
@@ -620,6 +1049,10 @@ class JsonRpcDispatcherTest {
         }
     }
 
+    record GreetParams(String name) {
+
+    }
+
     private static final class RecordingNotificationExecutor implements JsonRpcNotificationExecutor {
 
         private int executeCount;
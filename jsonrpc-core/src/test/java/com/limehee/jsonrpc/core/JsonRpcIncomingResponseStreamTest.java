@@ -0,0 +1,140 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class JsonRpcIncomingResponseStreamTest {
+
+    private final DefaultJsonRpcResponseParser parser = new DefaultJsonRpcResponseParser();
+
+    @Test
+    void streamYieldsBatchEntriesInOrder() {
+        try (JsonRpcIncomingResponseStream stream = parser.stream(input("""
+            [
+              {"jsonrpc":"2.0","id":1,"result":"a"},
+              {"jsonrpc":"2.0","id":2,"error":{"code":-32000,"message":"x"}}
+            ]
+            """))) {
+            assertTrue(stream.isBatch());
+            assertEquals(1, stream.next().id().asInt());
+            JsonRpcIncomingResponse second = stream.next();
+            assertEquals(2, second.id().asInt());
+            assertTrue(second.errorPresent());
+            assertFalse(stream.hasNext());
+            assertEquals(2, stream.entryCount());
+            assertThrows(NoSuchElementException.class, stream::next);
+        }
+    }
+
+    @Test
+    void streamYieldsSingleResponseObject() {
+        try (JsonRpcIncomingResponseStream stream = parser.stream(input("""
+            {"jsonrpc":"2.0","id":"a","result":{"ok":true}}
+            """))) {
+            assertFalse(stream.isBatch());
+            JsonRpcIncomingResponse response = stream.next();
+            assertEquals("a", response.id().asString());
+            assertTrue(response.result().get("ok").asBoolean());
+            assertFalse(stream.hasNext());
+        }
+    }
+
+    @Test
+    void validationFailureRejectsOnlyItsEntry() {
+        try (JsonRpcIncomingResponseStream stream = parser.stream(input("""
+            [
+              {"jsonrpc":"2.0","id":1,"result":1},
+              {"jsonrpc":"1.0","id":2,"result":2},
+              {"jsonrpc":"2.0","id":3,"result":3}
+            ]
+            """))) {
+            assertEquals(1, stream.next().id().asInt());
+            JsonRpcException ex = assertThrows(JsonRpcException.class, stream::next);
+            assertEquals(JsonRpcErrorCode.INVALID_REQUEST, ex.getCode());
+            assertEquals(2, stream.lastEntry().id().asInt());
+            assertEquals(3, stream.next().id().asInt());
+            assertFalse(stream.hasNext());
+        }
+    }
+
+    @Test
+    void customValidatorIsAppliedToEveryEntry() {
+        JsonRpcResponseValidator validator = new DefaultJsonRpcResponseValidator(
+            JsonRpcResponseValidationOptions.builder().allowNullId(false).build());
+
+        try (JsonRpcIncomingResponseStream stream = parser.stream(input("""
+            [{"jsonrpc":"2.0","id":null,"error":{"code":-32700,"message":"Parse error"}}]
+            """), validator)) {
+            assertThrows(JsonRpcException.class, stream::next);
+            assertTrue(stream.lastEntry().id().isNull());
+        }
+    }
+
+    @Test
+    void nonObjectElementEndsStream() {
+        try (JsonRpcIncomingResponseStream stream = parser.stream(input("""
+            [{"jsonrpc":"2.0","id":1,"result":1}, 5, {"jsonrpc":"2.0","id":3,"result":3}]
+            """))) {
+            assertEquals(1, stream.next().id().asInt());
+            assertThrows(JsonRpcException.class, stream::next);
+            assertNull(stream.lastEntry());
+            assertFalse(stream.hasNext());
+        }
+    }
+
+    @Test
+    void invalidEnvelopesAreRejected() {
+        assertThrows(JsonRpcException.class, () -> parser.stream(input("")));
+        assertThrows(JsonRpcException.class, () -> parser.stream(input("5")));
+        assertThrows(JsonRpcException.class, () -> parser.stream(input("not-json")));
+
+        try (JsonRpcIncomingResponseStream stream = parser.stream(input("[]"))) {
+            assertThrows(JsonRpcException.class, stream::hasNext);
+        }
+    }
+
+    @Test
+    void entriesAreReturnedBeforeTheRestOfThePayloadIsRead() {
+        byte[] first = """
+            [{"jsonrpc":"2.0","id":1,"result":1},""".getBytes(StandardCharsets.UTF_8);
+        InputStream payload = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                byte[] single = new byte[1];
+                return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (position == first.length) {
+                    throw new IOException("connection reset");
+                }
+                int count = Math.min(length, first.length - position);
+                System.arraycopy(first, position, buffer, offset, count);
+                position += count;
+                return count;
+            }
+        };
+
+        try (JsonRpcIncomingResponseStream stream = parser.stream(payload)) {
+            assertEquals(1, stream.next().id().asInt());
+            assertThrows(JsonRpcException.class, stream::hasNext);
+        }
+    }
+
+    private static InputStream input(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.StringNode;
+
+class JsonRpcPayloadHandlerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private final JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+    private final RecordingObserver observer = new RecordingObserver();
+
+    @Test
+    void handleDispatchesDecodedSingleRequestAndObservesResponse() {
+        JsonRpcDispatcher dispatcher = dispatcher(List.of());
+        JsonRpcPayloadHandler handler = new JsonRpcPayloadHandler(dispatcher, observer);
+
+        Object reply = handler.handle(reader, stream("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """));
+
+        JsonRpcResponse response = assertInstanceOf(JsonRpcResponse.class, reply);
+        assertEquals("pong", response.result().asString());
+        assertEquals(List.of("single"), observer.events);
+    }
+
+    @Test
+    void handleFallsBackToTreeWhenInterceptorRequiresRawRequest() {
+        JsonRpcInterceptor rawInterceptor = new JsonRpcInterceptor() {
+        };
+        JsonRpcDispatcher dispatcher = dispatcher(List.of(rawInterceptor));
+        JsonRpcPayloadHandler handler = new JsonRpcPayloadHandler(dispatcher, observer);
+
+        Object reply = handler.handle(reader, stream("""
+            [{"jsonrpc":"2.0","method":"ping","id":1},{"jsonrpc":"2.0","method":"ping"}]
+            """));
+
+        assertFalse(dispatcher.supportsDecodedPayloads());
+        List<?> responses = assertInstanceOf(List.class, reply);
+        assertEquals(1, responses.size());
+        assertEquals(List.of("batch:2"), observer.events);
+    }
+
+    @Test
+    void handleReturnsNullForNotificationOnlyPayload() {
+        JsonRpcPayloadHandler handler = new JsonRpcPayloadHandler(dispatcher(List.of()), observer);
+
+        assertNull(handler.handle(reader, stream("""
+            [{"jsonrpc":"2.0","method":"ping"},{"jsonrpc":"2.0","method":"ping"}]
+            """)));
+        assertEquals(List.of("notification:true:2"), observer.events);
+    }
+
+    @Test
+    void handleAnswersMalformedAndEmptyPayloadsWithParseError() {
+        JsonRpcPayloadHandler handler = new JsonRpcPayloadHandler(dispatcher(List.of()), observer);
+
+        JsonRpcResponse malformed = assertInstanceOf(JsonRpcResponse.class, handler.handle(reader, stream("{")));
+        JsonRpcResponse empty = assertInstanceOf(JsonRpcResponse.class, handler.handle(reader, stream(" ")));
+
+        assertEquals(JsonRpcErrorCode.PARSE_ERROR, malformed.error().code());
+        assertEquals(JsonRpcErrorCode.PARSE_ERROR, empty.error().code());
+        assertEquals(List.of("parseError", "parseError"), observer.events);
+    }
+
+    @Test
+    void handleAnswersOversizedBatchWithBatchTooLargeResponse() {
+        JsonRpcPayloadHandler handler = new JsonRpcPayloadHandler(dispatcher(List.of(), 2), observer);
+
+        JsonRpcResponse response = assertInstanceOf(JsonRpcResponse.class, handler.handle(reader, stream(
+            "[" + "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1},".repeat(2) + "{\"broken\"")));
+
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, response.error().code());
+        assertEquals("Batch size exceeds configured maximum", response.error().message());
+        assertEquals(List.of("single"), observer.events);
+    }
+
+    @Test
+    void readReturnsNullForEmptyPayloadWithoutObserving() throws Exception {
+        JsonRpcPayloadHandler handler = new JsonRpcPayloadHandler(dispatcher(List.of()), observer);
+
+        assertNull(handler.read(reader, stream("")));
+        assertTrue(observer.events.isEmpty());
+    }
+
+    private static JsonRpcDispatcher dispatcher(List<JsonRpcInterceptor> interceptors) {
+        return dispatcher(interceptors, 100);
+    }
+
+    private static JsonRpcDispatcher dispatcher(List<JsonRpcInterceptor> interceptors, int maxBatchSize) {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            maxBatchSize,
+            interceptors
+        );
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        return dispatcher;
+    }
+
+    private static ByteArrayInputStream stream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class RecordingObserver implements JsonRpcPayloadObserver {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onParseError() {
+            events.add("parseError");
+        }
+
+        @Override
+        public void onSingleResponse(JsonRpcResponse response) {
+            events.add("single");
+        }
+
+        @Override
+        public void onBatchResponse(int requestCount, List<JsonRpcResponse> responses) {
+            events.add("batch:" + requestCount);
+        }
+
+        @Override
+        public void onNotificationOnly(boolean batch, int requestCount) {
+            events.add("notification:" + batch + ":" + requestCount);
+        }
+    }
+}
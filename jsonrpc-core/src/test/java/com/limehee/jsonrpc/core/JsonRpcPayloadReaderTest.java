@@ -1,11 +1,19 @@
 package com.limehee.jsonrpc.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.json.JsonReadFeature;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -52,5 +60,221 @@ class JsonRpcPayloadReaderTest {
                 .asInt()
         );
     }
-}
 
+    @Test
+    void readTreeFromStreamRejectsDuplicateMembersWhenEnabled() {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, true);
+
+        assertThrows(
+            JacksonException.class,
+            () -> reader.readTree(new ByteArrayInputStream(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"id\":2,\"result\":1}".getBytes(StandardCharsets.UTF_8)))
+        );
+    }
+
+    @Test
+    void readTreeFromStreamReturnsMissingNodeForEmptyContent() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        assertEquals(1, reader.readTree(new ByteArrayInputStream(
+            "{\"id\":1}".getBytes(StandardCharsets.UTF_8))).get("id").asInt());
+        assertTrue(reader.readTree(new ByteArrayInputStream(
+            "  ".getBytes(StandardCharsets.UTF_8))).isMissingNode());
+    }
+
+    @Test
+    void readTreeRejectsPayloadsExceedingReadConstraints() {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false, JsonRpcReadConstraints.builder()
+            .maxNestingDepth(4)
+            .maxNumberLength(10)
+            .maxStringLength(16)
+            .maxPropertyNameLength(8)
+            .build());
+
+        assertThrows(JacksonException.class, () -> reader.readTree("[[[[[1]]]]]"));
+        assertThrows(JacksonException.class, () -> reader.readTree("{\"id\":12345678901234567890}"));
+        assertThrows(JacksonException.class, () -> reader.readTree(
+            "{\"method\":\"abcdefghijklmnopqrstuvwxyz\"}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(JacksonException.class, () -> reader.readTree(new ByteArrayInputStream(
+            "{\"averyveryverylongname\":1}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void readTreeWithReadConstraintsKeepsDuplicateAndTrailingTokenPolicies() throws Exception {
+        JsonRpcPayloadReader strict = new JsonRpcPayloadReader(OBJECT_MAPPER, true, JsonRpcReadConstraints.defaults());
+        JsonRpcPayloadReader lenient =
+            new JsonRpcPayloadReader(OBJECT_MAPPER, false, JsonRpcReadConstraints.defaults());
+
+        assertThrows(JacksonException.class, () -> strict.readTree("{\"id\":1,\"id\":2}"));
+        assertEquals(2, lenient.readTree("{\"id\":1,\"id\":2}").get("id").asInt());
+        assertEquals(1, lenient.readTree("[[[1]]]").get(0).get(0).get(0).asInt());
+        assertTrue(lenient.readTree(new ByteArrayInputStream(new byte[0])).isMissingNode());
+    }
+
+    @Test
+    void readTreeWithReadConstraintsKeepsMapperReadFeatures() throws Exception {
+        ObjectMapper lenientMapper = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES, JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .build();
+        JsonRpcPayloadReader reader =
+            new JsonRpcPayloadReader(lenientMapper, true, JsonRpcReadConstraints.defaults());
+        String payload = "{'jsonrpc':'2.0', /* ping */ 'method':'ping','id':1}";
+
+        assertEquals("ping", reader.readTree(payload).get("method").asString());
+        assertEquals("ping", reader.readTree(payload.getBytes(StandardCharsets.UTF_8)).get("method").asString());
+        assertEquals("ping", reader.readTree(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)))
+            .get("method").asString());
+    }
+
+    @Test
+    void readTreeWithBatchLimitStopsReadingOversizedBatch() {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+        String batch = "[" + "{\"jsonrpc\":\"2.0\",\"method\":\"ping\"},".repeat(4) + "{\"broken\"";
+
+        JsonRpcBatchTooLargeException error = assertThrows(JsonRpcBatchTooLargeException.class, () -> reader.readTree(
+            new ByteArrayInputStream(batch.getBytes(StandardCharsets.UTF_8)), 3));
+
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, error.getCode());
+        assertEquals("Batch size exceeds configured maximum", error.getMessage());
+        assertEquals(3, error.getMaxBatchSize());
+    }
+
+    @Test
+    void readTreeWithBatchLimitReadsPayloadsWithinLimit() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, true, JsonRpcReadConstraints.defaults());
+
+        assertEquals(3, reader.readTree(new ByteArrayInputStream(
+            "[1,{\"id\":2},null]".getBytes(StandardCharsets.UTF_8)), 3).size());
+        assertEquals(1, reader.readTree(new ByteArrayInputStream(
+            "{\"id\":1}".getBytes(StandardCharsets.UTF_8)), 3).get("id").asInt());
+        assertTrue(reader.readTree(new ByteArrayInputStream(new byte[0]), 3).isMissingNode());
+        assertThrows(JacksonException.class, () -> reader.readTree(new ByteArrayInputStream(
+            "[{\"id\":1,\"id\":2}]".getBytes(StandardCharsets.UTF_8)), 3));
+        assertThrows(JacksonException.class, () -> reader.readTree(new ByteArrayInputStream(
+            "[1,2".getBytes(StandardCharsets.UTF_8)), 3));
+    }
+
+    @Test
+    void readRequestsDecodesEnvelopeAndDefersStructuredParams() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, true, JsonRpcReadConstraints.defaults());
+
+        JsonRpcDecodedPayload payload = reader.readRequests(new ByteArrayInputStream("""
+            {"jsonrpc":"2.0","method":"user.get","params":{"id":7,"tags":["a"]},"id":"r-1"}
+            """.getBytes(StandardCharsets.UTF_8)), 3);
+
+        assertNotNull(payload);
+        assertFalse(payload.isBatch());
+        JsonRpcRequest request = payload.requests().get(0);
+        assertEquals("2.0", request.jsonrpc());
+        assertEquals("user.get", request.method());
+        assertEquals("r-1", request.id().asString());
+        assertTrue(request.idPresent());
+        assertNull(request.source());
+        assertNotNull(request.deferredParams());
+        assertFalse(request.deferredParams().isArray());
+        assertEquals(OBJECT_MAPPER.readTree("{\"id\":7,\"tags\":[\"a\"]}"), request.params());
+    }
+
+    @Test
+    void readRequestsKeepsScalarParamsAsTree() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        JsonRpcRequest request = reader.readRequests(new ByteArrayInputStream(
+            "{\"jsonrpc\":2,\"method\":\"ping\",\"params\":5}".getBytes(StandardCharsets.UTF_8)), 3)
+            .requests().get(0);
+
+        assertNull(request.jsonrpc());
+        assertEquals("ping", request.method());
+        assertFalse(request.idPresent());
+        assertNull(request.deferredParams());
+        assertEquals(5, request.params().asInt());
+    }
+
+    @Test
+    void readRequestsKeepsFractionalIdLiterals() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        JsonRpcDecodedPayload payload = reader.readRequests(new ByteArrayInputStream(
+            "[{\"method\":\"ping\",\"id\":1.50},{\"method\":\"ping\",\"id\":2.5e3}]"
+                .getBytes(StandardCharsets.UTF_8)), 3);
+
+        JsonNode plain = payload.requests().get(0).id();
+        JsonNode exponent = payload.requests().get(1).id();
+        assertTrue(plain.isFloatingPointNumber());
+        assertEquals("1.50", OBJECT_MAPPER.writeValueAsString(plain));
+        assertEquals(0, new BigDecimal("2500").compareTo(exponent.decimalValue()));
+    }
+
+    @Test
+    void readIdsSkipsEverythingButIds() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        JsonRpcDecodedPayload payload = reader.readIds(new ByteArrayInputStream("""
+            [{"jsonrpc":"2.0","method":"a","params":{"deep":[[1],{"id":9}]},"id":"r-1"},
+             {"jsonrpc":"2.0","method":"b"},
+             {"id":null},
+             7]
+            """.getBytes(StandardCharsets.UTF_8)), 4);
+
+        assertNotNull(payload);
+        assertTrue(payload.isBatch());
+        JsonRpcRequest first = payload.requests().get(0);
+        assertEquals("r-1", first.id().asString());
+        assertNull(first.method());
+        assertNull(first.params());
+        assertFalse(payload.requests().get(1).idPresent());
+        assertTrue(payload.requests().get(2).idPresent());
+        assertTrue(payload.requests().get(2).id().isNull());
+        assertNull(payload.requests().get(3));
+        assertThrows(JsonRpcBatchTooLargeException.class, () -> reader.readIds(new ByteArrayInputStream(
+            "[{},{}]".getBytes(StandardCharsets.UTF_8)), 1));
+    }
+
+    @Test
+    void readRequestsParsesObjectsWithOtherMembersAsTree() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        JsonRpcRequest request = reader.readRequests(new ByteArrayInputStream(
+            "{\"jsonrpc\":\"2.0\",\"params\":[1],\"result\":1,\"method\":\"ping\",\"id\":1}"
+                .getBytes(StandardCharsets.UTF_8)), 3).requests().get(0);
+
+        assertNotNull(request.source());
+        assertTrue(request.source().has("result"));
+        assertEquals("ping", request.method());
+        assertEquals(1, request.id().asInt());
+        assertEquals(1, request.params().get(0).asInt());
+    }
+
+    @Test
+    void readRequestsKeepsFractionalIdLiteralAfterUnknownMember() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, false);
+
+        JsonRpcRequest request = reader.readRequests(new ByteArrayInputStream(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"extra\":true,\"id\":1.50}"
+                .getBytes(StandardCharsets.UTF_8)), 3).requests().get(0);
+
+        assertNotNull(request.source());
+        assertEquals("1.50", OBJECT_MAPPER.writeValueAsString(request.id()));
+    }
+
+    @Test
+    void readRequestsDecodesBatchesWithinLimit() throws Exception {
+        JsonRpcPayloadReader reader = new JsonRpcPayloadReader(OBJECT_MAPPER, true);
+
+        JsonRpcDecodedPayload payload = reader.readRequests(new ByteArrayInputStream(
+            "[1,{\"method\":\"ping\",\"id\":null},[{}]]".getBytes(StandardCharsets.UTF_8)), 3);
+
+        assertNotNull(payload);
+        assertTrue(payload.isBatch());
+        assertEquals(3, payload.requests().size());
+        assertNull(payload.requests().get(0));
+        assertTrue(payload.requests().get(1).idPresent());
+        assertTrue(payload.requests().get(1).id().isNull());
+        assertNull(payload.requests().get(2));
+        assertNull(reader.readRequests(new ByteArrayInputStream(" ".getBytes(StandardCharsets.UTF_8)), 3));
+        assertThrows(JacksonException.class, () -> reader.readRequests(new ByteArrayInputStream(
+            "[{\"id\":1,\"id\":2}]".getBytes(StandardCharsets.UTF_8)), 3));
+        assertThrows(JsonRpcBatchTooLargeException.class, () -> reader.readRequests(new ByteArrayInputStream(
+            "[1,2,3,4".getBytes(StandardCharsets.UTF_8)), 3));
+    }
+}
@@ -0,0 +1,53 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.StreamReadConstraints;
+
+class JsonRpcReadConstraintsTest {
+
+    @Test
+    void defaultsAreSizedForJsonRpcEnvelopes() {
+        JsonRpcReadConstraints constraints = JsonRpcReadConstraints.defaults();
+
+        assertEquals(128, constraints.maxNestingDepth());
+        assertEquals(1_048_576, constraints.maxStringLength());
+        assertEquals(100, constraints.maxNumberLength());
+        assertEquals(1024, constraints.maxPropertyNameLength());
+        assertEquals(0L, constraints.maxDocumentLength());
+    }
+
+    @Test
+    void convertsToStreamReadConstraints() {
+        StreamReadConstraints constraints = JsonRpcReadConstraints.builder()
+            .maxNestingDepth(8)
+            .maxStringLength(64)
+            .maxNumberLength(12)
+            .maxPropertyNameLength(32)
+            .maxDocumentLength(4096)
+            .build()
+            .toStreamReadConstraints();
+
+        assertEquals(8, constraints.getMaxNestingDepth());
+        assertEquals(64, constraints.getMaxStringLength());
+        assertEquals(12, constraints.getMaxNumberLength());
+        assertEquals(32, constraints.getMaxNameLength());
+        assertEquals(4096L, constraints.getMaxDocumentLength());
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcReadConstraints.builder().maxNestingDepth(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcReadConstraints.builder().maxStringLength(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcReadConstraints.builder().maxNumberLength(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcReadConstraints.builder().maxPropertyNameLength(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcReadConstraints.builder().maxDocumentLength(-1).build());
+    }
+}
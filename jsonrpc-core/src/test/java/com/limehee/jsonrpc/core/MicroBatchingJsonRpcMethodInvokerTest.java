@@ -0,0 +1,230 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.IntNode;
+import tools.jackson.databind.node.StringNode;
+
+class MicroBatchingJsonRpcMethodInvokerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @Test
+    void aggregatesConcurrentCallsUntilMaxBatchSize() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MicroBatchingJsonRpcMethodInvoker invoker = new MicroBatchingJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Duration.ofSeconds(5),
+            4,
+            observer
+        );
+        List<Integer> bulkSizes = Collections.synchronizedList(new ArrayList<>());
+        JsonRpcBulkMethodHandler handler = echoHandler(bulkSizes);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JsonNode>> futures = new ArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                int id = i;
+                futures.add(executor.submit(() -> invoker.invokeRequest(handler, request(id, "user.get"))));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals("user-" + (i + 1), futures.get(i).get(2, TimeUnit.SECONDS).asString());
+            }
+            assertEquals(List.of(4), bulkSizes);
+            assertEquals(1, observer.flushes.size());
+            assertEquals(4, observer.flushes.get(0).batchSize());
+            assertTrue(observer.flushes.get(0).full());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void flushesPartialBatchWhenWindowElapses() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MicroBatchingJsonRpcMethodInvoker invoker = new MicroBatchingJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Duration.ofMillis(20),
+            100,
+            observer
+        );
+        List<Integer> bulkSizes = Collections.synchronizedList(new ArrayList<>());
+
+        JsonNode result = invoker.invokeRequest(echoHandler(bulkSizes), request(7, "user.get"));
+
+        assertEquals("user-7", result.asString());
+        assertEquals(List.of(1), bulkSizes);
+        assertEquals(1, observer.flushes.size());
+        assertFalse(observer.flushes.get(0).full());
+        assertTrue(observer.flushes.get(0).waitNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void completesEachCallWithItsOwnOutcome() throws Exception {
+        MicroBatchingJsonRpcMethodInvoker invoker = new MicroBatchingJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Duration.ofSeconds(5),
+            2
+        );
+        JsonRpcException notFound = new JsonRpcException(-32001, "not found");
+        JsonRpcBulkMethodHandler handler = paramsList -> {
+            List<JsonRpcBulkResult> results = new ArrayList<>();
+            for (JsonNode params : paramsList) {
+                results.add(params.get(0).asInt() < 0
+                    ? JsonRpcBulkResult.failure(notFound)
+                    : JsonRpcBulkResult.success(IntNode.valueOf(params.get(0).asInt())));
+            }
+            return results;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonNode> success = executor.submit(() -> invoker.invokeRequest(handler, request(1, "user.get")));
+            Future<JsonNode> failure = executor.submit(() -> invoker.invokeRequest(handler, request(-1, "user.get")));
+
+            assertEquals(1, success.get(2, TimeUnit.SECONDS).asInt());
+            ExecutionException error = assertThrows(ExecutionException.class, () -> failure.get(2, TimeUnit.SECONDS));
+            assertSame(notFound, error.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sharesBulkFailureWithEveryWaitingCall() throws Exception {
+        MicroBatchingJsonRpcMethodInvoker invoker = new MicroBatchingJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Duration.ofSeconds(5),
+            2
+        );
+        IllegalStateException backendDown = new IllegalStateException("backend down");
+        JsonRpcBulkMethodHandler handler = paramsList -> {
+            throw backendDown;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonNode> first = executor.submit(() -> invoker.invokeRequest(handler, request(1, "user.get")));
+            Future<JsonNode> second = executor.submit(() -> invoker.invokeRequest(handler, request(2, "user.get")));
+
+            assertSame(backendDown, assertThrows(ExecutionException.class,
+                () -> first.get(2, TimeUnit.SECONDS)).getCause());
+            assertSame(backendDown, assertThrows(ExecutionException.class,
+                () -> second.get(2, TimeUnit.SECONDS)).getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failsEveryWaitingCallWhenObserverThrows() throws Exception {
+        IllegalStateException observerFailure = new IllegalStateException("observer failed");
+        MicroBatchingJsonRpcMethodInvoker invoker = new MicroBatchingJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Duration.ofSeconds(5),
+            2,
+            new JsonRpcMicroBatchObserver() {
+                @Override
+                public void onFlush(String method, int batchSize, long waitNanos, boolean full) {
+                    throw observerFailure;
+                }
+            }
+        );
+        JsonRpcBulkMethodHandler handler = echoHandler(Collections.synchronizedList(new ArrayList<>()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonNode> first = executor.submit(() -> invoker.invokeRequest(handler, request(1, "user.get")));
+            Future<JsonNode> second = executor.submit(() -> invoker.invokeRequest(handler, request(2, "user.get")));
+
+            assertSame(observerFailure, assertThrows(ExecutionException.class,
+                () -> first.get(2, TimeUnit.SECONDS)).getCause());
+            assertSame(observerFailure, assertThrows(ExecutionException.class,
+                () -> second.get(2, TimeUnit.SECONDS)).getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invokesNonBulkHandlersDirectly() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MicroBatchingJsonRpcMethodInvoker invoker = new MicroBatchingJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Duration.ofSeconds(5),
+            100,
+            observer
+        );
+        AtomicInteger invocationCount = new AtomicInteger();
+
+        JsonNode result = invoker.invokeRequest(
+            params -> IntNode.valueOf(invocationCount.incrementAndGet()),
+            request(1, "counter.next")
+        );
+
+        assertEquals(1, result.asInt());
+        assertTrue(observer.flushes.isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        JsonRpcMethodInvoker delegate = new DefaultJsonRpcMethodInvoker();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new MicroBatchingJsonRpcMethodInvoker(delegate, Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MicroBatchingJsonRpcMethodInvoker(delegate, Duration.ofMillis(-1), 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MicroBatchingJsonRpcMethodInvoker(delegate, Duration.ofMillis(5), 0));
+    }
+
+    private static JsonRpcBulkMethodHandler echoHandler(List<Integer> bulkSizes) {
+        return paramsList -> {
+            bulkSizes.add(paramsList.size());
+            List<JsonRpcBulkResult> results = new ArrayList<>();
+            for (JsonNode params : paramsList) {
+                results.add(JsonRpcBulkResult.success(StringNode.valueOf("user-" + params.get(0).asInt())));
+            }
+            return results;
+        };
+    }
+
+    private static JsonRpcRequest request(int userId, String method) {
+        return new JsonRpcRequest("2.0", IntNode.valueOf(userId), method,
+            OBJECT_MAPPER.createArrayNode().add(userId), true);
+    }
+
+    private record Flush(String method, int batchSize, long waitNanos, boolean full) {
+
+    }
+
+    private static final class RecordingObserver implements JsonRpcMicroBatchObserver {
+
+        private final List<Flush> flushes = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onFlush(String method, int batchSize, long waitNanos, boolean full) {
+            flushes.add(new Flush(method, batchSize, waitNanos, full));
+        }
+    }
+}
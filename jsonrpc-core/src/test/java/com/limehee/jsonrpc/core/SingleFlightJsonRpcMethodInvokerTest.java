@@ -0,0 +1,210 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.IntNode;
+import tools.jackson.databind.node.StringNode;
+
+class SingleFlightJsonRpcMethodInvokerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @Test
+    void coalescesConcurrentIdenticalCalls() throws Exception {
+        SingleFlightJsonRpcMethodInvoker invoker = new SingleFlightJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Set.of("user.get")
+        );
+        AtomicInteger invocationCount = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JsonRpcMethodHandler handler = params -> {
+            invocationCount.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return StringNode.valueOf("alice");
+        };
+        JsonNode params = OBJECT_MAPPER.readTree("{\"id\":1}");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JsonNode>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> invoker.invokeRequest(handler, request(1, "user.get", params))));
+            assertTrue(entered.await(2, TimeUnit.SECONDS));
+            for (int i = 2; i <= 4; i++) {
+                int id = i;
+                futures.add(executor.submit(() -> invoker.invokeRequest(handler,
+                    request(id, "user.get", OBJECT_MAPPER.readTree("{\"id\":1}")))));
+            }
+            waitUntilWaitersQueued();
+            release.countDown();
+
+            JsonNode first = futures.get(0).get(2, TimeUnit.SECONDS);
+            for (Future<JsonNode> future : futures) {
+                assertSame(first, future.get(2, TimeUnit.SECONDS));
+            }
+            assertEquals(1, invocationCount.get());
+            assertEquals(0, invoker.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sharesExceptionWithConcurrentCallers() throws Exception {
+        SingleFlightJsonRpcMethodInvoker invoker = new SingleFlightJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Set.of("user.get")
+        );
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JsonRpcException failure = new JsonRpcException(-32001, "not found");
+        JsonRpcMethodHandler handler = params -> {
+            entered.countDown();
+            await(release);
+            throw failure;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonNode> leader = executor.submit(() -> invoker.invokeRequest(handler,
+                request(1, "user.get", IntNode.valueOf(7))));
+            assertTrue(entered.await(2, TimeUnit.SECONDS));
+            Future<JsonNode> follower = executor.submit(() -> invoker.invokeRequest(handler,
+                request(2, "user.get", IntNode.valueOf(7))));
+            waitUntilWaitersQueued();
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(2, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(2, TimeUnit.SECONDS));
+            assertSame(failure, leaderError.getCause());
+            assertSame(failure, followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invokesEachTimeWhenCallsDoNotOverlap() throws Exception {
+        SingleFlightJsonRpcMethodInvoker invoker = new SingleFlightJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Set.of("user.get")
+        );
+        AtomicInteger invocationCount = new AtomicInteger();
+        JsonRpcMethodHandler handler = params -> IntNode.valueOf(invocationCount.incrementAndGet());
+
+        invoker.invokeRequest(handler, request(1, "user.get", IntNode.valueOf(1)));
+        invoker.invokeRequest(handler, request(2, "user.get", IntNode.valueOf(1)));
+
+        assertEquals(2, invocationCount.get());
+    }
+
+    @Test
+    void bypassesCoalescingForUnconfiguredMethods() throws Exception {
+        SingleFlightJsonRpcMethodInvoker invoker = new SingleFlightJsonRpcMethodInvoker(
+            new DefaultJsonRpcMethodInvoker(),
+            Set.of("user.get")
+        );
+        CountDownLatch entered = new CountDownLatch(2);
+        AtomicInteger invocationCount = new AtomicInteger();
+        JsonRpcMethodHandler handler = params -> {
+            invocationCount.incrementAndGet();
+            entered.countDown();
+            await(entered);
+            return StringNode.valueOf("ok");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonNode> first = executor.submit(() -> invoker.invokeRequest(handler,
+                request(1, "user.list", null)));
+            Future<JsonNode> second = executor.submit(() -> invoker.invokeRequest(handler,
+                request(2, "user.list", null)));
+
+            first.get(2, TimeUnit.SECONDS);
+            second.get(2, TimeUnit.SECONDS);
+            assertEquals(2, invocationCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void dispatcherKeepsOwnIdForCoalescedCalls() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger invocationCount = new AtomicInteger();
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new SingleFlightJsonRpcMethodInvoker(new DefaultJsonRpcMethodInvoker(), Set.of("user.get")),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            100
+        );
+        dispatcher.register("user.get", params -> {
+            invocationCount.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return StringNode.valueOf("alice");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonRpcDispatchResult> first = executor.submit(() -> dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+                {"jsonrpc":"2.0","method":"user.get","params":{"id":1},"id":"a"}
+                """)));
+            assertTrue(entered.await(2, TimeUnit.SECONDS));
+            Future<JsonRpcDispatchResult> second = executor.submit(() -> dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+                {"jsonrpc":"2.0","method":"user.get","params":{"id":1},"id":"b"}
+                """)));
+            waitUntilWaitersQueued();
+            release.countDown();
+
+            JsonRpcResponse firstResponse = first.get(2, TimeUnit.SECONDS).singleResponse().orElseThrow();
+            JsonRpcResponse secondResponse = second.get(2, TimeUnit.SECONDS).singleResponse().orElseThrow();
+            assertEquals("a", firstResponse.id().asString());
+            assertEquals("b", secondResponse.id().asString());
+            assertEquals("alice", secondResponse.result().asString());
+            assertEquals(1, invocationCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static JsonRpcRequest request(int id, String method, JsonNode params) {
+        return new JsonRpcRequest("2.0", IntNode.valueOf(id), method, params, true);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timeout");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void waitUntilWaitersQueued() throws InterruptedException {
+        Thread.sleep(100);
+    }
+}
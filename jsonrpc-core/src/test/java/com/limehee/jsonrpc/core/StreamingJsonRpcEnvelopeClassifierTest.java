@@ -0,0 +1,132 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class StreamingJsonRpcEnvelopeClassifierTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private static final List<String> PAYLOADS = List.of(
+        """
+            {"jsonrpc":"2.0","method":"ping","id":1}""",
+        """
+            {"jsonrpc":"2.0","params":{"x":1}}""",
+        """
+            {"jsonrpc":"2.0","id":1,"result":true}""",
+        """
+            {"jsonrpc":"2.0","id":1,"error":{"code":-32600,"message":"Invalid Request"}}""",
+        """
+            {"jsonrpc":"2.0","method":"ping","result":true}""",
+        """
+            {"jsonrpc":"2.0","id":1,"extra":{"result":1,"method":"x"}}""",
+        """
+            [{"jsonrpc":"2.0","method":"a","id":1},{"jsonrpc":"2.0","method":"b"}]""",
+        """
+            [{"jsonrpc":"2.0","id":1,"result":1},{"jsonrpc":"2.0","id":2,"error":{"code":-32000,"message":"x"}}]""",
+        """
+            [{"jsonrpc":"2.0","method":"a","id":1},{"jsonrpc":"2.0","id":1,"result":1}]""",
+        """
+            [{"jsonrpc":"2.0","id":1,"result":1},3]""",
+        """
+            [{"jsonrpc":"2.0","id":1}]""",
+        "[]",
+        "1",
+        "null",
+        "\"text\""
+    );
+
+    private final StreamingJsonRpcEnvelopeClassifier classifier = new StreamingJsonRpcEnvelopeClassifier();
+
+    @Test
+    void classifiesLikeTreeClassifier() throws Exception {
+        JsonRpcEnvelopeClassifier treeClassifier = new DefaultJsonRpcEnvelopeClassifier();
+        for (String payload : PAYLOADS) {
+            JsonRpcEnvelopeType expected = treeClassifier.classify(OBJECT_MAPPER.readTree(payload));
+            assertEquals(expected, classifier.classify(payload), payload);
+            assertEquals(expected, classifier.classify(payload.getBytes(StandardCharsets.UTF_8)), payload);
+            try (JsonRpcClassifiedEnvelope envelope = classifier.classify(OBJECT_MAPPER.createParser(payload))) {
+                assertEquals(expected, envelope.type(), payload);
+            }
+        }
+    }
+
+    @Test
+    void handedOnParserReplaysWholePayload() throws Exception {
+        for (String payload : PAYLOADS) {
+            try (JsonRpcClassifiedEnvelope envelope = classifier.classify(OBJECT_MAPPER.createParser(
+                new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8))))) {
+                assertEquals(OBJECT_MAPPER.readTree(payload), OBJECT_MAPPER.readTree(envelope.parser()), payload);
+            }
+        }
+    }
+
+    @Test
+    void handedOnParserMayAlreadyBeOnFirstToken() throws Exception {
+        JsonParser parser = OBJECT_MAPPER.createParser("""
+            {"jsonrpc":"2.0","id":1,"result":{"ok":true}}
+            """);
+        parser.nextToken();
+
+        try (JsonRpcClassifiedEnvelope envelope = classifier.classify(parser)) {
+            assertEquals(JsonRpcEnvelopeType.RESPONSE, envelope.type());
+            assertTrue(OBJECT_MAPPER.readTree(envelope.parser()).get("result").get("ok").asBoolean());
+        }
+    }
+
+    @Test
+    void responseObjectIsClassifiedAtFirstResponseMember() throws Exception {
+        String truncated = """
+            {"jsonrpc":"2.0","result":{"rows":[1,2,""";
+
+        assertEquals(JsonRpcEnvelopeType.RESPONSE, classifier.classify(truncated));
+    }
+
+    @Test
+    void batchIsClassifiedAtFirstMismatchingElement() throws Exception {
+        String truncated = """
+            [{"jsonrpc":"2.0","method":"a"},{"jsonrpc":"2.0","id":1,"result":1},{"jsonrpc":""";
+
+        assertEquals(JsonRpcEnvelopeType.INVALID, classifier.classify(truncated));
+    }
+
+    @Test
+    void requestObjectIsReadToItsEnd() {
+        String truncated = """
+            {"jsonrpc":"2.0","method":"ping","params":[1,""";
+
+        assertThrows(JacksonException.class, () -> classifier.classify(truncated));
+    }
+
+    @Test
+    void emptyPayloadIsInvalid() throws Exception {
+        assertEquals(JsonRpcEnvelopeType.INVALID, classifier.classify(""));
+        try (JsonRpcClassifiedEnvelope envelope = classifier.classify(OBJECT_MAPPER.createParser("  "))) {
+            assertEquals(JsonRpcEnvelopeType.INVALID, envelope.type());
+        }
+    }
+
+    @Test
+    void responsePayloadIsParsedFromHandedOnParser() throws Exception {
+        ValidatingJsonRpcResponseParser responseParser = new ValidatingJsonRpcResponseParser();
+
+        try (JsonRpcClassifiedEnvelope envelope = classifier.classify(OBJECT_MAPPER.createParser("""
+            [{"jsonrpc":"2.0","id":1,"result":"a"},{"jsonrpc":"2.0","id":2,"result":"b"}]
+            """))) {
+            assertEquals(JsonRpcEnvelopeType.RESPONSE, envelope.type());
+            JsonRpcIncomingResponseEnvelope responses = responseParser.parse(envelope.parser());
+            assertEquals(2, responses.responses().size());
+            assertEquals("b", responses.responses().get(1).result().asString());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.limehee.jsonrpc.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class ValidatingJsonRpcResponseParserTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private static final List<String> ENTRIES = List.of(
+        """
+            {"jsonrpc":"2.0","id":1,"result":{"ok":true}}""",
+        """
+            {"jsonrpc":"2.0","id":"a","result":null}""",
+        """
+            {"jsonrpc":"2.0","id":1.5,"result":1}""",
+        """
+            {"jsonrpc":"2.0","id":null,"error":{"code":-32700,"message":"Parse error"}}""",
+        """
+            {"jsonrpc":"2.0","id":true,"result":1}""",
+        """
+            {"jsonrpc":"1.0","id":1,"result":1}""",
+        """
+            {"jsonrpc":2.0,"id":1,"result":1}""",
+        """
+            {"jsonrpc":"2.0","result":1}""",
+        """
+            {"jsonrpc":"2.0","id":1}""",
+        """
+            {"jsonrpc":"2.0","id":1,"result":1,"error":{"code":1,"message":"x"}}""",
+        """
+            {"jsonrpc":"2.0","id":1,"error":"boom"}""",
+        """
+            {"jsonrpc":"2.0","id":1,"error":{"code":1.5,"message":"x"}}""",
+        """
+            {"jsonrpc":"2.0","id":1,"error":{"code":-32001,"message":"x"}}""",
+        """
+            {"jsonrpc":"2.0","id":1,"error":{"code":4000,"message":"x"}}""",
+        """
+            {"jsonrpc":"2.0","id":1,"error":{"code":-32601}}""",
+        """
+            {"jsonrpc":"2.0","id":1,"result":1,"method":"echo"}""",
+        """
+            {"jsonrpc":"1.0","jsonrpc":"2.0","id":1,"result":1,"extra":[1,{"a":2}]}"""
+    );
+
+    private static final Map<String, JsonRpcResponseValidationOptions> OPTIONS = Map.of(
+        "defaults", JsonRpcResponseValidationOptions.defaults(),
+        "lenient", JsonRpcResponseValidationOptions.builder()
+            .requireJsonRpcVersion20(false)
+            .requireIdMember(false)
+            .requireExclusiveResultOrError(false)
+            .requireErrorObjectWhenPresent(false)
+            .requireIntegerErrorCode(false)
+            .requireStringErrorMessage(false)
+            .build(),
+        "strictIds", JsonRpcResponseValidationOptions.builder()
+            .allowNullId(false)
+            .allowFractionalId(false)
+            .rejectRequestFields(true)
+            .build(),
+        "standardCodes", JsonRpcResponseValidationOptions.builder()
+            .errorCodePolicy(JsonRpcResponseErrorCodePolicy.STANDARD_OR_SERVER_ERROR_RANGE)
+            .build(),
+        "customRange", JsonRpcResponseValidationOptions.builder()
+            .errorCodePolicy(JsonRpcResponseErrorCodePolicy.CUSTOM_RANGE)
+            .errorCodeRangeMin(1000)
+            .errorCodeRangeMax(4999)
+            .build()
+    );
+
+    @Test
+    void acceptsAndRejectsExactlyLikeTwoPhasePath() {
+        DefaultJsonRpcResponseParser twoPhaseParser = new DefaultJsonRpcResponseParser();
+        OPTIONS.forEach((name, options) -> {
+            DefaultJsonRpcResponseValidator validator = new DefaultJsonRpcResponseValidator(options);
+            ValidatingJsonRpcResponseParser fused = new ValidatingJsonRpcResponseParser(OBJECT_MAPPER, options);
+            for (String entry : ENTRIES) {
+                boolean expected = accepts(() -> validator.validate(
+                    twoPhaseParser.parse(entry).singleResponse().orElseThrow()));
+                assertEquals(expected, accepts(() -> fused.parse(entry)), name + ": " + entry);
+                assertEquals(expected, accepts(() -> fused.parse(OBJECT_MAPPER.readTree(entry))),
+                    name + " (tree): " + entry);
+            }
+        });
+    }
+
+    @Test
+    void parseReturnsValidatedBatchWithoutSource() {
+        ValidatingJsonRpcResponseParser parser = new ValidatingJsonRpcResponseParser();
+
+        JsonRpcIncomingResponseEnvelope envelope = parser.parse("""
+            [
+              {"jsonrpc":"2.0","id":1,"result":{"ok":true}},
+              {"jsonrpc":"2.0","id":"b","error":{"code":-32000,"message":"x","data":[1]}}
+            ]
+            """.getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(envelope.isBatch());
+        JsonRpcIncomingResponse first = envelope.responses().get(0);
+        assertEquals("2.0", first.jsonrpc());
+        assertEquals(1, first.id().asInt());
+        assertTrue(first.result().get("ok").asBoolean());
+        assertFalse(first.errorPresent());
+        assertNull(first.source());
+        JsonRpcIncomingResponse second = envelope.responses().get(1);
+        assertEquals("b", second.id().asString());
+        assertEquals(-32000, second.error().get("code").asInt());
+        assertEquals(1, second.error().get("data").get(0).asInt());
+    }
+
+    @Test
+    void parseRejectsInvalidEntryInBatch() {
+        ValidatingJsonRpcResponseParser parser = new ValidatingJsonRpcResponseParser();
+
+        JsonRpcException ex = assertThrows(JsonRpcException.class, () -> parser.parse("""
+            [{"jsonrpc":"2.0","id":1,"result":1},{"jsonrpc":"2.0","id":2}]
+            """));
+
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, ex.getCode());
+        assertEquals(JsonRpcConstants.MESSAGE_INVALID_REQUEST, ex.getMessage());
+    }
+
+    @Test
+    void parseRejectsInvalidEnvelopes() {
+        ValidatingJsonRpcResponseParser parser = new ValidatingJsonRpcResponseParser();
+
+        for (String payload : List.of("", "[]", "5", "null", "[1]", "{\"jsonrpc\":", "not-json")) {
+            JsonRpcException ex = assertThrows(JsonRpcException.class, () -> parser.parse(payload), payload);
+            assertEquals(JsonRpcErrorCode.INVALID_REQUEST, ex.getCode());
+            assertEquals("Invalid response envelope", ex.getMessage());
+        }
+        assertThrows(JsonRpcException.class, () -> parser.parse((String) null));
+        assertThrows(JsonRpcException.class, () -> parser.parse((byte[]) null));
+    }
+
+    @Test
+    void duplicateMembersAreRejectedWhenConfigured() {
+        ValidatingJsonRpcResponseParser parser = new ValidatingJsonRpcResponseParser(
+            JsonRpcResponseValidationOptions.builder().rejectDuplicateMembers(true).build());
+
+        assertThrows(JsonRpcException.class, () -> parser.parse("""
+            {"jsonrpc":"2.0","id":1,"id":2,"result":1}
+            """));
+    }
+
+    @Test
+    void streamDecodesAndValidatesEntriesOneAtATime() {
+        ValidatingJsonRpcResponseParser parser = new ValidatingJsonRpcResponseParser();
+
+        try (JsonRpcIncomingResponseStream stream = parser.stream(new ByteArrayInputStream("""
+            [
+              {"jsonrpc":"2.0","id":1,"result":1},
+              {"jsonrpc":"2.0","id":2,"result":2,"error":{"code":1,"message":"x"}},
+              {"jsonrpc":"2.0","id":3,"result":3}
+            ]
+            """.getBytes(StandardCharsets.UTF_8)))) {
+            assertEquals(1, stream.next().id().asInt());
+            assertThrows(JsonRpcException.class, stream::next);
+            assertEquals(2, stream.lastEntry().id().asInt());
+            assertEquals(3, stream.next().id().asInt());
+            assertFalse(stream.hasNext());
+        }
+    }
+
+    @Test
+    void compilationKeepsOnlyEnabledRules() {
+        JsonRpcResponseValidationOptions minimal = JsonRpcResponseValidationOptions.builder()
+            .requireJsonRpcVersion20(false)
+            .requireIdMember(false)
+            .requireExclusiveResultOrError(false)
+            .requireErrorObjectWhenPresent(false)
+            .requireIntegerErrorCode(false)
+            .requireStringErrorMessage(false)
+            .build();
+
+        assertEquals(5, JsonRpcResponseRuleSet.compile(JsonRpcResponseValidationOptions.defaults()).size());
+        assertEquals(1, JsonRpcResponseRuleSet.compile(minimal).size());
+    }
+
+    private static boolean accepts(ThrowingRunnable action) {
+        try {
+            action.run();
+            return true;
+        } catch (JsonRpcException ex) {
+            return false;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+
+        void run() throws Exception;
+    }
+}
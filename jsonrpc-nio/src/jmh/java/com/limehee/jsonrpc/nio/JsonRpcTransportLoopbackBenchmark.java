@@ -0,0 +1,183 @@
+package com.limehee.jsonrpc.nio;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcMethodRegistration;
+import com.limehee.jsonrpc.spring.boot.autoconfigure.JsonRpcAutoConfiguration;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.ApplicationContextFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.http.converter.autoconfigure.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.tomcat.autoconfigure.servlet.TomcatServletWebServerAutoConfiguration;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.boot.webmvc.autoconfigure.DispatcherServletAutoConfiguration;
+import org.springframework.boot.webmvc.autoconfigure.WebMvcAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.StringNode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonRpcTransportLoopbackBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+    private static final String REQUEST = """
+        {"jsonrpc":"2.0","method":"user.get","params":{"id":1001,"include":"profile"},"id":1}""";
+
+    @Param({"nio-tcp", "nio-unix", "webmvc-http"})
+    public String transport;
+
+    private JsonRpcNioServer nioServer;
+    private ConfigurableApplicationContext webMvcContext;
+    private SocketAddress nioAddress;
+    private Path socketDirectory;
+    private URI webMvcUri;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        if ("webmvc-http".equals(transport)) {
+            SpringApplication application = new SpringApplication(WebMvcApplication.class);
+            application.setApplicationContextFactory(
+                ApplicationContextFactory.ofContextClass(AnnotationConfigServletWebServerApplicationContext.class));
+            webMvcContext = application.run(
+                "--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=warn");
+            int port = ((WebServerApplicationContext) webMvcContext).getWebServer().getPort();
+            webMvcUri = URI.create("http://127.0.0.1:" + port + "/jsonrpc");
+        } else {
+            JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+            dispatcher.register("user.get", params -> StringNode.valueOf("Ada Lovelace"));
+            nioServer = new JsonRpcNioServer(dispatcher, OBJECT_MAPPER);
+            if ("nio-unix".equals(transport)) {
+                socketDirectory = Files.createTempDirectory("jsonrpc-bench");
+                nioServer.start(UnixDomainSocketAddress.of(socketDirectory.resolve("jsonrpc.sock")));
+            } else {
+                nioServer.start(new InetSocketAddress("127.0.0.1", 0));
+            }
+            nioAddress = nioServer.localAddress();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws Exception {
+        if (nioServer != null) {
+            nioServer.close();
+        }
+        if (socketDirectory != null) {
+            Files.deleteIfExists(socketDirectory);
+        }
+        if (webMvcContext != null) {
+            webMvcContext.close();
+        }
+    }
+
+    @Benchmark
+    public String call(Client client) throws Exception {
+        return client.call();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private final byte[] line = (REQUEST + "\n").getBytes(StandardCharsets.UTF_8);
+        private Closeable connection;
+        private OutputStream output;
+        private BufferedReader input;
+        private HttpClient httpClient;
+        private HttpRequest httpRequest;
+
+        @Setup(Level.Trial)
+        public void connect(JsonRpcTransportLoopbackBenchmark benchmark) throws Exception {
+            if (benchmark.nioAddress instanceof InetSocketAddress address) {
+                Socket socket = new Socket(address.getAddress(), address.getPort());
+                socket.setTcpNoDelay(true);
+                connection = socket;
+                output = socket.getOutputStream();
+                input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            } else if (benchmark.nioAddress != null) {
+                SocketChannel channel = SocketChannel.open(benchmark.nioAddress);
+                connection = channel;
+                output = Channels.newOutputStream(channel);
+                input = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            } else {
+                httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+                httpRequest = HttpRequest.newBuilder(benchmark.webMvcUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(REQUEST))
+                    .build();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void disconnect() throws Exception {
+            if (connection != null) {
+                connection.close();
+            }
+        }
+
+        String call() throws Exception {
+            if (connection != null) {
+                output.write(line);
+                output.flush();
+                return input.readLine();
+            }
+            return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString()).body();
+        }
+    }
+
+    /**
+     * The JMH jar keeps a single {@code AutoConfiguration.imports} file and merges {@code spring.factories} lossily, so
+     * auto-configurations and the servlet context type are set explicitly.
+     */
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+        PropertyPlaceholderAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        HttpMessageConvertersAutoConfiguration.class,
+        TomcatServletWebServerAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        JsonRpcAutoConfiguration.class
+    })
+    public static class WebMvcApplication {
+
+        @Bean
+        JsonRpcMethodRegistration userGet() {
+            return JsonRpcMethodRegistration.of("user.get", params -> StringNode.valueOf("Ada Lovelace"));
+        }
+    }
+}
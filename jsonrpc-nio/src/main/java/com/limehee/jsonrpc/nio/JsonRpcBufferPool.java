@@ -0,0 +1,61 @@
+package com.limehee.jsonrpc.nio;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of equally sized direct buffers that responses are serialized into.
+ * <p>
+ * Writing a direct buffer to a socket avoids the copy into a temporary direct buffer that the JDK makes for heap
+ * buffers, and pooling avoids allocating direct memory per response. Buffers beyond the retention limit are left to
+ * the garbage collector when released.
+ * </p>
+ */
+final class JsonRpcBufferPool {
+
+    private final int bufferBytes;
+    private final int maxRetained;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retained = new AtomicInteger();
+
+    /**
+     * Creates a pool.
+     *
+     * @param bufferBytes size of each buffer in bytes
+     * @param maxRetained maximum number of idle buffers kept for reuse
+     */
+    JsonRpcBufferPool(int bufferBytes, int maxRetained) {
+        this.bufferBytes = bufferBytes;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * Takes an idle buffer, allocating one if none is available.
+     *
+     * @return cleared direct buffer
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferBytes);
+        }
+        retained.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer that is no longer used.
+     *
+     * @param buffer buffer obtained from {@link #acquire()}
+     */
+    void release(ByteBuffer buffer) {
+        if (retained.incrementAndGet() > maxRetained) {
+            retained.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+}
@@ -0,0 +1,218 @@
+package com.limehee.jsonrpc.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Incremental splitter that turns the bytes read from one connection into payload frames.
+ * <p>
+ * Bytes may arrive in arbitrary chunks; partial frames are buffered until they are complete. Frames larger than the
+ * configured limit are skipped as they arrive instead of being buffered, and reported to the sink once. A sink that
+ * cannot accept more frames stops decoding after the current frame, leaving the rest of the source unread. Not
+ * thread-safe: each connection owns one decoder, used only by the selector thread.
+ * </p>
+ */
+final class JsonRpcFrameDecoder {
+
+    private static final int INITIAL_BUFFER_BYTES = 512;
+    private static final int RETAINED_BUFFER_BYTES = 64 * 1024;
+
+    private final JsonRpcFraming framing;
+    private final int maxFrameBytes;
+    private byte[] buffer = new byte[INITIAL_BUFFER_BYTES];
+    private int size;
+    private boolean skippingLine;
+    private final byte[] header = new byte[Integer.BYTES];
+    private int headerSize;
+    private int expectedLength = -1;
+    private long skipRemaining;
+
+    /**
+     * Receiver of decoded frames.
+     */
+    interface Sink {
+
+        /**
+         * Called for each complete frame.
+         *
+         * @param payload frame payload without delimiter or length prefix
+         * @return {@code true} to continue decoding, {@code false} to stop after this frame
+         */
+        boolean frame(byte[] payload);
+
+        /**
+         * Called once for each frame that exceeds the size limit.
+         */
+        void frameTooLarge();
+    }
+
+    /**
+     * Creates a decoder.
+     *
+     * @param framing       framing of the byte stream
+     * @param maxFrameBytes maximum payload size in bytes
+     */
+    JsonRpcFrameDecoder(JsonRpcFraming framing, int maxFrameBytes) {
+        this.framing = framing;
+        this.maxFrameBytes = maxFrameBytes;
+    }
+
+    /**
+     * Consumes the remaining bytes of a buffer, emitting every frame they complete until the sink declines more.
+     *
+     * @param source bytes read from the connection; consumed entirely unless the sink stops decoding, in which case
+     *               its position is just past the last emitted frame
+     * @param sink   receiver of decoded frames
+     * @throws IOException if a length prefix is negative; the stream cannot be resynchronized
+     */
+    void decode(ByteBuffer source, Sink sink) throws IOException {
+        if (framing == JsonRpcFraming.LENGTH_PREFIXED) {
+            decodeLengthPrefixed(source, sink);
+        } else {
+            decodeLines(source, sink);
+        }
+    }
+
+    /**
+     * Splits newline-delimited frames.
+     *
+     * @param source bytes read from the connection
+     * @param sink   receiver of decoded frames
+     */
+    private void decodeLines(ByteBuffer source, Sink sink) {
+        while (source.hasRemaining()) {
+            int start = source.position();
+            int newline = indexOfNewline(source, start);
+            int end = newline < 0 ? source.limit() : newline;
+            if (skippingLine) {
+                skippingLine = newline < 0;
+            } else if ((long) size + (end - start) > maxFrameBytes + 1L) {
+                // one extra byte leaves room for the carriage return of a CRLF delimiter
+                reset();
+                sink.frameTooLarge();
+                skippingLine = newline < 0;
+            } else {
+                append(source, start, end - start);
+                if (newline >= 0 && !emitLine(sink)) {
+                    source.position(newline + 1);
+                    return;
+                }
+            }
+            source.position(newline < 0 ? source.limit() : newline + 1);
+        }
+    }
+
+    /**
+     * Emits the buffered line, ignoring a trailing carriage return and empty lines.
+     *
+     * @param sink receiver of decoded frames
+     * @return {@code false} if the sink declined further frames
+     */
+    private boolean emitLine(Sink sink) {
+        int length = size;
+        if (length > 0 && buffer[length - 1] == '\r') {
+            length--;
+        }
+        if (length > maxFrameBytes) {
+            reset();
+            sink.frameTooLarge();
+        } else if (length > 0) {
+            byte[] payload = Arrays.copyOf(buffer, length);
+            reset();
+            return sink.frame(payload);
+        } else {
+            reset();
+        }
+        return true;
+    }
+
+    /**
+     * Splits length-prefixed frames.
+     *
+     * @param source bytes read from the connection
+     * @param sink   receiver of decoded frames
+     * @throws IOException if a length prefix is negative
+     */
+    private void decodeLengthPrefixed(ByteBuffer source, Sink sink) throws IOException {
+        while (source.hasRemaining()) {
+            if (skipRemaining > 0) {
+                int skipped = (int) Math.min(skipRemaining, source.remaining());
+                source.position(source.position() + skipped);
+                skipRemaining -= skipped;
+                continue;
+            }
+            if (expectedLength < 0) {
+                while (headerSize < header.length && source.hasRemaining()) {
+                    header[headerSize++] = source.get();
+                }
+                if (headerSize < header.length) {
+                    return;
+                }
+                headerSize = 0;
+                int length = ByteBuffer.wrap(header).getInt();
+                if (length < 0) {
+                    throw new IOException("Negative JSON-RPC frame length: " + length);
+                }
+                if (length > maxFrameBytes) {
+                    skipRemaining = length;
+                    sink.frameTooLarge();
+                    continue;
+                }
+                expectedLength = length;
+            }
+            int count = Math.min(expectedLength - size, source.remaining());
+            append(source, source.position(), count);
+            source.position(source.position() + count);
+            if (size == expectedLength) {
+                byte[] payload = Arrays.copyOf(buffer, size);
+                expectedLength = -1;
+                reset();
+                if (!sink.frame(payload)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the next line feed.
+     *
+     * @param source bytes read from the connection
+     * @param from   absolute index to start searching at
+     * @return absolute index of the line feed, or {@code -1} if the remaining bytes contain none
+     */
+    private static int indexOfNewline(ByteBuffer source, int from) {
+        for (int i = from; i < source.limit(); i++) {
+            if (source.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends bytes to the frame buffer without moving the source position.
+     *
+     * @param source bytes read from the connection
+     * @param from   absolute index of the first byte
+     * @param count  number of bytes to append
+     */
+    private void append(ByteBuffer source, int from, int count) {
+        if (size + count > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(size + count, buffer.length * 2));
+        }
+        source.get(from, buffer, size, count);
+        size += count;
+    }
+
+    /**
+     * Clears the frame buffer, releasing it if a large frame made it grow.
+     */
+    private void reset() {
+        size = 0;
+        if (buffer.length > RETAINED_BUFFER_BYTES) {
+            buffer = new byte[INITIAL_BUFFER_BYTES];
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.limehee.jsonrpc.nio;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Output stream that serializes one response frame directly into pooled direct buffers.
+ * <p>
+ * For length-prefixed framing the first four bytes are reserved and filled in by {@link #finish()}, so the response is
+ * never copied to compute its length. Closing the stream has no effect; the buffers are handed over by
+ * {@link #finish()} or returned to the pool by {@link #discard()}.
+ * </p>
+ */
+final class JsonRpcFrameOutputStream extends OutputStream {
+
+    private final JsonRpcBufferPool pool;
+    private final JsonRpcFraming framing;
+    private final List<ByteBuffer> buffers = new ArrayList<>(2);
+    private ByteBuffer current;
+    private int length;
+
+    /**
+     * Creates a stream for one frame.
+     *
+     * @param pool    pool the buffers are taken from
+     * @param framing framing of the frame
+     */
+    JsonRpcFrameOutputStream(JsonRpcBufferPool pool, JsonRpcFraming framing) {
+        this.pool = pool;
+        this.framing = framing;
+        this.current = pool.acquire();
+        buffers.add(current);
+        if (framing == JsonRpcFraming.LENGTH_PREFIXED) {
+            current.position(Integer.BYTES);
+        }
+    }
+
+    /**
+     * Writes one payload byte.
+     *
+     * @param b byte to write
+     */
+    @Override
+    public void write(int b) {
+        ensureRemaining();
+        current.put((byte) b);
+        length++;
+    }
+
+    /**
+     * Writes payload bytes, spilling into further buffers as needed.
+     *
+     * @param bytes  source bytes
+     * @param offset index of the first byte to write
+     * @param count  number of bytes to write
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int count) {
+        int position = offset;
+        int remaining = count;
+        while (remaining > 0) {
+            ensureRemaining();
+            int chunk = Math.min(remaining, current.remaining());
+            current.put(bytes, position, chunk);
+            position += chunk;
+            remaining -= chunk;
+        }
+        length += count;
+    }
+
+    /**
+     * Completes the frame with its delimiter or length prefix.
+     *
+     * @return buffers holding the frame, flipped for writing
+     */
+    List<ByteBuffer> finish() {
+        if (framing == JsonRpcFraming.LENGTH_PREFIXED) {
+            buffers.get(0).putInt(0, length);
+        } else {
+            ensureRemaining();
+            current.put((byte) '\n');
+        }
+        for (ByteBuffer buffer : buffers) {
+            buffer.flip();
+        }
+        return buffers;
+    }
+
+    /**
+     * Returns all buffers to the pool without producing a frame.
+     */
+    void discard() {
+        for (ByteBuffer buffer : buffers) {
+            pool.release(buffer);
+        }
+        buffers.clear();
+    }
+
+    /**
+     * Moves to a new buffer when the current one is full.
+     */
+    private void ensureRemaining() {
+        if (!current.hasRemaining()) {
+            current = pool.acquire();
+            buffers.add(current);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.limehee.jsonrpc.nio;
+
+/**
+ * How JSON-RPC payloads are delimited on a byte stream.
+ */
+public enum JsonRpcFraming {
+    /**
+     * Each payload is followed by a line feed ({@code \n}); a preceding carriage return and empty lines are ignored.
+     * Payloads must not contain raw line feeds, which compact JSON never does.
+     */
+    NEWLINE_DELIMITED,
+    /**
+     * Each payload is preceded by its length in bytes as a four-byte big-endian signed integer.
+     */
+    LENGTH_PREFIXED
+}
@@ -0,0 +1,48 @@
+package com.limehee.jsonrpc.nio;
+
+import com.limehee.jsonrpc.core.JsonRpcPayloadObserver;
+
+/**
+ * Observer hook interface for transport-level JSON-RPC events emitted by the NIO server.
+ * <p>
+ * Message-level callbacks are inherited from {@link JsonRpcPayloadObserver} and shared with the HTTP and WebSocket
+ * transports. Callbacks may be invoked concurrently from the selector thread and worker threads. All methods are optional and default to no-op.
+ * </p>
+ */
+public interface JsonRpcNioObserver extends JsonRpcPayloadObserver {
+
+    /**
+     * Shared no-op observer instance used when observation is not configured.
+     */
+    JsonRpcNioObserver NO_OP = new JsonRpcNioObserver() {
+    };
+
+    /**
+     * Returns a reusable no-op observer.
+     *
+     * @return observer that ignores all callbacks
+     */
+    static JsonRpcNioObserver noOp() {
+        return NO_OP;
+    }
+
+    /**
+     * Called when a connection has been accepted.
+     */
+    default void onConnectionOpened() {
+    }
+
+    /**
+     * Called when a connection has been closed.
+     */
+    default void onConnectionClosed() {
+    }
+
+    /**
+     * Called when a payload exceeds the configured frame size limit.
+     *
+     * @param maxBytes configured maximum payload size in bytes
+     */
+    default void onFrameTooLarge(int maxBytes) {
+    }
+}
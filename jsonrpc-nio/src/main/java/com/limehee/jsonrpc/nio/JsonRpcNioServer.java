@@ -0,0 +1,611 @@
+package com.limehee.jsonrpc.nio;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import com.limehee.jsonrpc.core.JsonRpcPayloadHandler;
+import com.limehee.jsonrpc.core.JsonRpcPayloadReader;
+import com.limehee.jsonrpc.core.JsonRpcReadConstraints;
+import com.limehee.jsonrpc.core.JsonRpcResponse;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Socket server that exposes JSON-RPC 2.0 over framed byte streams, using only the JDK.
+ * <p>
+ * The server listens on TCP for an {@link java.net.InetSocketAddress} and on a Unix domain socket for a
+ * {@link UnixDomainSocketAddress}; the latter suits sidecar deployments where caller and server share a host.
+ * </p>
+ * <p>
+ * Each connection carries a sequence of frames (see {@link JsonRpcFraming}); every frame holds one JSON-RPC payload (a
+ * request, a notification, or a batch). A single selector thread accepts connections, reads and splits frames, and
+ * writes responses that cannot be written immediately. Frames are parsed, dispatched through
+ * {@link JsonRpcDispatcher}, and serialized on a fixed pool of worker threads, so frames from one connection are
+ * processed concurrently and responses can arrive out of order; clients correlate them by id. Notification-only
+ * payloads produce no frame.
+ * </p>
+ * <p>
+ * Responses are serialized straight into pooled direct buffers and written with gathering writes. At most
+ * {@link JsonRpcNioServerOptions#maxInFlightPerConnection()} frames per connection are dispatched at once: once the
+ * limit is reached, frames already read stay undecoded until a slot frees, and reading from the connection pauses.
+ * Reading also pauses while responses are waiting for the client to read, so a client that sends faster than it reads
+ * cannot make the server buffer without bound.
+ * </p>
+ */
+public final class JsonRpcNioServer implements Closeable {
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_RETAINED_BUFFERS = 256;
+    private static final ByteBuffer[] NO_BUFFERS = new ByteBuffer[0];
+
+    private final ObjectMapper objectMapper;
+    private final JsonRpcPayloadReader payloadReader;
+    private final JsonRpcPayloadHandler payloadHandler;
+    private final JsonRpcNioServerOptions options;
+    private final JsonRpcNioObserver observer;
+    private final JsonRpcBufferPool bufferPool;
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Queue<Connection> resumable = new ConcurrentLinkedQueue<>();
+    private volatile @Nullable Running running;
+    private boolean closed;
+
+    /**
+     * Creates a server with default options and a no-op observer.
+     *
+     * @param dispatcher   dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper mapper used to parse request payloads and serialize responses
+     */
+    public JsonRpcNioServer(JsonRpcDispatcher dispatcher, ObjectMapper objectMapper) {
+        this(dispatcher, objectMapper, JsonRpcNioServerOptions.defaults(), JsonRpcNioObserver.noOp());
+    }
+
+    /**
+     * Creates a server with explicit options and observer, using the default JSON-RPC read constraints.
+     *
+     * @param dispatcher   dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper mapper used to parse request payloads and serialize responses
+     * @param options      framing, threading, and per-connection limits
+     * @param observer     observer receiving transport-level event callbacks
+     */
+    public JsonRpcNioServer(
+        JsonRpcDispatcher dispatcher,
+        ObjectMapper objectMapper,
+        JsonRpcNioServerOptions options,
+        JsonRpcNioObserver observer
+    ) {
+        this(dispatcher, objectMapper, options, observer, false, JsonRpcReadConstraints.defaults());
+    }
+
+    /**
+     * Creates a server with explicit options, observer, request duplicate-member policy, and read constraints.
+     *
+     * @param dispatcher             dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper           mapper used to parse request payloads and serialize responses; must not indent
+     *                               output when newline-delimited framing is used
+     * @param options                framing, threading, and per-connection limits
+     * @param observer               observer receiving transport-level event callbacks
+     * @param rejectDuplicateMembers {@code true} to reject duplicate request members during JSON parsing
+     * @param readConstraints        structural limits enforced while tokenizing request payloads
+     */
+    public JsonRpcNioServer(
+        JsonRpcDispatcher dispatcher,
+        ObjectMapper objectMapper,
+        JsonRpcNioServerOptions options,
+        JsonRpcNioObserver observer,
+        boolean rejectDuplicateMembers,
+        JsonRpcReadConstraints readConstraints
+    ) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        Objects.requireNonNull(readConstraints, "readConstraints");
+        this.payloadReader = new JsonRpcPayloadReader(objectMapper, rejectDuplicateMembers, readConstraints);
+        this.options = Objects.requireNonNull(options, "options");
+        this.observer = Objects.requireNonNull(observer, "observer");
+        this.payloadHandler = new JsonRpcPayloadHandler(dispatcher, this.observer);
+        this.bufferPool = new JsonRpcBufferPool(options.writeBufferBytes(), MAX_RETAINED_BUFFERS);
+    }
+
+    /**
+     * Binds the server and starts accepting connections.
+     * <p>
+     * A Unix domain socket file is created on bind and deleted by {@link #close()}. Binding fails if the file already
+     * exists, for example after a process was killed; delete stale files before starting.
+     * </p>
+     *
+     * @param address local address to listen on: an {@link java.net.InetSocketAddress}, where port {@code 0} picks a
+     *                free port, or a {@link UnixDomainSocketAddress}
+     * @throws IOException           if the address cannot be bound
+     * @throws IllegalStateException if the server was already started or has been closed
+     */
+    public synchronized void start(SocketAddress address) throws IOException {
+        Objects.requireNonNull(address, "address");
+        if (running != null || closed) {
+            throw new IllegalStateException("server can only be started once");
+        }
+        Selector selector = Selector.open();
+        ServerSocketChannel channel;
+        try {
+            channel = address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+        } catch (IOException ex) {
+            selector.close();
+            throw ex;
+        }
+        SocketAddress localAddress;
+        try {
+            channel.bind(address);
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_ACCEPT);
+            localAddress = Objects.requireNonNull(channel.getLocalAddress(), "localAddress");
+        } catch (IOException ex) {
+            channel.close();
+            selector.close();
+            throw ex;
+        }
+        AtomicInteger workerCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(options.workerThreads(), task -> {
+            Thread thread = new Thread(task, "jsonrpc-nio-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Running state = new Running(selector, channel, localAddress, workers);
+        Thread selectorThread = new Thread(() -> select(state), "jsonrpc-nio-selector");
+        selectorThread.setDaemon(true);
+        running = state;
+        selectorThread.start();
+    }
+
+    /**
+     * Returns the address the server listens on.
+     *
+     * @return bound local address
+     * @throws IllegalStateException if the server is not running
+     */
+    public SocketAddress localAddress() {
+        Running state = running;
+        if (state == null) {
+            throw new IllegalStateException("server is not running");
+        }
+        return state.localAddress();
+    }
+
+    /**
+     * Returns the number of open connections.
+     *
+     * @return open connection count
+     */
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Stops accepting connections, closes open connections, and stops the selector and worker threads.
+     * <p>
+     * Payloads still being dispatched complete, but their responses are discarded. A Unix domain socket file is
+     * deleted.
+     * </p>
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        Running state = running;
+        if (state == null) {
+            return;
+        }
+        running = null;
+        closeQuietly(state.channel());
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        closeQuietly(state.selector());
+        state.workers().shutdown();
+        if (state.localAddress() instanceof UnixDomainSocketAddress unixAddress) {
+            try {
+                Files.deleteIfExists(unixAddress.getPath());
+            } catch (IOException ex) {
+                // the socket is closed; a leftover file only blocks the next bind to the same path
+            }
+        }
+    }
+
+    /**
+     * Runs the selector loop until the selector is closed.
+     *
+     * @param state resources of the running server
+     */
+    private void select(Running state) {
+        Selector selector = state.selector();
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key, state);
+                }
+                Connection connection;
+                while ((connection = resumable.poll()) != null) {
+                    connection.resume();
+                }
+            }
+        } catch (ClosedSelectorException ex) {
+            // closed by close()
+        } catch (IOException ex) {
+            close();
+        }
+    }
+
+    /**
+     * Handles one ready key.
+     *
+     * @param key   selected key
+     * @param state resources of the running server
+     */
+    private void handleKey(SelectionKey key, Running state) {
+        Object attachment = key.attachment();
+        try {
+            if (attachment instanceof Connection connection) {
+                if (key.isWritable()) {
+                    connection.flush();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    read(connection);
+                }
+            } else if (key.isValid() && key.isAcceptable()) {
+                accept(state);
+            }
+        } catch (CancelledKeyException ex) {
+            if (attachment instanceof Connection connection) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Accepts a pending connection and registers it for reading.
+     *
+     * @param state resources of the running server
+     */
+    private void accept(Running state) {
+        SocketChannel channel = null;
+        try {
+            channel = state.channel().accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            if (channel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            }
+            SelectionKey key = channel.register(state.selector(), SelectionKey.OP_READ);
+            Connection connection = new Connection(channel, key, state.workers());
+            key.attach(connection);
+            connections.add(connection);
+            observer.onConnectionOpened();
+        } catch (IOException ex) {
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Reads available bytes from a connection and hands completed frames to the workers while below the in-flight
+     * limit.
+     * <p>
+     * Nothing is read while frames kept back by the limit are still waiting to be decoded.
+     * </p>
+     *
+     * @param connection readable connection
+     */
+    private void read(Connection connection) {
+        if (!connection.decodeBacklog()) {
+            return;
+        }
+        readBuffer.clear();
+        try {
+            if (connection.channel.read(readBuffer) < 0) {
+                connection.close();
+                return;
+            }
+            readBuffer.flip();
+            connection.decode(readBuffer);
+        } catch (IOException ex) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Handles one frame and writes its response, releasing the in-flight slot afterwards.
+     *
+     * @param connection connection the frame arrived on
+     * @param payload    frame payload
+     */
+    private void process(Connection connection, byte[] payload) {
+        try {
+            Object reply = payloadHandler.handle(payloadReader, new ByteArrayInputStream(payload));
+            if (reply != null) {
+                connection.write(encode(reply));
+            }
+        } catch (RuntimeException ex) {
+            connection.close();
+        } finally {
+            connection.release();
+        }
+    }
+
+    /**
+     * Serializes a response payload into a frame of pooled direct buffers.
+     *
+     * @param payload payload object to serialize
+     * @return buffers holding the frame, ready to be written
+     * @throws IllegalStateException if serialization fails unexpectedly
+     */
+    private List<ByteBuffer> encode(Object payload) {
+        JsonRpcFrameOutputStream output = new JsonRpcFrameOutputStream(bufferPool, options.framing());
+        try {
+            objectMapper.writeValue(output, payload);
+            return output.finish();
+        } catch (JacksonException ex) {
+            output.discard();
+            throw new IllegalStateException("Failed to serialize JSON-RPC response payload", ex);
+        }
+    }
+
+    /**
+     * Closes a resource, ignoring failures.
+     *
+     * @param resource resource to close; may be {@code null}
+     */
+    private static void closeQuietly(@Nullable Closeable resource) {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (IOException ex) {
+            // nothing left to release
+        }
+    }
+
+    /**
+     * Resources of a started server.
+     *
+     * @param selector     selector driving all channels
+     * @param channel      listening channel
+     * @param localAddress address the channel is bound to
+     * @param workers      worker threads that dispatch frames
+     */
+    private record Running(
+        Selector selector,
+        ServerSocketChannel channel,
+        SocketAddress localAddress,
+        ExecutorService workers
+    ) {
+
+    }
+
+    /**
+     * State kept for one open connection.
+     * <p>
+     * The decoder and the backlog of bytes read past the in-flight limit are used only by the selector thread; pending
+     * writes and interest operations are guarded by the connection monitor, because responses are written from worker
+     * threads.
+     * </p>
+     */
+    private final class Connection implements JsonRpcFrameDecoder.Sink {
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ExecutorService workers;
+        private final JsonRpcFrameDecoder decoder;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+        private @Nullable ByteBuffer backlog;
+        private boolean closed;
+
+        /**
+         * Creates connection state.
+         *
+         * @param channel accepted channel
+         * @param key     selection key of the channel
+         * @param workers worker threads that dispatch frames
+         */
+        Connection(SocketChannel channel, SelectionKey key, ExecutorService workers) {
+            this.channel = channel;
+            this.key = key;
+            this.workers = workers;
+            this.decoder = new JsonRpcFrameDecoder(options.framing(), options.maxFrameBytes());
+        }
+
+        /**
+         * Decodes bytes read from the channel, keeping whatever follows the frame that reached the in-flight limit.
+         *
+         * @param source bytes read from the channel
+         * @throws IOException if the stream cannot be split into frames
+         */
+        void decode(ByteBuffer source) throws IOException {
+            decoder.decode(source, this);
+            if (source.hasRemaining()) {
+                backlog = ByteBuffer.allocate(source.remaining()).put(source).flip();
+            }
+        }
+
+        /**
+         * Decodes bytes kept back by the in-flight limit.
+         *
+         * @return {@code true} if the backlog is drained and the in-flight limit leaves room to read the channel
+         */
+        boolean decodeBacklog() {
+            ByteBuffer kept = backlog;
+            if (kept == null) {
+                return inFlight.get() < options.maxInFlightPerConnection();
+            }
+            try {
+                decoder.decode(kept, this);
+            } catch (IOException ex) {
+                close();
+                return false;
+            }
+            if (kept.hasRemaining()) {
+                return false;
+            }
+            backlog = null;
+            return inFlight.get() < options.maxInFlightPerConnection();
+        }
+
+        /**
+         * Continues decoding after an in-flight slot was released and resumes reading if the limit allows it.
+         */
+        void resume() {
+            if (key.isValid() && decodeBacklog()) {
+                updateInterest();
+            }
+        }
+
+        /**
+         * Takes an in-flight slot for a frame and hands the frame to the workers.
+         *
+         * @param payload frame payload
+         * @return {@code false} once the in-flight limit is reached or the connection was closed
+         */
+        @Override
+        public boolean frame(byte[] payload) {
+            int current = inFlight.incrementAndGet();
+            try {
+                workers.execute(() -> process(this, payload));
+            } catch (RejectedExecutionException ex) {
+                inFlight.decrementAndGet();
+                close();
+                return false;
+            }
+            if (current >= options.maxInFlightPerConnection()) {
+                updateInterest();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Answers an oversized frame with an error response.
+         */
+        @Override
+        public void frameTooLarge() {
+            observer.onFrameTooLarge(options.maxFrameBytes());
+            write(encode(JsonRpcResponse.error(null, JsonRpcErrorCode.INVALID_REQUEST, "Request payload too large")));
+        }
+
+        /**
+         * Releases an in-flight slot, handing the connection back to the selector thread if the limit had been reached.
+         */
+        void release() {
+            if (inFlight.getAndDecrement() >= options.maxInFlightPerConnection()) {
+                resumable.add(this);
+                key.selector().wakeup();
+            }
+        }
+
+        /**
+         * Queues a response frame and writes as much of the pending output as the socket accepts.
+         *
+         * @param frame buffers holding the frame; owned by the connection afterwards
+         */
+        synchronized void write(List<ByteBuffer> frame) {
+            if (closed) {
+                frame.forEach(bufferPool::release);
+                return;
+            }
+            pending.addAll(frame);
+            flush();
+        }
+
+        /**
+         * Writes pending output with one gathering write, returning fully written buffers to the pool.
+         */
+        synchronized void flush() {
+            if (closed || pending.isEmpty()) {
+                return;
+            }
+            try {
+                channel.write(pending.toArray(NO_BUFFERS));
+            } catch (IOException ex) {
+                close();
+                return;
+            }
+            ByteBuffer head;
+            while ((head = pending.peekFirst()) != null && !head.hasRemaining()) {
+                pending.pollFirst();
+                bufferPool.release(head);
+            }
+            updateInterest();
+        }
+
+        /**
+         * Reads only while below the in-flight limit with no pending output, and waits for writability while output
+         * is pending.
+         */
+        synchronized void updateInterest() {
+            if (closed) {
+                return;
+            }
+            boolean writing = !pending.isEmpty();
+            int interest = writing ? SelectionKey.OP_WRITE : 0;
+            if (!writing && inFlight.get() < options.maxInFlightPerConnection()) {
+                interest |= SelectionKey.OP_READ;
+            }
+            try {
+                if (key.interestOps() != interest) {
+                    key.interestOps(interest);
+                    key.selector().wakeup();
+                }
+            } catch (CancelledKeyException ex) {
+                close();
+            }
+        }
+
+        /**
+         * Closes the connection and returns its pending output to the pool.
+         */
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                key.cancel();
+                closeQuietly(channel);
+                pending.forEach(bufferPool::release);
+                pending.clear();
+            }
+            connections.remove(this);
+            observer.onConnectionClosed();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.limehee.jsonrpc.nio;
+
+import java.util.Objects;
+
+/**
+ * Framing, threading, and per-connection limits for the JSON-RPC NIO server.
+ */
+public final class JsonRpcNioServerOptions {
+
+    private final JsonRpcFraming framing;
+    private final int maxFrameBytes;
+    private final int workerThreads;
+    private final int maxInFlightPerConnection;
+    private final int writeBufferBytes;
+
+    private JsonRpcNioServerOptions(Builder builder) {
+        this.framing = builder.framing;
+        this.maxFrameBytes = builder.maxFrameBytes;
+        this.workerThreads = builder.workerThreads;
+        this.maxInFlightPerConnection = builder.maxInFlightPerConnection;
+        this.writeBufferBytes = builder.writeBufferBytes;
+    }
+
+    /**
+     * Returns default options.
+     *
+     * @return default NIO server options
+     */
+    public static JsonRpcNioServerOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a mutable builder initialized with default values.
+     *
+     * @return options builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return how payloads are delimited on a connection
+     */
+    public JsonRpcFraming framing() {
+        return framing;
+    }
+
+    /**
+     * @return maximum accepted payload size in bytes, excluding the delimiter or length prefix
+     */
+    public int maxFrameBytes() {
+        return maxFrameBytes;
+    }
+
+    /**
+     * @return number of threads that parse, dispatch, and serialize payloads
+     */
+    public int workerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * @return number of payloads from one connection that may be dispatched at once before reading pauses
+     */
+    public int maxInFlightPerConnection() {
+        return maxInFlightPerConnection;
+    }
+
+    /**
+     * @return size in bytes of the pooled direct buffers responses are serialized into
+     */
+    public int writeBufferBytes() {
+        return writeBufferBytes;
+    }
+
+    /**
+     * Builder for NIO server options.
+     */
+    public static final class Builder {
+
+        private JsonRpcFraming framing = JsonRpcFraming.NEWLINE_DELIMITED;
+        private int maxFrameBytes = 1_048_576;
+        private int workerThreads = Runtime.getRuntime().availableProcessors();
+        private int maxInFlightPerConnection = 16;
+        private int writeBufferBytes = 16 * 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how payloads are delimited on a connection.
+         *
+         * @param framing framing used for requests and responses
+         * @return this builder
+         */
+        public Builder framing(JsonRpcFraming framing) {
+            this.framing = Objects.requireNonNull(framing, "framing");
+            return this;
+        }
+
+        /**
+         * Sets the maximum accepted payload size in bytes.
+         * <p>
+         * Larger payloads are skipped without being buffered or parsed and answered with an error response; the
+         * connection stays open.
+         *
+         * @param maxFrameBytes limit in bytes; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxFrameBytes(int maxFrameBytes) {
+            this.maxFrameBytes = maxFrameBytes;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads that parse, dispatch, and serialize payloads.
+         * <p>
+         * Sockets are read and written by a single selector thread, so method handlers never run on it.
+         *
+         * @param workerThreads thread count; must be greater than 0
+         * @return this builder
+         */
+        public Builder workerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+            return this;
+        }
+
+        /**
+         * Sets how many payloads from one connection may be dispatched at once.
+         * <p>
+         * When the limit is reached, frames already read are kept undecoded until a dispatch finishes. Then, and while
+         * responses are waiting for the client to read, the server stops reading from the connection, so TCP flow
+         * control pushes back on the client.
+         *
+         * @param maxInFlightPerConnection limit; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxInFlightPerConnection(int maxInFlightPerConnection) {
+            this.maxInFlightPerConnection = maxInFlightPerConnection;
+            return this;
+        }
+
+        /**
+         * Sets the size of the pooled direct buffers responses are serialized into.
+         * <p>
+         * Responses larger than one buffer span several buffers, which are written with a single gathering write.
+         *
+         * @param writeBufferBytes buffer size in bytes; must be at least 64
+         * @return this builder
+         */
+        public Builder writeBufferBytes(int writeBufferBytes) {
+            this.writeBufferBytes = writeBufferBytes;
+            return this;
+        }
+
+        /**
+         * Builds immutable NIO server options.
+         *
+         * @return immutable NIO server options
+         * @throws IllegalArgumentException if a limit is out of range
+         */
+        public JsonRpcNioServerOptions build() {
+            if (maxFrameBytes <= 0) {
+                throw new IllegalArgumentException("maxFrameBytes must be greater than 0");
+            }
+            if (workerThreads <= 0) {
+                throw new IllegalArgumentException("workerThreads must be greater than 0");
+            }
+            if (maxInFlightPerConnection <= 0) {
+                throw new IllegalArgumentException("maxInFlightPerConnection must be greater than 0");
+            }
+            if (writeBufferBytes < 64) {
+                throw new IllegalArgumentException("writeBufferBytes must be at least 64");
+            }
+            return new JsonRpcNioServerOptions(this);
+        }
+    }
+}
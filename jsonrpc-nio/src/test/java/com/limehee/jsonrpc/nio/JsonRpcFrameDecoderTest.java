@@ -0,0 +1,114 @@
+package com.limehee.jsonrpc.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonRpcFrameDecoderTest {
+
+    @Test
+    void splitsLinesAcrossReads() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        JsonRpcFrameDecoder decoder = new JsonRpcFrameDecoder(JsonRpcFraming.NEWLINE_DELIMITED, 64);
+
+        for (byte b : "{\"a\":1}\r\n\n{\"b\":2}\n".getBytes(StandardCharsets.UTF_8)) {
+            decoder.decode(ByteBuffer.wrap(new byte[]{b}), sink);
+        }
+
+        assertEquals(List.of("{\"a\":1}", "{\"b\":2}"), sink.frames);
+    }
+
+    @Test
+    void skipsOversizedLineAndResumesAfterIt() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        JsonRpcFrameDecoder decoder = new JsonRpcFrameDecoder(JsonRpcFraming.NEWLINE_DELIMITED, 8);
+
+        decoder.decode(ByteBuffer.wrap("x".repeat(20).getBytes(StandardCharsets.UTF_8)), sink);
+        decoder.decode(ByteBuffer.wrap("x".repeat(20).getBytes(StandardCharsets.UTF_8)), sink);
+        decoder.decode(ByteBuffer.wrap("\n{}\n".getBytes(StandardCharsets.UTF_8)), sink);
+
+        assertEquals(1, sink.tooLarge);
+        assertEquals(List.of("{}"), sink.frames);
+    }
+
+    @Test
+    void splitsLengthPrefixedFramesAcrossReads() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        JsonRpcFrameDecoder decoder = new JsonRpcFrameDecoder(JsonRpcFraming.LENGTH_PREFIXED, 8);
+        ByteBuffer stream = ByteBuffer.allocate(64)
+            .putInt(3).put("abc".getBytes(StandardCharsets.UTF_8))
+            .putInt(20).put(new byte[20])
+            .putInt(2).put("{}".getBytes(StandardCharsets.UTF_8))
+            .flip();
+
+        while (stream.hasRemaining()) {
+            decoder.decode(ByteBuffer.wrap(new byte[]{stream.get()}), sink);
+        }
+
+        assertEquals(List.of("abc", "{}"), sink.frames);
+        assertEquals(1, sink.tooLarge);
+    }
+
+    @Test
+    void stopsAfterFrameWhenSinkDeclinesMore() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        sink.accepting = 1;
+        JsonRpcFrameDecoder decoder = new JsonRpcFrameDecoder(JsonRpcFraming.NEWLINE_DELIMITED, 64);
+        ByteBuffer source = ByteBuffer.wrap("{\"a\":1}\n{\"b\":2}\n".getBytes(StandardCharsets.UTF_8));
+
+        decoder.decode(source, sink);
+        assertEquals(List.of("{\"a\":1}"), sink.frames);
+        assertEquals("{\"b\":2}\n", StandardCharsets.UTF_8.decode(source.duplicate()).toString());
+
+        sink.accepting = Integer.MAX_VALUE;
+        decoder.decode(source, sink);
+        assertEquals(List.of("{\"a\":1}", "{\"b\":2}"), sink.frames);
+    }
+
+    @Test
+    void stopsAfterLengthPrefixedFrameWhenSinkDeclinesMore() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        sink.accepting = 1;
+        JsonRpcFrameDecoder decoder = new JsonRpcFrameDecoder(JsonRpcFraming.LENGTH_PREFIXED, 8);
+        ByteBuffer source = ByteBuffer.allocate(64)
+            .putInt(3).put("abc".getBytes(StandardCharsets.UTF_8))
+            .putInt(2).put("{}".getBytes(StandardCharsets.UTF_8))
+            .flip();
+
+        decoder.decode(source, sink);
+        assertEquals(List.of("abc"), sink.frames);
+        assertEquals(6, source.remaining());
+    }
+
+    @Test
+    void rejectsNegativeLengthPrefix() {
+        JsonRpcFrameDecoder decoder = new JsonRpcFrameDecoder(JsonRpcFraming.LENGTH_PREFIXED, 8);
+
+        assertThrows(IOException.class,
+            () -> decoder.decode(ByteBuffer.allocate(4).putInt(-1).flip(), new RecordingSink()));
+    }
+
+    private static final class RecordingSink implements JsonRpcFrameDecoder.Sink {
+
+        private final List<String> frames = new ArrayList<>();
+        private int tooLarge;
+        private int accepting = Integer.MAX_VALUE;
+
+        @Override
+        public boolean frame(byte[] payload) {
+            frames.add(new String(payload, StandardCharsets.UTF_8));
+            return --accepting > 0;
+        }
+
+        @Override
+        public void frameTooLarge() {
+            tooLarge++;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.limehee.jsonrpc.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.StringNode;
+
+class JsonRpcNioServerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private JsonRpcDispatcher dispatcher;
+    private JsonRpcNioServer server;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        dispatcher.register("repeat", params -> StringNode.valueOf("x".repeat(params.get(0).asInt())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void newlineDelimitedRequestIsAnsweredOnSameConnection() throws Exception {
+        start(JsonRpcNioServerOptions.builder().workerThreads(2).build());
+
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            writeLine(socket, """
+                {"jsonrpc":"2.0","method":"ping","params":[],"id":1}""");
+
+            JsonNode response = OBJECT_MAPPER.readTree(reader.readLine());
+            assertEquals(1, response.get("id").asInt());
+            assertEquals("pong", response.get("result").asString());
+        }
+    }
+
+    @Test
+    void notificationProducesNoFrame() throws Exception {
+        start(JsonRpcNioServerOptions.builder().workerThreads(1).build());
+
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            writeLine(socket, """
+                {"jsonrpc":"2.0","method":"ping"}""");
+            writeLine(socket, """
+                {"jsonrpc":"2.0","method":"ping","id":2}""");
+
+            assertEquals(2, OBJECT_MAPPER.readTree(reader.readLine()).get("id").asInt());
+        }
+    }
+
+    @Test
+    void lengthPrefixedBatchIsAnsweredWithLengthPrefixedFrame() throws Exception {
+        start(JsonRpcNioServerOptions.builder().framing(JsonRpcFraming.LENGTH_PREFIXED).build());
+
+        try (Socket socket = connect()) {
+            byte[] request = """
+                [{"jsonrpc":"2.0","method":"ping","id":1},{"jsonrpc":"2.0","method":"ping","id":2}]
+                """.getBytes(StandardCharsets.UTF_8);
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            output.writeInt(request.length);
+            output.write(request);
+            output.flush();
+
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+            byte[] response = new byte[input.readInt()];
+            input.readFully(response);
+            JsonNode batch = OBJECT_MAPPER.readTree(response);
+            assertTrue(batch.isArray());
+            assertEquals(2, batch.size());
+        }
+    }
+
+    @Test
+    void responseLargerThanWriteBufferSpansPooledBuffers() throws Exception {
+        start(JsonRpcNioServerOptions.builder().writeBufferBytes(64).build());
+
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            writeLine(socket, """
+                {"jsonrpc":"2.0","method":"repeat","params":[5000],"id":1}""");
+
+            assertEquals("x".repeat(5000), OBJECT_MAPPER.readTree(reader.readLine()).get("result").asString());
+        }
+    }
+
+    @Test
+    void oversizedFrameIsAnsweredAndConnectionStaysOpen() throws Exception {
+        start(JsonRpcNioServerOptions.builder().maxFrameBytes(64).build());
+
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            writeLine(socket, "[" + "1,".repeat(100) + "1]");
+            JsonNode rejected = OBJECT_MAPPER.readTree(reader.readLine());
+            assertEquals(JsonRpcErrorCode.INVALID_REQUEST, rejected.get("error").get("code").asInt());
+
+            writeLine(socket, """
+                {"jsonrpc":"2.0","method":"ping","id":2}""");
+            assertEquals("pong", OBJECT_MAPPER.readTree(reader.readLine()).get("result").asString());
+        }
+    }
+
+    @Test
+    void framesReadPastInFlightLimitWaitForAFreeSlot() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        dispatcher.register("slow", params -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return StringNode.valueOf("done");
+        });
+        start(JsonRpcNioServerOptions.builder().workerThreads(4).maxInFlightPerConnection(1).build());
+
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            writeLine(socket, """
+                {"jsonrpc":"2.0","method":"slow","id":1}
+                {"jsonrpc":"2.0","method":"slow","id":2}
+                {"jsonrpc":"2.0","method":"slow","id":3}""");
+
+            Set<Integer> ids = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                ids.add(OBJECT_MAPPER.readTree(reader.readLine()).get("id").asInt());
+            }
+            assertEquals(Set.of(1, 2, 3), ids);
+            assertEquals(1, maxRunning.get());
+        }
+    }
+
+    @Test
+    void malformedJsonReturnsParseError() throws Exception {
+        start(JsonRpcNioServerOptions.defaults());
+
+        try (Socket socket = connect()) {
+            BufferedReader reader = reader(socket);
+            writeLine(socket, "{\"jsonrpc\":");
+
+            JsonNode response = OBJECT_MAPPER.readTree(reader.readLine());
+            assertEquals(JsonRpcErrorCode.PARSE_ERROR, response.get("error").get("code").asInt());
+        }
+    }
+
+    @Test
+    void unixDomainSocketServesFramedRequestsAndRemovesSocketFileOnClose(@TempDir Path directory) throws Exception {
+        Path socketFile = directory.resolve("jsonrpc.sock");
+        server = new JsonRpcNioServer(
+            dispatcher,
+            OBJECT_MAPPER,
+            JsonRpcNioServerOptions.builder().framing(JsonRpcFraming.LENGTH_PREFIXED).build(),
+            JsonRpcNioObserver.noOp());
+        server.start(UnixDomainSocketAddress.of(socketFile));
+
+        try (SocketChannel channel = SocketChannel.open(server.localAddress())) {
+            byte[] request = """
+                {"jsonrpc":"2.0","method":"ping","id":7}""".getBytes(StandardCharsets.UTF_8);
+            DataOutputStream output = new DataOutputStream(Channels.newOutputStream(channel));
+            output.writeInt(request.length);
+            output.write(request);
+            output.flush();
+
+            DataInputStream input = new DataInputStream(Channels.newInputStream(channel));
+            byte[] response = new byte[input.readInt()];
+            input.readFully(response);
+            JsonNode reply = OBJECT_MAPPER.readTree(response);
+            assertEquals(7, reply.get("id").asInt());
+            assertEquals("pong", reply.get("result").asString());
+        }
+
+        assertTrue(Files.exists(socketFile));
+        server.close();
+        assertFalse(Files.exists(socketFile));
+    }
+
+    @Test
+    void serverCanOnlyBeStartedOnce() throws Exception {
+        start(JsonRpcNioServerOptions.defaults());
+
+        assertThrows(IllegalStateException.class, () -> server.start(new InetSocketAddress("127.0.0.1", 0)));
+    }
+
+    @Test
+    void rejectsInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> JsonRpcNioServerOptions.builder().workerThreads(0).build());
+        assertThrows(IllegalArgumentException.class, () -> JsonRpcNioServerOptions.builder().maxFrameBytes(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcNioServerOptions.builder().writeBufferBytes(16).build());
+    }
+
+    private void start(JsonRpcNioServerOptions options) throws Exception {
+        server = new JsonRpcNioServer(dispatcher, OBJECT_MAPPER, options, JsonRpcNioObserver.noOp());
+        server.start(new InetSocketAddress("127.0.0.1", 0));
+    }
+
+    private Socket connect() throws Exception {
+        InetSocketAddress address = (InetSocketAddress) server.localAddress();
+        Socket socket = new Socket(address.getAddress(), address.getPort());
+        socket.setSoTimeout(5_000);
+        return socket;
+    }
+
+    private static BufferedReader reader(Socket socket) throws Exception {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static void writeLine(Socket socket, String json) throws Exception {
+        OutputStream output = socket.getOutputStream();
+        output.write((json + "\n").getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+}
@@ -0,0 +1,212 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure.support;
+
+import com.limehee.jsonrpc.core.DefaultJsonRpcTypedMethodHandlerFactory;
+import com.limehee.jsonrpc.core.JacksonJsonRpcParameterBinder;
+import com.limehee.jsonrpc.core.JacksonJsonRpcResultWriter;
+import com.limehee.jsonrpc.core.JsonRpcDispatchResult;
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcMethod;
+import com.limehee.jsonrpc.core.JsonRpcParam;
+import com.limehee.jsonrpc.core.JsonRpcParameterBinder;
+import com.limehee.jsonrpc.core.JsonRpcResultWriter;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@State(Scope.Benchmark)
+public class JsonRpcAnnotatedMethodBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+    private static final String ORDER_JSON = """
+        {"id":"order-1",
+         "shippingAddress":{"recipient":"Ada Lovelace","street":"12 St James's Square","city":"London",
+           "postalCode":"SW1Y 4JH","country":"GB"},
+         "items":[
+           {"sku":"sku-1","quantity":2,"unitPrice":9.99},
+           {"sku":"sku-2","quantity":1,"unitPrice":24.5},
+           {"sku":"sku-3","quantity":5,"unitPrice":3.25},
+           {"sku":"sku-4","quantity":3,"unitPrice":12.0}
+         ],
+         "tags":["priority","gift-wrap"]}
+        """;
+
+    private JsonRpcDispatcher dispatcher;
+    private JsonNode noParamsPayload;
+    private JsonNode unaryRecordPayload;
+    private JsonNode unaryNestedDtoPayload;
+    private JsonNode positionalPrimitivesPayload;
+    private JsonNode namedPrimitivesPayload;
+    private JsonNode positionalCollectionsPayload;
+    private JsonNode namedCollectionsPayload;
+    private JsonNode positionalNestedDtoPayload;
+    private JsonNode namedNestedDtoPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JsonRpcParameterBinder parameterBinder = new JacksonJsonRpcParameterBinder(OBJECT_MAPPER);
+        JsonRpcResultWriter resultWriter = new JacksonJsonRpcResultWriter(OBJECT_MAPPER);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("benchmarkService", new BenchmarkService());
+        dispatcher = new JsonRpcDispatcher();
+        new JsonRpcAnnotatedMethodRegistrar(
+            beanFactory,
+            dispatcher,
+            new DefaultJsonRpcTypedMethodHandlerFactory(parameterBinder, resultWriter),
+            parameterBinder,
+            resultWriter
+        ).afterSingletonsInstantiated();
+
+        noParamsPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """);
+        unaryRecordPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"user.get","params":{"id":42,"include":"profile"},"id":2}
+            """);
+        unaryNestedDtoPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"order.submit","params":%s,"id":3}
+            """.formatted(ORDER_JSON));
+        positionalPrimitivesPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"math.scale","params":[7,1000000,1.5,true],"id":4}
+            """);
+        namedPrimitivesPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"math.scale",
+             "params":{"value":7,"offset":1000000,"factor":1.5,"round":true},"id":5}
+            """);
+        positionalCollectionsPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"tags.count","params":[["a","b","c","d"],{"a":1,"b":2,"c":3}],"id":6}
+            """);
+        namedCollectionsPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"tags.count",
+             "params":{"tags":["a","b","c","d"],"weights":{"a":1,"b":2,"c":3}},"id":7}
+            """);
+        positionalNestedDtoPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"order.quote","params":[%s,"web"],"id":8}
+            """.formatted(ORDER_JSON));
+        namedNestedDtoPayload = OBJECT_MAPPER.readTree("""
+            {"jsonrpc":"2.0","method":"order.quote","params":{"order":%s,"sales-channel":"web"},"id":9}
+            """.formatted(ORDER_JSON));
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult noParams() {
+        return dispatcher.dispatch(noParamsPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult unaryRecord() {
+        return dispatcher.dispatch(unaryRecordPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult unaryNestedDto() {
+        return dispatcher.dispatch(unaryNestedDtoPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult positionalPrimitives() {
+        return dispatcher.dispatch(positionalPrimitivesPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult namedPrimitives() {
+        return dispatcher.dispatch(namedPrimitivesPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult positionalCollections() {
+        return dispatcher.dispatch(positionalCollectionsPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult namedCollections() {
+        return dispatcher.dispatch(namedCollectionsPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult positionalNestedDto() {
+        return dispatcher.dispatch(positionalNestedDtoPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult namedNestedDto() {
+        return dispatcher.dispatch(namedNestedDtoPayload);
+    }
+
+    public static class BenchmarkService {
+
+        @JsonRpcMethod
+        public String ping() {
+            return "pong";
+        }
+
+        @JsonRpcMethod("user.get")
+        public User getUser(UserQuery query) {
+            return new User(query.id(), "Ada Lovelace", "ada@example.com", 98.25, true);
+        }
+
+        @JsonRpcMethod("order.submit")
+        public OrderReceipt submit(Order order) {
+            return new OrderReceipt(order.id(), order.items().size(), total(order));
+        }
+
+        @JsonRpcMethod("math.scale")
+        public double scale(int value, long offset, double factor, boolean round) {
+            double scaled = (value + offset) * factor;
+            return round ? Math.rint(scaled) : scaled;
+        }
+
+        @JsonRpcMethod("tags.count")
+        public int countTags(List<String> tags, Map<String, Integer> weights) {
+            int total = 0;
+            for (String tag : tags) {
+                total += weights.getOrDefault(tag, 0);
+            }
+            return total;
+        }
+
+        @JsonRpcMethod("order.quote")
+        public OrderReceipt quote(Order order, @JsonRpcParam("sales-channel") String channel) {
+            return new OrderReceipt(order.id() + "-" + channel, order.items().size(), total(order));
+        }
+
+        private static double total(Order order) {
+            double total = 0;
+            for (LineItem item : order.items()) {
+                total += item.quantity() * item.unitPrice();
+            }
+            return total;
+        }
+    }
+
+    public record UserQuery(long id, String include) {
+
+    }
+
+    public record User(long id, String name, String email, double score, boolean active) {
+
+    }
+
+    public record Address(String recipient, String street, String city, String postalCode, String country) {
+
+    }
+
+    public record LineItem(String sku, int quantity, double unitPrice) {
+
+    }
+
+    public record Order(String id, Address shippingAddress, List<LineItem> items, List<String> tags) {
+
+    }
+
+    public record OrderReceipt(String id, int itemCount, double total) {
+
+    }
+}
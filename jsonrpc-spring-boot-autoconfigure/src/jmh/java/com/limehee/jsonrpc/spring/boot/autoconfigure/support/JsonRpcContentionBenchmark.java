@@ -0,0 +1,170 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure.support;
+
+import com.limehee.jsonrpc.core.DefaultJsonRpcExceptionResolver;
+import com.limehee.jsonrpc.core.DefaultJsonRpcMethodInvoker;
+import com.limehee.jsonrpc.core.DefaultJsonRpcRequestParser;
+import com.limehee.jsonrpc.core.DefaultJsonRpcRequestValidator;
+import com.limehee.jsonrpc.core.DefaultJsonRpcResponseComposer;
+import com.limehee.jsonrpc.core.ExecutorJsonRpcNotificationExecutor;
+import com.limehee.jsonrpc.core.InMemoryJsonRpcMethodRegistry;
+import com.limehee.jsonrpc.core.JsonRpcDispatchResult;
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.node.StringNode;
+
+@State(Scope.Benchmark)
+public abstract class JsonRpcContentionBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+    private static final int METHOD_COUNT = 16;
+    private static final int BATCH_SIZE = 16;
+
+    private JsonRpcDispatcher dispatcher;
+    private ThreadPoolExecutor notificationPool;
+    private JsonNode[] requestPayloads;
+    private JsonNode[] notificationPayloads;
+    private JsonNode deniedPayload;
+    private JsonNode batchPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        int workers = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        notificationPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1024), new ThreadPoolExecutor.CallerRunsPolicy());
+        dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            BATCH_SIZE,
+            List.of(
+                new JsonRpcMethodAccessInterceptor(Set.of(), Set.of("admin.shutdown")),
+                new JsonRpcMetricsInterceptor(meterRegistry, false, new double[0], 100)
+            ),
+            new InstrumentedJsonRpcNotificationExecutor(
+                new ExecutorJsonRpcNotificationExecutor(notificationPool), meterRegistry, false, new double[0])
+        );
+
+        requestPayloads = new JsonNode[METHOD_COUNT];
+        notificationPayloads = new JsonNode[METHOD_COUNT];
+        for (int i = 0; i < METHOD_COUNT; i++) {
+            String method = "service.method" + i;
+            dispatcher.register(method, params -> StringNode.valueOf("ok"));
+            requestPayloads[i] = buildRequest(method, i + 1, false);
+            notificationPayloads[i] = buildRequest(method, i + 1, true);
+        }
+        dispatcher.register("admin.shutdown", params -> StringNode.valueOf("stopped"));
+        deniedPayload = buildRequest("admin.shutdown", 1, false);
+
+        ArrayNode batch = OBJECT_MAPPER.createArrayNode();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(buildRequest("service.method" + (i % METHOD_COUNT), i + 1, i % 4 == 3));
+        }
+        batchPayload = batch;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        notificationPool.shutdown();
+        notificationPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult dispatchRequest(Cursor cursor) {
+        return dispatcher.dispatch(requestPayloads[cursor.next()]);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult dispatchNotification(Cursor cursor) {
+        return dispatcher.dispatch(notificationPayloads[cursor.next()]);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult dispatchDenied() {
+        return dispatcher.dispatch(deniedPayload);
+    }
+
+    @Benchmark
+    public JsonRpcDispatchResult dispatchMixedBatch() {
+        return dispatcher.dispatch(batchPayload);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public JsonRpcDispatchResult mixedRequests(Cursor cursor) {
+        return dispatcher.dispatch(requestPayloads[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public JsonRpcDispatchResult mixedNotifications(Cursor cursor) {
+        return dispatcher.dispatch(notificationPayloads[cursor.next()]);
+    }
+
+    private static ObjectNode buildRequest(String method, int id, boolean notification) {
+        ObjectNode request = OBJECT_MAPPER.createObjectNode();
+        request.put("jsonrpc", "2.0");
+        request.put("method", method);
+        request.putObject("params").put("id", "item-" + id);
+        if (!notification) {
+            request.put("id", id);
+        }
+        return request;
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next() {
+            int current = position;
+            position = (current + 1) % METHOD_COUNT;
+            return current;
+        }
+    }
+
+    @Threads(1)
+    public static class Threads1 extends JsonRpcContentionBenchmark {
+
+    }
+
+    @Threads(4)
+    public static class Threads4 extends JsonRpcContentionBenchmark {
+
+    }
+
+    @Threads(16)
+    public static class Threads16 extends JsonRpcContentionBenchmark {
+
+    }
+
+    @Threads(64)
+    public static class Threads64 extends JsonRpcContentionBenchmark {
+
+    }
+}
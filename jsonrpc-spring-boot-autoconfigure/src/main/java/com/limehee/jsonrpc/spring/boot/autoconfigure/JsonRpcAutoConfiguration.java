@@ -16,11 +16,13 @@ import com.limehee.jsonrpc.core.JacksonJsonRpcResultWriter;
 import com.limehee.jsonrpc.core.JsonRpcDispatcher;
 import com.limehee.jsonrpc.core.JsonRpcExceptionResolver;
 import com.limehee.jsonrpc.core.JsonRpcInterceptor;
+import com.limehee.jsonrpc.core.JsonRpcMicroBatchObserver;
 import com.limehee.jsonrpc.core.JsonRpcMethodInvoker;
 import com.limehee.jsonrpc.core.JsonRpcMethodRegistration;
 import com.limehee.jsonrpc.core.JsonRpcMethodRegistry;
 import com.limehee.jsonrpc.core.JsonRpcNotificationExecutor;
 import com.limehee.jsonrpc.core.JsonRpcParameterBinder;
+import com.limehee.jsonrpc.core.JsonRpcReadConstraints;
 import com.limehee.jsonrpc.core.JsonRpcRequestParser;
 import com.limehee.jsonrpc.core.JsonRpcRequestValidationOptions;
 import com.limehee.jsonrpc.core.JsonRpcRequestValidator;
@@ -31,16 +33,22 @@ import com.limehee.jsonrpc.core.JsonRpcResponseValidationOptions;
 import com.limehee.jsonrpc.core.JsonRpcResponseValidator;
 import com.limehee.jsonrpc.core.JsonRpcResultWriter;
 import com.limehee.jsonrpc.core.JsonRpcTypedMethodHandlerFactory;
+import com.limehee.jsonrpc.core.MicroBatchingJsonRpcMethodInvoker;
+import com.limehee.jsonrpc.core.SingleFlightJsonRpcMethodInvoker;
 import com.limehee.jsonrpc.spring.boot.autoconfigure.support.InstrumentedJsonRpcNotificationExecutor;
 import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcAnnotatedMethodRegistrar;
 import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcMethodAccessInterceptor;
 import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcMetricsInterceptor;
+import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcMicroBatchMetricsObserver;
 import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcWebMvcMetricsObserver;
 import com.limehee.jsonrpc.spring.webmvc.DefaultJsonRpcHttpStatusStrategy;
 import com.limehee.jsonrpc.spring.webmvc.JsonRpcHttpStatusStrategy;
+import com.limehee.jsonrpc.spring.webmvc.JsonRpcWebMvcBinaryFormat;
+import com.limehee.jsonrpc.spring.webmvc.JsonRpcWebMvcCompressionOptions;
 import com.limehee.jsonrpc.spring.webmvc.JsonRpcWebMvcEndpoint;
 import com.limehee.jsonrpc.spring.webmvc.JsonRpcWebMvcObserver;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,15 +58,25 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 /**
  * Spring Boot auto-configuration for JSON-RPC server components.
@@ -130,6 +148,32 @@ public class JsonRpcAutoConfiguration {
             .build();
     }
 
+    /**
+     * Creates tokenizer read constraints for request payloads bound from external configuration.
+     *
+     * @param properties bound JSON-RPC properties
+     * @return request read constraints
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcReadConstraints jsonRpcReadConstraints(JsonRpcProperties properties) {
+        JsonRpcProperties.Validation validation = properties.getValidation();
+        if (validation == null) {
+            throw new IllegalArgumentException("jsonrpc.validation must not be null");
+        }
+        JsonRpcProperties.Validation.Request request = validation.getRequest();
+        if (request == null) {
+            throw new IllegalArgumentException("jsonrpc.validation.request must not be null");
+        }
+        return JsonRpcReadConstraints.builder()
+            .maxNestingDepth(request.getMaxNestingDepth())
+            .maxStringLength(request.getMaxStringLength())
+            .maxNumberLength(request.getMaxNumberLength())
+            .maxPropertyNameLength(request.getMaxPropertyNameLength())
+            .maxDocumentLength(request.getMaxDocumentLength())
+            .build();
+    }
+
     /**
      * Creates request validator for JSON-RPC structural checks.
      *
@@ -224,13 +268,37 @@ public class JsonRpcAutoConfiguration {
 
     /**
      * Creates method invoker used to execute registered handlers.
+     * <p>
+     * When {@code jsonrpc.micro-batch-enabled=true}, concurrent single calls to bulk-capable methods are aggregated
+     * across requests. When {@code jsonrpc.single-flight-methods} is configured, the invoker is further decorated so
+     * concurrent identical calls to those methods share one in-flight invocation.
+     * </p>
      *
+     * @param properties            bound JSON-RPC properties
+     * @param meterRegistryProvider optional meter registry for micro-batch instrumentation
      * @return method invoker implementation
      */
     @Bean
     @ConditionalOnMissingBean
-    public JsonRpcMethodInvoker jsonRpcMethodInvoker() {
-        return new DefaultJsonRpcMethodInvoker();
+    public JsonRpcMethodInvoker jsonRpcMethodInvoker(
+        JsonRpcProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        JsonRpcMethodInvoker invoker = new DefaultJsonRpcMethodInvoker();
+        if (properties.isMicroBatchEnabled()) {
+            Duration window = Duration.ofMillis(properties.getMicroBatchWindowMillis());
+            invoker = new MicroBatchingJsonRpcMethodInvoker(
+                invoker,
+                window,
+                properties.getMicroBatchMaxSize(),
+                microBatchObserver(properties, window, meterRegistryProvider)
+            );
+        }
+        Set<String> singleFlightMethods = normalizeMethodSet(properties.getSingleFlightMethods());
+        if (singleFlightMethods.isEmpty()) {
+            return invoker;
+        }
+        return new SingleFlightJsonRpcMethodInvoker(invoker, singleFlightMethods);
     }
 
     /**
@@ -347,12 +415,16 @@ public class JsonRpcAutoConfiguration {
 
     /**
      * Creates method access control interceptor using configured allowlist and denylist.
+     * <p>
+     * Only registered when at least one list is configured, so an unrestricted endpoint runs without an interceptor.
+     * </p>
      *
      * @param properties bound JSON-RPC properties
      * @return access control interceptor
      */
     @Bean
     @ConditionalOnMissingBean(name = "jsonRpcMethodAccessInterceptor")
+    @Conditional(MethodAccessListsConfiguredCondition.class)
     public JsonRpcInterceptor jsonRpcMethodAccessInterceptor(JsonRpcProperties properties) {
         return new JsonRpcMethodAccessInterceptor(
             normalizeMethodSet(properties.getMethodAllowlist()),
@@ -507,6 +579,8 @@ public class JsonRpcAutoConfiguration {
      * @param objectMapperProvider     provider for custom or default {@link ObjectMapper}
      * @param webMvcObserver           observer for transport-level events
      * @param requestValidationOptions request-validation options
+     * @param binaryFormats            binary encodings served in addition to JSON
+     * @param readConstraints          tokenizer read constraints for request payloads
      * @param properties               bound JSON-RPC properties
      * @return WebMVC endpoint bean
      */
@@ -521,6 +595,8 @@ public class JsonRpcAutoConfiguration {
         ObjectProvider<ObjectMapper> objectMapperProvider,
         JsonRpcWebMvcObserver webMvcObserver,
         JsonRpcRequestValidationOptions requestValidationOptions,
+        ObjectProvider<JsonRpcWebMvcBinaryFormat> binaryFormats,
+        JsonRpcReadConstraints readConstraints,
         JsonRpcProperties properties
     ) {
         ObjectMapper objectMapper = objectMapperProvider.getIfAvailable(() -> JsonMapper.builder().build());
@@ -530,7 +606,14 @@ public class JsonRpcAutoConfiguration {
             httpStatusStrategy,
             properties.getMaxRequestBytes(),
             webMvcObserver,
-            requestValidationOptions.rejectDuplicateMembers()
+            requestValidationOptions.rejectDuplicateMembers(),
+            JsonRpcWebMvcCompressionOptions.builder()
+                .responseCompressionEnabled(properties.isResponseCompressionEnabled())
+                .minResponseBytes(properties.getResponseCompressionMinBytes())
+                .requestDecompressionEnabled(properties.isRequestDecompressionEnabled())
+                .build(),
+            binaryFormats.orderedStream().toList(),
+            readConstraints
         );
     }
 
@@ -582,6 +665,47 @@ public class JsonRpcAutoConfiguration {
         if (properties.getMetricsMaxMethodTagValues() <= 0) {
             throw new IllegalArgumentException("jsonrpc.metrics-max-method-tag-values must be greater than 0");
         }
+        if (properties.getMicroBatchWindowMillis() <= 0) {
+            throw new IllegalArgumentException("jsonrpc.micro-batch-window-millis must be greater than 0");
+        }
+        if (properties.getMicroBatchMaxSize() <= 0) {
+            throw new IllegalArgumentException("jsonrpc.micro-batch-max-size must be greater than 0");
+        }
+        if (properties.getResponseCompressionMinBytes() < 0) {
+            throw new IllegalArgumentException(
+                "jsonrpc.response-compression-min-bytes must be greater than or equal to 0"
+            );
+        }
+        if (properties.getWebsocketPath() == null || properties.getWebsocketPath().isBlank()
+            || !properties.getWebsocketPath().startsWith("/") || containsWhitespace(properties.getWebsocketPath())) {
+            throw new IllegalArgumentException(
+                "jsonrpc.websocket-path must start with '/' and must not contain whitespace"
+            );
+        }
+        if (properties.getWebsocketAllowedOrigins() == null) {
+            throw new IllegalArgumentException("jsonrpc.websocket-allowed-origins must not be null");
+        }
+        if (properties.getWebsocketMaxInFlightPerSession() <= 0) {
+            throw new IllegalArgumentException("jsonrpc.websocket-max-in-flight-per-session must be greater than 0");
+        }
+        if (properties.getWebsocketSendTimeLimitMillis() <= 0) {
+            throw new IllegalArgumentException("jsonrpc.websocket-send-time-limit-millis must be greater than 0");
+        }
+        if (properties.getWebsocketSendBufferSizeLimitBytes() <= 0) {
+            throw new IllegalArgumentException(
+                "jsonrpc.websocket-send-buffer-size-limit-bytes must be greater than 0"
+            );
+        }
+        if (properties.getWebsocketSubscriberQueueCapacity() <= 0) {
+            throw new IllegalArgumentException(
+                "jsonrpc.websocket-subscriber-queue-capacity must be greater than 0"
+            );
+        }
+        if (properties.getWebsocketWorkerThreads() < 0) {
+            throw new IllegalArgumentException(
+                "jsonrpc.websocket-worker-threads must be greater than or equal to 0"
+            );
+        }
         if (properties.getNotificationExecutorBeanName() == null) {
             throw new IllegalArgumentException("jsonrpc.notification-executor-bean-name must not be null");
         }
@@ -596,6 +720,26 @@ public class JsonRpcAutoConfiguration {
                 "jsonrpc.validation.request.params-type-violation-code-policy must not be null"
             );
         }
+        JsonRpcProperties.Validation.Request request = properties.getValidation().getRequest();
+        if (request.getMaxNestingDepth() <= 0) {
+            throw new IllegalArgumentException("jsonrpc.validation.request.max-nesting-depth must be greater than 0");
+        }
+        if (request.getMaxStringLength() <= 0) {
+            throw new IllegalArgumentException("jsonrpc.validation.request.max-string-length must be greater than 0");
+        }
+        if (request.getMaxNumberLength() <= 0) {
+            throw new IllegalArgumentException("jsonrpc.validation.request.max-number-length must be greater than 0");
+        }
+        if (request.getMaxPropertyNameLength() <= 0) {
+            throw new IllegalArgumentException(
+                "jsonrpc.validation.request.max-property-name-length must be greater than 0"
+            );
+        }
+        if (request.getMaxDocumentLength() < 0) {
+            throw new IllegalArgumentException(
+                "jsonrpc.validation.request.max-document-length must be greater than or equal to 0"
+            );
+        }
         if (properties.getValidation().getResponse() == null) {
             throw new IllegalArgumentException("jsonrpc.validation.response must not be null");
         }
@@ -633,6 +777,7 @@ public class JsonRpcAutoConfiguration {
 
         validateMethodList("jsonrpc.method-allowlist", properties.getMethodAllowlist());
         validateMethodList("jsonrpc.method-denylist", properties.getMethodDenylist());
+        validateMethodList("jsonrpc.single-flight-methods", properties.getSingleFlightMethods());
         validatePercentiles(properties.getMetricsLatencyPercentiles());
     }
 
@@ -711,6 +856,33 @@ public class JsonRpcAutoConfiguration {
         );
     }
 
+    /**
+     * Creates the micro-batch observer, using Micrometer when metrics are enabled and available.
+     *
+     * @param properties            bound JSON-RPC properties
+     * @param window                configured collection window
+     * @param meterRegistryProvider provider for optional meter registry
+     * @return metrics observer when possible, otherwise a no-op observer
+     */
+    private JsonRpcMicroBatchObserver microBatchObserver(
+        JsonRpcProperties properties,
+        Duration window,
+        ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        MeterRegistry meterRegistry = properties.isMetricsEnabled() ? meterRegistryProvider.getIfAvailable() : null;
+        if (meterRegistry == null) {
+            return new JsonRpcMicroBatchObserver() {
+            };
+        }
+        return new JsonRpcMicroBatchMetricsObserver(
+            meterRegistry,
+            window,
+            properties.getMicroBatchMaxSize(),
+            properties.isMetricsLatencyHistogramEnabled(),
+            toPercentileArray(properties.getMetricsLatencyPercentiles())
+        );
+    }
+
     /**
      * Validates percentile values used for metrics publication.
      *
@@ -736,7 +908,7 @@ public class JsonRpcAutoConfiguration {
      * @return primitive percentile array
      * @throws IllegalArgumentException if a percentile is null or outside {@code (0,1)}
      */
-    private double[] toPercentileArray(List<Double> percentiles) {
+    static double[] toPercentileArray(List<Double> percentiles) {
         if (percentiles == null || percentiles.isEmpty()) {
             return new double[0];
         }
@@ -751,4 +923,83 @@ public class JsonRpcAutoConfiguration {
         }
         return values;
     }
+
+    /**
+     * Registers the CBOR binary format when the Jackson CBOR module is on the classpath.
+     * <p>
+     * Kept in its own configuration class so {@link CBORMapper} is only resolved after the class condition matched.
+     * </p>
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({CBORMapper.class, JsonRpcWebMvcEndpoint.class})
+    static class CborBinaryFormatConfiguration {
+
+        /**
+         * Creates the CBOR binary format served by the WebMVC endpoint.
+         *
+         * @return CBOR binary format
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "jsonRpcCborBinaryFormat")
+        @ConditionalOnProperty(prefix = "jsonrpc", name = "cbor-enabled", havingValue = "true")
+        public JsonRpcWebMvcBinaryFormat jsonRpcCborBinaryFormat() {
+            return JsonRpcWebMvcBinaryFormat.cbor(CBORMapper.builder().build());
+        }
+    }
+
+    /**
+     * Registers the Smile binary format when the Jackson Smile module is on the classpath.
+     * <p>
+     * Kept in its own configuration class so {@link SmileMapper} is only resolved after the class condition matched.
+     * </p>
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({SmileMapper.class, JsonRpcWebMvcEndpoint.class})
+    static class SmileBinaryFormatConfiguration {
+
+        /**
+         * Creates the Smile binary format served by the WebMVC endpoint.
+         *
+         * @return Smile binary format
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "jsonRpcSmileBinaryFormat")
+        @ConditionalOnProperty(prefix = "jsonrpc", name = "smile-enabled", havingValue = "true")
+        public JsonRpcWebMvcBinaryFormat jsonRpcSmileBinaryFormat() {
+            return JsonRpcWebMvcBinaryFormat.smile(SmileMapper.builder().build());
+        }
+    }
+
+    /**
+     * Matches when {@code jsonrpc.method-allowlist} or {@code jsonrpc.method-denylist} holds at least one entry.
+     */
+    static class MethodAccessListsConfiguredCondition extends SpringBootCondition {
+
+        /**
+         * Binds both lists and checks whether either is non-empty.
+         *
+         * @param context  condition context
+         * @param metadata metadata of the annotated bean method
+         * @return match outcome
+         */
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            Binder binder = Binder.get(context.getEnvironment());
+            if (isConfigured(binder, "jsonrpc.method-allowlist") || isConfigured(binder, "jsonrpc.method-denylist")) {
+                return ConditionOutcome.match("JSON-RPC method access lists are configured");
+            }
+            return ConditionOutcome.noMatch("No JSON-RPC method access lists are configured");
+        }
+
+        /**
+         * Checks whether a list property is bound to at least one entry.
+         *
+         * @param binder binder over the environment
+         * @param name   list property name
+         * @return {@code true} when the list is non-empty
+         */
+        private static boolean isConfigured(Binder binder, String name) {
+            return binder.bind(name, Bindable.listOf(String.class)).map(list -> !list.isEmpty()).orElse(false);
+        }
+    }
 }
@@ -34,6 +34,24 @@ public class JsonRpcProperties {
     private Validation validation = new Validation();
     private List<String> methodAllowlist = new ArrayList<>();
     private List<String> methodDenylist = new ArrayList<>();
+    private List<String> singleFlightMethods = new ArrayList<>();
+    private boolean microBatchEnabled = false;
+    private long microBatchWindowMillis = 5;
+    private int microBatchMaxSize = 100;
+    private boolean responseCompressionEnabled = false;
+    private int responseCompressionMinBytes = 2048;
+    private boolean requestDecompressionEnabled = false;
+    private boolean cborEnabled = false;
+    private boolean smileEnabled = false;
+    private boolean websocketEnabled = false;
+    private String websocketPath = "/jsonrpc/ws";
+    private List<String> websocketAllowedOrigins = new ArrayList<>();
+    private int websocketMaxInFlightPerSession = 16;
+    private long websocketSendTimeLimitMillis = 10_000;
+    private int websocketSendBufferSizeLimitBytes = 524_288;
+    private int websocketWorkerThreads = 0;
+    private int websocketSubscriberQueueCapacity = 256;
+    private String websocketSubscriberOverflowPolicy = "drop-oldest";
 
     /**
      * Indicates whether the JSON-RPC WebMVC transport endpoint bean is registered.
@@ -331,6 +349,340 @@ public class JsonRpcProperties {
         this.methodDenylist = methodDenylist;
     }
 
+    /**
+     * Returns methods whose concurrent identical calls are coalesced into one in-flight invocation.
+     *
+     * @return configured single-flight method names
+     */
+    public List<String> getSingleFlightMethods() {
+        return singleFlightMethods;
+    }
+
+    /**
+     * Sets methods whose concurrent identical calls are coalesced into one in-flight invocation.
+     *
+     * @param singleFlightMethods method names; empty list disables single-flight coalescing
+     */
+    public void setSingleFlightMethods(List<String> singleFlightMethods) {
+        this.singleFlightMethods = singleFlightMethods;
+    }
+
+    /**
+     * Indicates whether concurrent single calls to bulk-capable methods are aggregated across requests.
+     *
+     * @return {@code true} when cross-request micro-batching is enabled
+     */
+    public boolean isMicroBatchEnabled() {
+        return microBatchEnabled;
+    }
+
+    /**
+     * Sets whether concurrent single calls to bulk-capable methods are aggregated across requests.
+     *
+     * @param microBatchEnabled {@code true} to enable cross-request micro-batching
+     */
+    public void setMicroBatchEnabled(boolean microBatchEnabled) {
+        this.microBatchEnabled = microBatchEnabled;
+    }
+
+    /**
+     * Returns the maximum time the first call of a micro-batch waits for more calls.
+     *
+     * @return collection window in milliseconds
+     */
+    public long getMicroBatchWindowMillis() {
+        return microBatchWindowMillis;
+    }
+
+    /**
+     * Sets the maximum time the first call of a micro-batch waits for more calls.
+     *
+     * @param microBatchWindowMillis collection window in milliseconds; must be greater than {@code 0}
+     */
+    public void setMicroBatchWindowMillis(long microBatchWindowMillis) {
+        this.microBatchWindowMillis = microBatchWindowMillis;
+    }
+
+    /**
+     * Returns the number of collected calls that flushes a micro-batch before the window elapses.
+     *
+     * @return maximum micro-batch size
+     */
+    public int getMicroBatchMaxSize() {
+        return microBatchMaxSize;
+    }
+
+    /**
+     * Sets the number of collected calls that flushes a micro-batch before the window elapses.
+     *
+     * @param microBatchMaxSize maximum micro-batch size; must be greater than {@code 0}
+     */
+    public void setMicroBatchMaxSize(int microBatchMaxSize) {
+        this.microBatchMaxSize = microBatchMaxSize;
+    }
+
+    /**
+     * Indicates whether WebMVC responses are compressed when the client accepts {@code gzip} or {@code deflate}.
+     *
+     * @return {@code true} when response compression is enabled
+     */
+    public boolean isResponseCompressionEnabled() {
+        return responseCompressionEnabled;
+    }
+
+    /**
+     * Sets whether WebMVC responses are compressed when the client accepts {@code gzip} or {@code deflate}.
+     *
+     * @param responseCompressionEnabled {@code true} to enable response compression
+     */
+    public void setResponseCompressionEnabled(boolean responseCompressionEnabled) {
+        this.responseCompressionEnabled = responseCompressionEnabled;
+    }
+
+    /**
+     * Returns the minimum serialized response size before compression is applied.
+     *
+     * @return compression threshold in bytes
+     */
+    public int getResponseCompressionMinBytes() {
+        return responseCompressionMinBytes;
+    }
+
+    /**
+     * Sets the minimum serialized response size before compression is applied.
+     *
+     * @param responseCompressionMinBytes compression threshold in bytes; must be greater than or equal to {@code 0}
+     */
+    public void setResponseCompressionMinBytes(int responseCompressionMinBytes) {
+        this.responseCompressionMinBytes = responseCompressionMinBytes;
+    }
+
+    /**
+     * Indicates whether {@code gzip} and {@code deflate} request bodies are decoded according to
+     * {@code Content-Encoding}.
+     *
+     * @return {@code true} when request decompression is enabled
+     */
+    public boolean isRequestDecompressionEnabled() {
+        return requestDecompressionEnabled;
+    }
+
+    /**
+     * Sets whether {@code gzip} and {@code deflate} request bodies are decoded according to {@code Content-Encoding}.
+     *
+     * @param requestDecompressionEnabled {@code true} to enable request decompression
+     */
+    public void setRequestDecompressionEnabled(boolean requestDecompressionEnabled) {
+        this.requestDecompressionEnabled = requestDecompressionEnabled;
+    }
+
+    /**
+     * Indicates whether the WebMVC endpoint accepts and produces {@code application/cbor}.
+     *
+     * @return {@code true} when CBOR is enabled
+     */
+    public boolean isCborEnabled() {
+        return cborEnabled;
+    }
+
+    /**
+     * Sets whether the WebMVC endpoint accepts and produces {@code application/cbor}.
+     * <p>
+     * Requires {@code tools.jackson.dataformat:jackson-dataformat-cbor} on the classpath.
+     *
+     * @param cborEnabled {@code true} to enable CBOR
+     */
+    public void setCborEnabled(boolean cborEnabled) {
+        this.cborEnabled = cborEnabled;
+    }
+
+    /**
+     * Indicates whether the WebMVC endpoint accepts and produces {@code application/x-jackson-smile}.
+     *
+     * @return {@code true} when Smile is enabled
+     */
+    public boolean isSmileEnabled() {
+        return smileEnabled;
+    }
+
+    /**
+     * Sets whether the WebMVC endpoint accepts and produces {@code application/x-jackson-smile}.
+     * <p>
+     * Requires {@code tools.jackson.dataformat:jackson-dataformat-smile} on the classpath.
+     *
+     * @param smileEnabled {@code true} to enable Smile
+     */
+    public void setSmileEnabled(boolean smileEnabled) {
+        this.smileEnabled = smileEnabled;
+    }
+
+    /**
+     * Indicates whether the JSON-RPC WebSocket endpoint is registered.
+     *
+     * @return {@code true} when the WebSocket endpoint is enabled
+     */
+    public boolean isWebsocketEnabled() {
+        return websocketEnabled;
+    }
+
+    /**
+     * Sets whether the JSON-RPC WebSocket endpoint is registered.
+     * <p>
+     * Requires {@code jsonrpc-spring-websocket} on the classpath.
+     *
+     * @param websocketEnabled {@code true} to enable the WebSocket endpoint
+     */
+    public void setWebsocketEnabled(boolean websocketEnabled) {
+        this.websocketEnabled = websocketEnabled;
+    }
+
+    /**
+     * Returns the path where JSON-RPC WebSocket connections are accepted.
+     *
+     * @return WebSocket endpoint path; default is {@code /jsonrpc/ws}
+     */
+    public String getWebsocketPath() {
+        return websocketPath;
+    }
+
+    /**
+     * Sets the path where JSON-RPC WebSocket connections are accepted.
+     *
+     * @param websocketPath endpoint path; must start with {@code /} and contain no whitespace
+     */
+    public void setWebsocketPath(String websocketPath) {
+        this.websocketPath = websocketPath;
+    }
+
+    /**
+     * Returns origins allowed to open WebSocket connections in addition to the same origin.
+     *
+     * @return allowed origin patterns
+     */
+    public List<String> getWebsocketAllowedOrigins() {
+        return websocketAllowedOrigins;
+    }
+
+    /**
+     * Sets origins allowed to open WebSocket connections in addition to the same origin.
+     *
+     * @param websocketAllowedOrigins allowed origin patterns such as {@code https://*.example.com}
+     */
+    public void setWebsocketAllowedOrigins(List<String> websocketAllowedOrigins) {
+        this.websocketAllowedOrigins = websocketAllowedOrigins;
+    }
+
+    /**
+     * Returns how many messages from one WebSocket connection may be in flight at once.
+     *
+     * @return per-connection in-flight limit
+     */
+    public int getWebsocketMaxInFlightPerSession() {
+        return websocketMaxInFlightPerSession;
+    }
+
+    /**
+     * Sets how many messages from one WebSocket connection may be in flight at once.
+     *
+     * @param websocketMaxInFlightPerSession per-connection in-flight limit; must be greater than {@code 0}
+     */
+    public void setWebsocketMaxInFlightPerSession(int websocketMaxInFlightPerSession) {
+        this.websocketMaxInFlightPerSession = websocketMaxInFlightPerSession;
+    }
+
+    /**
+     * Returns the maximum time a single WebSocket send may take before the connection is closed.
+     *
+     * @return send time limit in milliseconds
+     */
+    public long getWebsocketSendTimeLimitMillis() {
+        return websocketSendTimeLimitMillis;
+    }
+
+    /**
+     * Sets the maximum time a single WebSocket send may take before the connection is closed.
+     *
+     * @param websocketSendTimeLimitMillis send time limit in milliseconds; must be greater than {@code 0}
+     */
+    public void setWebsocketSendTimeLimitMillis(long websocketSendTimeLimitMillis) {
+        this.websocketSendTimeLimitMillis = websocketSendTimeLimitMillis;
+    }
+
+    /**
+     * Returns how many response bytes may be buffered per WebSocket connection while a send is in progress.
+     *
+     * @return send buffer limit in bytes
+     */
+    public int getWebsocketSendBufferSizeLimitBytes() {
+        return websocketSendBufferSizeLimitBytes;
+    }
+
+    /**
+     * Sets how many response bytes may be buffered per WebSocket connection while a send is in progress.
+     *
+     * @param websocketSendBufferSizeLimitBytes send buffer limit in bytes; must be greater than {@code 0}
+     */
+    public void setWebsocketSendBufferSizeLimitBytes(int websocketSendBufferSizeLimitBytes) {
+        this.websocketSendBufferSizeLimitBytes = websocketSendBufferSizeLimitBytes;
+    }
+
+    /**
+     * Returns the number of worker threads dispatching WebSocket messages.
+     *
+     * @return worker thread count; {@code 0} means the number of available processors
+     */
+    public int getWebsocketWorkerThreads() {
+        return websocketWorkerThreads;
+    }
+
+    /**
+     * Sets the number of worker threads dispatching WebSocket messages.
+     *
+     * @param websocketWorkerThreads worker thread count; {@code 0} for the number of available processors
+     */
+    public void setWebsocketWorkerThreads(int websocketWorkerThreads) {
+        this.websocketWorkerThreads = websocketWorkerThreads;
+    }
+
+    /**
+     * Returns how many broadcasts may be queued per WebSocket connection while earlier ones are being sent.
+     *
+     * @return subscriber queue capacity
+     */
+    public int getWebsocketSubscriberQueueCapacity() {
+        return websocketSubscriberQueueCapacity;
+    }
+
+    /**
+     * Sets how many broadcasts may be queued per WebSocket connection while earlier ones are being sent.
+     *
+     * @param websocketSubscriberQueueCapacity subscriber queue capacity; must be greater than {@code 0}
+     */
+    public void setWebsocketSubscriberQueueCapacity(int websocketSubscriberQueueCapacity) {
+        this.websocketSubscriberQueueCapacity = websocketSubscriberQueueCapacity;
+    }
+
+    /**
+     * Returns the action taken when a broadcast reaches a WebSocket connection whose queue is full.
+     *
+     * @return {@code drop-oldest} or {@code disconnect}
+     */
+    public String getWebsocketSubscriberOverflowPolicy() {
+        return websocketSubscriberOverflowPolicy;
+    }
+
+    /**
+     * Sets the action taken when a broadcast reaches a WebSocket connection whose queue is full.
+     * <p>
+     * Kept as text so that the property binds without {@code jsonrpc-spring-websocket} on the classpath.
+     *
+     * @param websocketSubscriberOverflowPolicy {@code drop-oldest} to discard the oldest queued broadcast, or
+     *                                          {@code disconnect} to close the connection
+     */
+    public void setWebsocketSubscriberOverflowPolicy(String websocketSubscriberOverflowPolicy) {
+        this.websocketSubscriberOverflowPolicy = websocketSubscriberOverflowPolicy;
+    }
+
     /**
      * Nested validation configuration under {@code jsonrpc.validation.*}.
      */
@@ -390,6 +742,11 @@ public class JsonRpcProperties {
             private boolean rejectDuplicateMembers = false;
             private JsonRpcParamsTypeViolationCodePolicy paramsTypeViolationCodePolicy =
                 JsonRpcParamsTypeViolationCodePolicy.INVALID_PARAMS;
+            private int maxNestingDepth = 128;
+            private int maxStringLength = 1_048_576;
+            private int maxNumberLength = 100;
+            private int maxPropertyNameLength = 1024;
+            private long maxDocumentLength = 0;
 
             /**
              * Indicates whether {@code jsonrpc == "2.0"} is required on incoming requests.
@@ -559,6 +916,96 @@ public class JsonRpcProperties {
                     "paramsTypeViolationCodePolicy"
                 );
             }
+
+            /**
+             * Returns the maximum nesting depth of arrays and objects in request payloads.
+             *
+             * @return maximum nesting depth
+             */
+            public int getMaxNestingDepth() {
+                return maxNestingDepth;
+            }
+
+            /**
+             * Sets the maximum nesting depth of arrays and objects in request payloads.
+             *
+             * @param maxNestingDepth maximum nesting depth
+             */
+            public void setMaxNestingDepth(int maxNestingDepth) {
+                this.maxNestingDepth = maxNestingDepth;
+            }
+
+            /**
+             * Returns the maximum length of a string value in request payloads.
+             *
+             * @return maximum string length in characters
+             */
+            public int getMaxStringLength() {
+                return maxStringLength;
+            }
+
+            /**
+             * Sets the maximum length of a string value in request payloads.
+             *
+             * @param maxStringLength maximum string length in characters
+             */
+            public void setMaxStringLength(int maxStringLength) {
+                this.maxStringLength = maxStringLength;
+            }
+
+            /**
+             * Returns the maximum length of a number literal in request payloads.
+             *
+             * @return maximum number length in characters
+             */
+            public int getMaxNumberLength() {
+                return maxNumberLength;
+            }
+
+            /**
+             * Sets the maximum length of a number literal in request payloads.
+             *
+             * @param maxNumberLength maximum number length in characters
+             */
+            public void setMaxNumberLength(int maxNumberLength) {
+                this.maxNumberLength = maxNumberLength;
+            }
+
+            /**
+             * Returns the maximum length of an object property name in request payloads.
+             *
+             * @return maximum property name length in characters
+             */
+            public int getMaxPropertyNameLength() {
+                return maxPropertyNameLength;
+            }
+
+            /**
+             * Sets the maximum length of an object property name in request payloads.
+             *
+             * @param maxPropertyNameLength maximum property name length in characters
+             */
+            public void setMaxPropertyNameLength(int maxPropertyNameLength) {
+                this.maxPropertyNameLength = maxPropertyNameLength;
+            }
+
+            /**
+             * Returns the maximum request document length enforced by the tokenizer.
+             *
+             * @return maximum document length; {@code 0} when unlimited
+             */
+            public long getMaxDocumentLength() {
+                return maxDocumentLength;
+            }
+
+            /**
+             * Sets the maximum request document length enforced by the tokenizer.
+             *
+             * @param maxDocumentLength maximum document length; {@code 0} for unlimited
+             */
+            public void setMaxDocumentLength(long maxDocumentLength) {
+                this.maxDocumentLength = maxDocumentLength;
+            }
         }
 
         /**
@@ -0,0 +1,177 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcReadConstraints;
+import com.limehee.jsonrpc.core.JsonRpcRequestValidationOptions;
+import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcWebSocketMetricsObserver;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcSubscriberOverflowPolicy;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcWebSocketHandler;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcWebSocketObserver;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcWebSocketOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Spring Boot auto-configuration for the JSON-RPC WebSocket transport.
+ * <p>
+ * Active in servlet applications when {@code jsonrpc-spring-websocket} is on the classpath and
+ * {@code jsonrpc.websocket-enabled=true}. The endpoint shares the dispatcher, read constraints, and metrics meters of
+ * the HTTP endpoint and dispatches messages on a dedicated worker pool.
+ * </p>
+ */
+@AutoConfiguration(after = JsonRpcAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({JsonRpcWebSocketHandler.class, WebSocketConfigurer.class})
+@ConditionalOnBean(JsonRpcDispatcher.class)
+@ConditionalOnProperty(prefix = "jsonrpc", name = "websocket-enabled", havingValue = "true")
+@EnableWebSocket
+public class JsonRpcWebSocketAutoConfiguration {
+
+    /**
+     * Creates the worker pool on which WebSocket messages are dispatched.
+     *
+     * @param properties bound JSON-RPC properties
+     * @return fixed-size worker pool, shut down with the application context
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "jsonRpcWebSocketExecutor")
+    public ExecutorService jsonRpcWebSocketExecutor(JsonRpcProperties properties) {
+        int threads = properties.getWebsocketWorkerThreads() > 0
+            ? properties.getWebsocketWorkerThreads()
+            : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("jsonrpc-ws-"));
+    }
+
+    /**
+     * Creates transport metrics observer for WebSocket-specific events.
+     *
+     * @param properties    bound JSON-RPC properties
+     * @param meterRegistry meter registry used for metric publication
+     * @return WebSocket metrics observer
+     */
+    @Bean
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean(JsonRpcWebSocketObserver.class)
+    @ConditionalOnProperty(prefix = "jsonrpc", name = "metrics-enabled", havingValue = "true", matchIfMissing = true)
+    public JsonRpcWebSocketObserver jsonRpcWebSocketMetricsObserver(
+        JsonRpcProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new JsonRpcWebSocketMetricsObserver(
+            meterRegistry,
+            properties.isMetricsLatencyHistogramEnabled(),
+            JsonRpcAutoConfiguration.toPercentileArray(properties.getMetricsLatencyPercentiles())
+        );
+    }
+
+    /**
+     * Creates no-op WebSocket observer when no explicit observer bean is provided.
+     *
+     * @return no-op observer instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(JsonRpcWebSocketObserver.class)
+    public JsonRpcWebSocketObserver jsonRpcWebSocketObserver() {
+        return JsonRpcWebSocketObserver.noOp();
+    }
+
+    /**
+     * Creates the JSON-RPC WebSocket handler.
+     *
+     * @param dispatcher               dispatcher handling JSON-RPC requests
+     * @param objectMapperProvider     provider for custom or default {@link ObjectMapper}
+     * @param executor                 worker pool on which messages are dispatched
+     * @param observer                 observer for transport-level events
+     * @param requestValidationOptions request-validation options
+     * @param readConstraints          tokenizer read constraints for request payloads
+     * @param properties               bound JSON-RPC properties
+     * @return WebSocket handler bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JsonRpcWebSocketHandler jsonRpcWebSocketHandler(
+        JsonRpcDispatcher dispatcher,
+        ObjectProvider<ObjectMapper> objectMapperProvider,
+        @Qualifier("jsonRpcWebSocketExecutor") ExecutorService executor,
+        JsonRpcWebSocketObserver observer,
+        JsonRpcRequestValidationOptions requestValidationOptions,
+        JsonRpcReadConstraints readConstraints,
+        JsonRpcProperties properties
+    ) {
+        ObjectMapper objectMapper = objectMapperProvider.getIfAvailable(() -> JsonMapper.builder().build());
+        return new JsonRpcWebSocketHandler(
+            dispatcher,
+            objectMapper,
+            executor,
+            JsonRpcWebSocketOptions.builder()
+                .maxMessageBytes(properties.getMaxRequestBytes())
+                .maxInFlightPerSession(properties.getWebsocketMaxInFlightPerSession())
+                .sendTimeLimit(Duration.ofMillis(properties.getWebsocketSendTimeLimitMillis()))
+                .sendBufferSizeLimit(properties.getWebsocketSendBufferSizeLimitBytes())
+                .subscriberQueueCapacity(properties.getWebsocketSubscriberQueueCapacity())
+                .subscriberOverflowPolicy(overflowPolicy(properties.getWebsocketSubscriberOverflowPolicy()))
+                .build(),
+            observer,
+            requestValidationOptions.rejectDuplicateMembers(),
+            readConstraints
+        );
+    }
+
+    /**
+     * Registers the WebSocket handler at the configured path.
+     *
+     * @param handler    JSON-RPC WebSocket handler
+     * @param properties bound JSON-RPC properties
+     * @return configurer mapping the handler
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "jsonRpcWebSocketConfigurer")
+    public WebSocketConfigurer jsonRpcWebSocketConfigurer(
+        JsonRpcWebSocketHandler handler,
+        JsonRpcProperties properties
+    ) {
+        String[] allowedOrigins = properties.getWebsocketAllowedOrigins().toArray(String[]::new);
+        return registry -> registry.addHandler(handler, properties.getWebsocketPath())
+            .setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    /**
+     * Resolves the subscriber overflow policy property.
+     *
+     * @param value property value such as {@code drop-oldest} or {@code disconnect}
+     * @return overflow policy
+     * @throws IllegalArgumentException if the value names no policy
+     */
+    private JsonRpcSubscriberOverflowPolicy overflowPolicy(@Nullable String value) {
+        if (value != null) {
+            String name = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+            for (JsonRpcSubscriberOverflowPolicy policy : JsonRpcSubscriberOverflowPolicy.values()) {
+                if (policy.name().equals(name)) {
+                    return policy;
+                }
+            }
+        }
+        throw new IllegalArgumentException(
+            "jsonrpc.websocket-subscriber-overflow-policy must be 'drop-oldest' or 'disconnect'"
+        );
+    }
+}
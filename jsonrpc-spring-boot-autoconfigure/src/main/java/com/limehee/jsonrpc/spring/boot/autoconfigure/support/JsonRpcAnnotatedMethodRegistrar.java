@@ -4,6 +4,7 @@ import com.limehee.jsonrpc.core.JsonRpcConstants;
 import com.limehee.jsonrpc.core.JsonRpcDispatcher;
 import com.limehee.jsonrpc.core.JsonRpcErrorCode;
 import com.limehee.jsonrpc.core.JsonRpcException;
+import com.limehee.jsonrpc.core.JsonRpcIdempotentMethodHandler;
 import com.limehee.jsonrpc.core.JsonRpcMethod;
 import com.limehee.jsonrpc.core.JsonRpcMethodHandler;
 import com.limehee.jsonrpc.core.JsonRpcParam;
@@ -33,6 +34,8 @@ import tools.jackson.databind.JsonNode;
  * <li>Methods with zero parameters are registered as no-parameter handlers.</li>
  * <li>Methods with one parameter are registered through unary typed binding.</li>
  * <li>Methods with multiple parameters support positional arrays and named-object binding.</li>
+ * <li>Methods declared with {@link JsonRpcMethod#idempotent()} are registered as
+ * {@link JsonRpcIdempotentMethodHandler}.</li>
  * </ul>
  * <p>
  * For named binding, parameter names are resolved from {@link JsonRpcParam} first, then from
@@ -102,6 +105,9 @@ public final class JsonRpcAnnotatedMethodRegistrar implements SmartInitializingS
                 String methodName = annotation.value().isBlank() ? method.getName() : annotation.value();
                 Method invocableMethod = resolveInvocableMethod(bean.getClass(), method);
                 JsonRpcMethodHandler handler = buildHandler(bean, invocableMethod);
+                if (annotation.idempotent()) {
+                    handler = JsonRpcIdempotentMethodHandler.of(handler);
+                }
                 dispatcher.register(methodName, handler);
             }
         }
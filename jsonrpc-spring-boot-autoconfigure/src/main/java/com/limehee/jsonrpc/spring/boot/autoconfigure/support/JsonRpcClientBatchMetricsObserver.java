@@ -0,0 +1,87 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure.support;
+
+import com.limehee.jsonrpc.client.JsonRpcClientObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer-backed observer for {@code JsonRpcClient} micro-batching.
+ * <p>
+ * The client is not auto-configured, so pass an instance to the {@code JsonRpcClient} constructor. The observer
+ * records achieved batch sizes, the time each batch waited before it was sent, and flush counts by reason
+ * ({@code window} or {@code max_size}).
+ * </p>
+ */
+public final class JsonRpcClientBatchMetricsObserver implements JsonRpcClientObserver {
+
+    private static final String SIZE_METRIC = "jsonrpc.client.batch.size";
+    private static final String WAIT_METRIC = "jsonrpc.client.batch.wait";
+    private static final String FLUSH_METRIC = "jsonrpc.client.batch.flushes";
+
+    private final DistributionSummary sizeSummary;
+    private final Timer waitTimer;
+    private final Counter windowFlushCounter;
+    private final Counter maxSizeFlushCounter;
+
+    /**
+     * Creates a client batch observer without histograms or percentiles.
+     *
+     * @param meterRegistry registry where metrics are published
+     */
+    public JsonRpcClientBatchMetricsObserver(MeterRegistry meterRegistry) {
+        this(meterRegistry, false, new double[0]);
+    }
+
+    /**
+     * Creates a client batch observer that records batching metrics.
+     *
+     * @param meterRegistry           registry where metrics are published
+     * @param latencyHistogramEnabled whether histogram distribution is enabled for size and wait metrics
+     * @param latencyPercentiles      configured percentiles for size and wait metrics
+     */
+    public JsonRpcClientBatchMetricsObserver(
+        MeterRegistry meterRegistry,
+        boolean latencyHistogramEnabled,
+        double[] latencyPercentiles
+    ) {
+        MeterRegistry targetRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+        double[] configuredPercentiles = Objects.requireNonNull(latencyPercentiles, "latencyPercentiles");
+
+        DistributionSummary.Builder summaryBuilder = DistributionSummary.builder(SIZE_METRIC);
+        Timer.Builder timerBuilder = Timer.builder(WAIT_METRIC);
+        if (latencyHistogramEnabled) {
+            summaryBuilder.publishPercentileHistogram();
+            timerBuilder.publishPercentileHistogram();
+        }
+        if (configuredPercentiles.length > 0) {
+            summaryBuilder.publishPercentiles(configuredPercentiles);
+            timerBuilder.publishPercentiles(configuredPercentiles);
+        }
+        this.sizeSummary = summaryBuilder.register(targetRegistry);
+        this.waitTimer = timerBuilder.register(targetRegistry);
+        this.windowFlushCounter = targetRegistry.counter(FLUSH_METRIC, "reason", "window");
+        this.maxSizeFlushCounter = targetRegistry.counter(FLUSH_METRIC, "reason", "max_size");
+    }
+
+    /**
+     * Records batch size, wait time, and flush reason.
+     *
+     * @param batchSize number of calls sent in the exchange
+     * @param waitNanos time between the first call joining the batch and the flush
+     * @param full      whether the batch was flushed because it reached the maximum size
+     */
+    @Override
+    public void onBatchFlush(int batchSize, long waitNanos, boolean full) {
+        sizeSummary.record(batchSize);
+        waitTimer.record(Math.max(0L, waitNanos), TimeUnit.NANOSECONDS);
+        if (full) {
+            maxSizeFlushCounter.increment();
+            return;
+        }
+        windowFlushCounter.increment();
+    }
+}
@@ -35,6 +35,16 @@ public final class JsonRpcMethodAccessInterceptor implements JsonRpcInterceptor,
         this.denylist = denylist;
     }
 
+    /**
+     * Access is decided from the method name at invocation time, so requests may be decoded without a raw node.
+     *
+     * @return always {@code false}
+     */
+    @Override
+    public boolean requiresRawRequest() {
+        return false;
+    }
+
     /**
      * Validates method access before invocation.
      *
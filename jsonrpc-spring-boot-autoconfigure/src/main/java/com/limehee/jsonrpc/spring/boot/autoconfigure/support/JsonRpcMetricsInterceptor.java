@@ -8,6 +8,8 @@ import com.limehee.jsonrpc.core.JsonRpcRequest;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +33,10 @@ import tools.jackson.databind.JsonNode;
  * unseen methods are collapsed into the {@code other} bucket. This limit is treated as a hard cap even when
  * requests are processed concurrently.
  * </p>
+ * <p>
+ * Start times are tracked per request, so latencies stay correct when several calls are started before any of them
+ * completes, as happens for the entries of one bulk invocation.
+ * </p>
  */
 public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
 
@@ -51,7 +57,8 @@ public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
     private final ConcurrentHashMap<CounterKey, Counter> stageCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<CounterKey, Counter> failureCounters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<LatencyKey, Timer> latencyTimers = new ConcurrentHashMap<>();
-    private final ThreadLocal<Long> startedAtNanos = new ThreadLocal<>();
+    private final ConcurrentHashMap<String, SuccessMeters> successMeters = new ConcurrentHashMap<>();
+    private final ThreadLocal<StartTimes> startedAtNanos = ThreadLocal.withInitial(StartTimes::new);
 
     /**
      * Creates an interceptor with default metric options.
@@ -87,6 +94,16 @@ public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
         this.maxMethodTagValues = maxMethodTagValues;
     }
 
+    /**
+     * Metrics are recorded from the invocation callbacks only, so requests may be decoded without a raw node.
+     *
+     * @return always {@code false}
+     */
+    @Override
+    public boolean requiresRawRequest() {
+        return false;
+    }
+
     /**
      * Captures request start time for latency measurement.
      *
@@ -94,7 +111,7 @@ public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
      */
     @Override
     public void beforeInvoke(JsonRpcRequest request) {
-        startedAtNanos.set(System.nanoTime());
+        startedAtNanos.get().start(request, System.nanoTime());
     }
 
     /**
@@ -106,8 +123,16 @@ public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
     @Override
     public void afterInvoke(JsonRpcRequest request, JsonNode result) {
         String method = normalizeMethodName(request.method());
-        recordCallAndLatency(method, "success", "none");
-        counter(stageCounters, STAGE_EVENTS_METRIC, method, "invoke_success", "").increment();
+        SuccessMeters meters = successMeters.get(method);
+        if (meters == null) {
+            meters = successMeters.computeIfAbsent(method, this::createSuccessMeters);
+        }
+        meters.calls.increment();
+        long startNanos = startedAtNanos.get().take(request);
+        if (startNanos != StartTimes.UNSET) {
+            meters.latency.record(Math.max(0L, System.nanoTime() - startNanos), TimeUnit.NANOSECONDS);
+        }
+        meters.stage.increment();
     }
 
     /**
@@ -122,7 +147,7 @@ public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
         JsonRpcError error = Objects.requireNonNull(mappedError, "mappedError");
         String method = normalizeMethodName(request == null ? null : request.method());
         String errorCode = String.valueOf(error.code());
-        recordCallAndLatency(method, "error", errorCode);
+        recordCallAndLatency(request, method, "error", errorCode);
 
         String stage = classifyStage(error);
         counter(stageCounters, STAGE_EVENTS_METRIC, method, stage, "").increment();
@@ -134,21 +159,40 @@ public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
     /**
      * Records call counter and elapsed time from {@link #beforeInvoke(JsonRpcRequest)}.
      *
+     * @param request   request whose start time is consumed; {@code null} when none was started
      * @param method    normalized method tag value
      * @param outcome   request outcome tag value
      * @param errorCode JSON-RPC error code tag value or semantic placeholder
      */
-    private void recordCallAndLatency(String method, String outcome, String errorCode) {
+    private void recordCallAndLatency(
+        @Nullable JsonRpcRequest request,
+        String method,
+        String outcome,
+        String errorCode
+    ) {
         counter(callCounters, CALLS_METRIC, method, outcome, errorCode).increment();
 
-        Long startNanos = startedAtNanos.get();
-        startedAtNanos.remove();
-        if (startNanos != null) {
+        long startNanos = startedAtNanos.get().take(request);
+        if (startNanos != StartTimes.UNSET) {
             long elapsedNanos = Math.max(0L, System.nanoTime() - startNanos);
             latencyTimer(method, outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
         }
     }
 
+    /**
+     * Resolves the meters recorded for every successful call of a method.
+     *
+     * @param method normalized method tag value
+     * @return meters shared by the method's successful calls
+     */
+    private SuccessMeters createSuccessMeters(String method) {
+        return new SuccessMeters(
+            counter(callCounters, CALLS_METRIC, method, "success", "none"),
+            latencyTimer(method, "success"),
+            counter(stageCounters, STAGE_EVENTS_METRIC, method, "invoke_success", "")
+        );
+    }
+
     /**
      * Resolves or creates a latency timer for the given method/outcome pair.
      *
@@ -308,4 +352,72 @@ public final class JsonRpcMetricsInterceptor implements JsonRpcInterceptor {
     private record LatencyKey(String method, String outcome) {
 
     }
+
+    /**
+     * Meters touched by each successful call, cached per method so the success path builds no cache keys.
+     *
+     * @param calls   call counter tagged with the success outcome
+     * @param latency latency timer tagged with the success outcome
+     * @param stage   stage-event counter for {@code invoke_success}
+     */
+    private record SuccessMeters(Counter calls, Timer latency, Counter stage) {
+
+    }
+
+    /**
+     * Per-thread invocation start times keyed by request identity.
+     * <p>
+     * The common case of one call at a time uses a single reused slot; calls started while another is still open are
+     * kept in a map until their completion callback runs.
+     * </p>
+     */
+    private static final class StartTimes {
+
+        private static final long UNSET = Long.MIN_VALUE;
+
+        private @Nullable JsonRpcRequest request;
+        private long nanos = UNSET;
+        private @Nullable Map<JsonRpcRequest, Long> overlapping;
+
+        /**
+         * Records the start of an invocation.
+         *
+         * @param startedRequest request being invoked
+         * @param startNanos     {@link System#nanoTime()} at invocation start
+         */
+        void start(JsonRpcRequest startedRequest, long startNanos) {
+            if (request == null || request == startedRequest) {
+                request = startedRequest;
+                nanos = startNanos;
+                return;
+            }
+            Map<JsonRpcRequest, Long> open = overlapping;
+            if (open == null) {
+                open = new IdentityHashMap<>();
+                overlapping = open;
+            }
+            open.put(startedRequest, startNanos);
+        }
+
+        /**
+         * Returns and clears the start time recorded for a request.
+         *
+         * @param completedRequest request whose invocation ended; {@code null} when unknown
+         * @return recorded start time, or {@link #UNSET} when no invocation was started for the request
+         */
+        long take(@Nullable JsonRpcRequest completedRequest) {
+            if (completedRequest == null) {
+                return UNSET;
+            }
+            if (request == completedRequest) {
+                request = null;
+                long current = nanos;
+                nanos = UNSET;
+                return current;
+            }
+            Map<JsonRpcRequest, Long> open = overlapping;
+            Long startNanos = open == null ? null : open.remove(completedRequest);
+            return startNanos == null ? UNSET : startNanos;
+        }
+    }
 }
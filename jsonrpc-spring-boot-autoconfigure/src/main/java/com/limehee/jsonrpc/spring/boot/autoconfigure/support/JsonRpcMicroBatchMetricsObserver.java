@@ -0,0 +1,94 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure.support;
+
+import com.limehee.jsonrpc.core.JsonRpcMicroBatchObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer-backed observer for cross-request micro-batching.
+ * <p>
+ * The observer publishes the configured window and maximum size as gauges, and records flushed batch sizes, the time
+ * each batch waited before its bulk invocation, and flush counts by reason ({@code window} or {@code max_size}).
+ * </p>
+ */
+public final class JsonRpcMicroBatchMetricsObserver implements JsonRpcMicroBatchObserver {
+
+    private static final String WINDOW_METRIC = "jsonrpc.server.microbatch.window";
+    private static final String MAX_SIZE_METRIC = "jsonrpc.server.microbatch.max.size";
+    private static final String SIZE_METRIC = "jsonrpc.server.microbatch.size";
+    private static final String WAIT_METRIC = "jsonrpc.server.microbatch.wait";
+    private static final String FLUSH_METRIC = "jsonrpc.server.microbatch.flushes";
+
+    private final DistributionSummary sizeSummary;
+    private final Timer waitTimer;
+    private final Counter windowFlushCounter;
+    private final Counter maxSizeFlushCounter;
+
+    /**
+     * Creates a micro-batch observer that records batching metrics.
+     *
+     * @param meterRegistry           registry where metrics are published
+     * @param window                  configured collection window
+     * @param maxBatchSize            configured maximum batch size
+     * @param latencyHistogramEnabled whether histogram distribution is enabled for size and wait metrics
+     * @param latencyPercentiles      configured percentiles for size and wait metrics
+     */
+    public JsonRpcMicroBatchMetricsObserver(
+        MeterRegistry meterRegistry,
+        Duration window,
+        int maxBatchSize,
+        boolean latencyHistogramEnabled,
+        double[] latencyPercentiles
+    ) {
+        MeterRegistry targetRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+        Duration configuredWindow = Objects.requireNonNull(window, "window");
+        double[] configuredPercentiles = Objects.requireNonNull(latencyPercentiles, "latencyPercentiles");
+
+        double windowMillis = configuredWindow.toNanos() / 1_000_000.0;
+        Gauge.builder(WINDOW_METRIC, () -> windowMillis)
+            .baseUnit("milliseconds")
+            .register(targetRegistry);
+        Gauge.builder(MAX_SIZE_METRIC, () -> maxBatchSize)
+            .register(targetRegistry);
+
+        DistributionSummary.Builder summaryBuilder = DistributionSummary.builder(SIZE_METRIC);
+        Timer.Builder timerBuilder = Timer.builder(WAIT_METRIC);
+        if (latencyHistogramEnabled) {
+            summaryBuilder.publishPercentileHistogram();
+            timerBuilder.publishPercentileHistogram();
+        }
+        if (configuredPercentiles.length > 0) {
+            summaryBuilder.publishPercentiles(configuredPercentiles);
+            timerBuilder.publishPercentiles(configuredPercentiles);
+        }
+        this.sizeSummary = summaryBuilder.register(targetRegistry);
+        this.waitTimer = timerBuilder.register(targetRegistry);
+        this.windowFlushCounter = targetRegistry.counter(FLUSH_METRIC, "reason", "window");
+        this.maxSizeFlushCounter = targetRegistry.counter(FLUSH_METRIC, "reason", "max_size");
+    }
+
+    /**
+     * Records batch size, wait time, and flush reason.
+     *
+     * @param method    JSON-RPC method name of the batch
+     * @param batchSize number of calls served by the bulk invocation
+     * @param waitNanos time between the first call joining the batch and the bulk invocation
+     * @param full      whether the batch was flushed because it reached the maximum size
+     */
+    @Override
+    public void onFlush(String method, int batchSize, long waitNanos, boolean full) {
+        sizeSummary.record(batchSize);
+        waitTimer.record(Math.max(0L, waitNanos), TimeUnit.NANOSECONDS);
+        if (full) {
+            maxSizeFlushCounter.increment();
+            return;
+        }
+        windowFlushCounter.increment();
+    }
+}
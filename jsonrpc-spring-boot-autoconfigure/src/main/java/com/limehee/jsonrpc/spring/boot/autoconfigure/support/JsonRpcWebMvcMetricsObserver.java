@@ -5,14 +5,18 @@ import com.limehee.jsonrpc.spring.webmvc.JsonRpcWebMvcObserver;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Micrometer-backed observer for transport-level JSON-RPC WebMVC events.
  * <p>
- * This observer tracks parsing failures, request size violations, notification-only handling, and batch-level
- * composition details.
+ * This observer tracks parsing failures, request size violations, notification-only handling, batch-level
+ * composition details, response compression ratio and time, and request decompression ratio.
  * </p>
  */
 public final class JsonRpcWebMvcMetricsObserver implements JsonRpcWebMvcObserver {
@@ -22,6 +26,14 @@ public final class JsonRpcWebMvcMetricsObserver implements JsonRpcWebMvcObserver
     private static final String BATCH_REQUEST_METRIC = "jsonrpc.server.batch.requests";
     private static final String BATCH_ENTRY_METRIC = "jsonrpc.server.batch.entries";
     private static final String BATCH_SIZE_METRIC = "jsonrpc.server.batch.size";
+    private static final String COMPRESSION_RATIO_METRIC = "jsonrpc.server.transport.compression.ratio";
+    private static final String COMPRESSION_TIME_METRIC = "jsonrpc.server.transport.compression.time";
+    private static final String DECOMPRESSION_RATIO_METRIC = "jsonrpc.server.transport.decompression.ratio";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean latencyHistogramEnabled;
+    private final double[] latencyPercentiles;
+    private final Map<String, CompressionMeters> compressionMeters = new ConcurrentHashMap<>();
 
     private final Counter parseErrorCounter;
     private final Counter requestTooLargeCounter;
@@ -40,8 +52,8 @@ public final class JsonRpcWebMvcMetricsObserver implements JsonRpcWebMvcObserver
      * Creates a WebMVC observer that records transport and batch metrics.
      *
      * @param meterRegistry           registry where metrics are published
-     * @param latencyHistogramEnabled whether histogram distribution is enabled for batch sizes
-     * @param latencyPercentiles      configured percentiles for batch size distribution
+     * @param latencyHistogramEnabled whether histogram distribution is enabled for batch sizes and compression time
+     * @param latencyPercentiles      configured percentiles for batch size and compression time distribution
      */
     public JsonRpcWebMvcMetricsObserver(
         MeterRegistry meterRegistry,
@@ -50,6 +62,9 @@ public final class JsonRpcWebMvcMetricsObserver implements JsonRpcWebMvcObserver
     ) {
         MeterRegistry targetRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
         double[] configuredPercentiles = Objects.requireNonNull(latencyPercentiles, "latencyPercentiles");
+        this.meterRegistry = targetRegistry;
+        this.latencyHistogramEnabled = latencyHistogramEnabled;
+        this.latencyPercentiles = configuredPercentiles.clone();
 
         this.parseErrorCounter = targetRegistry.counter(TRANSPORT_ERRORS_METRIC, "reason", "parse_error");
         this.requestTooLargeCounter = targetRegistry.counter(TRANSPORT_ERRORS_METRIC, "reason", "request_too_large");
@@ -75,6 +90,8 @@ public final class JsonRpcWebMvcMetricsObserver implements JsonRpcWebMvcObserver
             summaryBuilder.publishPercentiles(configuredPercentiles);
         }
         this.batchSizeSummary = summaryBuilder.register(targetRegistry);
+        compressionMeters("gzip");
+        compressionMeters("deflate");
     }
 
     /**
@@ -148,6 +165,62 @@ public final class JsonRpcWebMvcMetricsObserver implements JsonRpcWebMvcObserver
         singleNotificationCounter.increment();
     }
 
+    /**
+     * Records response compression ratio and time by content coding.
+     *
+     * @param encoding          content coding applied to the response
+     * @param uncompressedBytes serialized payload size before compression
+     * @param compressedBytes   payload size written to the response body
+     * @param elapsedNanos      time spent serializing and compressing the payload
+     */
+    @Override
+    public void onResponseCompressed(String encoding, int uncompressedBytes, int compressedBytes, long elapsedNanos) {
+        CompressionMeters meters = compressionMeters(encoding);
+        if (uncompressedBytes > 0) {
+            meters.ratio().record((double) compressedBytes / uncompressedBytes);
+        }
+        meters.time().record(Math.max(0L, elapsedNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records request decompression ratio by content coding.
+     *
+     * @param encoding          content coding of the request body
+     * @param compressedBytes   request body size as received
+     * @param decompressedBytes decoded payload size consumed by the parser
+     */
+    @Override
+    public void onRequestDecompressed(String encoding, int compressedBytes, int decompressedBytes) {
+        if (decompressedBytes > 0) {
+            compressionMeters(encoding).requestRatio().record((double) compressedBytes / decompressedBytes);
+        }
+    }
+
+    /**
+     * Returns compression meters for a content coding, registering them on first use.
+     *
+     * @param encoding content coding label
+     * @return ratio and time meters tagged with the coding
+     */
+    private CompressionMeters compressionMeters(String encoding) {
+        return compressionMeters.computeIfAbsent(encoding, tag -> {
+            DistributionSummary ratio = DistributionSummary.builder(COMPRESSION_RATIO_METRIC)
+                .tag("encoding", tag)
+                .register(meterRegistry);
+            Timer.Builder timeBuilder = Timer.builder(COMPRESSION_TIME_METRIC).tag("encoding", tag);
+            if (latencyHistogramEnabled) {
+                timeBuilder.publishPercentileHistogram();
+            }
+            if (latencyPercentiles.length > 0) {
+                timeBuilder.publishPercentiles(latencyPercentiles);
+            }
+            DistributionSummary requestRatio = DistributionSummary.builder(DECOMPRESSION_RATIO_METRIC)
+                .tag("encoding", tag)
+                .register(meterRegistry);
+            return new CompressionMeters(ratio, timeBuilder.register(meterRegistry), requestRatio);
+        });
+    }
+
     /**
      * Increments batch entry counters by outcome type.
      *
@@ -168,4 +241,15 @@ public final class JsonRpcWebMvcMetricsObserver implements JsonRpcWebMvcObserver
         }
         batchEntryNotificationCounter.increment(count);
     }
+
+    /**
+     * Meters recorded for one content coding.
+     *
+     * @param ratio        response compressed-to-uncompressed size ratio summary
+     * @param time         response serialization and compression time timer
+     * @param requestRatio request compressed-to-decompressed size ratio summary
+     */
+    private record CompressionMeters(DistributionSummary ratio, Timer time, DistributionSummary requestRatio) {
+
+    }
 }
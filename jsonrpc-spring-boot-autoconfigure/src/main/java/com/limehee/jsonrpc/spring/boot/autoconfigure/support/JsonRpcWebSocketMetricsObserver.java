@@ -0,0 +1,195 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure.support;
+
+import com.limehee.jsonrpc.core.JsonRpcResponse;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcSubscriberOverflowPolicy;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcWebSocketObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer-backed observer for transport-level JSON-RPC WebSocket events.
+ * <p>
+ * Message-level events are recorded under the same meters as {@link JsonRpcWebMvcMetricsObserver}, so parse errors,
+ * oversized payloads, notifications, and batch composition are reported once for both transports. In addition, the
+ * observer publishes the number of open connections and counts backpressure actions: messages rejected because no
+ * in-flight slot was free ({@code reject}) and connections closed as slow consumers ({@code close}).
+ * </p>
+ * <p>
+ * For subscription broadcasts it records the number of subscribers per publication, the time from publication until
+ * a broadcast is handed to each subscriber's connection, and broadcasts dropped by overflow policy.
+ * </p>
+ */
+public final class JsonRpcWebSocketMetricsObserver implements JsonRpcWebSocketObserver {
+
+    private static final String SESSIONS_METRIC = "jsonrpc.server.websocket.sessions";
+    private static final String BACKPRESSURE_METRIC = "jsonrpc.server.websocket.backpressure";
+    private static final String FANOUT_SUBSCRIBERS_METRIC = "jsonrpc.server.websocket.fanout.subscribers";
+    private static final String FANOUT_LATENCY_METRIC = "jsonrpc.server.websocket.fanout.latency";
+    private static final String FANOUT_DROPPED_METRIC = "jsonrpc.server.websocket.fanout.dropped";
+
+    private final JsonRpcWebMvcMetricsObserver messageMetrics;
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final Counter inFlightRejectCounter;
+    private final Counter slowConsumerCloseCounter;
+    private final DistributionSummary fanOutSubscribersSummary;
+    private final Timer fanOutLatencyTimer;
+    private final Counter dropOldestCounter;
+    private final Counter disconnectDropCounter;
+
+    /**
+     * Creates a WebSocket observer that records connection, backpressure, fan-out, and message metrics.
+     *
+     * @param meterRegistry           registry where metrics are published
+     * @param latencyHistogramEnabled whether histogram distribution is enabled for batch sizes and fan-out metrics
+     * @param latencyPercentiles      configured percentiles for batch size and fan-out distribution
+     */
+    public JsonRpcWebSocketMetricsObserver(
+        MeterRegistry meterRegistry,
+        boolean latencyHistogramEnabled,
+        double[] latencyPercentiles
+    ) {
+        MeterRegistry targetRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+        this.messageMetrics = new JsonRpcWebMvcMetricsObserver(
+            targetRegistry,
+            latencyHistogramEnabled,
+            latencyPercentiles
+        );
+        Gauge.builder(SESSIONS_METRIC, openSessions, AtomicInteger::get)
+            .register(targetRegistry);
+        this.inFlightRejectCounter = targetRegistry.counter(BACKPRESSURE_METRIC, "action", "reject");
+        this.slowConsumerCloseCounter = targetRegistry.counter(BACKPRESSURE_METRIC, "action", "close");
+
+        DistributionSummary.Builder subscribersBuilder = DistributionSummary.builder(FANOUT_SUBSCRIBERS_METRIC);
+        Timer.Builder latencyBuilder = Timer.builder(FANOUT_LATENCY_METRIC);
+        if (latencyHistogramEnabled) {
+            subscribersBuilder.publishPercentileHistogram();
+            latencyBuilder.publishPercentileHistogram();
+        }
+        if (latencyPercentiles.length > 0) {
+            subscribersBuilder.publishPercentiles(latencyPercentiles);
+            latencyBuilder.publishPercentiles(latencyPercentiles);
+        }
+        this.fanOutSubscribersSummary = subscribersBuilder.register(targetRegistry);
+        this.fanOutLatencyTimer = latencyBuilder.register(targetRegistry);
+        this.dropOldestCounter = targetRegistry.counter(FANOUT_DROPPED_METRIC, "policy", "drop_oldest");
+        this.disconnectDropCounter = targetRegistry.counter(FANOUT_DROPPED_METRIC, "policy", "disconnect");
+    }
+
+    /**
+     * Increments the open connection gauge.
+     */
+    @Override
+    public void onSessionOpened() {
+        openSessions.incrementAndGet();
+    }
+
+    /**
+     * Decrements the open connection gauge.
+     */
+    @Override
+    public void onSessionClosed() {
+        openSessions.decrementAndGet();
+    }
+
+    /**
+     * Increments parse error counter.
+     */
+    @Override
+    public void onParseError() {
+        messageMetrics.onParseError();
+    }
+
+    /**
+     * Increments oversized message counter.
+     *
+     * @param actualBytes message payload size in bytes
+     * @param maxBytes    configured maximum message size in bytes
+     */
+    @Override
+    public void onRequestTooLarge(int actualBytes, int maxBytes) {
+        messageMetrics.onRequestTooLarge(actualBytes, maxBytes);
+    }
+
+    /**
+     * Records batch composition metrics for success, error, and notification outcomes.
+     *
+     * @param requestCount number of entries in the incoming batch payload
+     * @param responses    emitted JSON-RPC responses for that batch
+     */
+    @Override
+    public void onBatchResponse(int requestCount, List<JsonRpcResponse> responses) {
+        messageMetrics.onBatchResponse(requestCount, responses);
+    }
+
+    /**
+     * Records notification-only message handling counts.
+     *
+     * @param batch        {@code true} if the original payload was a batch array
+     * @param requestCount number of request entries in the payload
+     */
+    @Override
+    public void onNotificationOnly(boolean batch, int requestCount) {
+        messageMetrics.onNotificationOnly(batch, requestCount);
+    }
+
+    /**
+     * Increments the counter of messages rejected because no in-flight slot was free.
+     *
+     * @param maxInFlight configured per-connection in-flight limit
+     */
+    @Override
+    public void onInFlightLimitReached(int maxInFlight) {
+        inFlightRejectCounter.increment();
+    }
+
+    /**
+     * Increments the counter of connections closed as slow consumers.
+     */
+    @Override
+    public void onSlowConsumerClosed() {
+        slowConsumerCloseCounter.increment();
+    }
+
+    /**
+     * Records the number of subscribers a broadcast was queued for.
+     *
+     * @param topic           topic the broadcast was published to
+     * @param subscriberCount number of connections the broadcast was queued for
+     */
+    @Override
+    public void onBroadcast(String topic, int subscriberCount) {
+        fanOutSubscribersSummary.record(subscriberCount);
+    }
+
+    /**
+     * Records the time from publication until a broadcast was handed to a subscriber's connection.
+     *
+     * @param latencyNanos time from publication to hand-off, in nanoseconds
+     */
+    @Override
+    public void onBroadcastDelivered(long latencyNanos) {
+        fanOutLatencyTimer.record(Math.max(0L, latencyNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Increments the dropped broadcast counter of the overflow policy.
+     *
+     * @param policy       overflow policy that discarded the broadcasts
+     * @param droppedCount number of discarded broadcasts
+     */
+    @Override
+    public void onBroadcastDropped(JsonRpcSubscriberOverflowPolicy policy, int droppedCount) {
+        if (policy == JsonRpcSubscriberOverflowPolicy.DISCONNECT) {
+            disconnectDropCounter.increment(droppedCount);
+            return;
+        }
+        dropOldestCounter.increment(droppedCount);
+    }
+}
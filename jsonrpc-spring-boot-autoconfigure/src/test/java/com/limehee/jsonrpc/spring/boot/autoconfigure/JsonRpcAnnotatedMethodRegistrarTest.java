@@ -1,6 +1,8 @@
 package com.limehee.jsonrpc.spring.boot.autoconfigure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -15,15 +17,18 @@ import com.limehee.jsonrpc.core.DirectJsonRpcNotificationExecutor;
 import com.limehee.jsonrpc.core.InMemoryJsonRpcMethodRegistry;
 import com.limehee.jsonrpc.core.JacksonJsonRpcParameterBinder;
 import com.limehee.jsonrpc.core.JacksonJsonRpcResultWriter;
+import com.limehee.jsonrpc.core.JsonRpcDispatchResult;
 import com.limehee.jsonrpc.core.JsonRpcDispatcher;
 import com.limehee.jsonrpc.core.JsonRpcErrorCode;
 import com.limehee.jsonrpc.core.JsonRpcExceptionResolver;
+import com.limehee.jsonrpc.core.JsonRpcIdempotentMethodHandler;
 import com.limehee.jsonrpc.core.JsonRpcMethod;
 import com.limehee.jsonrpc.core.JsonRpcRequest;
 import com.limehee.jsonrpc.core.JsonRpcResponse;
 import com.limehee.jsonrpc.core.JsonRpcTypedMethodHandlerFactory;
 import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcAnnotatedMethodRegistrar;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
@@ -89,6 +94,38 @@ class JsonRpcAnnotatedMethodRegistrarTest {
         assertEquals("checked failure", captured.get().getCause().getMessage());
     }
 
+    @Test
+    void registersIdempotentAnnotatedMethodsAsIdempotentHandlers() throws Exception {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("idempotentBean", new RootBeanDefinition(IdempotentAnnotatedBean.class));
+        InMemoryJsonRpcMethodRegistry registry = new InMemoryJsonRpcMethodRegistry();
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            registry,
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            100
+        );
+
+        registrar(beanFactory, dispatcher).afterSingletonsInstantiated();
+
+        assertInstanceOf(JsonRpcIdempotentMethodHandler.class, registry.find("user.get").orElseThrow());
+        assertFalse(registry.find("user.touch").orElseThrow() instanceof JsonRpcIdempotentMethodHandler);
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(OBJECT_MAPPER.readTree("""
+            [
+              {"jsonrpc":"2.0","method":"user.get","params":[1,"summary"],"id":1},
+              {"jsonrpc":"2.0","method":"user.get","params":[1,"summary"],"id":2}
+            ]
+            """));
+        IdempotentAnnotatedBean bean = beanFactory.getBean(IdempotentAnnotatedBean.class);
+        assertEquals(2, result.responses().size());
+        assertEquals("user-1-summary", result.responses().get(1).result().asString());
+        assertEquals(1, bean.invocationCount.get());
+    }
+
     private JsonRpcAnnotatedMethodRegistrar registrar(DefaultListableBeanFactory beanFactory,
         JsonRpcDispatcher dispatcher) {
         JacksonJsonRpcParameterBinder parameterBinder = new JacksonJsonRpcParameterBinder(OBJECT_MAPPER);
@@ -125,4 +162,20 @@ class JsonRpcAnnotatedMethodRegistrarTest {
             throw new Exception("checked failure");
         }
     }
+
+    static class IdempotentAnnotatedBean {
+
+        private final AtomicInteger invocationCount = new AtomicInteger();
+
+        @JsonRpcMethod(value = "user.get", idempotent = true)
+        public String get(int id, String view) {
+            invocationCount.incrementAndGet();
+            return "user-" + id + "-" + view;
+        }
+
+        @JsonRpcMethod("user.touch")
+        public String touch(int id) {
+            return "touched-" + id;
+        }
+    }
 }
@@ -8,13 +8,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.limehee.jsonrpc.core.DefaultJsonRpcResponseParser;
+import com.limehee.jsonrpc.core.JsonRpcBulkMethodHandler;
+import com.limehee.jsonrpc.core.JsonRpcBulkResult;
 import com.limehee.jsonrpc.core.JsonRpcDispatcher;
 import com.limehee.jsonrpc.core.JsonRpcException;
 import com.limehee.jsonrpc.core.JsonRpcIncomingResponse;
 import com.limehee.jsonrpc.core.JsonRpcInterceptor;
 import com.limehee.jsonrpc.core.JsonRpcMethod;
+import com.limehee.jsonrpc.core.JsonRpcMethodInvoker;
 import com.limehee.jsonrpc.core.JsonRpcMethodRegistration;
 import com.limehee.jsonrpc.core.JsonRpcParam;
+import com.limehee.jsonrpc.core.JsonRpcReadConstraints;
 import com.limehee.jsonrpc.core.JsonRpcRequest;
 import com.limehee.jsonrpc.core.JsonRpcRequestValidationOptions;
 import com.limehee.jsonrpc.core.JsonRpcResponse;
@@ -23,9 +27,12 @@ import com.limehee.jsonrpc.core.JsonRpcResponseParser;
 import com.limehee.jsonrpc.core.JsonRpcResponseValidationOptions;
 import com.limehee.jsonrpc.core.JsonRpcResponseValidator;
 import com.limehee.jsonrpc.core.JsonRpcTypedMethodHandlerFactory;
+import com.limehee.jsonrpc.core.MicroBatchingJsonRpcMethodInvoker;
+import com.limehee.jsonrpc.core.SingleFlightJsonRpcMethodInvoker;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
@@ -666,6 +673,27 @@ class JsonRpcAutoConfigurationTest {
             });
     }
 
+    @Test
+    void appliesConfiguredRequestReadConstraints() {
+        contextRunner
+            .withPropertyValues(
+                "jsonrpc.validation.request.max-nesting-depth=16",
+                "jsonrpc.validation.request.max-string-length=4096",
+                "jsonrpc.validation.request.max-number-length=20",
+                "jsonrpc.validation.request.max-property-name-length=64",
+                "jsonrpc.validation.request.max-document-length=65536"
+            )
+            .run(context -> {
+                JsonRpcReadConstraints constraints = context.getBean(JsonRpcReadConstraints.class);
+
+                assertEquals(16, constraints.maxNestingDepth());
+                assertEquals(4096, constraints.maxStringLength());
+                assertEquals(20, constraints.maxNumberLength());
+                assertEquals(64, constraints.maxPropertyNameLength());
+                assertEquals(65536L, constraints.maxDocumentLength());
+            });
+    }
+
     @Test
     void appliesAllRequestBooleanOptionsWhenSetTrue() {
         contextRunner
@@ -1056,6 +1084,89 @@ class JsonRpcAutoConfigurationTest {
             });
     }
 
+    @Test
+    void usesDefaultMethodInvokerWhenSingleFlightMethodsAreNotConfigured() {
+        contextRunner.run(context -> assertFalse(
+            context.getBean(JsonRpcMethodInvoker.class) instanceof SingleFlightJsonRpcMethodInvoker));
+    }
+
+    @Test
+    void decoratesMethodInvokerWhenSingleFlightMethodsAreConfigured() {
+        contextRunner
+            .withPropertyValues("jsonrpc.single-flight-methods[0]= user.get ")
+            .withBean("userGet", JsonRpcMethodRegistration.class,
+                () -> JsonRpcMethodRegistration.of("user.get", params -> StringNode.valueOf("alice")))
+            .run(context -> {
+                assertTrue(context.getBean(JsonRpcMethodInvoker.class) instanceof SingleFlightJsonRpcMethodInvoker);
+
+                JsonRpcResponse response = context.getBean(JsonRpcDispatcher.class).dispatch(
+                    new JsonRpcRequest("2.0", IntNode.valueOf(1), "user.get", null, true));
+                assertNotNull(response);
+                assertEquals("alice", response.result().asString());
+            });
+    }
+
+    @Test
+    void rejectsBlankSingleFlightMethodEntries() {
+        contextRunner
+            .withPropertyValues("jsonrpc.single-flight-methods[0]= ")
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void decoratesMethodInvokerWithMicroBatchingWhenEnabled() {
+        contextRunner
+            .withPropertyValues(
+                "jsonrpc.micro-batch-enabled=true",
+                "jsonrpc.micro-batch-window-millis=1",
+                "jsonrpc.micro-batch-max-size=8"
+            )
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean("userGet", JsonRpcMethodRegistration.class,
+                () -> JsonRpcMethodRegistration.of("user.get", (JsonRpcBulkMethodHandler) paramsList ->
+                    List.of(JsonRpcBulkResult.success(StringNode.valueOf("alice")))))
+            .run(context -> {
+                assertTrue(context.getBean(JsonRpcMethodInvoker.class) instanceof MicroBatchingJsonRpcMethodInvoker);
+
+                JsonRpcResponse response = context.getBean(JsonRpcDispatcher.class).dispatch(
+                    new JsonRpcRequest("2.0", IntNode.valueOf(1), "user.get", null, true));
+                assertNotNull(response);
+                assertEquals("alice", response.result().asString());
+
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                assertEquals(1.0, meterRegistry.get("jsonrpc.server.microbatch.window").gauge().value());
+                assertEquals(8.0, meterRegistry.get("jsonrpc.server.microbatch.max.size").gauge().value());
+                assertEquals(1L, meterRegistry.get("jsonrpc.server.microbatch.size").summary().count());
+                assertEquals(1L, meterRegistry.get("jsonrpc.server.microbatch.wait").timer().count());
+                assertEquals(1.0, meterRegistry.counter("jsonrpc.server.microbatch.flushes", "reason", "window")
+                    .count());
+            });
+    }
+
+    @Test
+    void rejectsMicroBatchWindowLessThanOne() {
+        contextRunner
+            .withPropertyValues("jsonrpc.micro-batch-enabled=true", "jsonrpc.micro-batch-window-millis=0")
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void rejectsInvalidRequestReadConstraints() {
+        contextRunner
+            .withPropertyValues("jsonrpc.validation.request.max-nesting-depth=0")
+            .run(context -> assertNotNull(context.getStartupFailure()));
+        contextRunner
+            .withPropertyValues("jsonrpc.validation.request.max-document-length=-1")
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void rejectsMicroBatchMaxSizeLessThanOne() {
+        contextRunner
+            .withPropertyValues("jsonrpc.micro-batch-max-size=0")
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
     @Test
     void rejectsMaxBatchSizeLessThanOne() {
         contextRunner
@@ -0,0 +1,29 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcClientBatchMetricsObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class JsonRpcClientBatchMetricsObserverTest {
+
+    @Test
+    void recordsAchievedBatchSizeWaitAndFlushReason() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonRpcClientBatchMetricsObserver observer = new JsonRpcClientBatchMetricsObserver(meterRegistry);
+
+        observer.onBatchFlush(3, 2_000_000L, false);
+        observer.onBatchFlush(8, 500_000L, true);
+        observer.onBatchFlush(1, -1L, false);
+
+        assertEquals(3, meterRegistry.get("jsonrpc.client.batch.size").summary().count());
+        assertEquals(12.0, meterRegistry.get("jsonrpc.client.batch.size").summary().totalAmount());
+        assertEquals(8.0, meterRegistry.get("jsonrpc.client.batch.size").summary().max());
+        assertEquals(2.5, meterRegistry.get("jsonrpc.client.batch.wait").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(2.0, meterRegistry.counter("jsonrpc.client.batch.flushes", "reason", "window").count());
+        assertEquals(1.0, meterRegistry.counter("jsonrpc.client.batch.flushes", "reason", "max_size").count());
+    }
+}
@@ -4,11 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.limehee.jsonrpc.core.DefaultJsonRpcExceptionResolver;
+import com.limehee.jsonrpc.core.DefaultJsonRpcMethodInvoker;
+import com.limehee.jsonrpc.core.DefaultJsonRpcRequestParser;
+import com.limehee.jsonrpc.core.DefaultJsonRpcRequestValidator;
+import com.limehee.jsonrpc.core.DefaultJsonRpcResponseComposer;
+import com.limehee.jsonrpc.core.InMemoryJsonRpcMethodRegistry;
+import com.limehee.jsonrpc.core.JsonRpcBulkMethodHandler;
+import com.limehee.jsonrpc.core.JsonRpcBulkResult;
+import com.limehee.jsonrpc.core.JsonRpcDispatchResult;
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
 import com.limehee.jsonrpc.core.JsonRpcError;
 import com.limehee.jsonrpc.core.JsonRpcErrorCode;
 import com.limehee.jsonrpc.core.JsonRpcRequest;
 import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcMetricsInterceptor;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +29,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.IntNode;
 
 class JsonRpcMetricsInterceptorTest {
@@ -163,6 +175,43 @@ class JsonRpcMetricsInterceptorTest {
         ).count(), 0.0d);
     }
 
+    @Test
+    void recordsLatencyForEveryEntryOfBulkInvocation() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            100,
+            List.of(new JsonRpcMetricsInterceptor(meterRegistry))
+        );
+        JsonRpcBulkMethodHandler handler = params -> params.stream()
+            .map(param -> JsonRpcBulkResult.success(IntNode.valueOf(param.get(0).asInt() * 2)))
+            .toList();
+        dispatcher.register("double", handler);
+
+        JsonRpcDispatchResult result = dispatcher.dispatch(JsonMapper.builder().build().readTree("""
+            [
+              {"jsonrpc":"2.0","method":"double","params":[1],"id":1},
+              {"jsonrpc":"2.0","method":"double","params":[2],"id":2},
+              {"jsonrpc":"2.0","method":"double","params":[3],"id":3}
+            ]
+            """));
+
+        assertEquals(3, result.responses().size());
+        Timer latency = meterRegistry.timer("jsonrpc.server.latency", "method", "double", "outcome", "success");
+        assertEquals(3, latency.count());
+        assertEquals(3.0, meterRegistry.counter(
+            "jsonrpc.server.calls",
+            "method", "double",
+            "outcome", "success",
+            "errorCode", "none"
+        ).count());
+    }
+
     private JsonRpcRequest request(String method) {
         return new JsonRpcRequest("2.0", IntNode.valueOf(1), method, null, true);
     }
@@ -4,23 +4,38 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcInterceptor;
 import com.limehee.jsonrpc.core.JsonRpcRequestValidationOptions;
 import com.limehee.jsonrpc.core.JsonRpcResponse;
 import com.limehee.jsonrpc.spring.webmvc.JsonRpcHttpStatusStrategy;
+import com.limehee.jsonrpc.spring.webmvc.JsonRpcWebMvcBinaryFormat;
 import com.limehee.jsonrpc.spring.webmvc.JsonRpcWebMvcEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 class JsonRpcWebAutoConfigurationTest {
 
@@ -48,6 +63,41 @@ class JsonRpcWebAutoConfigurationTest {
             assertInstanceOf(JsonRpcWebMvcEndpoint.class, context.getBean("jsonRpcWebMvcEndpoint")));
     }
 
+    @Test
+    void dispatchesThroughDecodedPathWithBundledInterceptors() {
+        webContextRunner
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("jsonrpc.method-allowlist[0]=missing")
+            .run(context -> {
+                assertTrue(context.containsBean("jsonRpcMethodAccessInterceptor"));
+                assertTrue(context.containsBean("jsonRpcMetricsInterceptor"));
+                assertTrue(context.getBean(JsonRpcDispatcher.class).supportsDecodedPayloads());
+
+                JsonRpcWebMvcEndpoint endpoint = context.getBean(JsonRpcWebMvcEndpoint.class);
+
+                // only the token-decoding path echoes the fractional id literal unchanged
+                assertTrue(invokeWithFractionalId(endpoint).contains("\"id\":1.50"));
+                assertTrue(invoke(endpoint, "{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"extra\":true,\"id\":1.50}")
+                    .contains("\"id\":1.50"));
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                assertEquals(2.0, meterRegistry.get("jsonrpc.server.failures").counter().count());
+            });
+    }
+
+    @Test
+    void fallsBackToTreePathWhenInterceptorRequiresRawRequest() {
+        webContextRunner
+            .withBean("rawRequestInterceptor", JsonRpcInterceptor.class, () -> new JsonRpcInterceptor() {
+            })
+            .run(context -> {
+                assertFalse(context.containsBean("jsonRpcMethodAccessInterceptor"));
+                assertFalse(context.getBean(JsonRpcDispatcher.class).supportsDecodedPayloads());
+                String response = invokeWithFractionalId(context.getBean(JsonRpcWebMvcEndpoint.class));
+
+                assertTrue(response.contains("\"id\":1.5,"));
+            });
+    }
+
     @Test
     void usesCustomHttpStatusStrategyBean() {
         webContextRunner
@@ -66,6 +116,125 @@ class JsonRpcWebAutoConfigurationTest {
             .run(context -> assertNotNull(context.getStartupFailure()));
     }
 
+    @Test
+    void compressesResponsesWhenResponseCompressionIsEnabled() {
+        webContextRunner
+            .withPropertyValues(
+                "jsonrpc.response-compression-enabled=true",
+                "jsonrpc.response-compression-min-bytes=0"
+            )
+            .run(context -> {
+                JsonRpcWebMvcEndpoint endpoint = context.getBean(JsonRpcWebMvcEndpoint.class);
+                ResponseEntity<byte[]> response = endpoint.invoke(
+                    new ByteArrayInputStream(
+                        "{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"id\":1}".getBytes(StandardCharsets.UTF_8)),
+                    null,
+                    null,
+                    "gzip"
+                );
+
+                assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+            });
+    }
+
+    @Test
+    void keepsResponsesUncompressedByDefault() {
+        webContextRunner.run(context -> {
+            JsonRpcWebMvcEndpoint endpoint = context.getBean(JsonRpcWebMvcEndpoint.class);
+            ResponseEntity<byte[]> response = endpoint.invoke(
+                new ByteArrayInputStream(
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"id\":1}".getBytes(StandardCharsets.UTF_8)),
+                null,
+                null,
+                "gzip"
+            );
+
+            assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        });
+    }
+
+    @Test
+    void decodesCompressedRequestsWhenRequestDecompressionIsEnabled() {
+        webContextRunner
+            .withPropertyValues("jsonrpc.request-decompression-enabled=true")
+            .run(context -> {
+                JsonRpcWebMvcEndpoint endpoint = context.getBean(JsonRpcWebMvcEndpoint.class);
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (OutputStream output = new GZIPOutputStream(compressed)) {
+                    output.write(
+                        "{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"id\":1}".getBytes(StandardCharsets.UTF_8));
+                }
+
+                byte[] body = endpoint.invoke(
+                    new ByteArrayInputStream(compressed.toByteArray()),
+                    (long) compressed.size(),
+                    "gzip",
+                    null
+                ).getBody();
+
+                assertNotNull(body);
+                assertEquals(-32601, OBJECT_MAPPER.readTree(body).get("error").get("code").asInt());
+            });
+    }
+
+    @Test
+    void registersBinaryFormatsOnlyWhenEnabled() {
+        webContextRunner.run(context ->
+            assertTrue(context.getBeansOfType(JsonRpcWebMvcBinaryFormat.class).isEmpty()));
+        webContextRunner
+            .withPropertyValues("jsonrpc.cbor-enabled=true", "jsonrpc.smile-enabled=true")
+            .run(context -> {
+                assertEquals(JsonRpcWebMvcBinaryFormat.CBOR_VALUE,
+                    context.getBean("jsonRpcCborBinaryFormat", JsonRpcWebMvcBinaryFormat.class).mediaType().toString());
+                assertEquals(JsonRpcWebMvcBinaryFormat.SMILE_VALUE,
+                    context.getBean("jsonRpcSmileBinaryFormat", JsonRpcWebMvcBinaryFormat.class).mediaType().toString());
+            });
+    }
+
+    @Test
+    void startsWithoutBinaryFormatModulesOnClasspath() {
+        webContextRunner
+            .withClassLoader(new FilteredClassLoader(CBORMapper.class, SmileMapper.class))
+            .withPropertyValues("jsonrpc.cbor-enabled=true", "jsonrpc.smile-enabled=true")
+            .run(context -> {
+                assertNull(context.getStartupFailure());
+                assertTrue(context.containsBean("jsonRpcWebMvcEndpoint"));
+                assertTrue(context.getBeansOfType(JsonRpcWebMvcBinaryFormat.class).isEmpty());
+            });
+    }
+
+    @Test
+    void servesCborRequestsWhenCborIsEnabled() {
+        webContextRunner
+            .withPropertyValues("jsonrpc.cbor-enabled=true")
+            .run(context -> {
+                JsonRpcWebMvcEndpoint endpoint = context.getBean(JsonRpcWebMvcEndpoint.class);
+                ObjectMapper cborMapper = context.getBean("jsonRpcCborBinaryFormat", JsonRpcWebMvcBinaryFormat.class)
+                    .objectMapper();
+                byte[] request = cborMapper.writeValueAsBytes(
+                    OBJECT_MAPPER.readTree("{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"id\":1}"));
+
+                byte[] body = endpoint.invokeBinary(
+                    new ByteArrayInputStream(request),
+                    (long) request.length,
+                    JsonRpcWebMvcBinaryFormat.CBOR_VALUE,
+                    null,
+                    null,
+                    null
+                ).getBody();
+
+                assertNotNull(body);
+                assertEquals(-32601, cborMapper.readTree(body).get("error").get("code").asInt());
+            });
+    }
+
+    @Test
+    void rejectsNegativeResponseCompressionMinBytes() {
+        webContextRunner
+            .withPropertyValues("jsonrpc.response-compression-min-bytes=-1")
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
     @Test
     void keepsRequestDuplicateMemberAcceptanceWhenRequestPolicyIsDisabled() throws Exception {
         webContextRunner
@@ -140,6 +309,21 @@ class JsonRpcWebAutoConfigurationTest {
             });
     }
 
+    private static String invokeWithFractionalId(JsonRpcWebMvcEndpoint endpoint) {
+        return invoke(endpoint, "{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"id\":1.50}");
+    }
+
+    private static String invoke(JsonRpcWebMvcEndpoint endpoint, String request) {
+        byte[] body = endpoint.invoke(
+            new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)),
+            null,
+            null,
+            null
+        ).getBody();
+        assertNotNull(body);
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class CustomHttpStatusStrategyConfig {
 
@@ -7,6 +7,7 @@ import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcWebMvcMetric
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.node.IntNode;
 import tools.jackson.databind.node.StringNode;
@@ -66,4 +67,54 @@ class JsonRpcWebMvcMetricsObserverTest {
         assertEquals(1L, meterRegistry.summary("jsonrpc.server.batch.size").count());
         assertEquals(3.0, meterRegistry.summary("jsonrpc.server.batch.size").totalAmount());
     }
+
+    @Test
+    void recordsResponseCompressionRatioAndTime() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonRpcWebMvcMetricsObserver observer = new JsonRpcWebMvcMetricsObserver(
+            meterRegistry,
+            false,
+            new double[0]
+        );
+
+        observer.onResponseCompressed("gzip", 4000, 1000, TimeUnit.MILLISECONDS.toNanos(2));
+
+        assertEquals(1L, meterRegistry.summary(
+            "jsonrpc.server.transport.compression.ratio",
+            "encoding", "gzip"
+        ).count());
+        assertEquals(0.25, meterRegistry.summary(
+            "jsonrpc.server.transport.compression.ratio",
+            "encoding", "gzip"
+        ).totalAmount());
+        assertEquals(1L, meterRegistry.timer(
+            "jsonrpc.server.transport.compression.time",
+            "encoding", "gzip"
+        ).count());
+        assertEquals(0L, meterRegistry.timer(
+            "jsonrpc.server.transport.compression.time",
+            "encoding", "deflate"
+        ).count());
+    }
+
+    @Test
+    void recordsRequestDecompressionRatio() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonRpcWebMvcMetricsObserver observer = new JsonRpcWebMvcMetricsObserver(
+            meterRegistry,
+            false,
+            new double[0]
+        );
+
+        observer.onRequestDecompressed("deflate", 100, 400);
+
+        assertEquals(0.25, meterRegistry.summary(
+            "jsonrpc.server.transport.decompression.ratio",
+            "encoding", "deflate"
+        ).totalAmount());
+        assertEquals(0L, meterRegistry.summary(
+            "jsonrpc.server.transport.decompression.ratio",
+            "encoding", "gzip"
+        ).count());
+    }
 }
@@ -0,0 +1,96 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcWebSocketMetricsObserver;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcWebSocketHandler;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcWebSocketObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+
+class JsonRpcWebSocketAutoConfigurationTest {
+
+    private final WebApplicationContextRunner webContextRunner = new WebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            JsonRpcAutoConfiguration.class,
+            JsonRpcWebSocketAutoConfiguration.class
+        ));
+
+    @Test
+    void doesNotCreateWebSocketHandlerByDefault() {
+        webContextRunner.run(context -> {
+            assertFalse(context.containsBean("jsonRpcWebSocketHandler"));
+            assertTrue(context.containsBean("jsonRpcWebMvcEndpoint"));
+        });
+    }
+
+    @Test
+    void createsWebSocketHandlerWhenEnabled() {
+        webContextRunner
+            .withPropertyValues("jsonrpc.websocket-enabled=true")
+            .run(context -> {
+                assertInstanceOf(JsonRpcWebSocketHandler.class, context.getBean("jsonRpcWebSocketHandler"));
+                assertTrue(context.containsBean("jsonRpcWebSocketConfigurer"));
+                assertTrue(context.containsBean("jsonRpcWebSocketExecutor"));
+                assertSame(JsonRpcWebSocketObserver.noOp(), context.getBean(JsonRpcWebSocketObserver.class));
+            });
+    }
+
+    @Test
+    void createsWebSocketMetricsObserverWhenMeterRegistryIsPresent() {
+        webContextRunner
+            .withPropertyValues("jsonrpc.websocket-enabled=true")
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .run(context -> assertInstanceOf(
+                JsonRpcWebSocketMetricsObserver.class,
+                context.getBean(JsonRpcWebSocketObserver.class)
+            ));
+    }
+
+    @Test
+    void rejectsWebSocketMaxInFlightPerSessionLessThanOne() {
+        webContextRunner
+            .withPropertyValues(
+                "jsonrpc.websocket-enabled=true",
+                "jsonrpc.websocket-max-in-flight-per-session=0"
+            )
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void rejectsWebSocketPathWithoutLeadingSlash() {
+        webContextRunner
+            .withPropertyValues(
+                "jsonrpc.websocket-enabled=true",
+                "jsonrpc.websocket-path=ws"
+            )
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void rejectsWebSocketSubscriberQueueCapacityLessThanOne() {
+        webContextRunner
+            .withPropertyValues(
+                "jsonrpc.websocket-enabled=true",
+                "jsonrpc.websocket-subscriber-queue-capacity=0"
+            )
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void rejectsUnknownWebSocketSubscriberOverflowPolicy() {
+        webContextRunner
+            .withPropertyValues(
+                "jsonrpc.websocket-enabled=true",
+                "jsonrpc.websocket-subscriber-overflow-policy=block"
+            )
+            .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.limehee.jsonrpc.spring.boot.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.limehee.jsonrpc.core.JsonRpcResponse;
+import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcWebMvcMetricsObserver;
+import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcWebSocketMetricsObserver;
+import com.limehee.jsonrpc.spring.websocket.JsonRpcSubscriberOverflowPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.IntNode;
+import tools.jackson.databind.node.StringNode;
+
+class JsonRpcWebSocketMetricsObserverTest {
+
+    @Test
+    void recordsSessionAndBackpressureMetrics() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonRpcWebSocketMetricsObserver observer = new JsonRpcWebSocketMetricsObserver(
+            meterRegistry,
+            false,
+            new double[0]
+        );
+
+        observer.onSessionOpened();
+        observer.onSessionOpened();
+        observer.onSessionClosed();
+        observer.onInFlightLimitReached(16);
+        observer.onInFlightLimitReached(16);
+        observer.onSlowConsumerClosed();
+
+        assertEquals(1.0, meterRegistry.get("jsonrpc.server.websocket.sessions").gauge().value());
+        assertEquals(2.0, meterRegistry.counter(
+            "jsonrpc.server.websocket.backpressure",
+            "action", "reject"
+        ).count());
+        assertEquals(1.0, meterRegistry.counter(
+            "jsonrpc.server.websocket.backpressure",
+            "action", "close"
+        ).count());
+    }
+
+    @Test
+    void recordsFanOutMetrics() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonRpcWebSocketMetricsObserver observer = new JsonRpcWebSocketMetricsObserver(
+            meterRegistry,
+            false,
+            new double[0]
+        );
+
+        observer.onBroadcast("ticks", 3);
+        observer.onBroadcast("ticks", 5);
+        observer.onBroadcastDelivered(1_000L);
+        observer.onBroadcastDelivered(2_000L);
+        observer.onBroadcastDropped(JsonRpcSubscriberOverflowPolicy.DROP_OLDEST, 1);
+        observer.onBroadcastDropped(JsonRpcSubscriberOverflowPolicy.DISCONNECT, 4);
+
+        assertEquals(2L, meterRegistry.get("jsonrpc.server.websocket.fanout.subscribers").summary().count());
+        assertEquals(8.0, meterRegistry.get("jsonrpc.server.websocket.fanout.subscribers").summary().totalAmount());
+        assertEquals(2L, meterRegistry.get("jsonrpc.server.websocket.fanout.latency").timer().count());
+        assertEquals(1.0, meterRegistry.counter(
+            "jsonrpc.server.websocket.fanout.dropped",
+            "policy", "drop_oldest"
+        ).count());
+        assertEquals(4.0, meterRegistry.counter(
+            "jsonrpc.server.websocket.fanout.dropped",
+            "policy", "disconnect"
+        ).count());
+    }
+
+    @Test
+    void sharesMessageMetricsWithWebMvcObserver() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JsonRpcWebMvcMetricsObserver webMvcObserver = new JsonRpcWebMvcMetricsObserver(
+            meterRegistry,
+            false,
+            new double[0]
+        );
+        JsonRpcWebSocketMetricsObserver webSocketObserver = new JsonRpcWebSocketMetricsObserver(
+            meterRegistry,
+            false,
+            new double[0]
+        );
+
+        webMvcObserver.onParseError();
+        webSocketObserver.onParseError();
+        webSocketObserver.onRequestTooLarge(2048, 1024);
+        webSocketObserver.onNotificationOnly(false, 1);
+        webSocketObserver.onBatchResponse(2, List.of(
+            JsonRpcResponse.success(IntNode.valueOf(1), StringNode.valueOf("ok"))
+        ));
+
+        assertEquals(2.0, meterRegistry.counter(
+            "jsonrpc.server.transport.errors",
+            "reason", "parse_error"
+        ).count());
+        assertEquals(1.0, meterRegistry.counter(
+            "jsonrpc.server.transport.errors",
+            "reason", "request_too_large"
+        ).count());
+        assertEquals(1.0, meterRegistry.counter(
+            "jsonrpc.server.transport.notifications",
+            "mode", "single"
+        ).count());
+        assertEquals(1.0, meterRegistry.counter(
+            "jsonrpc.server.batch.requests",
+            "outcome", "all_success"
+        ).count());
+        assertEquals(1.0, meterRegistry.counter(
+            "jsonrpc.server.batch.entries",
+            "outcome", "notification"
+        ).count());
+    }
+}
@@ -0,0 +1,150 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+import com.limehee.jsonrpc.core.DefaultJsonRpcTypedMethodHandlerFactory;
+import com.limehee.jsonrpc.core.JacksonJsonRpcParameterBinder;
+import com.limehee.jsonrpc.core.JacksonJsonRpcResultWriter;
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcTypedMethodHandlerFactory;
+import com.limehee.jsonrpc.spring.boot.autoconfigure.support.JsonRpcWebMvcMetricsObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+@State(Scope.Benchmark)
+public class JsonRpcWebMvcEndpointBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+    private static final int BATCH_SIZE = 32;
+    private static final int LARGE_LINE_ITEMS = 64;
+
+    @Param({"single", "batch"})
+    public String shape;
+
+    @Param({"small", "large"})
+    public String payload;
+
+    @Param({"false", "true"})
+    public boolean rejectDuplicateMembers;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private JsonRpcWebMvcEndpoint endpoint;
+    private byte[] requestBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JsonRpcTypedMethodHandlerFactory factory = new DefaultJsonRpcTypedMethodHandlerFactory(
+            new JacksonJsonRpcParameterBinder(OBJECT_MAPPER),
+            new JacksonJsonRpcResultWriter(OBJECT_MAPPER));
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("user.get", factory.unary(UserQuery.class,
+            query -> new User(query.id(), "Ada Lovelace", "ada@example.com", 98.25, true)));
+        dispatcher.register("order.submit", factory.unary(Order.class,
+            order -> new OrderReceipt(order.id(), order.items().size(), total(order))));
+
+        JsonRpcWebMvcObserver observer = metrics
+            ? new JsonRpcWebMvcMetricsObserver(new SimpleMeterRegistry(), false, new double[0])
+            : JsonRpcWebMvcObserver.noOp();
+        endpoint = new JsonRpcWebMvcEndpoint(
+            dispatcher,
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024 * 1024,
+            observer,
+            rejectDuplicateMembers
+        );
+
+        requestBytes = OBJECT_MAPPER.writeValueAsBytes(buildPayload());
+        byte[] responseBytes = invoke();
+        System.out.printf("%n[%s, %s] request=%d bytes, response=%d bytes%n",
+            shape, payload, requestBytes.length, responseBytes.length);
+    }
+
+    @Benchmark
+    public byte[] invoke() {
+        return endpoint.invoke(new ByteArrayInputStream(requestBytes), (long) requestBytes.length, null, null)
+            .getBody();
+    }
+
+    private Object buildPayload() {
+        if ("single".equals(shape)) {
+            return buildRequest(1);
+        }
+        ArrayNode array = OBJECT_MAPPER.createArrayNode();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            array.add(buildRequest(i + 1));
+        }
+        return array;
+    }
+
+    private ObjectNode buildRequest(int id) {
+        ObjectNode request = OBJECT_MAPPER.createObjectNode();
+        request.put("jsonrpc", "2.0");
+        if ("large".equals(payload)) {
+            request.put("method", "order.submit");
+            request.set("params", OBJECT_MAPPER.valueToTree(buildOrder(id)));
+        } else {
+            request.put("method", "user.get");
+            request.putObject("params").put("id", 1000L + id).put("include", "profile");
+        }
+        request.put("id", id);
+        return request;
+    }
+
+    private static Order buildOrder(int id) {
+        List<LineItem> items = new ArrayList<>(LARGE_LINE_ITEMS);
+        for (int i = 0; i < LARGE_LINE_ITEMS; i++) {
+            items.add(new LineItem("sku-" + i, "Catalog item number " + i, i % 5 + 1, 9.99 + i));
+        }
+        return new Order(
+            "order-" + id,
+            new Address("Ada Lovelace", "12 St James's Square", "London", "SW1Y 4JH", "GB"),
+            items,
+            List.of("priority", "gift-wrap", "newsletter")
+        );
+    }
+
+    private static double total(Order order) {
+        double total = 0;
+        for (LineItem item : order.items()) {
+            total += item.quantity() * item.unitPrice();
+        }
+        return total;
+    }
+
+    public record UserQuery(long id, String include) {
+
+    }
+
+    public record User(long id, String name, String email, double score, boolean active) {
+
+    }
+
+    public record Address(String recipient, String street, String city, String postalCode, String country) {
+
+    }
+
+    public record LineItem(String sku, String description, int quantity, double unitPrice) {
+
+    }
+
+    public record Order(String id, Address shippingAddress, List<LineItem> items, List<String> tags) {
+
+    }
+
+    public record OrderReceipt(String id, int itemCount, double total) {
+
+    }
+}
@@ -0,0 +1,185 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that fails once more than a fixed number of bytes has been read.
+ * <p>
+ * Used on request bodies so oversized payloads are rejected after at most {@code maxBytes + 1} bytes instead of being
+ * buffered in full, and on decompressed bodies so the request size limit also applies to the decoded payload, stopping
+ * compression bombs.
+ * </p>
+ */
+final class JsonRpcBoundedInputStream extends FilterInputStream {
+
+    private static final int DRAIN_BUFFER_SIZE = 4096;
+
+    private final int maxBytes;
+    private long bytesRead;
+
+    /**
+     * Creates a bounded stream.
+     *
+     * @param source   stream to read from
+     * @param maxBytes maximum number of bytes that may be read
+     */
+    JsonRpcBoundedInputStream(InputStream source, int maxBytes) {
+        super(source);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return byte value, or {@code -1} at end of stream
+     * @throws IOException if the source fails or the limit is exceeded
+     */
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            count(1);
+        }
+        return value;
+    }
+
+    /**
+     * Reads up to {@code length} bytes.
+     *
+     * @param buffer target buffer
+     * @param offset start offset in {@code buffer}
+     * @param length maximum number of bytes to read
+     * @return number of bytes read, or {@code -1} at end of stream
+     * @throws IOException if the source fails or the limit is exceeded
+     */
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, (int) Math.min(length, allowance()));
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    /**
+     * Skips bytes, counting them against the limit.
+     *
+     * @param n number of bytes to skip
+     * @return number of bytes skipped
+     * @throws IOException if the source fails or the limit is exceeded
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(Math.min(n, allowance()));
+        if (skipped > 0L) {
+            count(skipped);
+        }
+        return skipped;
+    }
+
+    /**
+     * Mark/reset would allow re-reading bytes without counting them, so it is not supported.
+     *
+     * @return always {@code false}
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Reads and discards the rest of the stream, counting the discarded bytes against the limit.
+     * <p>
+     * The parser has usually consumed the whole body already, so a single-byte probe avoids allocating the drain
+     * buffer in the common case.
+     *
+     * @throws IOException if the source fails or the limit is exceeded
+     */
+    void drain() throws IOException {
+        if (read() < 0) {
+            return;
+        }
+        byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+        while (read(buffer, 0, buffer.length) >= 0) {
+            // discard
+        }
+    }
+
+    /**
+     * Returns a view of this stream that ignores {@link #close()}.
+     * <p>
+     * Parsers close their source once they are done; the view keeps this stream open so the remainder can still be
+     * {@linkplain #drain() drained}.
+     *
+     * @return non-closing view reading through this stream
+     */
+    InputStream nonClosing() {
+        return new FilterInputStream(this) {
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return bytes read, capped at {@link Integer#MAX_VALUE}
+     */
+    int bytesRead() {
+        return (int) Math.min(Integer.MAX_VALUE, bytesRead);
+    }
+
+    /**
+     * Returns how many bytes the next read may request: the bytes left before the limit plus one, so a bulk read
+     * crosses the limit by at most a single byte.
+     *
+     * @return maximum request size for the next read or skip
+     */
+    private long allowance() {
+        return Math.max(0L, maxBytes - bytesRead) + 1L;
+    }
+
+    /**
+     * Adds read bytes to the counter and enforces the limit.
+     *
+     * @param n number of bytes just read
+     * @throws LimitExceededException if the limit is exceeded
+     */
+    private void count(long n) throws LimitExceededException {
+        bytesRead += n;
+        if (bytesRead > maxBytes) {
+            throw new LimitExceededException(bytesRead(), maxBytes);
+        }
+    }
+
+    /**
+     * Signals that the decoded payload exceeded the configured limit.
+     */
+    static final class LimitExceededException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int bytesRead;
+
+        /**
+         * Creates a limit violation.
+         *
+         * @param bytesRead bytes read when the limit was crossed
+         * @param maxBytes  configured limit
+         */
+        LimitExceededException(int bytesRead, int maxBytes) {
+            super("Decoded payload exceeds " + maxBytes + " bytes");
+            this.bytesRead = bytesRead;
+        }
+
+        /**
+         * @return bytes read when the limit was crossed
+         */
+        int bytesRead() {
+            return bytesRead;
+        }
+    }
+}
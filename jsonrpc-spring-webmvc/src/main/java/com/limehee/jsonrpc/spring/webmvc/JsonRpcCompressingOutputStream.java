@@ -0,0 +1,133 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Output stream that starts compressing once the written payload reaches a size threshold.
+ * <p>
+ * Bytes are buffered as-is until {@code minBytes} have been written. At that point the buffered prefix is handed to
+ * the compressor and every later write goes straight into it, so large payloads are never held uncompressed in full.
+ * Payloads that stay below the threshold are returned unchanged.
+ * </p>
+ */
+final class JsonRpcCompressingOutputStream extends OutputStream {
+
+    private final JsonRpcContentCoding coding;
+    private final int minBytes;
+    private ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+    private @Nullable ByteArrayOutputStream compressed;
+    private @Nullable OutputStream compressor;
+    private int uncompressedBytes;
+    private boolean closed;
+
+    /**
+     * Creates a threshold-based compressing stream.
+     *
+     * @param coding   content coding applied once the threshold is reached
+     * @param minBytes minimum payload size in bytes before compression starts
+     */
+    JsonRpcCompressingOutputStream(JsonRpcContentCoding coding, int minBytes) {
+        this.coding = coding;
+        this.minBytes = minBytes;
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value byte to write
+     * @throws IOException if the compressor fails
+     */
+    @Override
+    public void write(int value) throws IOException {
+        write(new byte[] {(byte) value}, 0, 1);
+    }
+
+    /**
+     * Writes a byte range, switching to compression when the threshold is crossed.
+     *
+     * @param bytes  source bytes
+     * @param offset start offset in {@code bytes}
+     * @param length number of bytes to write
+     * @throws IOException if the compressor fails
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        uncompressedBytes += length;
+        OutputStream target = compressor;
+        if (target != null) {
+            target.write(bytes, offset, length);
+            return;
+        }
+        uncompressed.write(bytes, offset, length);
+        if (uncompressed.size() >= minBytes) {
+            startCompression();
+        }
+    }
+
+    /**
+     * Finishes the compressed stream when compression has started.
+     *
+     * @throws IOException if the compressor fails to finish
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        OutputStream target = compressor;
+        if (target != null) {
+            target.close();
+        }
+    }
+
+    /**
+     * Returns whether the payload crossed the threshold and was compressed.
+     *
+     * @return {@code true} when {@link #toByteArray()} returns compressed bytes
+     */
+    boolean isCompressed() {
+        return compressor != null;
+    }
+
+    /**
+     * Returns the number of payload bytes written before compression.
+     *
+     * @return uncompressed payload size in bytes
+     */
+    int uncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Returns the written payload, compressed when the threshold was reached.
+     * <p>
+     * Must be called after {@link #close()}.
+     *
+     * @return compressed or uncompressed payload bytes
+     */
+    byte[] toByteArray() {
+        ByteArrayOutputStream result = compressed;
+        return result != null ? result.toByteArray() : uncompressed.toByteArray();
+    }
+
+    /**
+     * Moves the buffered prefix into a new compressor and routes subsequent writes to it.
+     *
+     * @throws IOException if the compressor fails
+     */
+    private void startCompression() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream(Math.max(32, uncompressed.size() / 2));
+        OutputStream stream = coding.compress(target);
+        uncompressed.writeTo(stream);
+        uncompressed = new ByteArrayOutputStream(0);
+        compressed = target;
+        compressor = stream;
+    }
+}
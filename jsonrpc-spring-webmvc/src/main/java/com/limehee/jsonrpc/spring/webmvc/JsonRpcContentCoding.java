@@ -0,0 +1,186 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * HTTP content codings supported by the JSON-RPC WebMVC endpoint.
+ */
+enum JsonRpcContentCoding {
+
+    /**
+     * {@code gzip} coding (RFC 1952).
+     */
+    GZIP("gzip") {
+        @Override
+        OutputStream compress(OutputStream target) throws IOException {
+            return new GZIPOutputStream(target, BUFFER_SIZE);
+        }
+
+        @Override
+        InputStream decompress(InputStream source) throws IOException {
+            return new GZIPInputStream(source, BUFFER_SIZE);
+        }
+    },
+
+    /**
+     * {@code deflate} coding, i.e. zlib-wrapped deflate data (RFC 1950).
+     */
+    DEFLATE("deflate") {
+        @Override
+        OutputStream compress(OutputStream target) {
+            return new DeflaterOutputStream(target, new Deflater(), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        InputStream decompress(InputStream source) {
+            return new InflaterInputStream(source, new Inflater(), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inf.end();
+                    }
+                }
+            };
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String token;
+
+    /**
+     * Creates a content coding.
+     *
+     * @param token HTTP content-coding token
+     */
+    JsonRpcContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Returns the HTTP content-coding token.
+     *
+     * @return token used in {@code Content-Encoding} headers
+     */
+    String token() {
+        return token;
+    }
+
+    /**
+     * Wraps a target stream with a compressor for this coding.
+     *
+     * @param target stream receiving compressed bytes
+     * @return compressing stream; closing it finishes the compressed stream and closes {@code target}
+     * @throws IOException if the compressor cannot write its header
+     */
+    abstract OutputStream compress(OutputStream target) throws IOException;
+
+    /**
+     * Wraps a source stream with a decompressor for this coding.
+     *
+     * @param source stream supplying compressed bytes
+     * @return decompressing stream; closing it releases the decompressor and closes {@code source}
+     * @throws IOException if the compressed header cannot be read
+     */
+    abstract InputStream decompress(InputStream source) throws IOException;
+
+    /**
+     * Selects the preferred supported coding from an {@code Accept-Encoding} header.
+     * <p>
+     * Codings with {@code q=0} are excluded, the highest quality value wins, and ties prefer {@code gzip}. A wildcard
+     * ({@code *}) matches any supported coding that is not listed explicitly.
+     *
+     * @param acceptEncoding raw header value; may be {@code null}
+     * @return negotiated coding, or {@code null} when the response should not be compressed
+     */
+    static @Nullable JsonRpcContentCoding negotiate(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double[] quality = new double[values().length];
+        boolean[] listed = new boolean[values().length];
+        double wildcardQuality = -1.0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = parseQuality(parts);
+            if ("*".equals(name)) {
+                wildcardQuality = q;
+                continue;
+            }
+            JsonRpcContentCoding coding = fromToken(name);
+            if (coding != null) {
+                quality[coding.ordinal()] = q;
+                listed[coding.ordinal()] = true;
+            }
+        }
+
+        JsonRpcContentCoding selected = null;
+        double selectedQuality = 0.0;
+        for (JsonRpcContentCoding coding : values()) {
+            double q = listed[coding.ordinal()] ? quality[coding.ordinal()] : wildcardQuality;
+            if (q > selectedQuality) {
+                selected = coding;
+                selectedQuality = q;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Resolves a coding from an HTTP token.
+     *
+     * @param token lower-case coding token
+     * @return matching coding, or {@code null} when unsupported
+     */
+    static @Nullable JsonRpcContentCoding fromToken(String token) {
+        return switch (token) {
+            case "gzip", "x-gzip" -> GZIP;
+            case "deflate" -> DEFLATE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Parses the {@code q} parameter of an {@code Accept-Encoding} element.
+     *
+     * @param parts element split on {@code ;}
+     * @return quality value in {@code [0,1]}; {@code 1.0} when absent, {@code 0.0} when malformed
+     */
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                && parameter.charAt(1) == '=') {
+                try {
+                    double q = Double.parseDouble(parameter.substring(2).trim());
+                    return q < 0.0 || q > 1.0 ? 0.0 : q;
+                } catch (NumberFormatException ex) {
+                    return 0.0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
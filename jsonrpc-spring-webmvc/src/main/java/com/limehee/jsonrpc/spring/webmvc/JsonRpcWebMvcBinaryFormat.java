@@ -0,0 +1,60 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+import java.util.Objects;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Binary JSON encoding accepted and produced by the JSON-RPC WebMVC endpoint in addition to {@code application/json}.
+ * <p>
+ * The mapper must be a Jackson mapper for the matching data format, for example {@code CBORMapper} for
+ * {@link #CBOR_VALUE} or {@code SmileMapper} for {@link #SMILE_VALUE}. Requests are selected by {@code Content-Type};
+ * the response encoding follows {@code Accept} and defaults to the request encoding.
+ * </p>
+ *
+ * @param mediaType    media type of the encoding
+ * @param objectMapper mapper reading and writing the encoding
+ */
+public record JsonRpcWebMvcBinaryFormat(MediaType mediaType, ObjectMapper objectMapper) {
+
+    /**
+     * Media type value for CBOR (RFC 8949).
+     */
+    public static final String CBOR_VALUE = "application/cbor";
+
+    /**
+     * Media type value for Jackson Smile.
+     */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Creates a binary format.
+     *
+     * @param mediaType    media type of the encoding
+     * @param objectMapper mapper reading and writing the encoding
+     */
+    public JsonRpcWebMvcBinaryFormat {
+        Objects.requireNonNull(mediaType, "mediaType");
+        Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    /**
+     * Creates a CBOR format backed by the given mapper.
+     *
+     * @param cborMapper Jackson CBOR mapper
+     * @return CBOR binary format
+     */
+    public static JsonRpcWebMvcBinaryFormat cbor(ObjectMapper cborMapper) {
+        return new JsonRpcWebMvcBinaryFormat(MediaType.parseMediaType(CBOR_VALUE), cborMapper);
+    }
+
+    /**
+     * Creates a Smile format backed by the given mapper.
+     *
+     * @param smileMapper Jackson Smile mapper
+     * @return Smile binary format
+     */
+    public static JsonRpcWebMvcBinaryFormat smile(ObjectMapper smileMapper) {
+        return new JsonRpcWebMvcBinaryFormat(MediaType.parseMediaType(SMILE_VALUE), smileMapper);
+    }
+}
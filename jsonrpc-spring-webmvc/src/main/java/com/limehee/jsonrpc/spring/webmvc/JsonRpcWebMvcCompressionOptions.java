@@ -0,0 +1,119 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+/**
+ * HTTP content-coding options for the JSON-RPC WebMVC endpoint.
+ */
+public final class JsonRpcWebMvcCompressionOptions {
+
+    private final boolean responseCompressionEnabled;
+    private final int minResponseBytes;
+    private final boolean requestDecompressionEnabled;
+
+    private JsonRpcWebMvcCompressionOptions(Builder builder) {
+        this.responseCompressionEnabled = builder.responseCompressionEnabled;
+        this.minResponseBytes = builder.minResponseBytes;
+        this.requestDecompressionEnabled = builder.requestDecompressionEnabled;
+    }
+
+    /**
+     * Returns default options with compression disabled.
+     *
+     * @return default compression options
+     */
+    public static JsonRpcWebMvcCompressionOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a mutable builder initialized with default values.
+     *
+     * @return options builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return whether responses are compressed when the client advertises {@code gzip} or {@code deflate}
+     */
+    public boolean responseCompressionEnabled() {
+        return responseCompressionEnabled;
+    }
+
+    /**
+     * @return minimum serialized response size in bytes before compression is applied
+     */
+    public int minResponseBytes() {
+        return minResponseBytes;
+    }
+
+    /**
+     * @return whether {@code gzip} and {@code deflate} request bodies are decoded according to {@code Content-Encoding}
+     */
+    public boolean requestDecompressionEnabled() {
+        return requestDecompressionEnabled;
+    }
+
+    /**
+     * Builder for compression options.
+     */
+    public static final class Builder {
+
+        private boolean responseCompressionEnabled = false;
+        private int minResponseBytes = 2048;
+        private boolean requestDecompressionEnabled = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables response compression negotiated through {@code Accept-Encoding}.
+         *
+         * @param enabled {@code true} to compress eligible responses
+         * @return this builder
+         */
+        public Builder responseCompressionEnabled(boolean enabled) {
+            this.responseCompressionEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the minimum serialized response size in bytes before compression is applied.
+         * <p>
+         * Smaller responses are sent uncompressed because the codec overhead outweighs the savings.
+         *
+         * @param minResponseBytes threshold in bytes; must not be negative
+         * @return this builder
+         */
+        public Builder minResponseBytes(int minResponseBytes) {
+            this.minResponseBytes = minResponseBytes;
+            return this;
+        }
+
+        /**
+         * Enables or disables decoding of {@code gzip} and {@code deflate} request bodies.
+         * <p>
+         * The endpoint request size limit applies to the decoded payload.
+         *
+         * @param enabled {@code true} to decode compressed request bodies
+         * @return this builder
+         */
+        public Builder requestDecompressionEnabled(boolean enabled) {
+            this.requestDecompressionEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Builds immutable compression options.
+         *
+         * @return immutable compression options
+         * @throws IllegalArgumentException if {@code minResponseBytes < 0}
+         */
+        public JsonRpcWebMvcCompressionOptions build() {
+            if (minResponseBytes < 0) {
+                throw new IllegalArgumentException("minResponseBytes must be greater than or equal to 0");
+            }
+            return new JsonRpcWebMvcCompressionOptions(this);
+        }
+    }
+}
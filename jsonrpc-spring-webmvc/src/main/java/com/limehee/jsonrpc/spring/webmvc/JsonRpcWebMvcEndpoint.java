@@ -1,20 +1,31 @@
 package com.limehee.jsonrpc.spring.webmvc;
 
+import com.limehee.jsonrpc.core.JsonRpcBatchTooLargeException;
 import com.limehee.jsonrpc.core.JsonRpcDispatchResult;
 import com.limehee.jsonrpc.core.JsonRpcDispatcher;
 import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import com.limehee.jsonrpc.core.JsonRpcPayloadHandler;
 import com.limehee.jsonrpc.core.JsonRpcPayloadReader;
+import com.limehee.jsonrpc.core.JsonRpcReadConstraints;
 import com.limehee.jsonrpc.core.JsonRpcResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import tools.jackson.core.JacksonException;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
 /**
@@ -24,16 +35,33 @@ import tools.jackson.databind.ObjectMapper;
  * {@link JsonRpcDispatcher}, and serializes protocol-compliant JSON-RPC response payloads. Notification-only requests
  * return an HTTP response without a body.
  * </p>
+ * <p>
+ * Request bodies are parsed as a stream while their size is counted, so heap use per request is bounded by the
+ * configured request size limit rather than by what the client sends.
+ * </p>
+ * <p>
+ * When response compression is enabled, payloads at or above the configured size are compressed with the coding
+ * negotiated from {@code Accept-Encoding} ({@code gzip} or {@code deflate}) while they are serialized. When request
+ * decompression is enabled, {@code gzip} and {@code deflate} request bodies are decoded as a stream directly into the
+ * JSON parser and the request size limit applies to the decoded payload.
+ * </p>
+ * <p>
+ * Binary encodings registered as {@link JsonRpcWebMvcBinaryFormat} (for example CBOR or Smile) are served on the same
+ * path through {@link #invokeBinary(InputStream, Long, String, String, String, String)} with the same dispatch
+ * pipeline.
+ * </p>
  */
 @RestController
 public class JsonRpcWebMvcEndpoint {
 
-    private final JsonRpcDispatcher dispatcher;
+    private final JsonRpcPayloadHandler payloadHandler;
     private final ObjectMapper objectMapper;
     private final JsonRpcPayloadReader requestPayloadReader;
     private final JsonRpcHttpStatusStrategy httpStatusStrategy;
     private final int maxRequestBytes;
     private final JsonRpcWebMvcObserver observer;
+    private final JsonRpcWebMvcCompressionOptions compressionOptions;
+    private final List<BinaryCodec> binaryCodecs;
 
     /**
      * Creates an endpoint with a no-op observer.
@@ -106,15 +134,136 @@ public class JsonRpcWebMvcEndpoint {
         JsonRpcWebMvcObserver observer,
         boolean rejectDuplicateMembers
     ) {
-        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+        this(
+            dispatcher,
+            objectMapper,
+            httpStatusStrategy,
+            maxRequestBytes,
+            observer,
+            rejectDuplicateMembers,
+            JsonRpcWebMvcCompressionOptions.defaults()
+        );
+    }
+
+    /**
+     * Creates an endpoint with explicit transport observer, request duplicate-member policy, and compression options.
+     *
+     * @param dispatcher             dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper           mapper used to parse request payloads and serialize responses
+     * @param httpStatusStrategy     strategy that maps JSON-RPC outcomes to HTTP status codes
+     * @param maxRequestBytes        maximum accepted request payload size in bytes
+     * @param observer               observer receiving transport-level event callbacks
+     * @param rejectDuplicateMembers {@code true} to reject duplicate request members during JSON parsing
+     * @param compressionOptions     HTTP content-coding options
+     * @throws IllegalArgumentException if {@code maxRequestBytes <= 0}
+     */
+    public JsonRpcWebMvcEndpoint(
+        JsonRpcDispatcher dispatcher,
+        ObjectMapper objectMapper,
+        JsonRpcHttpStatusStrategy httpStatusStrategy,
+        int maxRequestBytes,
+        JsonRpcWebMvcObserver observer,
+        boolean rejectDuplicateMembers,
+        JsonRpcWebMvcCompressionOptions compressionOptions
+    ) {
+        this(
+            dispatcher,
+            objectMapper,
+            httpStatusStrategy,
+            maxRequestBytes,
+            observer,
+            rejectDuplicateMembers,
+            compressionOptions,
+            List.of()
+        );
+    }
+
+    /**
+     * Creates an endpoint with explicit transport observer, request duplicate-member policy, compression options, and
+     * binary encodings, using the default JSON-RPC read constraints.
+     *
+     * @param dispatcher             dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper           mapper used to parse request payloads and serialize responses
+     * @param httpStatusStrategy     strategy that maps JSON-RPC outcomes to HTTP status codes
+     * @param maxRequestBytes        maximum accepted request payload size in bytes
+     * @param observer               observer receiving transport-level event callbacks
+     * @param rejectDuplicateMembers {@code true} to reject duplicate request members during JSON parsing
+     * @param compressionOptions     HTTP content-coding options
+     * @param binaryFormats          binary encodings accepted in addition to JSON; the first format for a media type
+     *                               wins
+     * @throws IllegalArgumentException if {@code maxRequestBytes <= 0}
+     */
+    public JsonRpcWebMvcEndpoint(
+        JsonRpcDispatcher dispatcher,
+        ObjectMapper objectMapper,
+        JsonRpcHttpStatusStrategy httpStatusStrategy,
+        int maxRequestBytes,
+        JsonRpcWebMvcObserver observer,
+        boolean rejectDuplicateMembers,
+        JsonRpcWebMvcCompressionOptions compressionOptions,
+        List<JsonRpcWebMvcBinaryFormat> binaryFormats
+    ) {
+        this(
+            dispatcher,
+            objectMapper,
+            httpStatusStrategy,
+            maxRequestBytes,
+            observer,
+            rejectDuplicateMembers,
+            compressionOptions,
+            binaryFormats,
+            null
+        );
+    }
+
+    /**
+     * Creates an endpoint with explicit transport observer, request duplicate-member policy, compression options,
+     * binary encodings, and read constraints.
+     *
+     * @param dispatcher             dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper           mapper used to parse request payloads and serialize responses
+     * @param httpStatusStrategy     strategy that maps JSON-RPC outcomes to HTTP status codes
+     * @param maxRequestBytes        maximum accepted request payload size in bytes
+     * @param observer               observer receiving transport-level event callbacks
+     * @param rejectDuplicateMembers {@code true} to reject duplicate request members during JSON parsing
+     * @param compressionOptions     HTTP content-coding options
+     * @param binaryFormats          binary encodings accepted in addition to JSON; the first format for a media type
+     *                               wins
+     * @param readConstraints        structural limits enforced while tokenizing request payloads; {@code null} to keep
+     *                               the mapper's own limits
+     * @throws IllegalArgumentException if {@code maxRequestBytes <= 0}
+     */
+    public JsonRpcWebMvcEndpoint(
+        JsonRpcDispatcher dispatcher,
+        ObjectMapper objectMapper,
+        JsonRpcHttpStatusStrategy httpStatusStrategy,
+        int maxRequestBytes,
+        JsonRpcWebMvcObserver observer,
+        boolean rejectDuplicateMembers,
+        JsonRpcWebMvcCompressionOptions compressionOptions,
+        List<JsonRpcWebMvcBinaryFormat> binaryFormats,
+        @Nullable JsonRpcReadConstraints readConstraints
+    ) {
         this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
         if (maxRequestBytes <= 0) {
             throw new IllegalArgumentException("maxRequestBytes must be greater than 0");
         }
-        this.requestPayloadReader = new JsonRpcPayloadReader(objectMapper, rejectDuplicateMembers);
+        this.requestPayloadReader = new JsonRpcPayloadReader(objectMapper, rejectDuplicateMembers, readConstraints);
         this.httpStatusStrategy = Objects.requireNonNull(httpStatusStrategy, "httpStatusStrategy");
         this.maxRequestBytes = maxRequestBytes;
         this.observer = Objects.requireNonNull(observer, "observer");
+        this.payloadHandler = new JsonRpcPayloadHandler(dispatcher, this.observer);
+        this.compressionOptions = Objects.requireNonNull(compressionOptions, "compressionOptions");
+        Objects.requireNonNull(binaryFormats, "binaryFormats");
+        List<BinaryCodec> codecs = new ArrayList<>(binaryFormats.size());
+        for (JsonRpcWebMvcBinaryFormat format : binaryFormats) {
+            Objects.requireNonNull(format, "binaryFormats must not contain null");
+            codecs.add(new BinaryCodec(
+                format.mediaType(),
+                format.objectMapper(),
+                new JsonRpcPayloadReader(format.objectMapper(), rejectDuplicateMembers, readConstraints)));
+        }
+        this.binaryCodecs = List.copyOf(codecs);
     }
 
     /**
@@ -122,87 +271,351 @@ public class JsonRpcWebMvcEndpoint {
      * <p>
      * Parsing errors, oversized payloads, and whitespace-only payloads produce a single JSON-RPC error response.
      * Notification-only handling returns an empty HTTP response with a transport status from
-     * {@link JsonRpcHttpStatusStrategy#statusForNotificationOnly()}.
+     * {@link JsonRpcHttpStatusStrategy#statusForNotificationOnly()}. Response payloads are compressed when
+     * compression is enabled, the client accepts a supported coding, and the payload reaches the configured size.
+     * Request bodies are decoded according to {@code Content-Encoding} when request decompression is enabled; a coding
+     * other than {@code gzip}, {@code deflate}, or {@code identity} is rejected with
+     * {@code 415 Unsupported Media Type}.
+     * </p>
+     * <p>
+     * The request body is parsed directly from the servlet input stream. Requests declaring a {@code Content-Length}
+     * above the limit are rejected without reading the body, and reading stops as soon as the limit is crossed, so
+     * the body is never buffered beyond the configured size.
      * </p>
      *
-     * @param body raw HTTP request payload bytes; may be {@code null} when request body is absent
-     * @return HTTP response entity containing either serialized JSON-RPC payload or empty body
+     * @param body            HTTP request body stream
+     * @param contentLength   {@code Content-Length} header value; may be {@code null} for chunked requests
+     * @param contentEncoding {@code Content-Encoding} header value; may be {@code null}
+     * @param acceptEncoding  {@code Accept-Encoding} header value; may be {@code null}
+     * @return HTTP response entity containing either serialized JSON-RPC payload bytes or empty body
      */
     @PostMapping(
         value = "${jsonrpc.path:/jsonrpc}",
         consumes = MediaType.APPLICATION_JSON_VALUE,
         produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<String> invoke(@RequestBody(required = false) byte[] body) {
-        if (body == null || body.length == 0) {
-            observer.onParseError();
-            return singleErrorResponse(dispatcher.parseErrorResponse(), httpStatusStrategy.statusForParseError());
+    public ResponseEntity<byte[]> invoke(
+        InputStream body,
+        @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) @Nullable Long contentLength,
+        @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) @Nullable String contentEncoding,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding
+    ) {
+        Reply reply = handle(body, contentLength, contentEncoding, requestPayloadReader);
+        return respond(reply, objectMapper, MediaType.APPLICATION_JSON, acceptEncoding);
+    }
+
+    /**
+     * Handles JSON-RPC HTTP requests encoded with a registered binary format.
+     * <p>
+     * The request format is selected by {@code Content-Type}. The response uses the most preferred registered format
+     * named in {@code Accept}, or the request format when {@code Accept} is absent or a wildcard. Requests in a binary
+     * format that is not registered are rejected with {@code 415 Unsupported Media Type}. The body is streamed under
+     * the same size limit as JSON requests.
+     * </p>
+     *
+     * @param body            HTTP request body stream
+     * @param contentLength   {@code Content-Length} header value; may be {@code null} for chunked requests
+     * @param contentType     {@code Content-Type} header value
+     * @param accept          {@code Accept} header value; may be {@code null}
+     * @param contentEncoding {@code Content-Encoding} header value; may be {@code null}
+     * @param acceptEncoding  {@code Accept-Encoding} header value; may be {@code null}
+     * @return HTTP response entity containing either encoded JSON-RPC payload bytes or empty body
+     */
+    @PostMapping(
+        value = "${jsonrpc.path:/jsonrpc}",
+        consumes = {JsonRpcWebMvcBinaryFormat.CBOR_VALUE, JsonRpcWebMvcBinaryFormat.SMILE_VALUE},
+        produces = {JsonRpcWebMvcBinaryFormat.CBOR_VALUE, JsonRpcWebMvcBinaryFormat.SMILE_VALUE}
+    )
+    public ResponseEntity<byte[]> invokeBinary(
+        InputStream body,
+        @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) @Nullable Long contentLength,
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) @Nullable String accept,
+        @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) @Nullable String contentEncoding,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding
+    ) {
+        BinaryCodec requestCodec = findBinaryCodec(contentType);
+        if (requestCodec == null) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        BinaryCodec responseCodec = negotiateBinaryCodec(accept, requestCodec);
+        Reply reply = handle(body, contentLength, contentEncoding, requestCodec.reader());
+        return respond(reply, responseCodec.objectMapper(), responseCodec.mediaType(), acceptEncoding);
+    }
+
+    /**
+     * Handles a JSON-RPC HTTP request payload without response compression.
+     * <p>
+     * This variant is intended for direct programmatic invocation; HTTP requests are routed to
+     * {@link #invoke(InputStream, Long, String, String)}.
+     * </p>
+     *
+     * @param body raw HTTP request payload bytes; may be {@code null} when request body is absent
+     * @return HTTP response entity containing either serialized JSON-RPC payload or empty body
+     */
+    public ResponseEntity<String> invoke(byte[] body) {
+        byte[] payloadBytes = body == null ? new byte[0] : body;
+        Reply reply = handle(
+            new ByteArrayInputStream(payloadBytes),
+            (long) payloadBytes.length,
+            null,
+            requestPayloadReader);
+        Object payload = reply.payload();
+        if (payload == null) {
+            return ResponseEntity.status(reply.status()).build();
         }
-        if (body.length > maxRequestBytes) {
-            observer.onRequestTooLarge(body.length, maxRequestBytes);
-            JsonRpcResponse response = JsonRpcResponse.error(
-                null,
-                JsonRpcErrorCode.INVALID_REQUEST,
-                "Request payload too large");
-            return singleErrorResponse(response, httpStatusStrategy.statusForRequestTooLarge());
+        return ResponseEntity
+            .status(reply.status())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(toJson(payload));
+    }
+
+    /**
+     * Parses, dispatches, and observes a request payload read from a stream.
+     * <p>
+     * The raw body and, for encoded requests, the decoded payload are both read through
+     * {@link JsonRpcBoundedInputStream}, so at most {@code maxRequestBytes + 1} bytes are consumed before an oversized
+     * request is rejected. Bytes after the parsed value are drained under the same limit. Batch elements are counted
+     * while they are parsed, and reading stops as soon as the batch exceeds the dispatcher's maximum batch size.
+     * When the dispatcher supports it, requests are decoded from tokens without building a tree for the envelope.
+     * </p>
+     *
+     * @param body            request body stream
+     * @param contentLength   declared body size; may be {@code null} when unknown
+     * @param contentEncoding {@code Content-Encoding} header value; may be {@code null}
+     * @param reader          reader for the request encoding
+     * @return HTTP status and response payload to serialize, or a {@code null} payload for an empty body, including
+     *         the {@code 415} reply for an unsupported {@code Content-Encoding}
+     */
+    private Reply handle(
+        InputStream body,
+        @Nullable Long contentLength,
+        @Nullable String contentEncoding,
+        JsonRpcPayloadReader reader
+    ) {
+        if (contentLength != null && contentLength > maxRequestBytes) {
+            return requestTooLarge((int) Math.min(Integer.MAX_VALUE, contentLength));
         }
-        if (isJsonWhitespaceOnly(body)) {
-            observer.onParseError();
-            return singleErrorResponse(dispatcher.parseErrorResponse(), httpStatusStrategy.statusForParseError());
+        JsonRpcContentCoding coding = null;
+        if (compressionOptions.requestDecompressionEnabled() && contentEncoding != null && isEncoded(contentEncoding)) {
+            coding = JsonRpcContentCoding.fromToken(contentEncoding.trim().toLowerCase(Locale.ROOT));
+            if (coding == null) {
+                return new Reply(HttpStatus.UNSUPPORTED_MEDIA_TYPE, null);
+            }
         }
 
-        JsonNode payload;
-        try {
-            payload = requestPayloadReader.readTree(body);
-        } catch (JacksonException ex) {
-            observer.onParseError();
-            return singleErrorResponse(dispatcher.parseErrorResponse(), httpStatusStrategy.statusForParseError());
+        JsonRpcBoundedInputStream received = new JsonRpcBoundedInputStream(body, maxRequestBytes);
+        JsonRpcPayloadHandler.Payload payload;
+        int decodedBytes;
+        try (JsonRpcBoundedInputStream input = coding == null
+            ? received
+            : new JsonRpcBoundedInputStream(coding.decompress(received), maxRequestBytes)) {
+            payload = payloadHandler.read(reader, input.nonClosing());
+            input.drain();
+            decodedBytes = input.bytesRead();
+        } catch (JsonRpcBatchTooLargeException ex) {
+            return batchTooLarge();
+        } catch (JacksonException | IOException ex) {
+            JsonRpcBoundedInputStream.LimitExceededException limitExceeded = findLimitExceeded(ex);
+            if (limitExceeded != null) {
+                return requestTooLarge(limitExceeded.bytesRead());
+            }
+            return parseError();
         }
         if (payload == null) {
-            observer.onParseError();
-            return singleErrorResponse(dispatcher.parseErrorResponse(), httpStatusStrategy.statusForParseError());
+            return parseError();
+        }
+        if (coding != null) {
+            observer.onRequestDecompressed(coding.token(), received.bytesRead(), decodedBytes);
         }
+        return dispatch(payload);
+    }
 
-        JsonRpcDispatchResult result = dispatcher.dispatch(payload);
-        if (!result.hasResponse()) {
-            observer.onNotificationOnly(payload.isArray(), payload.isArray() ? payload.size() : 1);
-            return ResponseEntity.status(httpStatusStrategy.statusForNotificationOnly()).build();
+    /**
+     * Serializes a reply, compressing it when enabled, accepted by the client, and large enough.
+     *
+     * @param reply          handled request outcome
+     * @param mapper         mapper for the response encoding
+     * @param mediaType      response content type
+     * @param acceptEncoding {@code Accept-Encoding} header value; may be {@code null}
+     * @return HTTP response entity containing either encoded payload bytes or empty body
+     */
+    private ResponseEntity<byte[]> respond(
+        Reply reply,
+        ObjectMapper mapper,
+        MediaType mediaType,
+        @Nullable String acceptEncoding
+    ) {
+        Object payload = reply.payload();
+        if (payload == null) {
+            return ResponseEntity.status(reply.status()).build();
+        }
+        if (!compressionOptions.responseCompressionEnabled()) {
+            return ResponseEntity
+                .status(reply.status())
+                .contentType(mediaType)
+                .body(toBytes(mapper, payload));
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity
+            .status(reply.status())
+            .contentType(mediaType)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        JsonRpcContentCoding coding = JsonRpcContentCoding.negotiate(acceptEncoding);
+        if (coding == null) {
+            return response.body(toBytes(mapper, payload));
         }
 
+        long startedAt = System.nanoTime();
+        JsonRpcCompressingOutputStream output = new JsonRpcCompressingOutputStream(
+            coding,
+            compressionOptions.minResponseBytes());
+        write(mapper, payload, output);
+        byte[] bytes = output.toByteArray();
+        if (!output.isCompressed()) {
+            return response.body(bytes);
+        }
+        observer.onResponseCompressed(
+            coding.token(),
+            output.uncompressedBytes(),
+            bytes.length,
+            System.nanoTime() - startedAt);
+        return response
+            .header(HttpHeaders.CONTENT_ENCODING, coding.token())
+            .body(bytes);
+    }
+
+    /**
+     * Finds the registered binary codec for a request content type.
+     *
+     * @param contentType {@code Content-Type} header value
+     * @return matching codec, or {@code null} when the encoding is not registered
+     */
+    private @Nullable BinaryCodec findBinaryCodec(String contentType) {
+        MediaType requested;
+        try {
+            requested = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException ex) {
+            return null;
+        }
+        for (BinaryCodec codec : binaryCodecs) {
+            if (codec.mediaType().equalsTypeAndSubtype(requested)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Selects the response codec from an {@code Accept} header.
+     *
+     * @param accept       {@code Accept} header value; may be {@code null}
+     * @param requestCodec codec of the request, used when {@code Accept} does not prefer another registered format
+     * @return response codec
+     */
+    private BinaryCodec negotiateBinaryCodec(@Nullable String accept, BinaryCodec requestCodec) {
+        if (accept == null || accept.isBlank()) {
+            return requestCodec;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return requestCodec;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType candidate : accepted) {
+            if (candidate.getQualityValue() <= 0.0) {
+                break;
+            }
+            if (candidate.includes(requestCodec.mediaType())) {
+                return requestCodec;
+            }
+            for (BinaryCodec codec : binaryCodecs) {
+                if (candidate.includes(codec.mediaType())) {
+                    return codec;
+                }
+            }
+        }
+        return requestCodec;
+    }
+
+    /**
+     * Dispatches a parsed payload and maps the observed outcome to an HTTP reply.
+     *
+     * @param payload parsed JSON-RPC payload
+     * @return HTTP status and response payload to serialize, or a {@code null} payload for notification-only requests
+     */
+    private Reply dispatch(JsonRpcPayloadHandler.Payload payload) {
+        JsonRpcDispatchResult result = payloadHandler.dispatch(payload);
+        if (!result.hasResponse()) {
+            return new Reply(httpStatusStrategy.statusForNotificationOnly(), null);
+        }
         if (result.isBatch()) {
             List<JsonRpcResponse> responses = result.responses();
-            observer.onBatchResponse(payload.size(), responses);
-            return jsonResponse(httpStatusStrategy.statusForBatch(responses), responses);
+            return new Reply(httpStatusStrategy.statusForBatch(responses), responses);
         }
+        JsonRpcResponse single = Objects.requireNonNull(result.singleResponseOrNull(), "single");
+        return new Reply(httpStatusStrategy.statusForSingle(single), single);
+    }
 
-        JsonRpcResponse single = result.singleResponse().orElseThrow();
-        observer.onSingleResponse(single);
-        return jsonResponse(httpStatusStrategy.statusForSingle(single), single);
+    /**
+     * Creates the parse-error reply and notifies the observer.
+     *
+     * @return parse-error reply
+     */
+    private Reply parseError() {
+        return new Reply(httpStatusStrategy.statusForParseError(), payloadHandler.parseError());
     }
 
     /**
-     * Creates a single-error transport response.
+     * Creates the batch-too-large reply for a batch rejected while it was parsed and notifies the observer.
      *
-     * @param response JSON-RPC error response payload
-     * @param status   HTTP status selected for that payload
-     * @return HTTP response entity containing serialized JSON-RPC error payload
+     * @return batch-too-large reply
      */
-    private ResponseEntity<String> singleErrorResponse(JsonRpcResponse response, HttpStatus status) {
-        return jsonResponse(status, response);
+    private Reply batchTooLarge() {
+        JsonRpcResponse response = payloadHandler.batchTooLarge();
+        return new Reply(httpStatusStrategy.statusForSingle(response), response);
     }
 
     /**
-     * Serializes the given payload and builds an HTTP response entity.
+     * Creates the payload-too-large reply and notifies the observer.
      *
-     * @param status  HTTP status to apply
-     * @param payload payload object to serialize as JSON
-     * @return HTTP response with JSON content type and serialized body
+     * @param actualBytes observed payload size in bytes
+     * @return payload-too-large reply
      */
-    private ResponseEntity<String> jsonResponse(HttpStatus status, Object payload) {
-        return ResponseEntity
-            .status(status)
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(toJson(payload));
+    private Reply requestTooLarge(int actualBytes) {
+        observer.onRequestTooLarge(actualBytes, maxRequestBytes);
+        JsonRpcResponse response = JsonRpcResponse.error(
+            null,
+            JsonRpcErrorCode.INVALID_REQUEST,
+            "Request payload too large");
+        return new Reply(httpStatusStrategy.statusForRequestTooLarge(), response);
+    }
+
+    /**
+     * Checks whether a {@code Content-Encoding} header names a coding other than {@code identity}.
+     *
+     * @param contentEncoding header value
+     * @return {@code true} when the body must be decoded before parsing
+     */
+    private boolean isEncoded(String contentEncoding) {
+        return !contentEncoding.isBlank() && !"identity".equalsIgnoreCase(contentEncoding.trim());
+    }
+
+    /**
+     * Finds a decoded-size limit violation in an exception cause chain.
+     *
+     * @param failure failure raised while decoding or parsing
+     * @return limit violation, or {@code null} when the failure has another cause
+     */
+    private JsonRpcBoundedInputStream.@Nullable LimitExceededException findLimitExceeded(Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            if (current instanceof JsonRpcBoundedInputStream.LimitExceededException limitExceeded) {
+                return limitExceeded;
+            }
+        }
+        return null;
     }
 
     /**
@@ -221,17 +634,55 @@ public class JsonRpcWebMvcEndpoint {
     }
 
     /**
-     * Checks whether the payload consists only of JSON whitespace characters.
+     * Serializes an object with the given mapper.
      *
-     * @param body payload bytes to inspect
-     * @return {@code true} when payload is non-empty but whitespace-only
+     * @param mapper  mapper for the response encoding
+     * @param payload payload object to serialize
+     * @return serialized payload bytes
+     * @throws IllegalStateException if serialization fails unexpectedly
      */
-    private boolean isJsonWhitespaceOnly(byte[] body) {
-        for (byte value : body) {
-            if (value != ' ' && value != '\t' && value != '\n' && value != '\r') {
-                return false;
-            }
+    private byte[] toBytes(ObjectMapper mapper, Object payload) {
+        try {
+            return mapper.writeValueAsBytes(payload);
+        } catch (JacksonException ex) {
+            throw new IllegalStateException("Failed to serialize JSON-RPC response payload", ex);
+        }
+    }
+
+    /**
+     * Serializes an object into a compressing output stream and finishes the stream.
+     *
+     * @param mapper  mapper for the response encoding
+     * @param payload payload object to serialize
+     * @param output  stream receiving the serialized payload
+     * @throws IllegalStateException if serialization or compression fails unexpectedly
+     */
+    private void write(ObjectMapper mapper, Object payload, JsonRpcCompressingOutputStream output) {
+        try (output) {
+            mapper.writeValue(output, payload);
+        } catch (JacksonException | IOException ex) {
+            throw new IllegalStateException("Failed to serialize JSON-RPC response payload", ex);
         }
-        return true;
+    }
+
+    /**
+     * Transport outcome of a handled request.
+     *
+     * @param status  HTTP status to apply
+     * @param payload JSON-RPC payload to serialize, or {@code null} for an empty body
+     */
+    private record Reply(HttpStatus status, @Nullable Object payload) {
+
+    }
+
+    /**
+     * Registered binary encoding with its request reader.
+     *
+     * @param mediaType    media type of the encoding
+     * @param objectMapper mapper writing responses in the encoding
+     * @param reader       reader parsing requests in the encoding
+     */
+    private record BinaryCodec(MediaType mediaType, ObjectMapper objectMapper, JsonRpcPayloadReader reader) {
+
     }
 }
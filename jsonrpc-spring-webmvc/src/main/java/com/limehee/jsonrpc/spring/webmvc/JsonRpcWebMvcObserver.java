@@ -1,16 +1,16 @@
 package com.limehee.jsonrpc.spring.webmvc;
 
-import com.limehee.jsonrpc.core.JsonRpcResponse;
-import java.util.List;
+import com.limehee.jsonrpc.core.JsonRpcPayloadObserver;
 
 /**
  * Observer hook interface for transport-level JSON-RPC events emitted by the WebMVC endpoint.
  * <p>
- * Implementations can collect metrics, auditing information, or diagnostics without changing dispatch behavior. All
- * methods are optional and default to no-op.
+ * Implementations can collect metrics, auditing information, or diagnostics without changing dispatch behavior.
+ * Message-level callbacks are inherited from {@link JsonRpcPayloadObserver}. All methods are optional and default to
+ * no-op.
  * </p>
  */
-public interface JsonRpcWebMvcObserver {
+public interface JsonRpcWebMvcObserver extends JsonRpcPayloadObserver {
 
     /**
      * Shared no-op observer instance used when observation is not configured.
@@ -27,44 +27,34 @@ public interface JsonRpcWebMvcObserver {
         return NO_OP;
     }
 
-    /**
-     * Called when the HTTP payload cannot be parsed into a JSON value.
-     */
-    default void onParseError() {
-    }
-
     /**
      * Called when the request payload exceeds configured transport limits.
      *
-     * @param actualBytes actual body size in bytes
+     * @param actualBytes declared {@code Content-Length} when it exceeds the limit, otherwise the number of bytes read
+     *                    when the limit was crossed (decoded bytes for compressed bodies)
      * @param maxBytes    configured maximum accepted body size in bytes
      */
     default void onRequestTooLarge(int actualBytes, int maxBytes) {
     }
 
     /**
-     * Called when a single request produced a single JSON-RPC response.
-     *
-     * @param response response generated for the request
-     */
-    default void onSingleResponse(JsonRpcResponse response) {
-    }
-
-    /**
-     * Called when a batch request produced one or more JSON-RPC responses.
+     * Called when a response payload was compressed before being written.
      *
-     * @param requestCount number of entries in the incoming batch payload
-     * @param responses    response payload entries emitted for that batch
+     * @param encoding          content coding applied to the response, for example {@code gzip}
+     * @param uncompressedBytes serialized payload size before compression
+     * @param compressedBytes   payload size written to the response body
+     * @param elapsedNanos      time spent serializing and compressing the payload
      */
-    default void onBatchResponse(int requestCount, List<JsonRpcResponse> responses) {
+    default void onResponseCompressed(String encoding, int uncompressedBytes, int compressedBytes, long elapsedNanos) {
     }
 
     /**
-     * Called when request handling produced no JSON-RPC payload (notification-only path).
+     * Called when a compressed request body was decoded and parsed.
      *
-     * @param batch        {@code true} when the incoming payload was a batch array
-     * @param requestCount number of requests in the incoming payload
+     * @param encoding          content coding of the request body, for example {@code gzip}
+     * @param compressedBytes   request body size as received
+     * @param decompressedBytes decoded payload size consumed by the parser
      */
-    default void onNotificationOnly(boolean batch, int requestCount) {
+    default void onRequestDecompressed(String encoding, int compressedBytes, int decompressedBytes) {
     }
 }
@@ -0,0 +1,33 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class JsonRpcContentCodingTest {
+
+    @Test
+    void negotiatesHighestQualitySupportedCoding() {
+        assertEquals(JsonRpcContentCoding.GZIP, JsonRpcContentCoding.negotiate("gzip, deflate, br"));
+        assertEquals(JsonRpcContentCoding.DEFLATE, JsonRpcContentCoding.negotiate("gzip;q=0.4, deflate;q=0.8"));
+        assertEquals(JsonRpcContentCoding.GZIP, JsonRpcContentCoding.negotiate("deflate, gzip"));
+        assertEquals(JsonRpcContentCoding.GZIP, JsonRpcContentCoding.negotiate("X-GZIP"));
+    }
+
+    @Test
+    void honorsWildcardAndExplicitRejection() {
+        assertEquals(JsonRpcContentCoding.GZIP, JsonRpcContentCoding.negotiate("*"));
+        assertEquals(JsonRpcContentCoding.DEFLATE, JsonRpcContentCoding.negotiate("gzip;q=0, *"));
+        assertNull(JsonRpcContentCoding.negotiate("gzip;q=0, deflate;q=0"));
+        assertNull(JsonRpcContentCoding.negotiate("*;q=0"));
+    }
+
+    @Test
+    void returnsNullWithoutSupportedCoding() {
+        assertNull(JsonRpcContentCoding.negotiate(null));
+        assertNull(JsonRpcContentCoding.negotiate(" "));
+        assertNull(JsonRpcContentCoding.negotiate("br, identity"));
+        assertNull(JsonRpcContentCoding.negotiate("gzip;q=invalid"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.limehee.jsonrpc.spring.webmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.StringNode;
+
+class JsonRpcWebMvcEndpointAllocationBudgetTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+    private static final int WARMUP_ITERATIONS = 10_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final StringNode PONG = StringNode.valueOf("pong");
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static Properties budgets;
+    private static volatile Object sink;
+
+    private JsonRpcWebMvcEndpoint endpoint;
+
+    @BeforeAll
+    static void setUpAllocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+            "thread allocation counters are not available on this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "thread allocation counters are not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        budgets = loadBudgets();
+    }
+
+    @BeforeEach
+    void setUp() {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> PONG);
+        endpoint = new JsonRpcWebMvcEndpoint(
+            dispatcher,
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024 * 1024
+        );
+    }
+
+    @Test
+    void singleSuccessStaysWithinBudget() {
+        byte[] request = """
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """.getBytes(StandardCharsets.UTF_8);
+        assertEquals(HttpStatus.OK, endpoint.invoke(new ByteArrayInputStream(request), null, null, null)
+            .getStatusCode());
+
+        assertWithinBudget("endpoint.single.success", request);
+    }
+
+    @Test
+    void singleNotificationStaysWithinBudget() {
+        byte[] request = """
+            {"jsonrpc":"2.0","method":"ping"}
+            """.getBytes(StandardCharsets.UTF_8);
+        endpoint.invoke(new ByteArrayInputStream(request), null, null, null);
+
+        assertWithinBudget("endpoint.single.notification", request);
+    }
+
+    @Test
+    void batchSuccessStaysWithinBudget() {
+        byte[] request = """
+            [
+              {"jsonrpc":"2.0","method":"ping","id":1},
+              {"jsonrpc":"2.0","method":"ping","id":2},
+              {"jsonrpc":"2.0","method":"ping","id":3},
+              {"jsonrpc":"2.0","method":"ping","id":4}
+            ]
+            """.getBytes(StandardCharsets.UTF_8);
+        assertEquals(HttpStatus.OK, endpoint.invoke(new ByteArrayInputStream(request), null, null, null)
+            .getStatusCode());
+
+        assertWithinBudget("endpoint.batch.success", request);
+    }
+
+    private void assertWithinBudget(String scenario, byte[] request) {
+        String budget = budgets.getProperty(scenario);
+        assertNotNull(budget, "no allocation budget declared for " + scenario);
+        long budgetBytes = Long.parseLong(budget.trim());
+        Long contentLength = (long) request.length;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = endpoint.invoke(new ByteArrayInputStream(request), contentLength, null, null);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink = endpoint.invoke(new ByteArrayInputStream(request), contentLength, null, null);
+        }
+        long bytesPerInvocation = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+
+        assertTrue(bytesPerInvocation <= budgetBytes,
+            scenario + " allocated " + bytesPerInvocation + " bytes/invocation, budget is " + budgetBytes);
+    }
+
+    private static Properties loadBudgets() {
+        Properties properties = new Properties();
+        try (InputStream input = JsonRpcWebMvcEndpointAllocationBudgetTest.class.getResourceAsStream(
+            "/allocation-budgets.properties")) {
+            assertNotNull(input, "allocation-budgets.properties is missing");
+            properties.load(input);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return properties;
+    }
+}
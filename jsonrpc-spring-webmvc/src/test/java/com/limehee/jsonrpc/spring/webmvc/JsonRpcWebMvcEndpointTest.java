@@ -1,19 +1,39 @@
 package com.limehee.jsonrpc.spring.webmvc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.limehee.jsonrpc.core.DefaultJsonRpcExceptionResolver;
+import com.limehee.jsonrpc.core.DefaultJsonRpcMethodInvoker;
+import com.limehee.jsonrpc.core.DefaultJsonRpcRequestParser;
+import com.limehee.jsonrpc.core.DefaultJsonRpcRequestValidator;
+import com.limehee.jsonrpc.core.DefaultJsonRpcResponseComposer;
+import com.limehee.jsonrpc.core.InMemoryJsonRpcMethodRegistry;
 import com.limehee.jsonrpc.core.JsonRpcDispatcher;
 import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import com.limehee.jsonrpc.core.JsonRpcReadConstraints;
 import com.limehee.jsonrpc.core.JsonRpcResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -21,10 +41,14 @@ import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.StringNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 class JsonRpcWebMvcEndpointTest {
 
     private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+    private static final ObjectMapper CBOR_MAPPER = CBORMapper.builder().build();
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder().build();
 
     private MockMvc mockMvc;
 
@@ -96,6 +120,17 @@ class JsonRpcWebMvcEndpointTest {
         assertEquals(1, response.id().asInt());
     }
 
+    @Test
+    void echoesFractionalIdAsSent() throws Exception {
+        MvcResult result = mockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1.50}"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("\"id\":1.50"));
+    }
+
     @Test
     void returnsNoContentForNotification() throws Exception {
         mockMvc.perform(post("/jsonrpc")
@@ -280,6 +315,114 @@ class JsonRpcWebMvcEndpointTest {
             .andExpect(result -> assertEquals(413, result.getResponse().getStatus()));
     }
 
+    @Test
+    void legacyConstructorKeepsMapperReadLimitsAndExplicitConstraintsTightenThem() throws Exception {
+        byte[] deeplyNested = ("{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"params\":"
+            + "[".repeat(200) + "]".repeat(200) + ",\"id\":1}").getBytes(StandardCharsets.UTF_8);
+        JsonRpcWebMvcEndpoint legacy = new JsonRpcWebMvcEndpoint(
+            new JsonRpcDispatcher(),
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024 * 1024,
+            JsonRpcWebMvcObserver.noOp(),
+            false,
+            JsonRpcWebMvcCompressionOptions.defaults(),
+            List.of()
+        );
+        JsonRpcWebMvcEndpoint constrained = new JsonRpcWebMvcEndpoint(
+            new JsonRpcDispatcher(),
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024 * 1024,
+            JsonRpcWebMvcObserver.noOp(),
+            false,
+            JsonRpcWebMvcCompressionOptions.defaults(),
+            List.of(),
+            JsonRpcReadConstraints.defaults()
+        );
+
+        JsonRpcResponse accepted = OBJECT_MAPPER.readValue(
+            legacy.invoke(new ByteArrayInputStream(deeplyNested), null, null, null).getBody(), JsonRpcResponse.class);
+        JsonRpcResponse rejected = OBJECT_MAPPER.readValue(
+            constrained.invoke(new ByteArrayInputStream(deeplyNested), null, null, null).getBody(),
+            JsonRpcResponse.class);
+
+        assertEquals(JsonRpcErrorCode.METHOD_NOT_FOUND, accepted.error().code());
+        assertEquals(JsonRpcErrorCode.PARSE_ERROR, rejected.error().code());
+    }
+
+    @Test
+    void rejectsDeclaredContentLengthAboveLimitWithoutReadingBody() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        JsonRpcWebMvcEndpoint endpoint = new JsonRpcWebMvcEndpoint(
+            new JsonRpcDispatcher(),
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024,
+            observer
+        );
+        InputStream unreadable = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("body must not be read");
+            }
+        };
+
+        ResponseEntity<byte[]> result = endpoint.invoke(unreadable, 200L * 1024 * 1024, null, null);
+
+        JsonRpcResponse response = OBJECT_MAPPER.readValue(result.getBody(), JsonRpcResponse.class);
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, response.error().code());
+        assertEquals(1, observer.requestTooLarge);
+        assertEquals(200 * 1024 * 1024, observer.lastActualBytes);
+    }
+
+    @Test
+    void stopsReadingUnboundedBodyWithoutContentLengthOnceLimitIsExceeded() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        JsonRpcWebMvcEndpoint endpoint = new JsonRpcWebMvcEndpoint(
+            new JsonRpcDispatcher(),
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024,
+            observer
+        );
+        EndlessArrayInputStream body = new EndlessArrayInputStream();
+
+        ResponseEntity<byte[]> result = endpoint.invoke(body, null, null, null);
+
+        JsonRpcResponse response = OBJECT_MAPPER.readValue(result.getBody(), JsonRpcResponse.class);
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, response.error().code());
+        assertEquals(1, observer.requestTooLarge);
+        assertEquals(1025L, body.bytesServed);
+    }
+
+    @Test
+    void rejectsOversizedBatchBeforeReadingRemainingElements() throws Exception {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher(
+            new InMemoryJsonRpcMethodRegistry(),
+            new DefaultJsonRpcRequestParser(),
+            new DefaultJsonRpcRequestValidator(),
+            new DefaultJsonRpcMethodInvoker(),
+            new DefaultJsonRpcExceptionResolver(),
+            new DefaultJsonRpcResponseComposer(),
+            10
+        );
+        JsonRpcWebMvcEndpoint endpoint = new JsonRpcWebMvcEndpoint(
+            dispatcher,
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            Integer.MAX_VALUE
+        );
+        EndlessArrayInputStream body = new EndlessArrayInputStream();
+
+        ResponseEntity<byte[]> result = endpoint.invoke(body, null, null, null);
+
+        JsonRpcResponse response = OBJECT_MAPPER.readValue(result.getBody(), JsonRpcResponse.class);
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, response.error().code());
+        assertEquals("Batch size exceeds configured maximum", response.error().message());
+        assertTrue(body.bytesServed < 64 * 1024);
+    }
+
     @Test
     void notifiesObserverForParseErrorsRequestTooLargeAndNotificationOnly() throws Exception {
         JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
@@ -350,6 +493,243 @@ class JsonRpcWebMvcEndpointTest {
         assertEquals(2, observer.lastBatchResponseCount);
     }
 
+    @Test
+    void compressesResponsesAboveThresholdWithNegotiatedCoding() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MockMvc localMockMvc = compressingMockMvc(observer, 256);
+        String body = "{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":[\"" + "x".repeat(1024) + "\"],\"id\":1}";
+
+        MvcResult gzip = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "deflate;q=0.5, gzip")
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertEquals("gzip", gzip.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getResponse().getHeader(HttpHeaders.VARY));
+        byte[] compressed = gzip.getResponse().getContentAsByteArray();
+        byte[] json = readAll(new GZIPInputStream(new ByteArrayInputStream(compressed)));
+        JsonRpcResponse response = OBJECT_MAPPER.readValue(json, JsonRpcResponse.class);
+        assertEquals("x".repeat(1024), response.result().asString());
+        assertTrue(compressed.length < json.length);
+        assertEquals(1, observer.compressedResponses);
+        assertEquals("gzip", observer.lastEncoding);
+        assertEquals(json.length, observer.lastUncompressedBytes);
+        assertEquals(compressed.length, observer.lastCompressedBytes);
+
+        MvcResult deflate = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate")
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertEquals("deflate", deflate.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        byte[] inflated = readAll(new InflaterInputStream(
+            new ByteArrayInputStream(deflate.getResponse().getContentAsByteArray())));
+        assertEquals("x".repeat(1024),
+            OBJECT_MAPPER.readValue(inflated, JsonRpcResponse.class).result().asString());
+    }
+
+    @Test
+    void leavesResponsesUncompressedBelowThresholdOrWithoutAcceptedCoding() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MockMvc localMockMvc = compressingMockMvc(observer, 256);
+
+        MvcResult small = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .content("{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":[\"short\"],\"id\":1}"))
+            .andExpect(status().isOk())
+            .andReturn();
+        MvcResult identity = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "br, identity")
+                .content("{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":[\"" + "x".repeat(1024)
+                    + "\"],\"id\":2}"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertNull(small.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, small.getResponse().getHeader(HttpHeaders.VARY));
+        assertEquals("short", OBJECT_MAPPER.readValue(small.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class).result().asString());
+        assertNull(identity.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(2, OBJECT_MAPPER.readValue(identity.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class).id().asInt());
+        assertEquals(0, observer.compressedResponses);
+    }
+
+    @Test
+    void ignoresAcceptEncodingWhenCompressionIsDisabled() throws Exception {
+        MvcResult result = mockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .content("{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1}"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertNull(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(result.getResponse().getHeader(HttpHeaders.VARY));
+    }
+
+    @Test
+    void compressionOptionsRejectNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcWebMvcCompressionOptions.builder().minResponseBytes(-1).build());
+    }
+
+    @Test
+    void decodesCompressedRequestBodies() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MockMvc localMockMvc = decompressingMockMvc(observer, 1024);
+        byte[] json = "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+        MvcResult gzip = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(gzip(json)))
+            .andExpect(status().isOk())
+            .andReturn();
+        MvcResult deflate = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "deflate")
+                .content(deflate(json)))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertEquals("pong", OBJECT_MAPPER.readValue(gzip.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class).result().asString());
+        assertEquals("pong", OBJECT_MAPPER.readValue(deflate.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class).result().asString());
+        assertEquals(2, observer.decompressedRequests);
+        assertEquals("deflate", observer.lastRequestEncoding);
+        assertEquals(json.length, observer.lastDecompressedBytes);
+    }
+
+    @Test
+    void rejectsCompressedRequestWhoseDecodedSizeExceedsLimit() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MockMvc localMockMvc = decompressingMockMvc(observer, 4096);
+        byte[] bomb = gzip(("{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"params\":[\"" + "a".repeat(1_000_000)
+            + "\"],\"id\":1}").getBytes(StandardCharsets.UTF_8));
+        assertTrue(bomb.length < 4096);
+
+        MvcResult result = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(bomb))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        JsonRpcResponse response = OBJECT_MAPPER.readValue(result.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class);
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, response.error().code());
+        assertEquals(1, observer.requestTooLarge);
+        assertEquals(0, observer.decompressedRequests);
+    }
+
+    @Test
+    void returnsParseErrorForCorruptRequestEncoding() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MockMvc localMockMvc = decompressingMockMvc(observer, 1024);
+        byte[] json = "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+        localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(json))
+            .andExpect(status().isOk());
+        localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(gzip("   ".getBytes(StandardCharsets.UTF_8))))
+            .andExpect(status().isOk());
+
+        assertEquals(2, observer.parseErrors);
+        assertEquals(0, observer.decompressedRequests);
+    }
+
+    @Test
+    void rejectsUnsupportedRequestEncodingWithUnsupportedMediaType() throws Exception {
+        RecordingObserver observer = new RecordingObserver();
+        MockMvc localMockMvc = decompressingMockMvc(observer, 1024);
+
+        MvcResult result = localMockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "br")
+                .content("{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1}"))
+            .andExpect(status().isUnsupportedMediaType())
+            .andReturn();
+
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+        assertEquals(0, observer.parseErrors);
+    }
+
+    @Test
+    void ignoresContentEncodingWhenRequestDecompressionIsDisabled() throws Exception {
+        MvcResult result = mockMvc.perform(post("/jsonrpc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(gzip("{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1}"
+                    .getBytes(StandardCharsets.UTF_8))))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        JsonRpcResponse response = OBJECT_MAPPER.readValue(result.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class);
+        assertEquals(JsonRpcErrorCode.PARSE_ERROR, response.error().code());
+    }
+
+    @Test
+    void servesRegisteredBinaryFormatsWithAcceptNegotiation() throws Exception {
+        MockMvc localMockMvc = binaryMockMvc();
+        byte[] cborRequest = CBOR_MAPPER.writeValueAsBytes(
+            OBJECT_MAPPER.readTree("{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1}"));
+
+        MvcResult cbor = localMockMvc.perform(post("/jsonrpc")
+                .contentType(JsonRpcWebMvcBinaryFormat.CBOR_VALUE)
+                .content(cborRequest))
+            .andExpect(status().isOk())
+            .andReturn();
+        MvcResult smile = localMockMvc.perform(post("/jsonrpc")
+                .contentType(JsonRpcWebMvcBinaryFormat.CBOR_VALUE)
+                .accept(JsonRpcWebMvcBinaryFormat.SMILE_VALUE)
+                .content(cborRequest))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertEquals(JsonRpcWebMvcBinaryFormat.CBOR_VALUE, cbor.getResponse().getContentType());
+        assertEquals("pong", CBOR_MAPPER.readValue(cbor.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class).result().asString());
+        assertEquals(JsonRpcWebMvcBinaryFormat.SMILE_VALUE, smile.getResponse().getContentType());
+        assertEquals("pong", SMILE_MAPPER.readValue(smile.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class).result().asString());
+    }
+
+    @Test
+    void returnsParseErrorForMalformedBinaryPayload() throws Exception {
+        MvcResult result = binaryMockMvc().perform(post("/jsonrpc")
+                .contentType(JsonRpcWebMvcBinaryFormat.CBOR_VALUE)
+                .content(new byte[] {(byte) 0xBF, 0x61}))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        JsonRpcResponse response = CBOR_MAPPER.readValue(result.getResponse().getContentAsByteArray(),
+            JsonRpcResponse.class);
+        assertEquals(JsonRpcErrorCode.PARSE_ERROR, response.error().code());
+    }
+
+    @Test
+    void rejectsBinaryFormatThatIsNotRegistered() throws Exception {
+        mockMvc.perform(post("/jsonrpc")
+                .contentType(JsonRpcWebMvcBinaryFormat.CBOR_VALUE)
+                .content(CBOR_MAPPER.writeValueAsBytes(
+                    OBJECT_MAPPER.readTree("{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":1}"))))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
     @Test
     void constructorRejectsNonPositiveMaxRequestBytes() {
         JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
@@ -369,16 +749,108 @@ class JsonRpcWebMvcEndpointTest {
         ));
     }
 
+    private static MockMvc compressingMockMvc(JsonRpcWebMvcObserver observer, int minResponseBytes) {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("echo", params -> params.get(0));
+        JsonRpcWebMvcEndpoint endpoint = new JsonRpcWebMvcEndpoint(
+            dispatcher,
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024 * 1024,
+            observer,
+            false,
+            JsonRpcWebMvcCompressionOptions.builder()
+                .responseCompressionEnabled(true)
+                .minResponseBytes(minResponseBytes)
+                .build()
+        );
+        return MockMvcBuilders.standaloneSetup(endpoint).build();
+    }
+
+    private static MockMvc decompressingMockMvc(JsonRpcWebMvcObserver observer, int maxRequestBytes) {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        JsonRpcWebMvcEndpoint endpoint = new JsonRpcWebMvcEndpoint(
+            dispatcher,
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            maxRequestBytes,
+            observer,
+            false,
+            JsonRpcWebMvcCompressionOptions.builder()
+                .requestDecompressionEnabled(true)
+                .build()
+        );
+        return MockMvcBuilders.standaloneSetup(endpoint).build();
+    }
+
+    private static MockMvc binaryMockMvc() {
+        JsonRpcDispatcher dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        JsonRpcWebMvcEndpoint endpoint = new JsonRpcWebMvcEndpoint(
+            dispatcher,
+            OBJECT_MAPPER,
+            new DefaultJsonRpcHttpStatusStrategy(),
+            1024 * 1024,
+            JsonRpcWebMvcObserver.noOp(),
+            false,
+            JsonRpcWebMvcCompressionOptions.defaults(),
+            List.of(JsonRpcWebMvcBinaryFormat.cbor(CBOR_MAPPER), JsonRpcWebMvcBinaryFormat.smile(SMILE_MAPPER))
+        );
+        return MockMvcBuilders.standaloneSetup(endpoint).build();
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream compressor = new GZIPOutputStream(output)) {
+            compressor.write(payload);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] payload) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream compressor = new DeflaterOutputStream(output)) {
+            compressor.write(payload);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream input) throws IOException {
+        try (input) {
+            return input.readAllBytes();
+        }
+    }
+
+    private static final class EndlessArrayInputStream extends InputStream {
+
+        long bytesServed;
+
+        @Override
+        public int read() {
+            bytesServed++;
+            return bytesServed == 1 ? '[' : (bytesServed % 2 == 0 ? '1' : ',');
+        }
+    }
+
     private static final class RecordingObserver implements JsonRpcWebMvcObserver {
 
         int parseErrors;
         int requestTooLarge;
+        int lastActualBytes;
         int notificationOnly;
         int notificationOnlyRequestCount;
         int singleResponses;
         int batchResponses;
         int lastBatchRequestCount;
         int lastBatchResponseCount;
+        int compressedResponses;
+        String lastEncoding;
+        int lastUncompressedBytes;
+        int lastCompressedBytes;
+        int decompressedRequests;
+        String lastRequestEncoding;
+        int lastDecompressedBytes;
 
         @Override
         public void onParseError() {
@@ -388,6 +860,7 @@ class JsonRpcWebMvcEndpointTest {
         @Override
         public void onRequestTooLarge(int actualBytes, int maxBytes) {
             requestTooLarge++;
+            lastActualBytes = actualBytes;
         }
 
         @Override
@@ -407,5 +880,21 @@ class JsonRpcWebMvcEndpointTest {
             notificationOnly++;
             notificationOnlyRequestCount = requestCount;
         }
+
+        @Override
+        public void onResponseCompressed(String encoding, int uncompressedBytes, int compressedBytes,
+            long elapsedNanos) {
+            compressedResponses++;
+            lastEncoding = encoding;
+            lastUncompressedBytes = uncompressedBytes;
+            lastCompressedBytes = compressedBytes;
+        }
+
+        @Override
+        public void onRequestDecompressed(String encoding, int compressedBytes, int decompressedBytes) {
+            decompressedRequests++;
+            lastRequestEncoding = encoding;
+            lastDecompressedBytes = decompressedBytes;
+        }
     }
 }
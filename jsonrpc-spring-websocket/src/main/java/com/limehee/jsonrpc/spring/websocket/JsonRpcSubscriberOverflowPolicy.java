@@ -0,0 +1,15 @@
+package com.limehee.jsonrpc.spring.websocket;
+
+/**
+ * Action taken when a broadcast reaches a subscriber whose queue is full.
+ */
+public enum JsonRpcSubscriberOverflowPolicy {
+    /**
+     * Discard the oldest queued broadcast to make room for the new one; the connection stays open.
+     */
+    DROP_OLDEST,
+    /**
+     * Discard all queued broadcasts and close the connection as a slow consumer.
+     */
+    DISCONNECT
+}
@@ -0,0 +1,348 @@
+package com.limehee.jsonrpc.spring.websocket;
+
+import com.limehee.jsonrpc.core.JsonRpcRequestBuilder;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Topic-based broadcaster that pushes JSON-RPC notifications to the connections of a {@link JsonRpcWebSocketHandler}.
+ * <p>
+ * Connections subscribe to topics, typically from inside a JSON-RPC method using
+ * {@link JsonRpcWebSocketHandler#currentSession()}. {@link #publish(String, String, JsonNode)} serializes the
+ * notification once into an immutable message that is shared by every subscriber of the topic, so the cost of building
+ * and serializing the payload does not grow with the number of subscribers.
+ * </p>
+ * <p>
+ * Publishing never waits for a connection. Each connection has a bounded queue of pending broadcasts that a worker
+ * drains in publication order; when the queue is full, the configured {@link JsonRpcSubscriberOverflowPolicy} either
+ * discards the oldest broadcast or closes the connection. Broadcasts are sent as text messages, through the same
+ * bounded sender as responses.
+ * </p>
+ */
+public final class JsonRpcSubscriptionBroker {
+
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final JsonRpcWebSocketOptions options;
+    private final JsonRpcWebSocketObserver observer;
+    private final BiConsumer<WebSocketSession, WebSocketMessage<?>> sender;
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a broker for the connections of one handler.
+     *
+     * @param objectMapper mapper used to serialize notifications
+     * @param executor     executor on which subscriber queues are drained
+     * @param options      queue capacity and overflow policy
+     * @param observer     observer receiving broadcast callbacks
+     * @param sender       sends a message on a connection, closing it when its client does not keep up
+     */
+    JsonRpcSubscriptionBroker(
+        ObjectMapper objectMapper,
+        Executor executor,
+        JsonRpcWebSocketOptions options,
+        JsonRpcWebSocketObserver observer,
+        BiConsumer<WebSocketSession, WebSocketMessage<?>> sender
+    ) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.options = Objects.requireNonNull(options, "options");
+        this.observer = Objects.requireNonNull(observer, "observer");
+        this.sender = Objects.requireNonNull(sender, "sender");
+    }
+
+    /**
+     * Subscribes a connection to a topic.
+     *
+     * @param session open connection of the owning handler
+     * @param topic   topic name
+     * @return {@code true} if the connection was not yet subscribed to the topic
+     * @throws IllegalArgumentException if the session is not an open connection of the owning handler
+     */
+    public boolean subscribe(WebSocketSession session, String topic) {
+        Objects.requireNonNull(session, "session");
+        Objects.requireNonNull(topic, "topic");
+        Subscriber subscriber = subscribers.get(session.getId());
+        if (subscriber == null) {
+            throw new IllegalArgumentException("session is not an open connection of this handler");
+        }
+        if (!subscriber.subscribedTopics.add(topic)) {
+            return false;
+        }
+        topics.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        if (subscriber.closed) {
+            // raced with the connection closing; unregister() may have missed this topic
+            removeFromTopic(topic, subscriber);
+        }
+        return true;
+    }
+
+    /**
+     * Unsubscribes a connection from a topic.
+     *
+     * @param session connection of the owning handler
+     * @param topic   topic name
+     * @return {@code true} if the connection was subscribed to the topic
+     */
+    public boolean unsubscribe(WebSocketSession session, String topic) {
+        Objects.requireNonNull(session, "session");
+        Objects.requireNonNull(topic, "topic");
+        Subscriber subscriber = subscribers.get(session.getId());
+        if (subscriber == null || !subscriber.subscribedTopics.remove(topic)) {
+            return false;
+        }
+        removeFromTopic(topic, subscriber);
+        return true;
+    }
+
+    /**
+     * Returns the number of connections subscribed to a topic.
+     *
+     * @param topic topic name
+     * @return subscriber count
+     */
+    public int subscriberCount(String topic) {
+        Set<Subscriber> targets = topics.get(Objects.requireNonNull(topic, "topic"));
+        return targets == null ? 0 : targets.size();
+    }
+
+    /**
+     * Publishes a notification to every connection subscribed to a topic.
+     * <p>
+     * The notification is serialized once, and its message is queued for each subscriber without waiting for any
+     * connection.
+     * </p>
+     *
+     * @param topic  topic name
+     * @param method JSON-RPC method name of the notification
+     * @param params object or array params; {@code null} to omit params
+     * @return number of connections the notification was queued for
+     * @throws IllegalArgumentException if the method name or params shape is invalid
+     */
+    public int publish(String topic, String method, @Nullable JsonNode params) {
+        Objects.requireNonNull(topic, "topic");
+        Set<Subscriber> targets = topics.get(topic);
+        if (targets == null || targets.isEmpty()) {
+            observer.onBroadcast(topic, 0);
+            return 0;
+        }
+        JsonRpcRequestBuilder notification = JsonRpcRequestBuilder.notification(method);
+        if (params != null) {
+            notification.params(params);
+        }
+        Broadcast broadcast = new Broadcast(new TextMessage(toBytes(notification.buildNode())), System.nanoTime());
+        int queued = 0;
+        for (Subscriber subscriber : targets) {
+            if (subscriber.offer(broadcast)) {
+                queued++;
+            }
+        }
+        observer.onBroadcast(topic, queued);
+        return queued;
+    }
+
+    /**
+     * Registers an established connection.
+     *
+     * @param session thread-safe sender of the connection
+     */
+    void register(WebSocketSession session) {
+        subscribers.put(session.getId(), new Subscriber(session));
+    }
+
+    /**
+     * Removes a closed connection from all of its topics and discards its queued broadcasts.
+     *
+     * @param sessionId id of the closed connection
+     */
+    void unregister(String sessionId) {
+        Subscriber subscriber = subscribers.remove(sessionId);
+        if (subscriber == null) {
+            return;
+        }
+        subscriber.close();
+        for (String topic : subscriber.subscribedTopics) {
+            removeFromTopic(topic, subscriber);
+        }
+    }
+
+    /**
+     * Removes a subscriber from a topic, dropping the topic once it has no subscribers.
+     *
+     * @param topic      topic name
+     * @param subscriber subscriber to remove
+     */
+    private void removeFromTopic(String topic, Subscriber subscriber) {
+        topics.computeIfPresent(topic, (key, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    /**
+     * Serializes a notification.
+     *
+     * @param notification notification node
+     * @return serialized JSON bytes
+     * @throws IllegalStateException if serialization fails unexpectedly
+     */
+    private byte[] toBytes(JsonNode notification) {
+        try {
+            return objectMapper.writeValueAsBytes(notification);
+        } catch (JacksonException ex) {
+            throw new IllegalStateException("Failed to serialize JSON-RPC notification", ex);
+        }
+    }
+
+    /**
+     * Serialized notification shared by all subscribers it is queued for.
+     *
+     * @param message        immutable message sent to every subscriber
+     * @param publishedNanos {@link System#nanoTime()} at publication
+     */
+    private record Broadcast(TextMessage message, long publishedNanos) {
+
+    }
+
+    /**
+     * Subscription state and pending broadcasts of one connection.
+     */
+    private final class Subscriber {
+
+        private final WebSocketSession session;
+        private final Set<String> subscribedTopics = ConcurrentHashMap.newKeySet();
+        private final ArrayDeque<Broadcast> queue = new ArrayDeque<>();
+        private boolean draining;
+        private volatile boolean closed;
+
+        /**
+         * Creates subscriber state for a connection.
+         *
+         * @param session thread-safe sender of the connection
+         */
+        Subscriber(WebSocketSession session) {
+            this.session = session;
+        }
+
+        /**
+         * Queues a broadcast, applying the overflow policy when the queue is full, and starts draining if idle.
+         *
+         * @param broadcast broadcast to queue
+         * @return {@code true} if the broadcast was queued
+         */
+        boolean offer(Broadcast broadcast) {
+            int dropped = 0;
+            boolean disconnect = false;
+            boolean startDrain = false;
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (queue.size() >= options.subscriberQueueCapacity()) {
+                    if (options.subscriberOverflowPolicy() == JsonRpcSubscriberOverflowPolicy.DISCONNECT) {
+                        dropped = queue.size() + 1;
+                        queue.clear();
+                        closed = true;
+                        disconnect = true;
+                    } else {
+                        queue.pollFirst();
+                        dropped = 1;
+                    }
+                }
+                if (!disconnect) {
+                    queue.addLast(broadcast);
+                    if (!draining) {
+                        draining = true;
+                        startDrain = true;
+                    }
+                }
+            }
+            if (dropped > 0) {
+                observer.onBroadcastDropped(options.subscriberOverflowPolicy(), dropped);
+            }
+            if (disconnect) {
+                observer.onSlowConsumerClosed();
+                closeSession();
+                return false;
+            }
+            if (startDrain) {
+                scheduleDrain();
+            }
+            return true;
+        }
+
+        /**
+         * Hands the queue to the executor.
+         *
+         * @throws RejectedExecutionException if the executor does not accept the drain task
+         */
+        private void scheduleDrain() {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                synchronized (this) {
+                    draining = false;
+                }
+                throw ex;
+            }
+        }
+
+        /**
+         * Sends queued broadcasts in order.
+         * <p>
+         * At most one queue capacity worth of broadcasts is sent per run before the drain is rescheduled, so a busy
+         * subscriber does not keep a worker from other subscribers.
+         * </p>
+         */
+        private void drain() {
+            for (int sent = 0; sent < options.subscriberQueueCapacity(); sent++) {
+                Broadcast next;
+                synchronized (this) {
+                    next = closed ? null : queue.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                sender.accept(session, next.message());
+                observer.onBroadcastDelivered(System.nanoTime() - next.publishedNanos());
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Stops accepting broadcasts and discards queued ones.
+         */
+        synchronized void close() {
+            closed = true;
+            queue.clear();
+        }
+
+        /**
+         * Closes the connection as a slow consumer, ignoring failures of an already broken connection.
+         */
+        private void closeSession() {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ex) {
+                // the connection is unusable either way
+            }
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.limehee.jsonrpc.spring.websocket;
+
+import com.limehee.jsonrpc.core.JsonRpcBatchTooLargeException;
+import com.limehee.jsonrpc.core.JsonRpcDecodedPayload;
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import com.limehee.jsonrpc.core.JsonRpcPayloadHandler;
+import com.limehee.jsonrpc.core.JsonRpcPayloadReader;
+import com.limehee.jsonrpc.core.JsonRpcReadConstraints;
+import com.limehee.jsonrpc.core.JsonRpcRequest;
+import com.limehee.jsonrpc.core.JsonRpcResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * WebSocket handler that exposes JSON-RPC 2.0 over persistent connections.
+ * <p>
+ * Every text or binary message carries one JSON-RPC payload (a request, a notification, or a batch) and is dispatched
+ * through {@link JsonRpcDispatcher} on the configured executor, so messages from one connection are processed
+ * concurrently. Each response is written back as soon as it is ready, in a message of the same kind as the request;
+ * clients correlate responses by id. Notification-only payloads produce no message.
+ * </p>
+ * <p>
+ * Backpressure is applied per connection. At most {@link JsonRpcWebSocketOptions#maxInFlightPerSession()} messages
+ * are in flight at once; a message that arrives while the limit is reached is not dispatched, and each request in it
+ * is answered at once with a {@link #SERVER_BUSY} error carrying its id, so container threads never wait. Responses are
+ * sent through a {@link ConcurrentWebSocketSessionDecorator}, and a connection whose client falls behind the
+ * configured send time or buffer size limit is closed with {@link CloseStatus#SESSION_NOT_RELIABLE} instead of
+ * buffering responses without bound.
+ * </p>
+ * <p>
+ * Payloads are parsed like HTTP request bodies: batch elements are counted while they are parsed, and requests are
+ * decoded from tokens when the dispatcher supports it.
+ * </p>
+ * <p>
+ * Server-initiated notifications are pushed through {@link #subscriptions()}.
+ * </p>
+ */
+public class JsonRpcWebSocketHandler extends AbstractWebSocketHandler {
+
+    /**
+     * Error code returned for requests in a message rejected because its connection has the maximum number of
+     * messages in flight. The value is in the JSON-RPC server-error range.
+     */
+    public static final int SERVER_BUSY = -32000;
+
+    private static final String SERVER_BUSY_MESSAGE = "Too many requests in flight";
+
+    private static final ThreadLocal<WebSocketSession> CURRENT_SESSION = new ThreadLocal<>();
+
+    private final JsonRpcDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private final JsonRpcPayloadReader payloadReader;
+    private final JsonRpcPayloadHandler payloadHandler;
+    private final Executor executor;
+    private final JsonRpcWebSocketOptions options;
+    private final JsonRpcWebSocketObserver observer;
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    private final JsonRpcSubscriptionBroker subscriptions;
+
+    /**
+     * Creates a handler with default options and a no-op observer.
+     *
+     * @param dispatcher   dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper mapper used to parse request payloads and serialize responses
+     * @param executor     executor on which messages are dispatched
+     */
+    public JsonRpcWebSocketHandler(JsonRpcDispatcher dispatcher, ObjectMapper objectMapper, Executor executor) {
+        this(dispatcher, objectMapper, executor, JsonRpcWebSocketOptions.defaults(), JsonRpcWebSocketObserver.noOp());
+    }
+
+    /**
+     * Creates a handler with explicit options and observer, using the default JSON-RPC read constraints.
+     *
+     * @param dispatcher   dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper mapper used to parse request payloads and serialize responses
+     * @param executor     executor on which messages are dispatched
+     * @param options      per-connection limits
+     * @param observer     observer receiving transport-level event callbacks
+     */
+    public JsonRpcWebSocketHandler(
+        JsonRpcDispatcher dispatcher,
+        ObjectMapper objectMapper,
+        Executor executor,
+        JsonRpcWebSocketOptions options,
+        JsonRpcWebSocketObserver observer
+    ) {
+        this(dispatcher, objectMapper, executor, options, observer, false, JsonRpcReadConstraints.defaults());
+    }
+
+    /**
+     * Creates a handler with explicit options, observer, request duplicate-member policy, and read constraints.
+     *
+     * @param dispatcher             dispatcher that performs JSON-RPC parsing, validation, and invocation
+     * @param objectMapper           mapper used to parse request payloads and serialize responses
+     * @param executor               executor on which messages are dispatched
+     * @param options                per-connection limits
+     * @param observer               observer receiving transport-level event callbacks
+     * @param rejectDuplicateMembers {@code true} to reject duplicate request members during JSON parsing
+     * @param readConstraints        structural limits enforced while tokenizing request payloads
+     */
+    public JsonRpcWebSocketHandler(
+        JsonRpcDispatcher dispatcher,
+        ObjectMapper objectMapper,
+        Executor executor,
+        JsonRpcWebSocketOptions options,
+        JsonRpcWebSocketObserver observer,
+        boolean rejectDuplicateMembers,
+        JsonRpcReadConstraints readConstraints
+    ) {
+        this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        Objects.requireNonNull(readConstraints, "readConstraints");
+        this.payloadReader = new JsonRpcPayloadReader(objectMapper, rejectDuplicateMembers, readConstraints);
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.options = Objects.requireNonNull(options, "options");
+        this.observer = Objects.requireNonNull(observer, "observer");
+        this.payloadHandler = new JsonRpcPayloadHandler(dispatcher, observer);
+        this.subscriptions = new JsonRpcSubscriptionBroker(objectMapper, executor, options, observer, this::send);
+    }
+
+    /**
+     * Returns the connection whose message is being dispatched on the current thread.
+     * <p>
+     * Available to method handlers invoked synchronously by this handler, for example to subscribe the calling
+     * connection to a topic. The returned session is safe to use from any thread.
+     * </p>
+     *
+     * @return calling connection, or {@code null} when the current thread is not dispatching a WebSocket message
+     */
+    public static @Nullable WebSocketSession currentSession() {
+        return CURRENT_SESSION.get();
+    }
+
+    /**
+     * Returns the broker that pushes notifications to this handler's connections.
+     *
+     * @return subscription broker
+     */
+    public JsonRpcSubscriptionBroker subscriptions() {
+        return subscriptions;
+    }
+
+    /**
+     * Registers the connection with its send buffer and in-flight slots.
+     *
+     * @param session established session
+     */
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        ConcurrentWebSocketSessionDecorator sender = new ConcurrentWebSocketSessionDecorator(
+            session,
+            (int) Math.min(Integer.MAX_VALUE, options.sendTimeLimit().toMillis()),
+            options.sendBufferSizeLimit(),
+            ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        connections.put(session.getId(), new Connection(sender, new Semaphore(options.maxInFlightPerSession())));
+        subscriptions.register(sender);
+        observer.onSessionOpened();
+    }
+
+    /**
+     * Dispatches a text message.
+     *
+     * @param session session the message arrived on
+     * @param message message carrying a UTF-8 JSON payload
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        receive(session, message.asBytes(), false);
+    }
+
+    /**
+     * Dispatches a binary message.
+     *
+     * @param session session the message arrived on
+     * @param message message carrying a UTF-8 JSON payload
+     */
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        ByteBuffer payload = message.getPayload().duplicate();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        receive(session, bytes, true);
+    }
+
+    /**
+     * Releases the connection state and its subscriptions.
+     *
+     * @param session closed session
+     * @param status  close status
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        subscriptions.unregister(session.getId());
+        if (connections.remove(session.getId()) != null) {
+            observer.onSessionClosed();
+        }
+    }
+
+    /**
+     * Returns the number of open connections.
+     *
+     * @return open connection count
+     */
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Takes an in-flight slot for a message and hands the message to the executor, or rejects the message when no slot
+     * is free.
+     *
+     * @param session session the message arrived on
+     * @param payload raw message payload
+     * @param binary  {@code true} to answer with a binary message
+     */
+    private void receive(WebSocketSession session, byte[] payload, boolean binary) {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+        Semaphore inFlight = connection.inFlight();
+        if (!inFlight.tryAcquire()) {
+            observer.onInFlightLimitReached(options.maxInFlightPerSession());
+            Object rejection = rejection(payload);
+            if (rejection != null) {
+                byte[] bytes = toBytes(rejection);
+                send(connection.sender(), binary ? new BinaryMessage(bytes) : new TextMessage(bytes));
+            }
+            return;
+        }
+        try {
+            executor.execute(() -> process(connection, payload, binary));
+        } catch (RejectedExecutionException ex) {
+            inFlight.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Handles one message and sends its response, releasing the in-flight slot afterwards.
+     *
+     * @param connection connection the message arrived on
+     * @param payload    raw message payload
+     * @param binary     {@code true} to answer with a binary message
+     */
+    private void process(Connection connection, byte[] payload, boolean binary) {
+        CURRENT_SESSION.set(connection.sender());
+        try {
+            Object reply = handle(payload);
+            if (reply != null) {
+                byte[] bytes = toBytes(reply);
+                send(connection.sender(), binary ? new BinaryMessage(bytes) : new TextMessage(bytes));
+            }
+        } catch (RuntimeException ex) {
+            close(connection.sender(), CloseStatus.SERVER_ERROR);
+        } finally {
+            CURRENT_SESSION.remove();
+            connection.inFlight().release();
+        }
+    }
+
+    /**
+     * Builds server-busy errors for the requests of a message that is not dispatched.
+     * <p>
+     * Only the request ids are read, as tokens, so clients can correlate the rejection; every other member is skipped
+     * without being decoded. Notifications get no error; a payload whose ids cannot be read is answered with a single
+     * error with a {@code null} id.
+     * </p>
+     *
+     * @param payload raw message payload
+     * @return rejection payload to serialize, or {@code null} when the message holds only notifications
+     */
+    private @Nullable Object rejection(byte[] payload) {
+        if (payload.length > options.maxMessageBytes()) {
+            return serverBusy(null);
+        }
+        JsonRpcDecodedPayload ids;
+        try {
+            ids = payloadReader.readIds(new ByteArrayInputStream(payload), dispatcher.maxBatchSize());
+        } catch (JsonRpcBatchTooLargeException | JacksonException ex) {
+            return serverBusy(null);
+        }
+        if (ids == null || ids.requests().isEmpty()) {
+            return serverBusy(null);
+        }
+        if (!ids.isBatch()) {
+            JsonRpcRequest request = ids.requests().get(0);
+            if (request == null) {
+                return serverBusy(null);
+            }
+            return request.idPresent() ? serverBusy(request.id()) : null;
+        }
+        List<JsonRpcResponse> responses = new ArrayList<>(ids.requests().size());
+        for (JsonRpcRequest request : ids.requests()) {
+            if (request == null) {
+                responses.add(serverBusy(null));
+            } else if (request.idPresent()) {
+                responses.add(serverBusy(request.id()));
+            }
+        }
+        return responses.isEmpty() ? null : responses;
+    }
+
+    /**
+     * Creates a server-busy error response.
+     *
+     * @param id request id to echo; ids that are not a string, number, or {@code null} are replaced by {@code null}
+     * @return server-busy error response
+     */
+    private static JsonRpcResponse serverBusy(@Nullable JsonNode id) {
+        JsonNode echoed = id != null && (id.isString() || id.isNumber() || id.isNull()) ? id : null;
+        return JsonRpcResponse.error(echoed, SERVER_BUSY, SERVER_BUSY_MESSAGE);
+    }
+
+    /**
+     * Parses, dispatches, and observes a message payload.
+     *
+     * @param payload raw message payload
+     * @return response payload to serialize, or {@code null} for notification-only payloads
+     */
+    private @Nullable Object handle(byte[] payload) {
+        if (payload.length > options.maxMessageBytes()) {
+            observer.onRequestTooLarge(payload.length, options.maxMessageBytes());
+            return JsonRpcResponse.error(null, JsonRpcErrorCode.INVALID_REQUEST, "Request payload too large");
+        }
+        return payloadHandler.handle(payloadReader, new ByteArrayInputStream(payload));
+    }
+
+    /**
+     * Sends a message, closing the connection when its client does not keep up.
+     *
+     * @param sender  thread-safe, bounded sender of the connection
+     * @param message message to send
+     */
+    private void send(WebSocketSession sender, WebSocketMessage<?> message) {
+        try {
+            sender.sendMessage(message);
+        } catch (SessionLimitExceededException ex) {
+            observer.onSlowConsumerClosed();
+            close(sender, ex.getStatus());
+        } catch (IOException ex) {
+            close(sender, CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Closes a connection, ignoring failures of an already broken connection.
+     *
+     * @param sender sender of the connection to close
+     * @param status close status to send
+     */
+    private void close(WebSocketSession sender, CloseStatus status) {
+        try {
+            sender.close(status);
+        } catch (IOException ex) {
+            // the connection is unusable either way
+        }
+    }
+
+    /**
+     * Serializes a response payload.
+     *
+     * @param payload payload object to serialize
+     * @return serialized JSON bytes
+     * @throws IllegalStateException if serialization fails unexpectedly
+     */
+    private byte[] toBytes(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JacksonException ex) {
+            throw new IllegalStateException("Failed to serialize JSON-RPC response payload", ex);
+        }
+    }
+
+    /**
+     * State kept for one open connection.
+     *
+     * @param sender   thread-safe, bounded sender for the session
+     * @param inFlight slots for messages dispatched or waiting to be sent
+     */
+    private record Connection(ConcurrentWebSocketSessionDecorator sender, Semaphore inFlight) {
+
+    }
+}
@@ -0,0 +1,91 @@
+package com.limehee.jsonrpc.spring.websocket;
+
+import com.limehee.jsonrpc.core.JsonRpcPayloadObserver;
+
+/**
+ * Observer hook interface for transport-level JSON-RPC events emitted by the WebSocket handler.
+ * <p>
+ * Message-level callbacks are inherited from {@link JsonRpcPayloadObserver} and shared with the WebMVC endpoint
+ * observer, so the same metrics can be recorded for both transports. Callbacks may be invoked concurrently from
+ * container and worker threads. All methods are optional and default to no-op.
+ * </p>
+ */
+public interface JsonRpcWebSocketObserver extends JsonRpcPayloadObserver {
+
+    /**
+     * Shared no-op observer instance used when observation is not configured.
+     */
+    JsonRpcWebSocketObserver NO_OP = new JsonRpcWebSocketObserver() {
+    };
+
+    /**
+     * Returns a reusable no-op observer.
+     *
+     * @return observer that ignores all callbacks
+     */
+    static JsonRpcWebSocketObserver noOp() {
+        return NO_OP;
+    }
+
+    /**
+     * Called when a connection has been established.
+     */
+    default void onSessionOpened() {
+    }
+
+    /**
+     * Called when a connection has been closed.
+     */
+    default void onSessionClosed() {
+    }
+
+    /**
+     * Called when a message exceeds the configured size limit.
+     *
+     * @param actualBytes message payload size in bytes
+     * @param maxBytes    configured maximum message size in bytes
+     */
+    default void onRequestTooLarge(int actualBytes, int maxBytes) {
+    }
+
+    /**
+     * Called when a message arrives while its connection already has the maximum number of messages in flight, just
+     * before the message is rejected with {@link JsonRpcWebSocketHandler#SERVER_BUSY} errors.
+     *
+     * @param maxInFlight configured per-connection in-flight limit
+     */
+    default void onInFlightLimitReached(int maxInFlight) {
+    }
+
+    /**
+     * Called when a connection is closed because it did not keep up with its responses.
+     */
+    default void onSlowConsumerClosed() {
+    }
+
+    /**
+     * Called when a broadcast has been serialized and queued for the subscribers of its topic.
+     *
+     * @param topic           topic the broadcast was published to
+     * @param subscriberCount number of connections the broadcast was queued for
+     */
+    default void onBroadcast(String topic, int subscriberCount) {
+    }
+
+    /**
+     * Called when a broadcast has been handed to one subscriber's connection.
+     *
+     * @param latencyNanos time from publication to hand-off, in nanoseconds
+     */
+    default void onBroadcastDelivered(long latencyNanos) {
+    }
+
+    /**
+     * Called when broadcasts are discarded because a subscriber's queue is full.
+     *
+     * @param policy       overflow policy that discarded the broadcasts
+     * @param droppedCount number of discarded broadcasts
+     */
+    default void onBroadcastDropped(JsonRpcSubscriberOverflowPolicy policy, int droppedCount) {
+    }
+}
@@ -0,0 +1,213 @@
+package com.limehee.jsonrpc.spring.websocket;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Per-connection limits for the JSON-RPC WebSocket handler.
+ */
+public final class JsonRpcWebSocketOptions {
+
+    private final int maxMessageBytes;
+    private final int maxInFlightPerSession;
+    private final Duration sendTimeLimit;
+    private final int sendBufferSizeLimit;
+    private final int subscriberQueueCapacity;
+    private final JsonRpcSubscriberOverflowPolicy subscriberOverflowPolicy;
+
+    private JsonRpcWebSocketOptions(Builder builder) {
+        this.maxMessageBytes = builder.maxMessageBytes;
+        this.maxInFlightPerSession = builder.maxInFlightPerSession;
+        this.sendTimeLimit = builder.sendTimeLimit;
+        this.sendBufferSizeLimit = builder.sendBufferSizeLimit;
+        this.subscriberQueueCapacity = builder.subscriberQueueCapacity;
+        this.subscriberOverflowPolicy = builder.subscriberOverflowPolicy;
+    }
+
+    /**
+     * Returns default options.
+     *
+     * @return default WebSocket options
+     */
+    public static JsonRpcWebSocketOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a mutable builder initialized with default values.
+     *
+     * @return options builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return maximum accepted message payload size in bytes
+     */
+    public int maxMessageBytes() {
+        return maxMessageBytes;
+    }
+
+    /**
+     * @return maximum number of messages from one connection that are dispatched or waiting to be sent at once
+     */
+    public int maxInFlightPerSession() {
+        return maxInFlightPerSession;
+    }
+
+    /**
+     * @return maximum time a single send may take before the connection is closed as a slow consumer
+     */
+    public Duration sendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    /**
+     * @return maximum number of response bytes buffered per connection while a send is in progress
+     */
+    public int sendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+
+    /**
+     * @return maximum number of broadcasts queued per connection while earlier ones are being sent
+     */
+    public int subscriberQueueCapacity() {
+        return subscriberQueueCapacity;
+    }
+
+    /**
+     * @return action taken when a broadcast reaches a connection whose queue is full
+     */
+    public JsonRpcSubscriberOverflowPolicy subscriberOverflowPolicy() {
+        return subscriberOverflowPolicy;
+    }
+
+    /**
+     * Builder for WebSocket options.
+     */
+    public static final class Builder {
+
+        private int maxMessageBytes = 1_048_576;
+        private int maxInFlightPerSession = 16;
+        private Duration sendTimeLimit = Duration.ofSeconds(10);
+        private int sendBufferSizeLimit = 512 * 1024;
+        private int subscriberQueueCapacity = 256;
+        private JsonRpcSubscriberOverflowPolicy subscriberOverflowPolicy = JsonRpcSubscriberOverflowPolicy.DROP_OLDEST;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum accepted message payload size in bytes.
+         * <p>
+         * Larger messages are answered with an error response without being parsed. The WebSocket container's own
+         * message buffer size should be at least this large, otherwise the container closes the connection first.
+         *
+         * @param maxMessageBytes limit in bytes; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxMessageBytes(int maxMessageBytes) {
+            this.maxMessageBytes = maxMessageBytes;
+            return this;
+        }
+
+        /**
+         * Sets how many messages from one connection may be in flight at once.
+         * <p>
+         * A message is in flight from the moment it is received until its response has been handed to the connection.
+         * When the limit is reached, the next message is not dispatched; its requests are answered at once with
+         * {@link JsonRpcWebSocketHandler#SERVER_BUSY} errors, so the container thread never waits.
+         *
+         * @param maxInFlightPerSession limit; must be greater than 0
+         * @return this builder
+         */
+        public Builder maxInFlightPerSession(int maxInFlightPerSession) {
+            this.maxInFlightPerSession = maxInFlightPerSession;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a single send may take.
+         * <p>
+         * Checked when another response is ready while a send is still in progress; a connection exceeding it is
+         * closed.
+         *
+         * @param sendTimeLimit time limit; must be positive
+         * @return this builder
+         */
+        public Builder sendTimeLimit(Duration sendTimeLimit) {
+            this.sendTimeLimit = Objects.requireNonNull(sendTimeLimit, "sendTimeLimit");
+            return this;
+        }
+
+        /**
+         * Sets how many response bytes may be buffered per connection while a send is in progress.
+         * <p>
+         * A connection exceeding it is closed, so a client that stops reading cannot make the server buffer responses
+         * without bound.
+         *
+         * @param sendBufferSizeLimit limit in bytes; must be greater than 0
+         * @return this builder
+         */
+        public Builder sendBufferSizeLimit(int sendBufferSizeLimit) {
+            this.sendBufferSizeLimit = sendBufferSizeLimit;
+            return this;
+        }
+
+        /**
+         * Sets how many broadcasts may be queued per connection while earlier ones are being sent.
+         * <p>
+         * The queue is shared by all topics a connection subscribes to. When it is full,
+         * {@link #subscriberOverflowPolicy(JsonRpcSubscriberOverflowPolicy)} decides what happens to the next
+         * broadcast.
+         *
+         * @param subscriberQueueCapacity queue capacity; must be greater than 0
+         * @return this builder
+         */
+        public Builder subscriberQueueCapacity(int subscriberQueueCapacity) {
+            this.subscriberQueueCapacity = subscriberQueueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the action taken when a broadcast reaches a connection whose queue is full.
+         *
+         * @param subscriberOverflowPolicy overflow policy
+         * @return this builder
+         */
+        public Builder subscriberOverflowPolicy(JsonRpcSubscriberOverflowPolicy subscriberOverflowPolicy) {
+            this.subscriberOverflowPolicy = Objects.requireNonNull(
+                subscriberOverflowPolicy,
+                "subscriberOverflowPolicy"
+            );
+            return this;
+        }
+
+        /**
+         * Builds immutable WebSocket options.
+         *
+         * @return immutable WebSocket options
+         * @throws IllegalArgumentException if a limit is not positive
+         */
+        public JsonRpcWebSocketOptions build() {
+            if (maxMessageBytes <= 0) {
+                throw new IllegalArgumentException("maxMessageBytes must be greater than 0");
+            }
+            if (maxInFlightPerSession <= 0) {
+                throw new IllegalArgumentException("maxInFlightPerSession must be greater than 0");
+            }
+            if (sendTimeLimit.isNegative() || sendTimeLimit.isZero()) {
+                throw new IllegalArgumentException("sendTimeLimit must be positive");
+            }
+            if (sendBufferSizeLimit <= 0) {
+                throw new IllegalArgumentException("sendBufferSizeLimit must be greater than 0");
+            }
+            if (subscriberQueueCapacity <= 0) {
+                throw new IllegalArgumentException("subscriberQueueCapacity must be greater than 0");
+            }
+            return new JsonRpcWebSocketOptions(this);
+        }
+    }
+}
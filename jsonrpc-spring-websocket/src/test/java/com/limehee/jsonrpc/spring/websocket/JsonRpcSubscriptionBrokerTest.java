@@ -0,0 +1,197 @@
+package com.limehee.jsonrpc.spring.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.BooleanNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+
+class JsonRpcSubscriptionBrokerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private JsonRpcDispatcher dispatcher;
+    private RecordingObserver observer;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new JsonRpcDispatcher();
+        observer = new RecordingObserver();
+    }
+
+    @Test
+    void publishSharesOneSerializedMessageAcrossSubscribers() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession first = open(handler, "first");
+        RecordingSession second = open(handler, "second");
+        RecordingSession other = open(handler, "other");
+        handler.subscriptions().subscribe(first, "ticks");
+        handler.subscriptions().subscribe(second, "ticks");
+        handler.subscriptions().subscribe(other, "jobs");
+
+        int queued = handler.subscriptions().publish(
+            "ticks",
+            "tick",
+            JsonNodeFactory.instance.objectNode().put("price", 42));
+
+        assertEquals(2, queued);
+        TextMessage message = assertInstanceOf(TextMessage.class, first.sent.get(0));
+        assertSame(message, second.sent.get(0));
+        assertTrue(other.sent.isEmpty());
+        JsonNode notification = OBJECT_MAPPER.readTree(message.getPayload());
+        assertEquals("2.0", notification.get("jsonrpc").asString());
+        assertEquals("tick", notification.get("method").asString());
+        assertEquals(42, notification.get("params").get("price").asInt());
+        assertFalse(notification.has("id"));
+        assertEquals(2, observer.lastBroadcastSubscribers.get());
+        assertEquals(2, observer.delivered.get());
+    }
+
+    @Test
+    void methodSubscribesCallingConnection() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        dispatcher.register("ticks.subscribe", params -> BooleanNode.valueOf(handler.subscriptions().subscribe(
+            Objects.requireNonNull(JsonRpcWebSocketHandler.currentSession()),
+            "ticks")));
+        RecordingSession session = open(handler, "caller");
+
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ticks.subscribe","id":1}
+            """));
+
+        assertEquals(1, handler.subscriptions().subscriberCount("ticks"));
+        assertNull(JsonRpcWebSocketHandler.currentSession());
+        assertEquals(1, handler.subscriptions().publish("ticks", "tick", null));
+        assertEquals(2, session.sent.size());
+    }
+
+    @Test
+    void fullQueueDropsOldestBroadcast() throws Exception {
+        List<Runnable> queued = new CopyOnWriteArrayList<>();
+        JsonRpcWebSocketHandler handler = handler(
+            queued::add,
+            JsonRpcWebSocketOptions.builder().subscriberQueueCapacity(2).build());
+        RecordingSession session = open(handler, "slow");
+        handler.subscriptions().subscribe(session, "ticks");
+
+        for (int i = 1; i <= 3; i++) {
+            handler.subscriptions().publish("ticks", "tick", JsonNodeFactory.instance.arrayNode().add(i));
+        }
+        queued.forEach(Runnable::run);
+
+        assertEquals(2, session.sent.size());
+        assertEquals(2, param(session, 0));
+        assertEquals(3, param(session, 1));
+        assertEquals(1, observer.dropped.get());
+        assertTrue(session.isOpen());
+    }
+
+    @Test
+    void fullQueueDisconnectsSubscriberWhenConfigured() {
+        List<Runnable> queued = new CopyOnWriteArrayList<>();
+        JsonRpcWebSocketHandler handler = handler(
+            queued::add,
+            JsonRpcWebSocketOptions.builder()
+                .subscriberQueueCapacity(1)
+                .subscriberOverflowPolicy(JsonRpcSubscriberOverflowPolicy.DISCONNECT)
+                .build());
+        RecordingSession session = open(handler, "slow");
+        handler.subscriptions().subscribe(session, "ticks");
+
+        assertEquals(1, handler.subscriptions().publish("ticks", "tick", null));
+        assertEquals(0, handler.subscriptions().publish("ticks", "tick", null));
+        queued.forEach(Runnable::run);
+
+        assertEquals(CloseStatus.SESSION_NOT_RELIABLE, session.closeStatus);
+        assertTrue(session.sent.isEmpty());
+        assertEquals(2, observer.dropped.get());
+        assertEquals(1, observer.slowConsumers.get());
+    }
+
+    @Test
+    void closedConnectionIsUnsubscribed() {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession session = open(handler, "gone");
+        handler.subscriptions().subscribe(session, "ticks");
+
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertEquals(0, handler.subscriptions().subscriberCount("ticks"));
+        assertEquals(0, handler.subscriptions().publish("ticks", "tick", null));
+        assertThrows(IllegalArgumentException.class, () -> handler.subscriptions().subscribe(session, "ticks"));
+    }
+
+    @Test
+    void unsubscribeStopsDelivery() {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession session = open(handler, "leaving");
+        handler.subscriptions().subscribe(session, "ticks");
+
+        assertTrue(handler.subscriptions().unsubscribe(session, "ticks"));
+        assertFalse(handler.subscriptions().unsubscribe(session, "ticks"));
+
+        assertEquals(0, handler.subscriptions().publish("ticks", "tick", null));
+        assertTrue(session.sent.isEmpty());
+    }
+
+    private JsonRpcWebSocketHandler handler(Executor executor, JsonRpcWebSocketOptions options) {
+        return new JsonRpcWebSocketHandler(dispatcher, OBJECT_MAPPER, executor, options, observer);
+    }
+
+    private static RecordingSession open(JsonRpcWebSocketHandler handler, String id) {
+        RecordingSession session = new RecordingSession(id);
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private static int param(RecordingSession session, int index) throws Exception {
+        TextMessage message = (TextMessage) session.sent.get(index);
+        return OBJECT_MAPPER.readTree(message.getPayload()).get("params").get(0).asInt();
+    }
+
+    private static final class RecordingObserver implements JsonRpcWebSocketObserver {
+
+        private final AtomicInteger lastBroadcastSubscribers = new AtomicInteger(-1);
+        private final AtomicInteger delivered = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+        private final AtomicInteger slowConsumers = new AtomicInteger();
+
+        @Override
+        public void onBroadcast(String topic, int subscriberCount) {
+            lastBroadcastSubscribers.set(subscriberCount);
+        }
+
+        @Override
+        public void onBroadcastDelivered(long latencyNanos) {
+            delivered.incrementAndGet();
+        }
+
+        @Override
+        public void onBroadcastDropped(JsonRpcSubscriberOverflowPolicy policy, int droppedCount) {
+            dropped.addAndGet(droppedCount);
+        }
+
+        @Override
+        public void onSlowConsumerClosed() {
+            slowConsumers.incrementAndGet();
+        }
+    }
+}
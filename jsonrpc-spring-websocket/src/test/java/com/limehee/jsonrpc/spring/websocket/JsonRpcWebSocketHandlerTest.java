@@ -0,0 +1,287 @@
+package com.limehee.jsonrpc.spring.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.limehee.jsonrpc.core.JsonRpcDispatcher;
+import com.limehee.jsonrpc.core.JsonRpcErrorCode;
+import com.limehee.jsonrpc.core.JsonRpcResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.StringNode;
+
+class JsonRpcWebSocketHandlerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private JsonRpcDispatcher dispatcher;
+    private RecordingObserver observer;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new JsonRpcDispatcher();
+        dispatcher.register("ping", params -> StringNode.valueOf("pong"));
+        observer = new RecordingObserver();
+    }
+
+    @Test
+    void textMessageIsAnsweredWithTextMessage() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession session = open(handler);
+
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """));
+
+        TextMessage reply = assertInstanceOf(TextMessage.class, session.sent.get(0));
+        JsonNode response = OBJECT_MAPPER.readTree(reply.getPayload());
+        assertEquals(1, response.get("id").asInt());
+        assertEquals("pong", response.get("result").asString());
+        assertEquals(1, observer.singleResponses.get());
+    }
+
+    @Test
+    void binaryMessageIsAnsweredWithBinaryMessage() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession session = open(handler);
+
+        handler.handleMessage(session, new BinaryMessage("""
+            [{"jsonrpc":"2.0","method":"ping","id":1},{"jsonrpc":"2.0","method":"ping"}]
+            """.getBytes(StandardCharsets.UTF_8)));
+
+        BinaryMessage reply = assertInstanceOf(BinaryMessage.class, session.sent.get(0));
+        JsonNode response = OBJECT_MAPPER.readTree(toBytes(reply.getPayload()));
+        assertTrue(response.isArray());
+        assertEquals(1, response.size());
+        assertEquals(1, observer.batchResponses.get());
+    }
+
+    @Test
+    void notificationProducesNoMessage() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession session = open(handler);
+
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping"}
+            """));
+
+        assertTrue(session.sent.isEmpty());
+        assertEquals(1, observer.notificationOnly.get());
+    }
+
+    @Test
+    void invalidJsonIsAnsweredWithParseError() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession session = open(handler);
+
+        handler.handleMessage(session, new TextMessage("{"));
+
+        JsonNode response = OBJECT_MAPPER.readTree(((TextMessage) session.sent.get(0)).getPayload());
+        assertEquals(JsonRpcErrorCode.PARSE_ERROR, response.get("error").get("code").asInt());
+        assertEquals(1, observer.parseErrors.get());
+    }
+
+    @Test
+    void oversizedMessageIsRejectedWithoutParsing() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(
+            Runnable::run,
+            JsonRpcWebSocketOptions.builder().maxMessageBytes(16).build());
+        RecordingSession session = open(handler);
+
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """));
+
+        JsonNode response = OBJECT_MAPPER.readTree(((TextMessage) session.sent.get(0)).getPayload());
+        assertEquals(JsonRpcErrorCode.INVALID_REQUEST, response.get("error").get("code").asInt());
+        assertEquals(1, observer.requestsTooLarge.get());
+    }
+
+    @Test
+    void messageOverInFlightLimitIsRejectedWithoutBlocking() throws Exception {
+        List<Runnable> queued = new CopyOnWriteArrayList<>();
+        JsonRpcWebSocketHandler handler = handler(
+            queued::add,
+            JsonRpcWebSocketOptions.builder().maxInFlightPerSession(1).build());
+        RecordingSession session = open(handler);
+
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """));
+        handler.handleMessage(session, new TextMessage("""
+            [{"jsonrpc":"2.0","method":"ping","params":{"id":9,"nested":[{"id":8}]},"id":"a"},\
+            {"jsonrpc":"2.0","method":"ping","params":[{"id":7}]},{"jsonrpc":"2.0","method":"ping","id":3}]
+            """));
+
+        assertEquals(1, observer.inFlightLimitReached.get());
+        assertEquals(1, queued.size());
+        JsonNode rejected = OBJECT_MAPPER.readTree(((TextMessage) session.sent.get(0)).getPayload());
+        assertEquals(2, rejected.size());
+        assertEquals("a", rejected.get(0).get("id").asString());
+        assertEquals(3, rejected.get(1).get("id").asInt());
+        assertEquals(JsonRpcWebSocketHandler.SERVER_BUSY, rejected.get(0).get("error").get("code").asInt());
+
+        queued.get(0).run();
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping","id":4}
+            """));
+
+        assertEquals(2, queued.size());
+        assertEquals("pong", OBJECT_MAPPER.readTree(((TextMessage) session.sent.get(1)).getPayload())
+            .get("result").asString());
+    }
+
+    @Test
+    void rejectedNotificationProducesNoMessage() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(
+            task -> {
+            },
+            JsonRpcWebSocketOptions.builder().maxInFlightPerSession(1).build());
+        RecordingSession session = open(handler);
+
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """));
+        handler.handleMessage(session, new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping"}
+            """));
+        handler.handleMessage(session, new TextMessage("{"));
+
+        assertEquals(1, session.sent.size());
+        JsonNode rejected = OBJECT_MAPPER.readTree(((TextMessage) session.sent.get(0)).getPayload());
+        assertTrue(rejected.get("id").isNull());
+        assertEquals(JsonRpcWebSocketHandler.SERVER_BUSY, rejected.get("error").get("code").asInt());
+    }
+
+    @Test
+    void slowConsumerIsClosed() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(
+            task -> new Thread(task).start(),
+            JsonRpcWebSocketOptions.builder().sendBufferSizeLimit(1).build());
+        RecordingSession session = open(handler);
+        session.blockSends = new CountDownLatch(1);
+        TextMessage request = new TextMessage("""
+            {"jsonrpc":"2.0","method":"ping","id":1}
+            """);
+
+        handler.handleMessage(session, request);
+        assertTrue(session.sendStarted.await(5, TimeUnit.SECONDS));
+        handler.handleMessage(session, request);
+
+        assertTrue(session.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(CloseStatus.SESSION_NOT_RELIABLE, session.closeStatus);
+        assertEquals(1, observer.slowConsumers.get());
+        session.blockSends.countDown();
+    }
+
+    @Test
+    void closedConnectionIsReleased() throws Exception {
+        JsonRpcWebSocketHandler handler = handler(Runnable::run, JsonRpcWebSocketOptions.defaults());
+        RecordingSession session = open(handler);
+        assertEquals(1, handler.connectionCount());
+
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertEquals(0, handler.connectionCount());
+        assertEquals(1, observer.sessionsClosed.get());
+    }
+
+    @Test
+    void optionsRejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcWebSocketOptions.builder().maxMessageBytes(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcWebSocketOptions.builder().maxInFlightPerSession(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcWebSocketOptions.builder().sendTimeLimit(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcWebSocketOptions.builder().sendBufferSizeLimit(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> JsonRpcWebSocketOptions.builder().subscriberQueueCapacity(0).build());
+    }
+
+    private JsonRpcWebSocketHandler handler(Executor executor, JsonRpcWebSocketOptions options) {
+        return new JsonRpcWebSocketHandler(dispatcher, OBJECT_MAPPER, executor, options, observer);
+    }
+
+    private static RecordingSession open(JsonRpcWebSocketHandler handler) {
+        RecordingSession session = new RecordingSession();
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static final class RecordingObserver implements JsonRpcWebSocketObserver {
+
+        private final AtomicInteger sessionsClosed = new AtomicInteger();
+        private final AtomicInteger parseErrors = new AtomicInteger();
+        private final AtomicInteger requestsTooLarge = new AtomicInteger();
+        private final AtomicInteger singleResponses = new AtomicInteger();
+        private final AtomicInteger batchResponses = new AtomicInteger();
+        private final AtomicInteger notificationOnly = new AtomicInteger();
+        private final AtomicInteger slowConsumers = new AtomicInteger();
+        private final AtomicInteger inFlightLimitReached = new AtomicInteger();
+
+        @Override
+        public void onSessionClosed() {
+            sessionsClosed.incrementAndGet();
+        }
+
+        @Override
+        public void onParseError() {
+            parseErrors.incrementAndGet();
+        }
+
+        @Override
+        public void onRequestTooLarge(int actualBytes, int maxBytes) {
+            requestsTooLarge.incrementAndGet();
+        }
+
+        @Override
+        public void onSingleResponse(JsonRpcResponse response) {
+            singleResponses.incrementAndGet();
+        }
+
+        @Override
+        public void onBatchResponse(int requestCount, List<JsonRpcResponse> responses) {
+            batchResponses.incrementAndGet();
+        }
+
+        @Override
+        public void onNotificationOnly(boolean batch, int requestCount) {
+            notificationOnly.incrementAndGet();
+        }
+
+        @Override
+        public void onInFlightLimitReached(int maxInFlight) {
+            inFlightLimitReached.incrementAndGet();
+        }
+
+        @Override
+        public void onSlowConsumerClosed() {
+            slowConsumers.incrementAndGet();
+        }
+    }
+}